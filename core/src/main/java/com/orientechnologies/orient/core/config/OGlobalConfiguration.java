@@ -138,6 +138,18 @@ public enum OGlobalConfiguration {
         }
       }),
 
+  /**
+   * Implementation of read cache which is used by disk based storages, possible values are <code>2q</code> (default) and
+   * <code>wtinylfu</code>.
+   *
+   * @see com.orientechnologies.orient.core.storage.cache.local.twoq.O2QCache
+   * @see com.orientechnologies.orient.core.storage.cache.local.wtinylfu.OWTinyLFUCache
+   */
+  DISK_CACHE_READ_CACHE_TYPE("storage.diskCache.readCacheType",
+      "Implementation of read cache used by disk based storages, possible values: 2q, wtinylfu. "
+          + "'wtinylfu' uses lock free lookups and frequency based admission which protects cache from pollution by full scans",
+      String.class, "2q"),
+
   DISK_WRITE_CACHE_PART("storage.diskCache.writeCachePart", "Percentage of disk cache, which is used as write cache", Integer.class,
       5),
 
@@ -177,6 +189,24 @@ public enum OGlobalConfiguration {
       "Keep disk cache state between moment when storage is closed and moment when it is opened again. true by default",
       Boolean.class, false),
 
+  DISK_CACHE_PAGE_COMPRESSION("storage.diskCache.pageCompression",
+      "Comma separated list of names of clusters and indexes which pages are compressed by LZ4 before they are written to the disk, "
+          + "'*' means that pages of all files are compressed. Only files created after the change of this setting are compressed",
+      String.class, ""),
+
+  DISK_CACHE_DOUBLE_WRITE_LOG("storage.diskCache.doubleWriteLog",
+      "Write pages into the double write log and sync it before pages are written into the data files, so pages broken by "
+          + "partial writes during the crash are restored from the log. Broken pages are detected by checksums, "
+          + "so checksums should be stored to use this feature", Boolean.class, false),
+
+  DISK_CACHE_DOUBLE_WRITE_LOG_MAX_SIZE("storage.diskCache.doubleWriteLogMaxSize",
+      "Maximum size of double write log (in megabytes), data files are synced and log is truncated once this size is reached",
+      Integer.class, 128),
+
+  DISK_CACHE_READ_THREADS("storage.diskCache.readThreads",
+      "Maximum amount of threads which are used to read pages from the disk in parallel when batch of pages is requested "
+          + "by read-ahead of the disk cache, 1 means that pages are read by the requesting thread", Integer.class, 8),
+
   STORAGE_CHECKSUM_MODE("storage.diskCache.checksumMode", "Controls the per-page checksum storage and verification done by "
       + "the file cache. Possible modes: 'off' – checksums are completely off; 'store' – checksums are calculated and stored "
       + "on page flushes, no verification is done on page loads, stored checksums are verified only during user-initiated health "
@@ -277,6 +307,14 @@ public enum OGlobalConfiguration {
 
   WAL_COMMIT_TIMEOUT("storage.wal.commitTimeout", "Maximum interval between WAL commits (in ms.)", Integer.class, 1000),
 
+  WAL_SYNC_ON_COMMIT("storage.wal.syncOnCommit",
+      "Indicates whether WAL should be synced with the disk on each transaction commit, concurrent commits share the same sync",
+      Boolean.class, false),
+
+  WAL_GROUP_COMMIT_MAX_DELAY("storage.wal.groupCommitMaxDelay",
+      "Maximum interval during which commit waits for the concurrent commits to share the same WAL sync (in microseconds). "
+          + "Commit does not wait if there are no concurrent commits", Integer.class, 2000),
+
   WAL_SHUTDOWN_TIMEOUT("storage.wal.shutdownTimeout", "Maximum wait interval between events, when the background flush thread"
       + "receives a shutdown command and when the background flush will be stopped (in ms.)", Integer.class, 10000),
 
@@ -290,6 +328,11 @@ public enum OGlobalConfiguration {
   WAL_RESTORE_BATCH_SIZE("storage.wal.restore.batchSize",
       "Amount of WAL records, which are read at once in a single batch during a restore procedure", Integer.class, 1000),
 
+  WAL_RESTORE_THREADS("storage.wal.restore.threads",
+      "Amount of threads which apply page changes in parallel during a restore procedure. "
+          + "Changes of the same page are always applied by the same thread. 1 means that changes are applied in a single thread",
+      Integer.class, 1),
+
   @Deprecated WAL_READ_CACHE_SIZE("storage.wal.readCacheSize", "Size of WAL read cache in amount of pages", Integer.class, 1000),
 
   WAL_FUZZY_CHECKPOINT_SHUTDOWN_TIMEOUT("storage.wal.fuzzyCheckpointShutdownWait",
@@ -344,6 +387,14 @@ public enum OGlobalConfiguration {
   PAGINATED_STORAGE_LOWEST_FREELIST_BOUNDARY("storage.lowestFreeListBound",
       "The least amount of free space (in kb) in a page, which is tracked in paginated storage", Integer.class, 16),
 
+  STORAGE_CLUSTER_COMPACTION_BATCH_SIZE("storage.cluster.compactionBatchSize",
+      "Maximum amount of records which are relocated inside of single atomic operation during online compaction of cluster",
+      Integer.class, 512),
+
+  STORAGE_CLUSTER_COMPACTION_PAUSE("storage.cluster.compactionPause",
+      "Pause (in ms) between batches of records relocated during online compaction of cluster, "
+          + "is used to limit impact of compaction on concurrent operations", Integer.class, 10),
+
   STORAGE_LOCK_TIMEOUT("storage.lockTimeout", "Maximum amount of time (in ms) to lock the storage", Integer.class, 0),
 
   STORAGE_RECORD_LOCK_TIMEOUT("storage.record.lockTimeout", "Maximum of time (in ms) to lock a shared record", Integer.class, 2000),
@@ -441,6 +492,50 @@ public enum OGlobalConfiguration {
 
   INDEX_CURSOR_PREFETCH_SIZE("index.cursor.prefetchSize", "Default prefetch size of index cursor", Integer.class, 10000),
 
+  INDEX_CURSOR_READ_AHEAD("index.cursor.readAhead",
+      "Amount of leaf pages which are loaded into the disk cache in a single batch ahead of index range cursor, 0 disables read-ahead",
+      Integer.class, 16),
+
+  INDEX_BULK_LOAD("index.bulkLoad",
+      "Build content of empty single value indexes from entries sorted by key instead of insertion of entries one by one "
+          + "during creation and rebuild of index", Boolean.class, true),
+
+  INDEX_BULK_LOAD_SORT_BUFFER_SIZE("index.bulkLoad.sortBufferSize",
+      "Amount of memory (in megabytes) used to sort entries of index during bulk load, "
+          + "entries which do not fit into this buffer are spilled into temporary files", Integer.class, 64),
+
+  INDEX_BULK_LOAD_FILL_FACTOR("index.bulkLoad.fillFactor",
+      "Percentage of space of index pages filled by entries during bulk load, the rest is left for subsequent updates of index",
+      Integer.class, 90),
+
+  INDEX_REBUILD_THREADS("index.rebuild.threads",
+      "Maximum amount of threads which scan clusters in parallel during creation or rebuild of index which supports bulk load, "
+          + "1 means that clusters are scanned by the thread which builds index. Each thread keeps own buffer of index entries "
+          + "and own temporary files, so memory used by the rebuild grows with the amount of threads", Integer.class, 4),
+
+  INDEX_BATCH_LOOKUP_SIZE("index.batchLookupSize",
+      "Maximum amount of keys which values are fetched from single value index by single batch lookup, "
+          + "used by queries which search several keys at once, like IN conditions", Integer.class, 1024),
+
+  INDEX_PARTITIONS("index.partitions",
+      "Amount of partitions of newly created single value indexes, keys are distributed between partitions by hash code and each "
+          + "partition is locked separately, so transactions which change keys of different partitions are committed in parallel",
+      Integer.class, 1),
+
+  INDEX_BLOOM_FILTER("index.bloomFilter",
+      "Create Bloom filter for newly created single value indexes, Bloom filter allows to skip lookups of keys which are absent "
+          + "in index. Bloom filter may be enabled for individual index by \"bloomFilter\" field of index metadata", Boolean.class,
+      false),
+
+  INDEX_BLOOM_FILTER_CAPACITY("index.bloomFilter.capacity",
+      "Minimum amount of keys for which Bloom filter of index is created, real capacity of filter is calculated from the amount of "
+          + "records in indexed clusters. Once amount of added keys exceeds capacity, filter stops to detect absent keys till "
+          + "index is rebuilt", Long.class, 100000),
+
+  INDEX_BLOOM_FILTER_BITS_PER_KEY("index.bloomFilter.bitsPerKey",
+      "Amount of bits of Bloom filter of index allocated for each key, 10 bits per key give about 1% of false positive lookups",
+      Integer.class, 10),
+
   // SBTREE
   SBTREE_MAX_DEPTH("sbtree.maxDepth",
       "Maximum depth of sbtree, which will be traversed during key look up until it will be treated as broken (64 by default)",
@@ -449,6 +544,10 @@ public enum OGlobalConfiguration {
   SBTREE_MAX_KEY_SIZE("sbtree.maxKeySize", "Maximum size of a key, which can be put in the SBTree in bytes (10240 by default)",
       Integer.class, 10240),
 
+  SBTREE_KEY_PREFIX_COMPRESSION("sbtree.keyPrefixCompression",
+      "Store prefix shared by all keys of a page of single value index only once per page, "
+          + "pages stored in previous format are converted when they are modified", Boolean.class, true),
+
   SBTREE_MAX_EMBEDDED_VALUE_SIZE("sbtree.maxEmbeddedValueSize",
       "Maximum size of value which can be put in an SBTree without creation link to a standalone page in bytes (40960 by default)",
       Integer.class, 40960),
@@ -698,10 +797,31 @@ public enum OGlobalConfiguration {
       "Size of the queue that holds results on parallel execution. The queue is blocking, so in case the queue is full, the query threads will be in a wait state",
       Integer.class, 20000),
 
+  QUERY_PARALLEL_EXECUTION_THREADS("query.parallelExecutionThreads",
+      "Maximum amount of branches of a single query (sub plans of parallel step, clusters of the scanned class) which are executed "
+          + "at the same time by the shared pool of workers, used by queries with PARALLEL keyword or if query.parallelAuto is "
+          + "enabled. 1 means that branches are executed one after another by the thread which runs the query", Integer.class, Runtime.getRuntime().availableProcessors()),
+
+  QUERY_ORDER_BY_SPILL_THRESHOLD("query.orderBy.spillThreshold",
+      "Maximum amount of results which are sorted in memory by ORDER BY without LIMIT, once it is exceeded results are sorted in "
+          + "runs of this size which are spilled into temporary files and merged when the results are fetched (Use 0 to disable)",
+      Integer.class, 100000),
+
+  QUERY_GROUP_BY_SPILL_THRESHOLD("query.groupBy.spillThreshold",
+      "Maximum amount of groups which are aggregated in memory by GROUP BY, once it is exceeded results of the new groups are spilled "
+          + "into temporary files partitioned by hash of the group and aggregated after the groups kept in memory. Workers of the "
+          + "parallel query pass their partial aggregates to the query once they reach this amount (Use 0 to disable)",
+      Integer.class, 100000),
+
   QUERY_SCAN_PREFETCH_PAGES("query.scanPrefetchPages",
       "Pages to prefetch during scan. Setting this value higher makes scans faster, because it reduces the number of I/O operations, though it consumes more memory. (Use 0 to disable)",
       Integer.class, 20),
 
+  QUERY_SCAN_READ_AHEAD("query.scanReadAhead",
+      "Amount of cluster pages which are loaded into the disk cache in background once sequential scan of the cluster is detected. "
+          + "Prefetched pages are kept in the part of the cache reserved for pages which are accessed once, so scans do not evict "
+          + "frequently used pages (Use 0 to disable)", Integer.class, 64),
+
   QUERY_SCAN_BATCH_SIZE("query.scanBatchSize",
       "Scan clusters in blocks of records. This setting reduces the lock time on the cluster during scans. A high value mean a faster execution, but also a lower concurrency level. Set to 0 to disable batch scanning. Disabling batch scanning is suggested for read-only databases only",
       Long.class, 1000),
@@ -363,6 +363,13 @@ public class OrientDBEmbedded implements OrientDBInternal {
         throw new ODatabaseException("Cannot create new storage '" + name + "' because it already exists");
     }
     storage.restoreFromIncrementalBackup(path);
+    // SHARED CONTEXT IS LOADED FROM THE EMPTY DATABASE, IT HAS TO BE RELOADED FROM THE RESTORED ONE
+    synchronized (this) {
+      final OSharedContext context = sharedContexts.remove(name);
+      if (context != null) {
+        context.close();
+      }
+    }
     embedded.callOnCreateListeners();
     ODatabaseRecordThreadLocal.instance().remove();
   }
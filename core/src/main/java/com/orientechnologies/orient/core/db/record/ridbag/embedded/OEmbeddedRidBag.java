@@ -21,6 +21,7 @@ package com.orientechnologies.orient.core.db.record.ridbag.embedded;
 
 import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.common.serialization.types.OIntegerSerializer;
+import com.orientechnologies.common.serialization.types.OShortSerializer;
 import com.orientechnologies.common.util.OCommonConst;
 import com.orientechnologies.common.util.OResettable;
 import com.orientechnologies.common.util.OSizeable;
@@ -33,18 +34,59 @@ import com.orientechnologies.orient.core.db.record.OMultiValueChangeListener;
 import com.orientechnologies.orient.core.db.record.ridbag.ORidBagDelegate;
 import com.orientechnologies.orient.core.exception.OSerializationException;
 import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
 import com.orientechnologies.orient.core.record.ORecord;
 import com.orientechnologies.orient.core.record.ORecordInternal;
+import com.orientechnologies.orient.core.serialization.OBinaryProtocol;
 import com.orientechnologies.orient.core.serialization.serializer.binary.impl.OLinkSerializer;
 import com.orientechnologies.orient.core.storage.ridbag.sbtree.Change;
 
 import java.util.*;
 
 public class OEmbeddedRidBag implements ORidBagDelegate {
+  /**
+   * Stored instead of cluster id of the slot which link was removed from the bag.
+   */
+  private static final int REMOVED = Integer.MIN_VALUE;
+
+  /**
+   * Stored instead of cluster id of the slot which link is not persistent yet. Identity of such link is changed on commit, so it
+   * is read from the link itself each time it is needed.
+   */
+  private static final int NOT_PERSISTENT = Integer.MIN_VALUE + 1;
+
+  /**
+   * Amount of persistent links after which they are indexed by hash table, smaller bags are searched by scan of primitive arrays.
+   */
+  private static final int HASH_INDEX_THRESHOLD = 16;
+
+  private static final int FREE_BUCKET    = 0;
+  private static final int DELETED_BUCKET = -1;
+
   private boolean contentWasChanged = false;
 
-  private Object[] entries       = OCommonConst.EMPTY_OBJECT_ARRAY;
-  private int      entriesLength = 0;
+  /**
+   * Cluster ids and cluster positions of links, one slot per added link in order of addition.
+   */
+  private int[]  clusterIds       = OCommonConst.EMPTY_INT_ARRAY;
+  private long[] clusterPositions = OCommonConst.EMPTY_LONG_ARRAY;
+
+  /**
+   * Links which were passed by user as records or which are not persistent yet. Array is allocated lazily, persistent links which
+   * were added as plain rids are not kept here and are materialized on demand.
+   */
+  private OIdentifiable[] links;
+  private int             entriesLength = 0;
+
+  /**
+   * Open addressing hash table which contains indexes of slots of persistent links incremented by one.
+   */
+  private int[] hashIndex;
+  private int   hashIndexFill;
+  private int   persistentCount;
+
+  private int[] notPersistentSlots = OCommonConst.EMPTY_INT_ARRAY;
+  private int   notPersistentCount;
 
   private boolean convertToRecord = true;
   private int     size            = 0;
@@ -53,19 +95,18 @@ public class OEmbeddedRidBag implements ORidBagDelegate {
 
   private List<OMultiValueChangeListener<OIdentifiable, OIdentifiable>> changeListeners;
 
+  /**
+   * Receives links of the bag during serialization without creation of {@link ORID} instance per link.
+   */
+  public interface LinkConsumer {
+    void accept(int clusterId, long clusterPosition);
+  }
+
   @Override
   public void setSize(int size) {
     this.size = size;
   }
 
-  private static enum Tombstone {
-    TOMBSTONE
-  }
-
-  public Object[] getEntries() {
-    return entries;
-  }
-
   private final class EntriesIterator implements Iterator<OIdentifiable>, OResettable, OSizeable {
     private final boolean convertToRecord;
     private       int     currentIndex = -1;
@@ -81,7 +122,7 @@ public class OEmbeddedRidBag implements ORidBagDelegate {
     public boolean hasNext() {
       //we may remove items in ridbag during iteration so we need to be sure that pointed item is not removed.
       if (nextIndex > -1) {
-        if (entries[nextIndex] instanceof OIdentifiable)
+        if (clusterIds[nextIndex] != REMOVED)
           return true;
 
         nextIndex = nextIndex();
@@ -98,31 +139,26 @@ public class OEmbeddedRidBag implements ORidBagDelegate {
       if (currentIndex == -1)
         throw new NoSuchElementException();
 
-      Object nextValue = entries[currentIndex];
-
       //we may remove items in ridbag during iteration so we need to be sure that pointed item is not removed.
-      if (!(nextValue instanceof OIdentifiable)) {
+      if (clusterIds[currentIndex] == REMOVED) {
         nextIndex = nextIndex();
 
         currentIndex = nextIndex;
         if (currentIndex == -1)
           throw new NoSuchElementException();
-
-        nextValue = entries[currentIndex];
       }
 
-      if (!convertToRecord && nextValue != null) {
-        if (((OIdentifiable) nextValue).getIdentity().isPersistent())
-          entries[currentIndex] = ((OIdentifiable) nextValue).getIdentity();
-      }
+      final OIdentifiable nextValue = getLink(currentIndex);
+
+      if (!convertToRecord && clusterIds[currentIndex] != NOT_PERSISTENT)
+        setLink(currentIndex, null);
 
       nextIndex = nextIndex();
 
-      final OIdentifiable identifiable = (OIdentifiable) nextValue;
       if (convertToRecord)
-        return identifiable.getRecord();
+        return nextValue.getRecord();
 
-      return identifiable;
+      return nextValue;
     }
 
     @Override
@@ -135,8 +171,8 @@ public class OEmbeddedRidBag implements ORidBagDelegate {
 
       currentRemoved = true;
 
-      final OIdentifiable nextValue = (OIdentifiable) entries[currentIndex];
-      entries[currentIndex] = Tombstone.TOMBSTONE;
+      final OIdentifiable nextValue = getLink(currentIndex);
+      removeSlot(currentIndex);
 
       size--;
       contentWasChanged = true;
@@ -155,8 +191,9 @@ public class OEmbeddedRidBag implements ORidBagDelegate {
       if (currentIndex == -1)
         throw new IllegalStateException("Next method was not called for given iterator");
 
-      final OIdentifiable oldValue = (OIdentifiable) entries[currentIndex];
-      entries[currentIndex] = newValue;
+      final OIdentifiable oldValue = getLink(currentIndex);
+      unlinkSlot(currentIndex);
+      linkSlot(currentIndex, newValue);
 
       contentWasChanged = true;
 
@@ -180,8 +217,7 @@ public class OEmbeddedRidBag implements ORidBagDelegate {
 
     private int nextIndex() {
       for (int i = currentIndex + 1; i < entriesLength; i++) {
-        Object entry = entries[i];
-        if (entry instanceof OIdentifiable)
+        if (clusterIds[i] != REMOVED)
           return i;
       }
 
@@ -199,12 +235,7 @@ public class OEmbeddedRidBag implements ORidBagDelegate {
     if (identifiable == null)
       return false;
 
-    for (int i = 0; i < entriesLength; i++) {
-      if (identifiable.equals(entries[i]))
-        return true;
-    }
-
-    return false;
+    return findSlot(identifiable) > -1;
   }
 
   @Override
@@ -213,21 +244,23 @@ public class OEmbeddedRidBag implements ORidBagDelegate {
       throw new IllegalStateException("This data structure is owned by document " + owner
           + " if you want to use it in other document create new rid bag instance and copy content of current one.");
     }
-    if (this.owner != null) {
+
+    //links which are not kept in memory are persistent rids, tracking of them is not needed
+    if (this.owner != null && links != null) {
       for (int i = 0; i < entriesLength; i++) {
-        final Object entry = entries[i];
-        if (entry instanceof OIdentifiable) {
-          ORecordInternal.unTrack(this.owner, (OIdentifiable) entry);
+        final OIdentifiable link = links[i];
+        if (link != null) {
+          ORecordInternal.unTrack(this.owner, link);
         }
       }
     }
 
     this.owner = owner;
-    if (this.owner != null) {
+    if (this.owner != null && links != null) {
       for (int i = 0; i < entriesLength; i++) {
-        final Object entry = entries[i];
-        if (entry instanceof OIdentifiable) {
-          ORecordInternal.track(this.owner, (OIdentifiable) entry);
+        final OIdentifiable link = links[i];
+        if (link != null) {
+          ORecordInternal.track(this.owner, link);
         }
       }
     }
@@ -257,8 +290,15 @@ public class OEmbeddedRidBag implements ORidBagDelegate {
   public OEmbeddedRidBag copy() {
     final OEmbeddedRidBag copy = new OEmbeddedRidBag();
     copy.contentWasChanged = contentWasChanged;
-    copy.entries = entries;
+    copy.clusterIds = clusterIds.clone();
+    copy.clusterPositions = clusterPositions.clone();
+    copy.links = links == null ? null : links.clone();
     copy.entriesLength = entriesLength;
+    copy.hashIndex = hashIndex == null ? null : hashIndex.clone();
+    copy.hashIndexFill = hashIndexFill;
+    copy.persistentCount = persistentCount;
+    copy.notPersistentSlots = notPersistentSlots.clone();
+    copy.notPersistentCount = notPersistentCount;
     copy.convertToRecord = convertToRecord;
     copy.size = size;
     copy.owner = owner;
@@ -270,8 +310,13 @@ public class OEmbeddedRidBag implements ORidBagDelegate {
 
   @Override
   public void remove(OIdentifiable identifiable) {
+    if (identifiable == null)
+      return;
+
+    final int slot = findSlot(identifiable);
+    if (slot > -1) {
+      removeSlot(slot);
 
-    if (removeEntry(identifiable)) {
       size--;
       contentWasChanged = true;
 
@@ -324,34 +369,34 @@ public class OEmbeddedRidBag implements ORidBagDelegate {
   @Override
   public void convertLinks2Records() {
     for (int i = 0; i < entriesLength; i++) {
-      final Object entry = entries[i];
-
-      if (entry instanceof OIdentifiable) {
-        final OIdentifiable identifiable = (OIdentifiable) entry;
-        ORecord record = identifiable.getRecord();
-        if (record != null) {
-          if (this.owner != null) {
-            ORecordInternal.unTrack(this.owner, identifiable);
-            ORecordInternal.track(this.owner, record);
-          }
-          entries[i] = record;
+      if (clusterIds[i] == REMOVED)
+        continue;
+
+      final OIdentifiable identifiable = getLink(i);
+      ORecord record = identifiable.getRecord();
+      if (record != null) {
+        if (this.owner != null) {
+          ORecordInternal.unTrack(this.owner, identifiable);
+          ORecordInternal.track(this.owner, record);
         }
+        setLink(i, record);
       }
     }
   }
 
   @Override
   public boolean convertRecords2Links() {
-    for (int i = 0; i < entriesLength; i++) {
-      final Object entry = entries[i];
+    if (links == null)
+      return true;
 
-      if (entry instanceof OIdentifiable) {
-        final OIdentifiable identifiable = (OIdentifiable) entry;
-        if (identifiable instanceof ORecord) {
-          final ORecord record = (ORecord) identifiable;
+    for (int i = 0; i < entriesLength; i++) {
+      final OIdentifiable link = links[i];
 
-          entries[i] = record.getIdentity();
-        }
+      if (link instanceof ORecord) {
+        if (clusterIds[i] == NOT_PERSISTENT)
+          links[i] = link.getIdentity();
+        else
+          links[i] = null;
       }
     }
 
@@ -461,29 +506,52 @@ public class OEmbeddedRidBag implements ORidBagDelegate {
   public int serialize(byte[] stream, int offset, UUID ownerUuid) {
     OIntegerSerializer.INSTANCE.serializeLiteral(size, stream, offset);
     offset += OIntegerSerializer.INT_SIZE;
-    ODatabaseDocumentInternal db = ODatabaseRecordThreadLocal.instance().getIfDefined();
-    final int totEntries = entries.length;
-    for (int i = 0; i < totEntries; ++i) {
-      final Object entry = entries[i];
-      if (entry instanceof OIdentifiable) {
-        OIdentifiable link = (OIdentifiable) entry;
+
+    final int[] position = new int[] { offset };
+    serializeLinks((clusterId, clusterPosition) -> {
+      OBinaryProtocol.short2bytes((short) clusterId, stream, position[0]);
+      OBinaryProtocol.long2bytes(clusterPosition, stream, position[0] + OShortSerializer.SHORT_SIZE);
+      position[0] += OLinkSerializer.RID_SIZE;
+    });
+
+    return position[0];
+  }
+
+  /**
+   * Passes links of the bag to the consumer in order of their addition. Links which are not persistent yet are resolved against
+   * the active transaction, and all links held in memory are replaced by their identities.
+   *
+   * @param consumer Receives cluster id and cluster position of each link.
+   */
+  public void serializeLinks(final LinkConsumer consumer) {
+    final ODatabaseDocumentInternal db = ODatabaseRecordThreadLocal.instance().getIfDefined();
+    final boolean activeTx = db != null && !db.isClosed() && db.getTransaction().isActive();
+
+    for (int i = 0; i < entriesLength; i++) {
+      final int clusterId = clusterIds[i];
+      if (clusterId == REMOVED)
+        continue;
+
+      if (clusterId == NOT_PERSISTENT) {
+        OIdentifiable link = links[i];
         final ORID rid = link.getIdentity();
-        if (db != null && !db.isClosed() && db.getTransaction().isActive()) {
-          if (!link.getIdentity().isPersistent()) {
-            link = db.getTransaction().getRecord(link.getIdentity());
-          }
+        if (activeTx && !rid.isPersistent()) {
+          link = db.getTransaction().getRecord(rid);
         }
 
         if (link == null)
           throw new OSerializationException("Found null entry in ridbag with rid=" + rid);
 
-        entries[i] = link.getIdentity();
-        OLinkSerializer.INSTANCE.serialize(link, stream, offset);
-        offset += OLinkSerializer.RID_SIZE;
+        final ORID identity = link.getIdentity();
+        links[i] = identity;
+        consumer.accept(identity.getClusterId(), identity.getClusterPosition());
+      } else {
+        setLink(i, null);
+        consumer.accept(clusterId, clusterPositions[i]);
       }
     }
 
-    return offset;
+    promoteNotPersistentSlots();
   }
 
   @Override
@@ -539,34 +607,217 @@ public class OEmbeddedRidBag implements ORidBagDelegate {
   }
 
   public void addEntry(final OIdentifiable identifiable) {
-    if (entries.length == entriesLength) {
+    if (clusterIds.length == entriesLength) {
+      final int newLength;
       if (entriesLength == 0) {
         final int cfgValue = OGlobalConfiguration.RID_BAG_EMBEDDED_TO_SBTREEBONSAI_THRESHOLD.getValueAsInteger();
-        entries = new Object[cfgValue > 0 ? Math.min(cfgValue, 40) : 40];
+        newLength = cfgValue > 0 ? Math.min(cfgValue, 40) : 40;
       } else {
-        final Object[] oldEntries = entries;
-        entries = new Object[entries.length << 1];
-        System.arraycopy(oldEntries, 0, entries, 0, oldEntries.length);
+        newLength = entriesLength << 1;
       }
+
+      clusterIds = Arrays.copyOf(clusterIds, newLength);
+      clusterPositions = Arrays.copyOf(clusterPositions, newLength);
+      if (links != null)
+        links = Arrays.copyOf(links, newLength);
     }
     if (this.owner != null)
       ORecordInternal.track(this.owner, identifiable);
 
-    entries[entriesLength] = identifiable;
     entriesLength++;
+    linkSlot(entriesLength - 1, identifiable);
+  }
+
+  private OIdentifiable getLink(final int slot) {
+    if (links != null) {
+      final OIdentifiable link = links[slot];
+      if (link != null)
+        return link;
+    }
+
+    return new ORecordId(clusterIds[slot], clusterPositions[slot]);
   }
 
-  private boolean removeEntry(OIdentifiable identifiable) {
+  private void setLink(final int slot, final OIdentifiable link) {
+    if (links == null) {
+      if (link == null)
+        return;
+
+      links = new OIdentifiable[clusterIds.length];
+    }
+
+    links[slot] = link;
+  }
+
+  private void linkSlot(final int slot, final OIdentifiable identifiable) {
+    final ORID rid = identifiable.getIdentity();
+    if (rid.isPersistent()) {
+      clusterIds[slot] = rid.getClusterId();
+      clusterPositions[slot] = rid.getClusterPosition();
+      //rids are materialized on demand, records are kept to be returned back to the user
+      setLink(slot, identifiable instanceof ORID ? null : identifiable);
+
+      persistentCount++;
+      indexSlot(slot);
+    } else {
+      clusterIds[slot] = NOT_PERSISTENT;
+      clusterPositions[slot] = 0;
+      setLink(slot, identifiable);
+
+      if (notPersistentCount == notPersistentSlots.length)
+        notPersistentSlots = Arrays.copyOf(notPersistentSlots, Math.max(8, notPersistentCount << 1));
+      notPersistentSlots[notPersistentCount++] = slot;
+    }
+  }
+
+  private void unlinkSlot(final int slot) {
+    if (clusterIds[slot] == NOT_PERSISTENT) {
+      for (int i = 0; i < notPersistentCount; i++) {
+        if (notPersistentSlots[i] == slot) {
+          notPersistentSlots[i] = notPersistentSlots[--notPersistentCount];
+          break;
+        }
+      }
+    } else {
+      unindexSlot(slot);
+      persistentCount--;
+    }
+
+    setLink(slot, null);
+  }
+
+  private void removeSlot(final int slot) {
+    unlinkSlot(slot);
+    clusterIds[slot] = REMOVED;
+  }
+
+  /**
+   * Moves links which became persistent after commit of transaction from the list of not persistent links into the hash index.
+   */
+  private void promoteNotPersistentSlots() {
     int i = 0;
-    for (; i < entriesLength; i++) {
-      final Object entry = entries[i];
-      if (entry.equals(identifiable)) {
-        entries[i] = Tombstone.TOMBSTONE;
-        break;
+    while (i < notPersistentCount) {
+      final int slot = notPersistentSlots[i];
+      final OIdentifiable link = links[slot];
+
+      if (link.getIdentity().isPersistent()) {
+        notPersistentSlots[i] = notPersistentSlots[--notPersistentCount];
+        linkSlot(slot, link);
+      } else {
+        i++;
       }
     }
+  }
+
+  private int findSlot(final OIdentifiable identifiable) {
+    promoteNotPersistentSlots();
+
+    final ORID rid = identifiable.getIdentity();
+    if (rid.isPersistent()) {
+      return findPersistentSlot(rid.getClusterId(), rid.getClusterPosition());
+    }
+
+    for (int i = 0; i < notPersistentCount; i++) {
+      final int slot = notPersistentSlots[i];
+      if (identifiable.equals(links[slot]))
+        return slot;
+    }
+
+    return -1;
+  }
+
+  private int findPersistentSlot(final int clusterId, final long clusterPosition) {
+    if (hashIndex == null) {
+      for (int i = 0; i < entriesLength; i++) {
+        if (clusterIds[i] == clusterId && clusterPositions[i] == clusterPosition)
+          return i;
+      }
+
+      return -1;
+    }
+
+    final int mask = hashIndex.length - 1;
+    int bucket = hashCode(clusterId, clusterPosition) & mask;
+    while (true) {
+      final int value = hashIndex[bucket];
+      if (value == FREE_BUCKET)
+        return -1;
+
+      if (value != DELETED_BUCKET) {
+        final int slot = value - 1;
+        if (clusterIds[slot] == clusterId && clusterPositions[slot] == clusterPosition)
+          return slot;
+      }
+
+      bucket = (bucket + 1) & mask;
+    }
+  }
+
+  private void indexSlot(final int slot) {
+    if (hashIndex == null) {
+      if (persistentCount >= HASH_INDEX_THRESHOLD)
+        rebuildHashIndex();
+
+      return;
+    }
+
+    if ((hashIndexFill + 1) << 1 > hashIndex.length) {
+      rebuildHashIndex();
+      return;
+    }
+
+    insertIntoHashIndex(slot);
+    hashIndexFill++;
+  }
+
+  private void unindexSlot(final int slot) {
+    if (hashIndex == null)
+      return;
+
+    final int mask = hashIndex.length - 1;
+    int bucket = hashCode(clusterIds[slot], clusterPositions[slot]) & mask;
+    while (true) {
+      final int value = hashIndex[bucket];
+      if (value == FREE_BUCKET)
+        return;
+
+      if (value == slot + 1) {
+        //bucket still counts in fill factor, it is reclaimed only by rebuild of index
+        hashIndex[bucket] = DELETED_BUCKET;
+        return;
+      }
+
+      bucket = (bucket + 1) & mask;
+    }
+  }
+
+  private void rebuildHashIndex() {
+    int capacity = HASH_INDEX_THRESHOLD << 1;
+    while (capacity < persistentCount << 2)
+      capacity <<= 1;
+
+    hashIndex = new int[capacity];
+    for (int i = 0; i < entriesLength; i++) {
+      if (clusterIds[i] >= 0)
+        insertIntoHashIndex(i);
+    }
+
+    hashIndexFill = persistentCount;
+  }
+
+  private void insertIntoHashIndex(final int slot) {
+    final int mask = hashIndex.length - 1;
+    int bucket = hashCode(clusterIds[slot], clusterPositions[slot]) & mask;
+    while (hashIndex[bucket] != FREE_BUCKET)
+      bucket = (bucket + 1) & mask;
+
+    hashIndex[bucket] = slot + 1;
+  }
 
-    return i < entriesLength;
+  private static int hashCode(final int clusterId, final long clusterPosition) {
+    long hash = clusterPosition * 0x9E3779B97F4A7C15L + clusterId;
+    hash ^= hash >>> 32;
+    return (int) (hash ^ (hash >>> 16));
   }
 
   @Override
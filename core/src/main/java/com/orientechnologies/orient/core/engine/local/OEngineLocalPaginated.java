@@ -30,7 +30,9 @@ import com.orientechnologies.orient.core.engine.OEngineAbstract;
 import com.orientechnologies.orient.core.engine.OMemoryAndLocalPaginatedEnginesInitializer;
 import com.orientechnologies.orient.core.exception.ODatabaseException;
 import com.orientechnologies.orient.core.storage.OStorage;
+import com.orientechnologies.orient.core.storage.cache.OReadCache;
 import com.orientechnologies.orient.core.storage.cache.local.twoq.O2QCache;
+import com.orientechnologies.orient.core.storage.cache.local.wtinylfu.OWTinyLFUCache;
 import com.orientechnologies.orient.core.storage.disk.OLocalPaginatedStorage;
 import com.orientechnologies.orient.core.storage.fs.OFileClassic;
 
@@ -43,7 +45,7 @@ import java.util.Map;
 public class OEngineLocalPaginated extends OEngineAbstract {
   public static final String NAME = "plocal";
 
-  private volatile O2QCache readCache;
+  private volatile OReadCache readCache;
 
   protected final OClosableLinkedContainer<Long, OFileClassic> files = new OClosableLinkedContainer<>(getOpenFilesLimit());
 
@@ -71,11 +73,29 @@ public class OEngineLocalPaginated extends OEngineAbstract {
     OMemoryAndLocalPaginatedEnginesInitializer.INSTANCE.initialize();
     super.startup();
 
-    readCache = new O2QCache(calculateReadCacheMaxMemory(OGlobalConfiguration.DISK_CACHE_SIZE.getValueAsLong() * 1024 * 1024),
-        OGlobalConfiguration.DISK_CACHE_PAGE_SIZE.getValueAsInteger() * 1024, true,
-        OGlobalConfiguration.DISK_CACHE_PINNED_PAGES.getValueAsInteger(),
-        OGlobalConfiguration.DISK_CACHE_PRINT_CACHE_STATISTICS.getValueAsBoolean(),
-        OGlobalConfiguration.DISK_CACHE_STATISTICS_INTERVAL.getValueAsInteger());
+    readCache = createReadCache();
+  }
+
+  private OReadCache createReadCache() {
+    final long readCacheMaxMemory = calculateReadCacheMaxMemory(
+        OGlobalConfiguration.DISK_CACHE_SIZE.getValueAsLong() * 1024 * 1024);
+    final int pageSize = OGlobalConfiguration.DISK_CACHE_PAGE_SIZE.getValueAsInteger() * 1024;
+    final int percentOfPinnedPages = OGlobalConfiguration.DISK_CACHE_PINNED_PAGES.getValueAsInteger();
+    final boolean printCacheStatistics = OGlobalConfiguration.DISK_CACHE_PRINT_CACHE_STATISTICS.getValueAsBoolean();
+    final int cacheStatisticsInterval = OGlobalConfiguration.DISK_CACHE_STATISTICS_INTERVAL.getValueAsInteger();
+
+    final String readCacheType = OGlobalConfiguration.DISK_CACHE_READ_CACHE_TYPE.getValueAsString();
+    if ("wtinylfu".equalsIgnoreCase(readCacheType)) {
+      OLogManager.instance().infoNoDb(this, "W-TinyLFU read cache is used");
+      return new OWTinyLFUCache(readCacheMaxMemory, pageSize, true, percentOfPinnedPages, printCacheStatistics,
+          cacheStatisticsInterval);
+    }
+
+    if (!"2q".equalsIgnoreCase(readCacheType)) {
+      OLogManager.instance().warnNoDb(this, "Unknown read cache type '%s', 2Q read cache will be used instead", readCacheType);
+    }
+
+    return new O2QCache(readCacheMaxMemory, pageSize, true, percentOfPinnedPages, printCacheStatistics, cacheStatisticsInterval);
   }
 
   private long calculateReadCacheMaxMemory(final long cacheSize) {
@@ -85,7 +105,7 @@ public class OEngineLocalPaginated extends OEngineAbstract {
   /**
    * @param cacheSize Cache size in bytes.
    *
-   * @see O2QCache#changeMaximumAmountOfMemory(long)
+   * @see OReadCache#changeMaximumAmountOfMemory(long)
    */
   public void changeCacheSize(final long cacheSize) {
     if (readCache != null)
@@ -112,7 +132,7 @@ public class OEngineLocalPaginated extends OEngineAbstract {
     return NAME;
   }
 
-  public O2QCache getReadCache() {
+  public OReadCache getReadCache() {
     return readCache;
   }
 
@@ -21,8 +21,10 @@ package com.orientechnologies.orient.core.index;
 
 import com.orientechnologies.orient.core.collate.OCollate;
 import com.orientechnologies.orient.core.collate.ODefaultCollate;
+import com.orientechnologies.orient.core.command.OBasicCommandContext;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.sql.OSQLEngine;
+import com.orientechnologies.orient.core.sql.parser.OWhereClause;
 import com.orientechnologies.orient.core.type.ODocumentWrapperNoClass;
 
 /**
@@ -33,6 +35,9 @@ import com.orientechnologies.orient.core.type.ODocumentWrapperNoClass;
 public abstract class OAbstractIndexDefinition extends ODocumentWrapperNoClass implements OIndexDefinition {
   protected OCollate collate           = new ODefaultCollate();
   private boolean    nullValuesIgnored = true;
+  private String     filter;
+
+  private volatile OWhereClause filterClause;
 
   protected OAbstractIndexDefinition() {
     super(new ODocument().setTrackingChanges(false));
@@ -70,6 +75,9 @@ public abstract class OAbstractIndexDefinition extends ODocumentWrapperNoClass i
     if (nullValuesIgnored != that.nullValuesIgnored)
       return false;
 
+    if (filter != null ? !filter.equals(that.filter) : that.filter != null)
+      return false;
+
     return true;
   }
 
@@ -77,6 +85,7 @@ public abstract class OAbstractIndexDefinition extends ODocumentWrapperNoClass i
   public int hashCode() {
     int result = collate.hashCode();
     result = 31 * result + (nullValuesIgnored ? 1 : 0);
+    result = 31 * result + (filter != null ? filter.hashCode() : 0);
     return result;
   }
 
@@ -90,9 +99,37 @@ public abstract class OAbstractIndexDefinition extends ODocumentWrapperNoClass i
     nullValuesIgnored = value;
   }
 
+  @Override
+  public String getFilter() {
+    return filter;
+  }
+
+  @Override
+  public void setFilter(final String filter) {
+    this.filter = filter;
+    this.filterClause = null;
+  }
+
+  @Override
+  public boolean matchesFilter(final ODocument document) {
+    if (filter == null)
+      return true;
+
+    OWhereClause clause = filterClause;
+    if (clause == null) {
+      clause = OSQLEngine.parseCondition(filter);
+      filterClause = clause;
+    }
+
+    return clause.matchesFilters(document, new OBasicCommandContext());
+  }
+
   protected void serializeToStream() {
+    if (filter != null)
+      document.field("filter", filter);
   }
 
   protected void serializeFromStream() {
+    setFilter(document.<String> field("filter"));
   }
 }
@@ -86,13 +86,62 @@ public class OClassIndexManager {
     final Collection<OIndex<?>> indexes = cls.getRawIndexes();
     if (!indexes.isEmpty()) {
       final Set<String> dirtyFields = new HashSet<>(Arrays.asList(iDocument.getDirtyFields()));
-      if (!dirtyFields.isEmpty())
+      if (!dirtyFields.isEmpty()) {
+        ODocument originalDocument = null;
         for (final OIndex<?> index : indexes) {
-          processIndexUpdate(iDocument, dirtyFields, getTransactionalIndex(database, index), changes);
+          if (index.getDefinition().getFilter() == null) {
+            processIndexUpdate(iDocument, dirtyFields, getTransactionalIndex(database, index), changes);
+          } else {
+            if (originalDocument == null)
+              originalDocument = getOriginalDocument(iDocument, dirtyFields);
+
+            processPartialIndexUpdate(iDocument, originalDocument, dirtyFields, getTransactionalIndex(database, index), changes);
+          }
         }
+      }
     }
   }
 
+  /**
+   * Partial index contains only records which satisfy its filter, so record is added to or removed from such index when it starts
+   * or stops to satisfy the filter.
+   */
+  private static void processPartialIndexUpdate(final ODocument iDocument, final ODocument originalDocument,
+      final Set<String> dirtyFields, final OIndex<?> index, List<IndexChange> changes) {
+    final OIndexDefinition indexDefinition = index.getDefinition();
+    final boolean wasIndexed = indexDefinition.matchesFilter(originalDocument);
+    final boolean isIndexed = indexDefinition.matchesFilter(iDocument);
+
+    if (wasIndexed && isIndexed)
+      processIndexUpdate(iDocument, dirtyFields, index, changes);
+    else if (wasIndexed)
+      deleteIndexEntry(iDocument, dirtyFields, index, changes);
+    else if (isIndexed)
+      addIndexEntry(iDocument, iDocument.getIdentity(), index, changes);
+  }
+
+  /**
+   * @return Copy of the document which contains original values of the changed fields or the document itself if it is not changed.
+   */
+  private static ODocument getOriginalDocument(final ODocument iDocument, final Set<String> dirtyFields) {
+    if (dirtyFields.isEmpty())
+      return iDocument;
+
+    final ODocument originalDocument = iDocument.copy();
+    for (final String field : dirtyFields) {
+      final OMultiValueChangeTimeLine<?, ?> multiValueChangeTimeLine = iDocument.getCollectionTimeLine(field);
+      if (multiValueChangeTimeLine != null) {
+        final OTrackedMultiValue fieldValue = iDocument.field(field);
+        @SuppressWarnings("unchecked")
+        final Object restoredMultiValue = fieldValue.returnOriginalState(multiValueChangeTimeLine.getMultiValueChangeEvents());
+        originalDocument.field(field, restoredMultiValue);
+      } else
+        originalDocument.field(field, iDocument.getOriginalValue(field));
+    }
+
+    return originalDocument;
+  }
+
   private static OIndex getTransactionalIndex(ODatabaseDocumentInternal database, OIndex<?> index) {
     return ((OIndexManagerProxy) database.getMetadata().getIndexManager()).preProcessBeforeReturn(database, index);
   }
@@ -365,7 +414,8 @@ public class OClassIndexManager {
     final OIdentifiable rid = document.getIdentity();
 
     for (final OIndex<?> index : indexes) {
-      addIndexEntry(document, rid, getTransactionalIndex(database, index), changes);
+      if (index.getDefinition().matchesFilter(document))
+        addIndexEntry(document, rid, getTransactionalIndex(database, index), changes);
     }
   }
 
@@ -385,35 +435,38 @@ public class OClassIndexManager {
     if (cls == null)
       return;
 
-    final Collection<OIndex<?>> indexes = new ArrayList<>();
-    for (OIndex index : cls.getRawIndexes()) {
-      indexes.add(getTransactionalIndex(database, index));
-    }
-
-    if (!indexes.isEmpty()) {
-      final Set<String> dirtyFields = new HashSet<>(Arrays.asList(iDocument.getDirtyFields()));
-
-      if (!dirtyFields.isEmpty()) {
-        // REMOVE INDEX OF ENTRIES FOR THE OLD VALUES
-        final Iterator<OIndex<?>> indexIterator = indexes.iterator();
+    final Collection<OIndex<?>> indexes = cls.getRawIndexes();
+    if (indexes.isEmpty())
+      return;
 
-        while (indexIterator.hasNext()) {
-          final OIndex<?> index = indexIterator.next();
+    final Set<String> dirtyFields = new HashSet<>(Arrays.asList(iDocument.getDirtyFields()));
+    ODocument originalDocument = null;
 
-          final boolean result;
-          if (index.getDefinition() instanceof OCompositeIndexDefinition)
-            result = processCompositeIndexDelete(index, dirtyFields, iDocument, changes);
-          else
-            result = processSingleIndexDelete(index, dirtyFields, iDocument, changes);
+    for (final OIndex<?> index : indexes) {
+      // PARTIAL INDEX CONTAINS RECORD ONLY IF STORED VERSION OF IT SATISFIES THE FILTER
+      if (index.getDefinition().getFilter() != null) {
+        if (originalDocument == null)
+          originalDocument = getOriginalDocument(iDocument, dirtyFields);
 
-          if (result)
-            indexIterator.remove();
-        }
+        if (!index.getDefinition().matchesFilter(originalDocument))
+          continue;
       }
+
+      deleteIndexEntry(iDocument, dirtyFields, getTransactionalIndex(database, index), changes);
     }
+  }
+
+  private static void deleteIndexEntry(final ODocument iDocument, final Set<String> dirtyFields, final OIndex<?> index,
+      List<IndexChange> changes) {
+    // REMOVE INDEX OF ENTRIES FOR THE OLD VALUES
+    final boolean result;
+    if (index.getDefinition() instanceof OCompositeIndexDefinition)
+      result = processCompositeIndexDelete(index, dirtyFields, iDocument, changes);
+    else
+      result = processSingleIndexDelete(index, dirtyFields, iDocument, changes);
 
     // REMOVE INDEX OF ENTRIES FOR THE NON CHANGED ONLY VALUES
-    for (final OIndex<?> index : indexes) {
+    if (!result) {
       final Object key = index.getDefinition().getDocumentValueToIndex(iDocument);
       deleteIndexKey(index, iDocument, key, changes);
     }
@@ -21,6 +21,7 @@ package com.orientechnologies.orient.core.index;
 
 import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.orient.core.collate.OCollate;
+import com.orientechnologies.orient.core.collate.ODefaultCollate;
 import com.orientechnologies.orient.core.db.record.OMultiValueChangeEvent;
 import com.orientechnologies.orient.core.db.record.ORecordElement;
 import com.orientechnologies.orient.core.metadata.schema.OType;
@@ -32,6 +33,10 @@ import java.util.*;
 
 /**
  * Index that consist of several indexDefinitions like {@link OPropertyIndexDefinition}.
+ * <p>
+ * Last index definitions may be marked as included ones (see {@link #setIncludedFieldsCount(int)}). Values of included fields are
+ * appended to the key, so queries which need only indexed fields can be answered without loading of records, but documents are
+ * indexed even if values of included fields are absent.
  */
 
 public class OCompositeIndexDefinition extends OAbstractIndexDefinition {
@@ -39,6 +44,7 @@ public class OCompositeIndexDefinition extends OAbstractIndexDefinition {
   private final List<OIndexDefinition> indexDefinitions;
   private       String                 className;
   private int               multiValueDefinitionIndex = -1;
+  private int               includedFieldsCount;
   private OCompositeCollate collate                   = new OCompositeCollate(this);
 
   public OCompositeIndexDefinition() {
@@ -116,6 +122,58 @@ public class OCompositeIndexDefinition extends OAbstractIndexDefinition {
     return Collections.unmodifiableList(fields);
   }
 
+  /**
+   * Marks last index definitions as included ones. Included fields should not be collections.
+   *
+   * @param includedFieldsCount Amount of included index definitions.
+   */
+  public void setIncludedFieldsCount(final int includedFieldsCount) {
+    if (includedFieldsCount < 0 || includedFieldsCount >= indexDefinitions.size())
+      throw new OIndexException(
+          "Index should contain at least one key field besides " + includedFieldsCount + " included fields, but contains "
+              + indexDefinitions.size() + " fields");
+
+    for (int i = indexDefinitions.size() - includedFieldsCount; i < indexDefinitions.size(); i++) {
+      if (indexDefinitions.get(i) instanceof OIndexDefinitionMultiValue)
+        throw new OIndexException("Collection field " + indexDefinitions.get(i).getFields() + " cannot be included into index");
+    }
+
+    this.includedFieldsCount = includedFieldsCount;
+  }
+
+  public int getIncludedFieldsCount() {
+    return includedFieldsCount;
+  }
+
+  /**
+   * @return Names of fields which are included into the index but are not part of the index key.
+   */
+  public List<String> getIncludedFields() {
+    final List<String> fields = new ArrayList<String>(includedFieldsCount);
+    for (int i = indexDefinitions.size() - includedFieldsCount; i < indexDefinitions.size(); i++)
+      fields.addAll(indexDefinitions.get(i).getFields());
+
+    return Collections.unmodifiableList(fields);
+  }
+
+  /**
+   * @return Names of fields which values are stored in the index key as they are, so they can be read from the key instead of
+   * the record. Values of collection fields and fields with not default collate are transformed before they are indexed.
+   */
+  public List<String> getCoveredFields() {
+    final List<String> fields = new ArrayList<String>(indexDefinitions.size());
+    for (final OIndexDefinition indexDefinition : indexDefinitions) {
+      if (!(indexDefinition instanceof OPropertyIndexDefinition) || indexDefinition instanceof OIndexDefinitionMultiValue)
+        continue;
+
+      final OCollate fieldCollate = indexDefinition.getCollate();
+      if (fieldCollate == null || ODefaultCollate.NAME.equals(fieldCollate.getName()))
+        fields.addAll(indexDefinition.getFields());
+    }
+
+    return Collections.unmodifiableList(fields);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -137,10 +195,11 @@ public class OCompositeIndexDefinition extends OAbstractIndexDefinition {
 
     compositeKeys.add(firstKey);
 
-    for (final OIndexDefinition indexDefinition : indexDefinitions) {
+    for (int i = 0; i < indexDefinitions.size(); i++) {
+      final OIndexDefinition indexDefinition = indexDefinitions.get(i);
       final Object result = indexDefinition.getDocumentValueToIndex(iDocument);
 
-      if (result == null && isNullValuesIgnored())
+      if (result == null && isNullValuesIgnored() && !isIncluded(i))
         return null;
 
       //for empty collections we add null key in index
@@ -179,7 +238,8 @@ public class OCompositeIndexDefinition extends OAbstractIndexDefinition {
 
     boolean containsCollection = false;
 
-    for (final OIndexDefinition indexDefinition : indexDefinitions) {
+    for (int i = 0; i < indexDefinitions.size(); i++) {
+      final OIndexDefinition indexDefinition = indexDefinitions.get(i);
       if (currentParamIndex + 1 > params.size())
         break;
 
@@ -194,7 +254,7 @@ public class OCompositeIndexDefinition extends OAbstractIndexDefinition {
 
       final Object keyValue = indexDefinition.createValue(indexParams);
 
-      if (keyValue == null && isNullValuesIgnored())
+      if (keyValue == null && isNullValuesIgnored() && !isIncluded(i))
         return null;
 
       //for empty collections we add null key in index
@@ -221,7 +281,8 @@ public class OCompositeIndexDefinition extends OAbstractIndexDefinition {
     final OCompositeKey compositeKey = new OCompositeKey();
     int currentParamIndex = 0;
 
-    for (final OIndexDefinition indexDefinition : indexDefinitions) {
+    for (int i = 0; i < indexDefinitions.size(); i++) {
+      final OIndexDefinition indexDefinition = indexDefinitions.get(i);
       if (currentParamIndex + 1 > params.size())
         break;
 
@@ -241,7 +302,7 @@ public class OCompositeIndexDefinition extends OAbstractIndexDefinition {
       else
         keyValue = indexDefinition.createValue(indexParams);
 
-      if (keyValue == null && isNullValuesIgnored())
+      if (keyValue == null && isNullValuesIgnored() && !isIncluded(i))
         return null;
 
       compositeKey.addKey(keyValue);
@@ -250,6 +311,10 @@ public class OCompositeIndexDefinition extends OAbstractIndexDefinition {
     return compositeKey;
   }
 
+  private boolean isIncluded(final int definitionIndex) {
+    return definitionIndex >= indexDefinitions.size() - includedFieldsCount;
+  }
+
   private static boolean addKey(OCompositeKey firstKey, List<OCompositeKey> compositeKeys, boolean containsCollection,
       Object keyValue) {
     //in case of collection we split single composite key on several composite keys
@@ -358,6 +423,8 @@ public class OCompositeIndexDefinition extends OAbstractIndexDefinition {
       return false;
     if (!indexDefinitions.equals(that.indexDefinitions))
       return false;
+    if (includedFieldsCount != that.includedFieldsCount)
+      return false;
 
     return true;
   }
@@ -366,12 +433,14 @@ public class OCompositeIndexDefinition extends OAbstractIndexDefinition {
   public int hashCode() {
     int result = indexDefinitions.hashCode();
     result = 31 * result + className.hashCode();
+    result = 31 * result + includedFieldsCount;
     return result;
   }
 
   @Override
   public String toString() {
-    return "OCompositeIndexDefinition{" + "indexDefinitions=" + indexDefinitions + ", className='" + className + '\'' + '}';
+    return "OCompositeIndexDefinition{" + "indexDefinitions=" + indexDefinitions + ", className='" + className + '\''
+        + ", includedFieldsCount=" + includedFieldsCount + '}';
   }
 
   /**
@@ -406,6 +475,8 @@ public class OCompositeIndexDefinition extends OAbstractIndexDefinition {
     document.field("indexDefinitions", inds, OType.EMBEDDEDLIST);
     document.field("indClasses", indClasses, OType.EMBEDDEDLIST);
     document.field("nullValuesIgnored", isNullValuesIgnored());
+    if (includedFieldsCount > 0)
+      document.field("includedFieldsCount", includedFieldsCount);
   }
 
   /**
@@ -415,14 +486,31 @@ public class OCompositeIndexDefinition extends OAbstractIndexDefinition {
     final StringBuilder ddl = new StringBuilder("create index ");
     ddl.append(indexName).append(" on ").append(className).append(" ( ");
 
-    final Iterator<String> fieldIterator = getFieldsToIndex().iterator();
+    final List<String> fieldsToIndex = getFieldsToIndex();
+    final int keyFieldsCount = fieldsToIndex.size() - includedFieldsCount;
+
+    final Iterator<String> fieldIterator = fieldsToIndex.subList(0, keyFieldsCount).iterator();
     if (fieldIterator.hasNext()) {
       ddl.append(fieldIterator.next());
       while (fieldIterator.hasNext()) {
         ddl.append(", ").append(fieldIterator.next());
       }
     }
-    ddl.append(" ) ").append(indexType).append(' ');
+    ddl.append(" ) ");
+
+    if (includedFieldsCount > 0) {
+      ddl.append("include ( ");
+
+      final Iterator<String> includedFieldIterator = fieldsToIndex.subList(keyFieldsCount, fieldsToIndex.size()).iterator();
+      ddl.append(includedFieldIterator.next());
+      while (includedFieldIterator.hasNext()) {
+        ddl.append(", ").append(includedFieldIterator.next());
+      }
+
+      ddl.append(" ) ");
+    }
+
+    ddl.append(indexType).append(' ');
 
     if (engine != null)
       ddl.append(OCommandExecutorSQLCreateIndex.KEYWORD_ENGINE + " " + engine).append(' ');
@@ -479,6 +567,9 @@ public class OCompositeIndexDefinition extends OAbstractIndexDefinition {
       }
 
       setNullValuesIgnored(!Boolean.FALSE.equals(document.<Boolean>field("nullValuesIgnored")));
+
+      final Integer includedFieldsCount = document.field("includedFieldsCount");
+      this.includedFieldsCount = includedFieldsCount != null ? includedFieldsCount : 0;
     } catch (final ClassNotFoundException e) {
       throw OException.wrapException(new OIndexException("Error during composite index deserialization"), e);
     } catch (final NoSuchMethodException e) {
@@ -164,7 +164,7 @@ public class ODefaultIndexFactory implements OIndexFactory {
         if (multivalue) {
           indexEngine = new OCellBTreeMultiValueIndexEngine(name, (OAbstractPaginatedStorage) storage);
         } else {
-          indexEngine = new OCellBTreeSingleValueIndexEngine(name, (OAbstractPaginatedStorage) storage);
+          indexEngine = new OCellBTreeSingleValueIndexEngine(name, (OAbstractPaginatedStorage) storage, engineProperties);
         }
         break;
       default:
@@ -27,6 +27,8 @@ import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.common.listener.OProgressListener;
 import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.common.serialization.types.OBinarySerializer;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
@@ -34,8 +36,11 @@ import com.orientechnologies.orient.core.exception.OCommandExecutionException;
 import com.orientechnologies.orient.core.exception.OConfigurationException;
 import com.orientechnologies.orient.core.exception.OInvalidIndexEngineIdException;
 import com.orientechnologies.orient.core.exception.OTooBigIndexKeyException;
+import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.index.engine.OBaseIndexEngine;
+import com.orientechnologies.orient.core.index.engine.OIndexBulkLoader;
 import com.orientechnologies.orient.core.intent.OIntentMassiveInsert;
+import com.orientechnologies.orient.core.iterator.ORecordIteratorCluster;
 import com.orientechnologies.orient.core.metadata.schema.OType;
 import com.orientechnologies.orient.core.record.ORecord;
 import com.orientechnologies.orient.core.record.impl.ODocument;
@@ -53,14 +58,22 @@ import com.orientechnologies.orient.core.tx.OTransactionIndexChangesPerKey;
 import javax.annotation.Nonnull;
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -74,6 +87,15 @@ public abstract class OIndexAbstract<T> implements OIndexInternal<T> {
 
   protected static final String                    CONFIG_MAP_RID  = "mapRid";
   private static final   String                    CONFIG_CLUSTERS = "clusters";
+  /**
+   * Minimum amount of records in the range of cluster positions which is scanned by single worker during parallel rebuild.
+   */
+  private static final   long                      MIN_SCAN_SIZE   = 10000;
+  /**
+   * Amount of ranges of cluster positions per worker, ranges are taken by workers from the shared queue so workers which scan
+   * sparse ranges do not wait for the rest.
+   */
+  private static final   int                       WORKER_SCANS    = 4;
   final                  String                    type;
   protected final        ODocument                 metadata;
   protected final        OAbstractPaginatedStorage storage;
@@ -186,6 +208,24 @@ public abstract class OIndexAbstract<T> implements OIndexInternal<T> {
 
   }
 
+  @Override
+  public long estimateRangeSize(Object fromKey, final boolean fromInclusive, Object toKey, final boolean toInclusive) {
+    fromKey = getCollatingValue(fromKey);
+    toKey = getCollatingValue(toKey);
+
+    acquireSharedLock();
+    try {
+      while (true)
+        try {
+          return storage.estimateIndexRangeSize(indexId, fromKey, fromInclusive, toKey, toInclusive);
+        } catch (OInvalidIndexEngineIdException ignore) {
+          doReloadIndexEngine();
+        }
+    } finally {
+      releaseSharedLock();
+    }
+  }
+
   /**
    * Creates the index.
    *
@@ -490,11 +530,28 @@ public abstract class OIndexAbstract<T> implements OIndexInternal<T> {
       if (iProgressListener != null)
         iProgressListener.onBegin(this, documentTotal, rebuild);
 
-      // INDEX ALL CLUSTERS
-      for (final String clusterName : clustersToIndex) {
-        final long[] metrics = indexCluster(clusterName, iProgressListener, documentNum, documentIndexed, documentTotal);
-        documentNum = metrics[0];
-        documentIndexed = metrics[1];
+      final OIndexBulkLoader bulkLoader = createBulkLoader();
+      try {
+        final int workers =
+            bulkLoader != null ? getDatabase().getConfiguration().getValueAsInteger(OGlobalConfiguration.INDEX_REBUILD_THREADS) : 1;
+
+        if (workers > 1 && documentTotal >= 2 * MIN_SCAN_SIZE) {
+          documentIndexed = indexClustersInParallel(bulkLoader, iProgressListener, documentTotal, workers);
+        } else {
+          // INDEX ALL CLUSTERS
+          for (final String clusterName : clustersToIndex) {
+            final long[] metrics = indexCluster(clusterName, bulkLoader, iProgressListener, documentNum, documentIndexed,
+                documentTotal);
+            documentNum = metrics[0];
+            documentIndexed = metrics[1];
+          }
+        }
+
+        if (bulkLoader != null)
+          bulkLoader.load();
+      } finally {
+        if (bulkLoader != null)
+          bulkLoader.close();
       }
 
       if (iProgressListener != null)
@@ -621,7 +678,7 @@ public abstract class OIndexAbstract<T> implements OIndexInternal<T> {
         updateConfiguration();
 
         // INDEX SINGLE CLUSTER
-        indexCluster(clusterName, null, 0, 0, 0);
+        indexCluster(clusterName, null, null, 0, 0, 0);
       }
 
       return this;
@@ -832,6 +889,37 @@ public abstract class OIndexAbstract<T> implements OIndexInternal<T> {
       put(fieldValue, doc);
   }
 
+  private void populateIndex(ODocument doc, Object fieldValue, OIndexBulkLoader bulkLoader) {
+    if (fieldValue instanceof Collection) {
+      for (final Object fieldValueItem : (Collection<?>) fieldValue) {
+        bulkLoader.add(getCollatingValue(fieldValueItem), doc.getIdentity());
+      }
+    } else
+      bulkLoader.add(getCollatingValue(fieldValue), doc.getIdentity());
+  }
+
+  /**
+   * Creates loader which is used to fill empty index during its creation or rebuild.
+   *
+   * @return Bulk loader or {@code null} if entries should be put into the index one by one.
+   */
+  protected OIndexBulkLoader createBulkLoader() {
+    return null;
+  }
+
+  protected OIndexBulkLoader createStorageBulkLoader(final OBaseIndexEngine.Validator<Object, ORID> validator) {
+    if (apiVersion != 1)
+      return null;
+
+    while (true) {
+      try {
+        return storage.createIndexBulkLoader(indexId, validator);
+      } catch (OInvalidIndexEngineIdException ignore) {
+        doReloadIndexEngine();
+      }
+    }
+  }
+
   public Object getCollatingValue(final Object key) {
     if (key != null && getDefinition() != null)
       return getDefinition().getCollate().transform(key);
@@ -909,34 +997,15 @@ public abstract class OIndexAbstract<T> implements OIndexInternal<T> {
     return ODatabaseRecordThreadLocal.instance().get();
   }
 
-  private long[] indexCluster(final String clusterName, final OProgressListener iProgressListener, long documentNum,
-      long documentIndexed, long documentTotal) {
+  private long[] indexCluster(final String clusterName, final OIndexBulkLoader bulkLoader,
+      final OProgressListener iProgressListener, long documentNum, long documentIndexed, long documentTotal) {
     try {
       for (final ORecord record : getDatabase().browseCluster(clusterName)) {
         if (Thread.interrupted())
           throw new OCommandExecutionException("The index rebuild has been interrupted");
 
-        if (record instanceof ODocument) {
-          final ODocument doc = (ODocument) record;
-
-          if (indexDefinition == null)
-            throw new OConfigurationException(
-                "Index '" + name + "' cannot be rebuilt because has no a valid definition (" + indexDefinition + ")");
-
-          final Object fieldValue = indexDefinition.getDocumentValueToIndex(doc);
-
-          if (fieldValue != null || !indexDefinition.isNullValuesIgnored()) {
-            try {
-              populateIndex(doc, fieldValue);
-            } catch (OTooBigIndexKeyException | OIndexException e) {
-              OLogManager.instance().error(this,
-                  "Exception during index rebuild. Exception was caused by following key/ value pair - key %s, value %s."
-                      + " Rebuild will continue from this point", e, fieldValue, doc.getIdentity());
-            }
-
-            ++documentIndexed;
-          }
-        }
+        if (indexRecord(record, bulkLoader))
+          ++documentIndexed;
         documentNum++;
 
         if (iProgressListener != null)
@@ -949,6 +1018,192 @@ public abstract class OIndexAbstract<T> implements OIndexInternal<T> {
     return new long[] { documentNum, documentIndexed };
   }
 
+  /**
+   * Splits clusters into ranges of positions which are scanned in parallel, each worker uses own database session and passes
+   * keys to the bulk loader which accumulates them in sorted runs of the worker. Current thread takes part in the scan too, so
+   * rebuild proceeds even if the shared pool of workers is busy.
+   *
+   * @return Amount of indexed documents.
+   */
+  private long indexClustersInParallel(final OIndexBulkLoader bulkLoader, final OProgressListener iProgressListener,
+      final long documentTotal, final int workers) {
+    final long scanSize = Math.max(MIN_SCAN_SIZE, documentTotal / ((long) workers * WORKER_SCANS));
+
+    final Queue<ClusterScan> scans = new ConcurrentLinkedQueue<>();
+    for (final String clusterName : clustersToIndex) {
+      final int clusterId = storage.getClusterIdByName(clusterName);
+      final long count = storage.count(clusterId);
+      final long[] range = storage.getClusterDataRange(clusterId);
+
+      if (count == 0 || range.length < 2 || range[0] < 0 || range[1] < range[0])
+        continue;
+
+      final long positions = range[1] - range[0] + 1;
+      final long parts = Math.max(1, Math.min((count + scanSize - 1) / scanSize, positions));
+      final long step = positions / parts;
+
+      long first = range[0];
+      for (long i = 0; i < parts - 1; i++) {
+        scans.add(new ClusterScan(clusterId, first, first + step - 1));
+        first += step;
+      }
+
+      // last range is not limited, so records appended after the split are not missed
+      scans.add(new ClusterScan(clusterId, first, Long.MAX_VALUE));
+    }
+
+    final ODatabaseDocumentInternal database = getDatabase();
+    final AtomicLong documentNum = new AtomicLong();
+    final AtomicLong documentIndexed = new AtomicLong();
+    final AtomicBoolean stopped = new AtomicBoolean();
+
+    final List<Future<Void>> futures = new ArrayList<>();
+    try {
+      for (int i = 1; i < Math.min(workers, scans.size()); i++) {
+        final ODatabaseDocumentInternal workerDatabase = database.copy();
+        database.activateOnCurrentThread();
+
+        futures.add(Orient.instance().submit(() -> {
+          workerDatabase.activateOnCurrentThread();
+          try {
+            indexClusterScans(workerDatabase, scans, bulkLoader, iProgressListener, documentNum, documentIndexed, documentTotal,
+                stopped);
+          } finally {
+            workerDatabase.close();
+            ODatabaseRecordThreadLocal.instance().remove();
+          }
+
+          return null;
+        }));
+      }
+
+      indexClusterScans(database, scans, bulkLoader, iProgressListener, documentNum, documentIndexed, documentTotal, stopped);
+
+      for (final Future<Void> future : futures)
+        future.get();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw OException.wrapException(new OCommandExecutionException("The index rebuild has been interrupted"), e);
+    } catch (final ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException)
+        throw (RuntimeException) e.getCause();
+
+      throw OException.wrapException(new OIndexException("Error during rebuild of index '" + name + "'"), e.getCause());
+    } finally {
+      // bulk loader is closed once method is completed, so workers should be finished before that
+      stopped.set(true);
+      awaitWorkers(futures);
+
+      database.activateOnCurrentThread();
+    }
+
+    return documentIndexed.get();
+  }
+
+  private void indexClusterScans(final ODatabaseDocumentInternal database, final Queue<ClusterScan> scans,
+      final OIndexBulkLoader bulkLoader, final OProgressListener iProgressListener, final AtomicLong documentNum,
+      final AtomicLong documentIndexed, final long documentTotal, final AtomicBoolean stopped) {
+    ClusterScan scan;
+    while (!stopped.get() && (scan = scans.poll()) != null) {
+      try {
+        for (final ORecord record : new ORecordIteratorCluster<>(database, scan.clusterId, scan.firstPosition,
+            scan.lastPosition)) {
+          if (stopped.get())
+            return;
+
+          if (Thread.interrupted())
+            throw new OCommandExecutionException("The index rebuild has been interrupted");
+
+          if (indexRecord(record, bulkLoader))
+            documentIndexed.incrementAndGet();
+
+          final long num = documentNum.incrementAndGet();
+
+          if (iProgressListener != null) {
+            synchronized (iProgressListener) {
+              iProgressListener.onProgress(this, num, (float) (num * 100.0 / documentTotal));
+            }
+          }
+        }
+      } catch (NoSuchElementException ignore) {
+        // END OF CLUSTER REACHED, IGNORE IT
+      } catch (RuntimeException e) {
+        stopped.set(true);
+        throw e;
+      }
+    }
+  }
+
+  private static void awaitWorkers(final List<Future<Void>> futures) {
+    boolean interrupted = false;
+    for (final Future<Void> future : futures) {
+      while (true) {
+        try {
+          future.get();
+          break;
+        } catch (InterruptedException ignore) {
+          interrupted = true;
+        } catch (ExecutionException | CancellationException ignore) {
+          // failure of worker is reported by the thread which started the rebuild
+          break;
+        }
+      }
+    }
+
+    if (interrupted)
+      Thread.currentThread().interrupt();
+  }
+
+  /**
+   * @return {@code true} if record contains value which is indexed.
+   */
+  private boolean indexRecord(final ORecord record, final OIndexBulkLoader bulkLoader) {
+    if (!(record instanceof ODocument))
+      return false;
+
+    final ODocument doc = (ODocument) record;
+
+    if (indexDefinition == null)
+      throw new OConfigurationException(
+          "Index '" + name + "' cannot be rebuilt because has no a valid definition (" + indexDefinition + ")");
+
+    if (!indexDefinition.matchesFilter(doc))
+      return false;
+
+    final Object fieldValue = indexDefinition.getDocumentValueToIndex(doc);
+
+    if (fieldValue == null && indexDefinition.isNullValuesIgnored())
+      return false;
+
+    try {
+      if (bulkLoader == null)
+        populateIndex(doc, fieldValue);
+      else
+        populateIndex(doc, fieldValue, bulkLoader);
+    } catch (OTooBigIndexKeyException | OIndexException e) {
+      OLogManager.instance().error(this,
+          "Exception during index rebuild. Exception was caused by following key/ value pair - key %s, value %s."
+              + " Rebuild will continue from this point", e, fieldValue, doc.getIdentity());
+    }
+
+    return true;
+  }
+
+  /**
+   * Range of positions of cluster scanned by single worker during parallel rebuild, both bounds are inclusive.
+   */
+  private static final class ClusterScan {
+    private final int  clusterId;
+    private final long firstPosition;
+    private final long lastPosition;
+
+    private ClusterScan(final int clusterId, final long firstPosition, final long lastPosition) {
+      this.clusterId = clusterId;
+      this.firstPosition = firstPosition;
+      this.lastPosition = lastPosition;
+    }
+  }
+
   protected void releaseExclusiveLock() {
     rwLock.releaseWriteLock();
   }
@@ -133,4 +133,18 @@ public interface OIndexDefinition extends OIndexCallback {
   boolean isNullValuesIgnored();
 
   void setNullValuesIgnored(boolean value);
+
+  /**
+   * @return Condition which records should satisfy to be indexed or {@code null} if all records of the class are indexed.
+   */
+  String getFilter();
+
+  void setFilter(String filter);
+
+  /**
+   * @param document Document to check.
+   *
+   * @return {@code true} if the document satisfies condition of the partial index, always {@code true} if index is not partial.
+   */
+  boolean matchesFilter(ODocument document);
 }
@@ -21,6 +21,7 @@ package com.orientechnologies.orient.core.index;
 
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.exception.OInvalidIndexEngineIdException;
+import com.orientechnologies.orient.core.index.engine.OIndexBulkLoader;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
 import com.orientechnologies.orient.core.tx.OTransactionIndexChangesPerKey;
@@ -80,6 +81,11 @@ public class OIndexDictionary extends OIndexOneValue {
     }
   }
 
+  @Override
+  protected OIndexBulkLoader createBulkLoader() {
+    return createStorageBulkLoader(null);
+  }
+
   public boolean canBeUsedInEqualityOperators() {
     return true;
   }
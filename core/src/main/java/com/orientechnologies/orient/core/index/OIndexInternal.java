@@ -91,6 +91,19 @@ public interface OIndexInternal<T> extends OIndex<T> {
 
   boolean hasRangeQuerySupport();
 
+  /**
+   * Estimates amount of entries which keys are placed between passed in boundaries. Estimation is calculated by positions of the
+   * boundaries inside of the index tree, so it takes logarithmic time and does not require iteration over the entries.
+   *
+   * @param fromKey       Lower boundary of the range or {@code null} if range has no lower boundary.
+   * @param fromInclusive Whether lower boundary is included into the range.
+   * @param toKey         Upper boundary of the range or {@code null} if range has no upper boundary.
+   * @param toInclusive   Whether upper boundary is included into the range.
+   *
+   * @return Estimated amount of entries or {@code -1} if index does not support such estimation.
+   */
+  long estimateRangeSize(Object fromKey, boolean fromInclusive, Object toKey, boolean toInclusive);
+
   OIndexMetadata loadMetadata(ODocument iConfig);
 
   void setRebuildingFlag();
@@ -58,6 +58,9 @@ public class OIndexManagerRemote extends OIndexManagerAbstract {
     if (metadata != null)
       createIndexDDL += " " + OCommandExecutorSQLCreateIndex.KEYWORD_METADATA + " " + metadata.toJSON();
 
+    if (iIndexDefinition != null && iIndexDefinition.getFilter() != null)
+      createIndexDDL += " where " + iIndexDefinition.getFilter();
+
     acquireExclusiveLock();
     try {
       if (progressListener != null)
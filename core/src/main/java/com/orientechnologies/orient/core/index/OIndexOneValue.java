@@ -22,6 +22,7 @@ package com.orientechnologies.orient.core.index;
 import com.orientechnologies.common.comparator.ODefaultComparator;
 import com.orientechnologies.common.listener.OProgressListener;
 import com.orientechnologies.common.serialization.types.OBinarySerializer;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.exception.OInvalidIndexEngineIdException;
 import com.orientechnologies.orient.core.record.impl.ODocument;
@@ -98,29 +99,26 @@ public abstract class OIndexOneValue extends OIndexAbstract<OIdentifiable> {
 
     Collections.sort(sortedKeys, comparator);
 
+    final int batchSize = Math.max(1,
+        storage.getConfiguration().getContextConfiguration().getValueAsInteger(OGlobalConfiguration.INDEX_BATCH_LOOKUP_SIZE));
+
     return new OIndexAbstractCursor() {
-      private Iterator<?> keysIterator = sortedKeys.iterator();
+      private final Iterator<?>  keysIterator = sortedKeys.iterator();
+      private final List<Object> batchKeys    = new ArrayList<Object>();
+      private       List<Object> batchValues  = Collections.emptyList();
+      private       int          batchPosition;
 
       @Override
       public Map.Entry<Object, OIdentifiable> nextEntry() {
         OIdentifiable result = null;
         Object key = null;
-        while (keysIterator.hasNext() && result == null) {
-          key = keysIterator.next();
-          key = getCollatingValue(key);
-
-          acquireSharedLock();
-          try {
-            while (true)
-              try {
-                result = (OIdentifiable) storage.getIndexValue(indexId, key);
-                break;
-              } catch (OInvalidIndexEngineIdException ignore) {
-                doReloadIndexEngine();
-              }
-          } finally {
-            releaseSharedLock();
-          }
+        while (result == null) {
+          if (batchPosition >= batchValues.size() && !fetchNextBatch())
+            break;
+
+          key = batchKeys.get(batchPosition);
+          result = (OIdentifiable) batchValues.get(batchPosition);
+          batchPosition++;
         }
 
         if (result == null)
@@ -146,6 +144,31 @@ public abstract class OIndexOneValue extends OIndexAbstract<OIdentifiable> {
           }
         };
       }
+
+      private boolean fetchNextBatch() {
+        batchKeys.clear();
+        while (keysIterator.hasNext() && batchKeys.size() < batchSize)
+          batchKeys.add(getCollatingValue(keysIterator.next()));
+
+        batchPosition = 0;
+        if (batchKeys.isEmpty()) {
+          batchValues = Collections.emptyList();
+          return false;
+        }
+
+        acquireSharedLock();
+        try {
+          while (true)
+            try {
+              batchValues = storage.getIndexValues(indexId, batchKeys);
+              return true;
+            } catch (OInvalidIndexEngineIdException ignore) {
+              doReloadIndexEngine();
+            }
+        } finally {
+          releaseSharedLock();
+        }
+      }
     };
   }
 
@@ -0,0 +1,28 @@
+package com.orientechnologies.orient.core.index.engine;
+
+import com.orientechnologies.orient.core.id.ORID;
+
+/**
+ * Accumulates entries of empty index and builds index from them at once. Entries are not visible in index till the {@link
+ * #load()} method is called.
+ */
+public interface OIndexBulkLoader extends AutoCloseable {
+  /**
+   * Adds entry to the loader. May be called by several threads at the same time, all of them should complete before entries are
+   * loaded.
+   */
+  void add(Object key, ORID value);
+
+  /**
+   * Builds index from the entries added to the loader.
+   *
+   * @return Amount of entries stored in index.
+   */
+  long load();
+
+  /**
+   * Releases resources (temporary files) used by loader.
+   */
+  @Override
+  void close();
+}
@@ -2,8 +2,32 @@ package com.orientechnologies.orient.core.index.engine;
 
 import com.orientechnologies.orient.core.id.ORID;
 
+import java.nio.file.Path;
+import java.util.List;
+
 public interface OSingleValueIndexEngine extends OV1IndexEngine {
   ORID get(Object key);
 
+  /**
+   * Fetches values of several keys in single pass over the index.
+   *
+   * @param keys Keys to search, may contain {@code null}.
+   *
+   * @return Values in the same order as passed in keys, {@code null} is returned for absent keys.
+   */
+  List<ORID> getAll(List<Object> keys);
+
   boolean validatedPut(Object key, ORID value, Validator<Object, ORID> validator);
+
+  /**
+   * Creates loader which builds content of empty index from scratch.
+   *
+   * @param validator      Validator which is applied to the entries with the same key, may be {@code null}.
+   * @param sortBufferSize Amount of memory in bytes which is used to sort entries before they are spilled to the disk.
+   * @param fillFactor     Percentage of page space which is filled by entries.
+   * @param tempDirectory  Directory where sorted runs of entries are stored.
+   *
+   * @return Bulk loader or {@code null} if index is not empty.
+   */
+  OIndexBulkLoader createBulkLoader(Validator<Object, ORID> validator, long sortBufferSize, int fillFactor, Path tempDirectory);
 }
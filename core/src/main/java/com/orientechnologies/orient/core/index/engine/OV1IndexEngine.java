@@ -13,4 +13,12 @@ public interface OV1IndexEngine extends OBaseIndexEngine {
   }
 
   void load(String indexName, String encryptionKey);
+
+  /**
+   * Estimates amount of entries in the range of keys without iteration over the range.
+   *
+   * @param rangeFrom Lower boundary of the range, {@code null} means that range is not limited from below.
+   * @param rangeTo   Upper boundary of the range, {@code null} means that range is not limited from above.
+   */
+  long estimateRangeSize(Object rangeFrom, boolean fromInclusive, Object rangeTo, boolean toInclusive);
 }
@@ -188,6 +188,11 @@ public final class OCellBTreeMultiValueIndexEngine implements OMultiValueIndexEn
     return new OSBTreeIndexCursor(sbTree.iterateEntriesBetween(rangeFrom, fromInclusive, rangeTo, toInclusive, ascSortOrder));
   }
 
+  @Override
+  public long estimateRangeSize(Object rangeFrom, boolean fromInclusive, Object rangeTo, boolean toInclusive) {
+    return sbTree.estimateEntriesBetween(rangeFrom, fromInclusive, rangeTo, toInclusive);
+  }
+
   @Override
   public OIndexCursor iterateEntriesMajor(Object fromKey, boolean isInclusive, boolean ascSortOrder,
       ValuesTransformer transformer) {
@@ -1,7 +1,11 @@
 package com.orientechnologies.orient.core.index.engine.v1;
 
+import com.orientechnologies.common.comparator.ODefaultComparator;
 import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.common.serialization.types.OBinarySerializer;
+import com.orientechnologies.common.util.ORawPair;
+import com.orientechnologies.orient.core.config.OContextConfiguration;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.encryption.OEncryption;
 import com.orientechnologies.orient.core.id.ORID;
@@ -10,28 +14,84 @@ import com.orientechnologies.orient.core.index.OIndexCursor;
 import com.orientechnologies.orient.core.index.OIndexDefinition;
 import com.orientechnologies.orient.core.index.OIndexException;
 import com.orientechnologies.orient.core.index.OIndexKeyCursor;
+import com.orientechnologies.orient.core.index.engine.OIndexBulkLoader;
 import com.orientechnologies.orient.core.index.engine.OSingleValueIndexEngine;
 import com.orientechnologies.orient.core.iterator.OEmptyIterator;
+import com.orientechnologies.orient.core.metadata.schema.OSchemaShared;
 import com.orientechnologies.orient.core.metadata.schema.OType;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import com.orientechnologies.orient.core.storage.index.sbtree.OIndexEntrySorter;
 import com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.OCellBTreeSingleValue;
 
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 
+/**
+ * Single value index engine which may split keys between several trees (partitions) by hash code of serialized key. Each partition
+ * is separate durable component with its own lock, so writers which change keys of different partitions do not block each other
+ * and transaction locks only partitions of changed keys instead of the whole index. Range queries are served by merge of sorted
+ * cursors of all partitions.
+ * <p>
+ * Amount of partitions is defined during creation of index by "partitions" field of index metadata or by {@link
+ * OGlobalConfiguration#INDEX_PARTITIONS} and is kept in engine properties. The first partition has the same name as index, so
+ * indexes created before introduction of partitions are loaded as indexes with single partition.
+ * <p>
+ * Partitions may be created together with Bloom filters which are used to skip lookups of absent keys. Bloom filters are enabled by
+ * "bloomFilter" field of index metadata or by {@link OGlobalConfiguration#INDEX_BLOOM_FILTER}.
+ */
 public final class OCellBTreeSingleValueIndexEngine implements OSingleValueIndexEngine {
   private static final String DATA_FILE_EXTENSION        = ".cbt";
   private static final String NULL_BUCKET_FILE_EXTENSION = ".nbt";
 
-  private final OCellBTreeSingleValue<Object> sbTree;
-  private final String                        name;
+  private static final String PARTITIONS_PROPERTY   = "partitions";
+  private static final String BLOOM_FILTER_PROPERTY = "bloomFilter";
+  private static final int    MAX_PARTITIONS        = 999;
 
-  public OCellBTreeSingleValueIndexEngine(String name, OAbstractPaginatedStorage storage) {
+  private final OAbstractPaginatedStorage           storage;
+  private final String                              name;
+  private       List<OCellBTreeSingleValue<Object>> partitions;
+
+  public OCellBTreeSingleValueIndexEngine(String name, OAbstractPaginatedStorage storage, Map<String, String> engineProperties) {
     this.name = name;
-    this.sbTree = new OCellBTreeSingleValue<>(name, DATA_FILE_EXTENSION, NULL_BUCKET_FILE_EXTENSION, storage);
+    this.storage = storage;
+
+    final String partitionsAsString = engineProperties != null ? engineProperties.get(PARTITIONS_PROPERTY) : null;
+    if (partitionsAsString == null || partitionsAsString.isEmpty()) {
+      init(1);
+    } else {
+      init(Integer.parseInt(partitionsAsString));
+    }
+  }
+
+  private void init(final int partitionsCount) {
+    final List<OCellBTreeSingleValue<Object>> partitions = new ArrayList<>(partitionsCount);
+    for (int i = 0; i < partitionsCount; i++) {
+      partitions.add(new OCellBTreeSingleValue<>(partitionName(i), DATA_FILE_EXTENSION, NULL_BUCKET_FILE_EXTENSION, storage));
+    }
+
+    this.partitions = partitions;
+  }
+
+  /**
+   * Names of partitions are ordered in the same way as partitions themselves, so locks of partitions acquired during commit of
+   * transaction in order of names are always acquired in the same order. Index name and number of partition are separated by
+   * character which is not allowed in index names (see {@link OSchemaShared#checkFieldNameIfValid(String)}), so files of
+   * partitions never collide with files of other indexes.
+   */
+  private String partitionName(final int partition) {
+    if (partition == 0) {
+      return name;
+    }
+
+    return String.format(Locale.ENGLISH, "%s=p%03d", name, partition);
   }
 
   @Override
@@ -51,18 +111,74 @@ public final class OCellBTreeSingleValueIndexEngine implements OSingleValueIndex
   public void create(OBinarySerializer valueSerializer, boolean isAutomatic, OType[] keyTypes, boolean nullPointerSupport,
       OBinarySerializer keySerializer, int keySize, Set<String> clustersToIndex, Map<String, String> engineProperties,
       ODocument metadata, OEncryption encryption) {
+    final OContextConfiguration contextConfiguration = storage.getConfiguration().getContextConfiguration();
+
+    int partitionsCount = contextConfiguration.getValueAsInteger(OGlobalConfiguration.INDEX_PARTITIONS);
+    if (metadata != null && metadata.containsField(PARTITIONS_PROPERTY)) {
+      partitionsCount = metadata.<Number>field(PARTITIONS_PROPERTY).intValue();
+    }
+
+    if (partitionsCount < 1 || partitionsCount > MAX_PARTITIONS) {
+      throw new OIndexException(
+          "Amount of partitions of index " + name + " should be in range [1, " + MAX_PARTITIONS + "] but was " + partitionsCount);
+    }
+
+    init(partitionsCount);
+    engineProperties.put(PARTITIONS_PROPERTY, String.valueOf(partitionsCount));
+
+    final long bloomFilterCapacity;
+    final int bloomFilterBitsPerKey;
+    if (isBloomFilterEnabled(metadata)) {
+      final long capacity = Math.max(contextConfiguration.getValueAsLong(OGlobalConfiguration.INDEX_BLOOM_FILTER_CAPACITY),
+          2 * countRecords(clustersToIndex));
+      bloomFilterCapacity = Math.max(1, capacity / partitionsCount);
+      bloomFilterBitsPerKey = contextConfiguration.getValueAsInteger(OGlobalConfiguration.INDEX_BLOOM_FILTER_BITS_PER_KEY);
+    } else {
+      bloomFilterCapacity = 0;
+      bloomFilterBitsPerKey = 0;
+    }
+
     try {
-      //noinspection unchecked
-      sbTree.create(keySerializer, keyTypes, keySize, encryption);
+      for (final OCellBTreeSingleValue<Object> partition : partitions) {
+        //noinspection unchecked
+        partition.create(keySerializer, keyTypes, keySize, encryption, bloomFilterCapacity, bloomFilterBitsPerKey);
+      }
     } catch (IOException e) {
       throw OException.wrapException(new OIndexException("Error of creation of index " + name), e);
     }
   }
 
+  private boolean isBloomFilterEnabled(final ODocument metadata) {
+    if (metadata != null && metadata.containsField(BLOOM_FILTER_PROPERTY)) {
+      return Boolean.TRUE.equals(metadata.field(BLOOM_FILTER_PROPERTY));
+    }
+
+    return storage.getConfiguration().getContextConfiguration().getValueAsBoolean(OGlobalConfiguration.INDEX_BLOOM_FILTER);
+  }
+
+  /**
+   * @return Amount of records in indexed clusters, which is used as estimation of amount of keys of index.
+   */
+  private long countRecords(final Set<String> clustersToIndex) {
+    long records = 0;
+    if (clustersToIndex != null) {
+      for (final String clusterName : clustersToIndex) {
+        final int clusterId = storage.getClusterIdByName(clusterName);
+        if (clusterId >= 0) {
+          records += storage.count(clusterId);
+        }
+      }
+    }
+
+    return records;
+  }
+
   @Override
   public void delete() {
     try {
-      sbTree.delete();
+      for (final OCellBTreeSingleValue<Object> partition : partitions) {
+        partition.delete();
+      }
     } catch (IOException e) {
       throw OException.wrapException(new OIndexException("Error during deletion of index " + name), e);
     }
@@ -71,7 +187,9 @@ public final class OCellBTreeSingleValueIndexEngine implements OSingleValueIndex
   @Override
   public void deleteWithoutLoad(String indexName) {
     try {
-      sbTree.deleteWithoutLoad();
+      for (final OCellBTreeSingleValue<Object> partition : partitions) {
+        partition.deleteWithoutLoad();
+      }
     } catch (IOException e) {
       throw OException.wrapException(new OIndexException("Error during deletion of index " + name), e);
     }
@@ -79,18 +197,20 @@ public final class OCellBTreeSingleValueIndexEngine implements OSingleValueIndex
 
   @Override
   public void load(String indexName, String encryptionKey) {
-    sbTree.load(indexName, encryptionKey);
+    for (final OCellBTreeSingleValue<Object> partition : partitions) {
+      partition.load(partition.getName(), encryptionKey);
+    }
   }
 
   @Override
   public boolean contains(Object key) {
-    return sbTree.get(key) != null;
+    return get(key) != null;
   }
 
   @Override
   public boolean remove(Object key) {
     try {
-      return sbTree.remove(key) != null;
+      return partition(key).remove(key) != null;
     } catch (IOException e) {
       throw OException.wrapException(new OIndexException("Error during removal of key " + key + " from index " + name), e);
     }
@@ -104,7 +224,9 @@ public final class OCellBTreeSingleValueIndexEngine implements OSingleValueIndex
   @Override
   public void clear() {
     try {
-      sbTree.clear();
+      for (final OCellBTreeSingleValue<Object> partition : partitions) {
+        partition.clear();
+      }
     } catch (IOException e) {
       throw OException.wrapException(new OIndexException("Error during clear of index " + name), e);
     }
@@ -112,42 +234,122 @@ public final class OCellBTreeSingleValueIndexEngine implements OSingleValueIndex
 
   @Override
   public void close() {
-    sbTree.close();
+    for (final OCellBTreeSingleValue<Object> partition : partitions) {
+      partition.close();
+    }
   }
 
   @Override
   public ORID get(Object key) {
-    return sbTree.get(key);
+    if (isPartialKey(key)) {
+      for (final OCellBTreeSingleValue<Object> partition : partitions) {
+        final ORID value = partition.get(key);
+        if (value != null) {
+          return value;
+        }
+      }
+
+      return null;
+    }
+
+    return partition(key).get(key);
+  }
+
+  @Override
+  public List<ORID> getAll(List<Object> keys) {
+    if (partitions.size() == 1) {
+      return partitions.get(0).getAll(keys);
+    }
+
+    final ORID[] values = new ORID[keys.size()];
+
+    final List<List<Object>> partitionKeys = new ArrayList<>(partitions.size());
+    final List<List<Integer>> partitionPositions = new ArrayList<>(partitions.size());
+    for (int i = 0; i < partitions.size(); i++) {
+      partitionKeys.add(new ArrayList<>());
+      partitionPositions.add(new ArrayList<>());
+    }
+
+    for (int i = 0; i < keys.size(); i++) {
+      final Object key = keys.get(i);
+      if (isPartialKey(key)) {
+        values[i] = get(key);
+      } else {
+        final int partition = partitionIndex(key);
+        partitionKeys.get(partition).add(key);
+        partitionPositions.get(partition).add(i);
+      }
+    }
+
+    for (int i = 0; i < partitions.size(); i++) {
+      final List<Object> keysToFetch = partitionKeys.get(i);
+      if (keysToFetch.isEmpty()) {
+        continue;
+      }
+
+      final List<ORID> fetchedValues = partitions.get(i).getAll(keysToFetch);
+      final List<Integer> positions = partitionPositions.get(i);
+      for (int n = 0; n < positions.size(); n++) {
+        values[positions.get(n)] = fetchedValues.get(n);
+      }
+    }
+
+    return Arrays.asList(values);
   }
 
   @Override
   public OIndexCursor cursor(ValuesTransformer valuesTransformer) {
-    final Object firstKey = sbTree.firstKey();
-    if (firstKey == null) {
+    final List<OCellBTreeSingleValue.OSBTreeCursor<Object, ORID>> cursors = new ArrayList<>(partitions.size());
+    for (final OCellBTreeSingleValue<Object> partition : partitions) {
+      final Object firstKey = partition.firstKey();
+      if (firstKey != null) {
+        cursors.add(partition.iterateEntriesMajor(firstKey, true, true));
+      }
+    }
+
+    if (cursors.isEmpty()) {
       return new NullCursor();
     }
 
-    return new OSBTreeIndexCursor(sbTree.iterateEntriesMajor(firstKey, true, true), valuesTransformer);
+    return new OSBTreeIndexCursor(mergeCursors(cursors, true), valuesTransformer);
   }
 
   @Override
   public OIndexCursor descCursor(ValuesTransformer valuesTransformer) {
-    final Object lastKey = sbTree.lastKey();
-    if (lastKey == null) {
+    final List<OCellBTreeSingleValue.OSBTreeCursor<Object, ORID>> cursors = new ArrayList<>(partitions.size());
+    for (final OCellBTreeSingleValue<Object> partition : partitions) {
+      final Object lastKey = partition.lastKey();
+      if (lastKey != null) {
+        cursors.add(partition.iterateEntriesMinor(lastKey, true, false));
+      }
+    }
+
+    if (cursors.isEmpty()) {
       return new NullCursor();
     }
 
-    return new OSBTreeIndexCursor(sbTree.iterateEntriesMinor(lastKey, true, false), valuesTransformer);
+    return new OSBTreeIndexCursor(mergeCursors(cursors, false), valuesTransformer);
   }
 
   @Override
   public OIndexKeyCursor keyCursor() {
+    final List<OCellBTreeSingleValue<Object>> partitions = this.partitions;
+
     return new OIndexKeyCursor() {
-      private final OCellBTreeSingleValue.OSBTreeKeyCursor<Object> sbTreeKeyCursor = sbTree.keyCursor();
+      private int                                             partitionIndex;
+      private OCellBTreeSingleValue.OSBTreeKeyCursor<Object> sbTreeKeyCursor = partitions.get(0).keyCursor();
 
       @Override
       public Object next(int prefetchSize) {
-        return sbTreeKeyCursor.next(prefetchSize);
+        while (true) {
+          final Object key = sbTreeKeyCursor.next(prefetchSize);
+          if (key != null || partitionIndex >= partitions.size() - 1) {
+            return key;
+          }
+
+          partitionIndex++;
+          sbTreeKeyCursor = partitions.get(partitionIndex).keyCursor();
+        }
       }
     };
   }
@@ -155,7 +357,7 @@ public final class OCellBTreeSingleValueIndexEngine implements OSingleValueIndex
   @Override
   public void put(Object key, ORID value) {
     try {
-      sbTree.put(key, value);
+      partition(key).put(key, value);
     } catch (IOException e) {
       throw OException.wrapException(new OIndexException("Error during insertion of key " + key + " into index " + name), e);
     }
@@ -164,65 +366,126 @@ public final class OCellBTreeSingleValueIndexEngine implements OSingleValueIndex
   @Override
   public boolean validatedPut(Object key, ORID value, Validator<Object, ORID> validator) {
     try {
-      return sbTree.validatedPut(key, value, validator);
+      return partition(key).validatedPut(key, value, validator);
     } catch (IOException e) {
       throw OException.wrapException(new OIndexException("Error during insertion of key " + key + " into index " + name), e);
     }
   }
 
+  @Override
+  public OIndexBulkLoader createBulkLoader(Validator<Object, ORID> validator, long sortBufferSize, int fillFactor,
+      Path tempDirectory) {
+    if (size(null) > 0) {
+      return null;
+    }
+
+    final long partitionBufferSize = Math.max(1, sortBufferSize / partitions.size());
+    final List<OIndexEntrySorter<Object>> sorters = new ArrayList<>(partitions.size());
+    for (final OCellBTreeSingleValue<Object> partition : partitions) {
+      sorters.add(partition.createEntrySorter(partitionBufferSize, tempDirectory));
+    }
+
+    return new BulkLoader(sorters, validator, fillFactor);
+  }
+
   @Override
   public Object getFirstKey() {
-    return sbTree.firstKey();
+    Object firstKey = null;
+    for (final OCellBTreeSingleValue<Object> partition : partitions) {
+      final Object key = partition.firstKey();
+      if (key != null && (firstKey == null || ODefaultComparator.INSTANCE.compare(key, firstKey) < 0)) {
+        firstKey = key;
+      }
+    }
+
+    return firstKey;
   }
 
   @Override
   public Object getLastKey() {
-    return sbTree.lastKey();
+    Object lastKey = null;
+    for (final OCellBTreeSingleValue<Object> partition : partitions) {
+      final Object key = partition.lastKey();
+      if (key != null && (lastKey == null || ODefaultComparator.INSTANCE.compare(key, lastKey) > 0)) {
+        lastKey = key;
+      }
+    }
+
+    return lastKey;
   }
 
   @Override
   public OIndexCursor iterateEntriesBetween(Object rangeFrom, boolean fromInclusive, Object rangeTo, boolean toInclusive,
       boolean ascSortOrder, ValuesTransformer transformer) {
-    return new OSBTreeIndexCursor(sbTree.iterateEntriesBetween(rangeFrom, fromInclusive, rangeTo, toInclusive, ascSortOrder),
-        transformer);
+    final List<OCellBTreeSingleValue.OSBTreeCursor<Object, ORID>> cursors = new ArrayList<>(partitions.size());
+    for (final OCellBTreeSingleValue<Object> partition : partitions) {
+      cursors.add(partition.iterateEntriesBetween(rangeFrom, fromInclusive, rangeTo, toInclusive, ascSortOrder));
+    }
+
+    return new OSBTreeIndexCursor(mergeCursors(cursors, ascSortOrder), transformer);
+  }
+
+  @Override
+  public long estimateRangeSize(Object rangeFrom, boolean fromInclusive, Object rangeTo, boolean toInclusive) {
+    long size = 0;
+    for (final OCellBTreeSingleValue<Object> partition : partitions) {
+      size += partition.estimateEntriesBetween(rangeFrom, fromInclusive, rangeTo, toInclusive);
+    }
+
+    return size;
   }
 
   @Override
   public OIndexCursor iterateEntriesMajor(Object fromKey, boolean isInclusive, boolean ascSortOrder,
       ValuesTransformer transformer) {
-    return new OSBTreeIndexCursor(sbTree.iterateEntriesMajor(fromKey, isInclusive, ascSortOrder), transformer);
+    final List<OCellBTreeSingleValue.OSBTreeCursor<Object, ORID>> cursors = new ArrayList<>(partitions.size());
+    for (final OCellBTreeSingleValue<Object> partition : partitions) {
+      cursors.add(partition.iterateEntriesMajor(fromKey, isInclusive, ascSortOrder));
+    }
+
+    return new OSBTreeIndexCursor(mergeCursors(cursors, ascSortOrder), transformer);
   }
 
   @Override
   public OIndexCursor iterateEntriesMinor(Object toKey, boolean isInclusive, boolean ascSortOrder, ValuesTransformer transformer) {
-    return new OSBTreeIndexCursor(sbTree.iterateEntriesMinor(toKey, isInclusive, ascSortOrder), transformer);
+    final List<OCellBTreeSingleValue.OSBTreeCursor<Object, ORID>> cursors = new ArrayList<>(partitions.size());
+    for (final OCellBTreeSingleValue<Object> partition : partitions) {
+      cursors.add(partition.iterateEntriesMinor(toKey, isInclusive, ascSortOrder));
+    }
+
+    return new OSBTreeIndexCursor(mergeCursors(cursors, ascSortOrder), transformer);
   }
 
   @Override
   public long size(final ValuesTransformer transformer) {
     if (transformer == null) {
-      return sbTree.size();
+      long size = 0;
+      for (final OCellBTreeSingleValue<Object> partition : partitions) {
+        size += partition.size();
+      }
+
+      return size;
     } else {
       int counter = 0;
 
-      final Object nullValue = sbTree.get(null);
+      final Object nullValue = partition(null).get(null);
       if (nullValue != null) {
         counter += transformer.transformFromValue(nullValue).size();
       }
 
-      final Object firstKey = sbTree.firstKey();
-      final Object lastKey = sbTree.lastKey();
-
-      if (firstKey != null && lastKey != null) {
-        final OCellBTreeSingleValue.OSBTreeCursor<Object, ORID> cursor = sbTree
-            .iterateEntriesBetween(firstKey, true, lastKey, true, true);
-        Map.Entry<Object, ORID> entry = cursor.next(-1);
-        while (entry != null) {
-          counter += transformer.transformFromValue(entry.getValue()).size();
-          entry = cursor.next(-1);
+      for (final OCellBTreeSingleValue<Object> partition : partitions) {
+        final Object firstKey = partition.firstKey();
+        final Object lastKey = partition.lastKey();
+
+        if (firstKey != null && lastKey != null) {
+          final OCellBTreeSingleValue.OSBTreeCursor<Object, ORID> cursor = partition
+              .iterateEntriesBetween(firstKey, true, lastKey, true, true);
+          Map.Entry<Object, ORID> entry = cursor.next(-1);
+          while (entry != null) {
+            counter += transformer.transformFromValue(entry.getValue()).size();
+            entry = cursor.next(-1);
+          }
         }
-
-        return counter;
       }
 
       return counter;
@@ -234,15 +497,103 @@ public final class OCellBTreeSingleValueIndexEngine implements OSingleValueIndex
     return true;
   }
 
+  /**
+   * Locks only partition which contains given key, so index is reported as fully locked only if it consists of single partition.
+   */
   @Override
   public boolean acquireAtomicExclusiveLock(Object key) {
-    sbTree.acquireAtomicExclusiveLock();
-    return true;
+    partition(key).acquireAtomicExclusiveLock();
+    return partitions.size() == 1;
   }
 
   @Override
   public String getIndexNameByKey(Object key) {
-    return name;
+    return partition(key).getName();
+  }
+
+  private OCellBTreeSingleValue<Object> partition(final Object key) {
+    return partitions.get(partitionIndex(key));
+  }
+
+  /**
+   * {@code null} key is kept in the last partition, so its lock which is acquired after locks of all other keys during commit of
+   * transaction is acquired in order of partition names too.
+   */
+  private int partitionIndex(final Object key) {
+    final int partitionsCount = partitions.size();
+    if (partitionsCount == 1) {
+      return 0;
+    }
+
+    if (key == null) {
+      return partitionsCount - 1;
+    }
+
+    return (int) Long.remainderUnsigned(partitions.get(0).keyHashCode(key), partitionsCount);
+  }
+
+  private boolean isPartialKey(final Object key) {
+    return partitions.size() > 1 && partitions.get(0).isPartialKey(key);
+  }
+
+  private static OCellBTreeSingleValue.OSBTreeCursor<Object, ORID> mergeCursors(
+      final List<OCellBTreeSingleValue.OSBTreeCursor<Object, ORID>> cursors, final boolean ascSortOrder) {
+    if (cursors.size() == 1) {
+      return cursors.get(0);
+    }
+
+    return new PartitionsMergeCursor(cursors, ascSortOrder);
+  }
+
+  /**
+   * Merges sorted cursors of partitions into single sorted cursor.
+   */
+  private static final class PartitionsMergeCursor implements OCellBTreeSingleValue.OSBTreeCursor<Object, ORID> {
+    private final List<OCellBTreeSingleValue.OSBTreeCursor<Object, ORID>> cursors;
+    private final List<Map.Entry<Object, ORID>>                           heads;
+    private final boolean                                                 ascSortOrder;
+
+    private PartitionsMergeCursor(final List<OCellBTreeSingleValue.OSBTreeCursor<Object, ORID>> cursors,
+        final boolean ascSortOrder) {
+      this.cursors = cursors;
+      this.heads = new ArrayList<>(cursors.size());
+      this.ascSortOrder = ascSortOrder;
+    }
+
+    @Override
+    public Map.Entry<Object, ORID> next(final int prefetchSize) {
+      if (heads.isEmpty()) {
+        for (final OCellBTreeSingleValue.OSBTreeCursor<Object, ORID> cursor : cursors) {
+          heads.add(cursor.next(prefetchSize));
+        }
+      }
+
+      int nextIndex = -1;
+      Map.Entry<Object, ORID> nextEntry = null;
+      for (int i = 0; i < heads.size(); i++) {
+        final Map.Entry<Object, ORID> entry = heads.get(i);
+        if (entry == null) {
+          continue;
+        }
+
+        if (nextEntry == null) {
+          nextEntry = entry;
+          nextIndex = i;
+        } else {
+          final int cmp = ODefaultComparator.INSTANCE.compare(entry.getKey(), nextEntry.getKey());
+          if (ascSortOrder ? cmp < 0 : cmp > 0) {
+            nextEntry = entry;
+            nextIndex = i;
+          }
+        }
+      }
+
+      if (nextEntry != null) {
+        heads.set(nextIndex, cursors.get(nextIndex).next(prefetchSize));
+      }
+
+      return nextEntry;
+    }
   }
 
   private static final class OSBTreeIndexCursor extends OIndexAbstractCursor {
@@ -304,6 +655,71 @@ public final class OCellBTreeSingleValueIndexEngine implements OSingleValueIndex
     }
   }
 
+  private final class BulkLoader implements OIndexBulkLoader {
+    private final List<OIndexEntrySorter<Object>> sorters;
+    private final Validator<Object, ORID>         validator;
+    private final int                             fillFactor;
+
+    private ORID nullValue;
+
+    private BulkLoader(List<OIndexEntrySorter<Object>> sorters, Validator<Object, ORID> validator, int fillFactor) {
+      this.sorters = sorters;
+      this.validator = validator;
+      this.fillFactor = fillFactor;
+    }
+
+    @Override
+    public void add(Object key, ORID value) {
+      if (key == null) {
+        addNullValue(value);
+        return;
+      }
+
+      try {
+        sorters.get(partitionIndex(key)).add(key, value);
+      } catch (IOException e) {
+        throw OException.wrapException(new OIndexException("Error during insertion of key " + key + " into index " + name), e);
+      }
+    }
+
+    private synchronized void addNullValue(ORID value) {
+      if (validator != null) {
+        final Object result = validator.validate(null, nullValue, value);
+        if (result == Validator.IGNORE) {
+          return;
+        }
+
+        value = (ORID) result;
+      }
+
+      nullValue = value;
+    }
+
+    @Override
+    public long load() {
+      try {
+        final int nullPartition = partitionIndex(null);
+
+        long entriesCount = 0;
+        for (int i = 0; i < sorters.size(); i++) {
+          final Iterator<ORawPair<Object, ORID>> sortedEntries = sorters.get(i).sortedEntries();
+          entriesCount += partitions.get(i).bulkLoad(sortedEntries, i == nullPartition ? nullValue : null, validator, fillFactor);
+        }
+
+        return entriesCount;
+      } catch (IOException e) {
+        throw OException.wrapException(new OIndexException("Error during bulk load of index " + name), e);
+      }
+    }
+
+    @Override
+    public void close() {
+      for (final OIndexEntrySorter<Object> sorter : sorters) {
+        sorter.close();
+      }
+    }
+  }
+
   private static class NullCursor extends OIndexAbstractCursor {
     @Override
     public Map.Entry<Object, OIdentifiable> nextEntry() {
@@ -106,6 +106,13 @@ public class ORecordInternal {
     rec.clearSource();
   }
 
+  /**
+   * @return serialized content of the record, null if the record is not serialized or its content is fully unmarshalled
+   */
+  public static byte[] getSource(final ORecord record) {
+    return ((ORecordAbstract) record)._source;
+  }
+
   public static void addIdentityChangeListener(ORecord record, final OIdentityChangeListener identityChangeListener) {
     if (!(record instanceof ORecordAbstract)) {
       //manage O*Delegate
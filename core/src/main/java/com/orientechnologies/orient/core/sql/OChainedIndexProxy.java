@@ -141,6 +141,9 @@ public class OChainedIndexProxy<T> implements OIndex<T> {
     final Collection<Class<? extends OIndex>> indexTypes = new HashSet<Class<? extends OIndex>>(3);
 
     for (OIndex<?> involvedIndex : involvedIndexes) {
+      if (isPartial(involvedIndex))
+        continue;
+
       if (!indexTypes.contains(involvedIndex.getInternal().getClass())) {
         result.add(involvedIndex);
         indexTypes.add(involvedIndex.getInternal().getClass());
@@ -191,8 +194,15 @@ public class OChainedIndexProxy<T> implements OIndex<T> {
     return bestIndex;
   }
 
+  /**
+   * Partial index does not contain records which do not match its filter, so it cannot be used in the chain.
+   */
+  private static boolean isPartial(OIndex<?> index) {
+    return index.getDefinition() != null && index.getDefinition().getFilter() != null;
+  }
+
   private static int priorityOfUsage(OIndex<?> index) {
-    if (index == null)
+    if (index == null || isPartial(index))
       return -1;
 
     final OClass.INDEX_TYPE indexType = OClass.INDEX_TYPE.valueOf(index.getType());
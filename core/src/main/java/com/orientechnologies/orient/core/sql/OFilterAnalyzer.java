@@ -43,7 +43,9 @@ public class OFilterAnalyzer {
       result.addAll(OChainedIndexProxy.createProxies(iSchemaClass, searchResultFields.lastField));
     } else {
       for (OIndex<?> involvedIndex : involvedIndexes) {
-        result.add(involvedIndex);
+        // PARTIAL INDEXES ARE USED ONLY BY THE NEW QUERY EXECUTOR THAT CHECKS THEIR FILTERS
+        if (involvedIndex.getDefinition() == null || involvedIndex.getDefinition().getFilter() == null)
+          result.add(involvedIndex);
       }
     }
 
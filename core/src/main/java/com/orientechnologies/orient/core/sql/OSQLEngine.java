@@ -46,6 +46,7 @@ import com.orientechnologies.orient.core.sql.operator.OQueryOperator;
 import com.orientechnologies.orient.core.sql.operator.OQueryOperatorFactory;
 import com.orientechnologies.orient.core.sql.parser.OStatement;
 import com.orientechnologies.orient.core.sql.parser.OStatementCache;
+import com.orientechnologies.orient.core.sql.parser.OWhereClause;
 import com.orientechnologies.orient.core.sql.parser.OrientSql;
 import com.orientechnologies.orient.core.sql.parser.ParseException;
 import com.orientechnologies.orient.core.sql.query.OSQLSynchQuery;
@@ -86,6 +87,19 @@ public class OSQLEngine {
     }
   }
 
+  /**
+   * Parses standalone condition, like the one which follows WHERE keyword of a statement.
+   */
+  public static OWhereClause parseCondition(String condition) {
+    final InputStream is = new ByteArrayInputStream(condition.getBytes());
+    try {
+      final OrientSql osql = new OrientSql(is);
+      return osql.parseCondition();
+    } catch (ParseException e) {
+      throw new OCommandSQLParsingException(e, condition);
+    }
+  }
+
   /**
    * internal use only, to sort operators.
    */
@@ -1,13 +1,16 @@
 package com.orientechnologies.orient.core.sql.executor;
 
 import com.orientechnologies.common.concur.OTimeoutException;
+import com.orientechnologies.orient.core.Orient;
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabase;
 import com.orientechnologies.orient.core.exception.OCommandExecutionException;
-import com.orientechnologies.orient.core.sql.parser.OExpression;
 import com.orientechnologies.orient.core.sql.parser.OGroupBy;
 import com.orientechnologies.orient.core.sql.parser.OProjection;
 import com.orientechnologies.orient.core.sql.parser.OProjectionItem;
 
+import java.nio.file.Paths;
 import java.util.*;
 
 /**
@@ -17,23 +20,34 @@ public class AggregateProjectionCalculationStep extends ProjectionCalculationSte
 
   private final OGroupBy groupBy;
 
-  //the key is the GROUP BY key, the value is the (partially) aggregated value
-  private Map<List, OResultInternal> aggregateResults = new LinkedHashMap<>();
-  private List<OResultInternal>      finalResults     = null;
+  /**
+   * true if the step calculates partial aggregates of the branch of the parallel query, which are merged by the aggregation step
+   * of the query
+   */
+  private final boolean partial;
 
-  private int  nextItem = 0;
-  private long cost     = 0;
+  private HashAggregator    aggregator = null;
+  private ParallelFetcher   fetcher    = null;
+  private Iterator<OResult> results    = null;
+
+  private long cost = 0;
 
   public AggregateProjectionCalculationStep(OProjection projection, OGroupBy groupBy, OCommandContext ctx,
       boolean profilingEnabled) {
+    this(projection, groupBy, false, ctx, profilingEnabled);
+  }
+
+  private AggregateProjectionCalculationStep(OProjection projection, OGroupBy groupBy, boolean partial, OCommandContext ctx,
+      boolean profilingEnabled) {
     super(projection, ctx, profilingEnabled);
     this.groupBy = groupBy;
+    this.partial = partial;
   }
 
   @Override
   public OResultSet syncPull(OCommandContext ctx, int nRecords) throws OTimeoutException {
-    if (finalResults == null) {
-      executeAggregation(ctx, nRecords);
+    if (results == null) {
+      results = partial ? executePartialAggregation(ctx, nRecords) : executeAggregation(ctx, nRecords);
     }
 
     return new OResultSet() {
@@ -41,21 +55,34 @@ public class AggregateProjectionCalculationStep extends ProjectionCalculationSte
 
       @Override
       public boolean hasNext() {
-        if (localNext > nRecords || nextItem >= finalResults.size()) {
+        if (localNext >= nRecords) {
           return false;
         }
-        return true;
+        long begin = profilingEnabled ? System.nanoTime() : 0;
+        try {
+          return results.hasNext();
+        } finally {
+          if (profilingEnabled) {
+            cost += (System.nanoTime() - begin);
+          }
+        }
       }
 
       @Override
       public OResult next() {
-        if (localNext > nRecords || nextItem >= finalResults.size()) {
+        if (!hasNext()) {
           throw new IllegalStateException();
         }
-        OResult result = finalResults.get(nextItem);
-        nextItem++;
-        localNext++;
-        return result;
+        long begin = profilingEnabled ? System.nanoTime() : 0;
+        try {
+          OResult result = results.next();
+          localNext++;
+          return result;
+        } finally {
+          if (profilingEnabled) {
+            cost += (System.nanoTime() - begin);
+          }
+        }
       }
 
       @Override
@@ -75,60 +102,131 @@ public class AggregateProjectionCalculationStep extends ProjectionCalculationSte
     };
   }
 
-  private void executeAggregation(OCommandContext ctx, int nRecords) {
+  private Iterator<OResult> executeAggregation(OCommandContext ctx, int nRecords) {
     if (!prev.isPresent()) {
       throw new OCommandExecutionException("Cannot execute an aggregation or a GROUP BY without a previous result");
     }
     OExecutionStepInternal prevStep = prev.get();
-    OResultSet lastRs = prevStep.syncPull(ctx, nRecords);
+
+    fetcher = createParallelAggregation(ctx);
+    aggregator = new HashAggregator(projection, groupBy, fetcher != null, false, getMaxGroups(ctx),
+        Paths.get(Orient.getTempPath()));
+
+    OResultSet lastRs;
+    if (fetcher != null) {
+      fetcher.start();
+      lastRs = fetcher.fetchNext(nRecords);
+    } else {
+      lastRs = prevStep.syncPull(ctx, nRecords);
+    }
     while (lastRs.hasNext()) {
       aggregate(lastRs.next(), ctx);
       if (!lastRs.hasNext()) {
-        lastRs = prevStep.syncPull(ctx, nRecords);
+        lastRs = fetcher != null ? fetcher.fetchNext(nRecords) : prevStep.syncPull(ctx, nRecords);
       }
     }
-    finalResults = new ArrayList<>();
-    finalResults.addAll(aggregateResults.values());
-    aggregateResults.clear();
-    for (OResultInternal item : finalResults) {
-      for (String name : item.getPropertyNames()) {
-        Object prevVal = item.getProperty(name);
-        if (prevVal instanceof AggregationContext) {
-          item.setProperty(name, ((AggregationContext) prevVal).getFinalValue());
+    return results(ctx);
+  }
+
+  /**
+   * Partial aggregates are returned once amount of groups reaches the limit of groups kept in memory, so the same group may be
+   * returned several times.
+   */
+  private Iterator<OResult> executePartialAggregation(OCommandContext ctx, int nRecords) {
+    if (!prev.isPresent()) {
+      throw new OCommandExecutionException("Cannot execute an aggregation or a GROUP BY without a previous result");
+    }
+    OExecutionStepInternal prevStep = prev.get();
+
+    aggregator = new HashAggregator(projection, groupBy, false, true, 0, null);
+    int maxGroups = getMaxGroups(ctx);
+
+    return new Iterator<OResult>() {
+      private Iterator<OResult> partialResults = Collections.emptyIterator();
+      private OResultSet        lastRs         = null;
+      private boolean           finished       = false;
+
+      @Override
+      public boolean hasNext() {
+        while (!partialResults.hasNext() && !finished) {
+          if (lastRs == null) {
+            lastRs = prevStep.syncPull(ctx, nRecords);
+          }
+          while (maxGroups <= 0 || aggregator.size() < maxGroups) {
+            if (!lastRs.hasNext()) {
+              lastRs = prevStep.syncPull(ctx, nRecords);
+              if (!lastRs.hasNext()) {
+                finished = true;
+                break;
+              }
+            }
+            aggregate(lastRs.next(), ctx);
+          }
+          partialResults = results(ctx);
+        }
+        return partialResults.hasNext();
+      }
+
+      @Override
+      public OResult next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        return partialResults.next();
+      }
+    };
+  }
+
+  /**
+   * Aggregates are calculated by branches of the parallel scan of the class if the records are only filtered or projected before
+   * the aggregation and partial results of all the aggregate functions may be merged.
+   *
+   * @return fetcher which returns partial aggregates of the branches or null if records should be aggregated by the current thread
+   */
+  private ParallelFetcher createParallelAggregation(OCommandContext ctx) {
+    List<OExecutionStepInternal> rowSteps = new ArrayList<>();
+    OExecutionStepInternal step = prev.orElse(null);
+    while (step instanceof FilterStep || (step != null && step.getClass() == ProjectionCalculationStep.class)) {
+      rowSteps.add(0, step);
+      step = ((AbstractExecutionStep) step).getPrev().orElse(null);
+    }
+    if (step == null || step.getClass() != FetchFromClassExecutionStep.class) {
+      return null;
+    }
+    FetchFromClassExecutionStep fetchStep = (FetchFromClassExecutionStep) step;
+    if (fetchStep.getPrev().isPresent() || fetchStep.orderByRidAsc || fetchStep.orderByRidDesc) {
+      return null;
+    }
+
+    for (OProjectionItem item : projection.getItems()) {
+      if (item.isAggregate()) {
+        AggregationContext aggregation = item.getAggregationContext(ctx);
+        if (!(aggregation instanceof OFuncitonAggregationContext) || !((OFuncitonAggregationContext) aggregation).canMerge()) {
+          return null;
         }
       }
     }
+
+    List<OExecutionStepInternal> branchSteps = new ArrayList<>(rowSteps);
+    branchSteps.add(new AggregateProjectionCalculationStep(projection, groupBy, true, ctx, profilingEnabled));
+    return ParallelFetcher.forClusterScan(ctx, fetchStep.getSubSteps(), branchSteps, fetchStep.parallel);
   }
 
   private void aggregate(OResult next, OCommandContext ctx) {
     long begin = profilingEnabled ? System.nanoTime() : 0;
     try {
-      List<Object> key = new ArrayList<>();
-      if (groupBy != null) {
-        for (OExpression item : groupBy.getItems()) {
-          Object val = item.execute(next, ctx);
-          key.add(val);
-        }
-      }
-      OResultInternal preAggr = aggregateResults.get(key);
-      if (preAggr == null) {
-        preAggr = new OResultInternal();
-        aggregateResults.put(key, preAggr);
+      aggregator.add(next, ctx);
+    } finally {
+      if (profilingEnabled) {
+        cost += (System.nanoTime() - begin);
       }
+    }
+  }
 
-      for (OProjectionItem proj : this.projection.getItems()) {
-        String alias = proj.getProjectionAlias().getStringValue();
-        if (proj.isAggregate()) {
-          AggregationContext aggrCtx = preAggr.getProperty(alias);
-          if (aggrCtx == null) {
-            aggrCtx = proj.getAggregationContext(ctx);
-            preAggr.setProperty(alias, aggrCtx);
-          }
-          aggrCtx.apply(next, ctx);
-        } else {
-          preAggr.setProperty(alias, proj.execute(next, ctx));
-        }
-      }
+  private Iterator<OResult> results(OCommandContext ctx) {
+    long begin = profilingEnabled ? System.nanoTime() : 0;
+    try {
+      return aggregator.results(ctx);
     } finally {
       if (profilingEnabled) {
         cost += (System.nanoTime() - begin);
@@ -136,10 +234,37 @@ public class AggregateProjectionCalculationStep extends ProjectionCalculationSte
     }
   }
 
+  private static int getMaxGroups(OCommandContext ctx) {
+    ODatabase db = ctx.getDatabase();
+    if (db == null) {
+      return OGlobalConfiguration.QUERY_GROUP_BY_SPILL_THRESHOLD.getValueAsInteger();
+    }
+    return db.getConfiguration().getValueAsInteger(OGlobalConfiguration.QUERY_GROUP_BY_SPILL_THRESHOLD);
+  }
+
+  @Override
+  public void sendTimeout() {
+    super.sendTimeout();
+    if (fetcher != null) {
+      fetcher.stop();
+    }
+  }
+
+  @Override
+  public void close() {
+    super.close();
+    if (fetcher != null) {
+      fetcher.stop();
+    }
+    if (aggregator != null) {
+      aggregator.close();
+    }
+  }
+
   @Override
   public String prettyPrint(int depth, int indent) {
     String spaces = OExecutionStepInternal.getIndent(depth, indent);
-    String result = spaces + "+ CALCULATE AGGREGATE PROJECTIONS";
+    String result = spaces + (partial ? "+ CALCULATE PARTIAL AGGREGATE PROJECTIONS" : "+ CALCULATE AGGREGATE PROJECTIONS");
     if (profilingEnabled) {
       result += " (" + getCostFormatted() + ")";
     }
@@ -152,4 +277,10 @@ public class AggregateProjectionCalculationStep extends ProjectionCalculationSte
   public long getCost() {
     return cost;
   }
+
+  @Override
+  public OExecutionStep copy(OCommandContext ctx) {
+    return new AggregateProjectionCalculationStep(projection.copy(), groupBy == null ? null : groupBy.copy(), partial, ctx,
+        profilingEnabled);
+  }
 }
@@ -0,0 +1,310 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.common.collection.OMultiValue;
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.orient.core.collate.ODefaultCollate;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.metadata.schema.OImmutableClass;
+import com.orientechnologies.orient.core.metadata.schema.OProperty;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.ORecordInternal;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.record.impl.ODocumentInternal;
+import com.orientechnologies.orient.core.serialization.serializer.record.ORecordSerializer;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.BytesContainer;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.OBinaryComparator;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.OBinaryField;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.ODocumentSerializer;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.ORecordSerializerBinary;
+import com.orientechnologies.orient.core.sql.parser.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rejects records which certainly do not match the WHERE condition by comparing the serialized values of their fields with the
+ * values of the condition, so records which are rejected are never unmarshalled. Only comparisons, BETWEEN and IN conditions of the
+ * fields with values known before the execution are checked, and only if both the serialized value of the field and the value of
+ * the condition are integers or both are strings. Records which are not rejected still have to be checked by the WHERE condition.
+ */
+final class BinaryRecordFilter {
+  private enum Kind {
+    EQ, NE, LT, LE, GT, GE, IN
+  }
+
+  /**
+   * Predicates of each block of the flattened condition, record is rejected if at least one predicate of every block rejects it.
+   */
+  private final List<List<Predicate>> blocks;
+
+  private boolean disabled = false;
+
+  private BinaryRecordFilter(List<List<Predicate>> blocks) {
+    this.blocks = blocks;
+  }
+
+  /**
+   * @return filter which checks predicates of the condition or null if there is a block of the condition without predicates which
+   * may be checked on serialized records
+   */
+  static BinaryRecordFilter create(OWhereClause whereClause, OCommandContext ctx) {
+    List<OAndBlock> flattened = whereClause.flatten();
+    if (flattened == null || flattened.isEmpty()) {
+      return null;
+    }
+
+    List<List<Predicate>> blocks = new ArrayList<>();
+    for (OAndBlock block : flattened) {
+      List<Predicate> predicates = new ArrayList<>();
+      for (OBooleanExpression expression : block.getSubBlocks()) {
+        addPredicates(expression, ctx, predicates);
+      }
+      if (predicates.isEmpty()) {
+        return null;
+      }
+      blocks.add(predicates);
+    }
+    return new BinaryRecordFilter(blocks);
+  }
+
+  private static void addPredicates(OBooleanExpression expression, OCommandContext ctx, List<Predicate> predicates) {
+    if (expression instanceof OBinaryCondition) {
+      OBinaryCondition condition = (OBinaryCondition) expression;
+      Kind kind = kindOf(condition.getOperator());
+      String field = fieldName(condition.getLeft());
+      if (kind != null && field != null && condition.getRight().isEarlyCalculated(ctx)) {
+        addPredicate(field, kind, new Object[] { condition.getRight().execute((OResult) null, ctx) }, predicates);
+      }
+    } else if (expression instanceof OBetweenCondition) {
+      OBetweenCondition condition = (OBetweenCondition) expression;
+      String field = fieldName(condition.getFirst());
+      if (field != null && condition.getSecond().isEarlyCalculated(ctx) && condition.getThird().isEarlyCalculated(ctx)) {
+        addPredicate(field, Kind.GE, new Object[] { condition.getSecond().execute((OResult) null, ctx) }, predicates);
+        addPredicate(field, Kind.LE, new Object[] { condition.getThird().execute((OResult) null, ctx) }, predicates);
+      }
+    } else if (expression instanceof OInCondition) {
+      OInCondition condition = (OInCondition) expression;
+      String field = fieldName(condition.getLeft());
+      if (field == null || condition.getRightStatement() != null) {
+        return;
+      }
+      Object values;
+      if (condition.getRightParam() != null) {
+        values = condition.getRightParam().getValue(ctx.getInputParameters());
+      } else if (condition.getRightMathExpression() != null && condition.getRightMathExpression().isEarlyCalculated(ctx)) {
+        values = condition.getRightMathExpression().execute((OResult) null, ctx);
+      } else {
+        return;
+      }
+      if (OMultiValue.isMultiValue(values) && !(values instanceof Map)) {
+        List<Object> items = new ArrayList<>();
+        for (Object item : OMultiValue.getMultiValueIterable(values, false)) {
+          items.add(item);
+        }
+        addPredicate(field, Kind.IN, items.toArray(), predicates);
+      }
+    }
+  }
+
+  private static void addPredicate(String field, Kind kind, Object[] values, List<Predicate> predicates) {
+    OBinaryField[] serialized = new OBinaryField[values.length];
+    ODocumentSerializer serializer = ORecordSerializerBinary.INSTANCE.getCurrentSerializer();
+    for (int i = 0; i < values.length; i++) {
+      Object value = values[i];
+      if (!isInteger(value) && !(value instanceof String)) {
+        return;
+      }
+      OType type = OType.getTypeByValue(value);
+      BytesContainer bytes = new BytesContainer();
+      serializer.serializeValue(bytes, value, type, null);
+      bytes.offset = 0;
+      serialized[i] = new OBinaryField(null, type, bytes, null);
+    }
+    predicates.add(new Predicate(field, kind, values, serialized));
+  }
+
+  private static Kind kindOf(OBinaryCompareOperator operator) {
+    if (operator instanceof OEqualsCompareOperator) {
+      return Kind.EQ;
+    }
+    if (operator instanceof ONeOperator || operator instanceof ONeqOperator) {
+      return Kind.NE;
+    }
+    if (operator instanceof OLtOperator) {
+      return Kind.LT;
+    }
+    if (operator instanceof OLeOperator) {
+      return Kind.LE;
+    }
+    if (operator instanceof OGtOperator) {
+      return Kind.GT;
+    }
+    if (operator instanceof OGeOperator) {
+      return Kind.GE;
+    }
+    return null;
+  }
+
+  private static String fieldName(OExpression expression) {
+    if (expression == null || !expression.isBaseIdentifier()) {
+      return null;
+    }
+    String name = expression.getDefaultAlias().getStringValue();
+    return name.startsWith("$") ? null : name;
+  }
+
+  private static boolean isInteger(Object value) {
+    return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+  }
+
+  /**
+   * @return true if the record certainly does not match the condition, false if it may match or it can not be checked without
+   * unmarshalling
+   */
+  boolean rejects(OResult item) {
+    if (disabled || !(item instanceof OResultInternal)) {
+      return false;
+    }
+    OResultInternal result = (OResultInternal) item;
+    if (!(result.element instanceof ODocument) || !result.content.isEmpty()) {
+      return false;
+    }
+    ODocument document = (ODocument) result.element;
+    byte[] source = ORecordInternal.getSource(document);
+    ORecordSerializer recordSerializer = ORecordInternal.getRecordSerializer(document);
+    if (source == null || source.length == 0 || document.isDirty() || !document.getIdentity().isPersistent()
+        || !(recordSerializer instanceof ORecordSerializerBinary)) {
+      return false;
+    }
+
+    try {
+      ORecordSerializerBinary binarySerializer = (ORecordSerializerBinary) recordSerializer;
+      if (source[0] < 0 || source[0] >= binarySerializer.getNumberOfSupportedVersions()) {
+        return false;
+      }
+      OImmutableClass clazz = ODocumentInternal.getImmutableSchemaClass(document);
+      if (clazz == null) {
+        return false;
+      }
+      ODocumentSerializer serializer = binarySerializer.getSerializer(source[0]);
+
+      for (List<Predicate> block : blocks) {
+        boolean rejected = false;
+        for (Predicate predicate : block) {
+          if (predicate.rejects(source, clazz, serializer)) {
+            rejected = true;
+            break;
+          }
+        }
+        if (!rejected) {
+          return false;
+        }
+      }
+      return true;
+    } catch (RuntimeException e) {
+      //records are still filtered by the WHERE condition
+      OLogManager.instance().debug(this, "Cannot filter serialized records, the filter is disabled", e);
+      disabled = true;
+      return false;
+    }
+  }
+
+  private static final class Predicate {
+    private final String         field;
+    private final Kind           kind;
+    private final Object[]       values;
+    private final OBinaryField[] serializedValues;
+
+    private Predicate(String field, Kind kind, Object[] values, OBinaryField[] serializedValues) {
+      this.field = field;
+      this.kind = kind;
+      this.values = values;
+      this.serializedValues = serializedValues;
+    }
+
+    private boolean rejects(byte[] source, OImmutableClass clazz, ODocumentSerializer serializer) {
+      OProperty property = clazz.getProperty(field);
+      //collate is applied to the unmarshalled values of the field
+      if (property != null && property.getCollate() != null && !ODefaultCollate.NAME.equals(property.getCollate().getName())) {
+        return false;
+      }
+
+      BytesContainer bytes = new BytesContainer(source, 1);
+      OBinaryField value = serializer.isSerializingClassNameByDefault() ?
+          serializer.deserializeFieldWithClassName(bytes, clazz, field) :
+          serializer.deserializeField(bytes, clazz, field);
+      //value of the field which is not comparable may be converted to the type of the property when it is unmarshalled
+      if (value == null || (property != null && property.getType() != value.type) || !isComparable(value.type)) {
+        return false;
+      }
+
+      OBinaryComparator comparator = serializer.getComparator();
+      switch (kind) {
+      case EQ:
+        return !comparator.isEqual(value, serializedValues[0]);
+      case NE:
+        return comparator.isEqual(value, serializedValues[0]);
+      case LT:
+        return comparator.compare(value, serializedValues[0]) >= 0;
+      case LE:
+        return comparator.compare(value, serializedValues[0]) > 0;
+      case GT:
+        return comparator.compare(value, serializedValues[0]) <= 0;
+      case GE:
+        return comparator.compare(value, serializedValues[0]) < 0;
+      case IN:
+        for (OBinaryField serializedValue : serializedValues) {
+          if (comparator.isEqual(value, serializedValue)) {
+            return false;
+          }
+        }
+        return true;
+      default:
+        return false;
+      }
+    }
+
+    /**
+     * Values of the condition are converted to the class of the value of the field by BETWEEN, so integers which do not fit the
+     * type of the field are not compared at binary level.
+     */
+    private boolean isComparable(OType type) {
+      long min;
+      long max;
+      switch (type) {
+      case STRING:
+        for (Object value : values) {
+          if (!(value instanceof String)) {
+            return false;
+          }
+        }
+        return true;
+      case BYTE:
+        min = Byte.MIN_VALUE;
+        max = Byte.MAX_VALUE;
+        break;
+      case SHORT:
+        min = Short.MIN_VALUE;
+        max = Short.MAX_VALUE;
+        break;
+      case INTEGER:
+        min = Integer.MIN_VALUE;
+        max = Integer.MAX_VALUE;
+        break;
+      case LONG:
+        min = Long.MIN_VALUE;
+        max = Long.MAX_VALUE;
+        break;
+      default:
+        return false;
+      }
+      for (Object value : values) {
+        if (!isInteger(value) || ((Number) value).longValue() < min || ((Number) value).longValue() > max) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+}
@@ -17,11 +17,15 @@ public class FetchFromClassExecutionStep extends AbstractExecutionStep {
   protected String className;
   protected boolean              orderByRidAsc  = false;
   protected boolean              orderByRidDesc = false;
+  protected boolean              parallel       = false;
   protected List<OExecutionStep> subSteps       = new ArrayList<>();
 
   OResultSet currentResultSet;
   int currentStep = 0;
 
+  private boolean         started = false;
+  private ParallelFetcher fetcher = null;
+
   protected FetchFromClassExecutionStep(OCommandContext ctx, boolean profilingEnabled) {
     super(ctx, profilingEnabled);
   }
@@ -50,6 +54,7 @@ public class FetchFromClassExecutionStep extends AbstractExecutionStep {
     } else if (Boolean.FALSE.equals(ridOrder)) {
       orderByRidDesc = true;
     }
+    parallel = planningInfo != null && planningInfo.parallel;
     OClass clazz = loadClassFromSchema(className, ctx);
     int[] classClusters = clazz.getPolymorphicClusterIds();
     List<Integer> filteredClassClusters = new ArrayList<>();
@@ -114,6 +119,19 @@ public class FetchFromClassExecutionStep extends AbstractExecutionStep {
   @Override
   public OResultSet syncPull(OCommandContext ctx, int nRecords) throws OTimeoutException {
     getPrev().ifPresent(x -> x.syncPull(ctx, nRecords));
+    if (!started) {
+      started = true;
+      //big clusters of parallel query are scanned by the shared pool of workers, unless records should be sorted by RID
+      if (!orderByRidAsc && !orderByRidDesc) {
+        fetcher = ParallelFetcher.forClusterScan(ctx, getSubSteps(), parallel);
+        if (fetcher != null) {
+          fetcher.start();
+        }
+      }
+    }
+    if (fetcher != null) {
+      return fetcher.fetchNext(nRecords);
+    }
     return new OResultSet() {
 
       int totDispatched = 0;
@@ -183,6 +201,9 @@ public class FetchFromClassExecutionStep extends AbstractExecutionStep {
 
   @Override
   public void sendTimeout() {
+    if (fetcher != null) {
+      fetcher.stop();
+    }
     for (OExecutionStep step : getSubSteps()) {
       ((AbstractExecutionStep) step).sendTimeout();
     }
@@ -191,6 +212,9 @@ public class FetchFromClassExecutionStep extends AbstractExecutionStep {
 
   @Override
   public void close() {
+    if (fetcher != null) {
+      fetcher.stop();
+    }
     for (OExecutionStep step : getSubSteps()) {
       ((AbstractExecutionStep) step).close();
     }
@@ -228,6 +252,7 @@ public class FetchFromClassExecutionStep extends AbstractExecutionStep {
     result.setProperty("className", className);
     result.setProperty("orderByRidAsc", orderByRidAsc);
     result.setProperty("orderByRidDesc", orderByRidDesc);
+    result.setProperty("parallel", parallel);
     return result;
   }
 
@@ -238,6 +263,7 @@ public class FetchFromClassExecutionStep extends AbstractExecutionStep {
       this.className = fromResult.getProperty("className");
       this.orderByRidAsc = fromResult.getProperty("orderByRidAsc");
       this.orderByRidDesc = fromResult.getProperty("orderByRidDesc");
+      this.parallel = Boolean.TRUE.equals(fromResult.getProperty("parallel"));
     } catch (Exception e) {
       throw OException.wrapException(new OCommandExecutionException(""), e);
     }
@@ -259,6 +285,7 @@ public class FetchFromClassExecutionStep extends AbstractExecutionStep {
     result.className = this.className;
     result.orderByRidAsc = this.orderByRidAsc;
     result.orderByRidDesc = this.orderByRidDesc;
+    result.parallel = this.parallel;
     result.subSteps = this.subSteps.stream().map(x -> ((OExecutionStepInternal) x).copy(ctx)).collect(Collectors.toList());
     return result;
   }
@@ -250,6 +250,10 @@ public class FetchFromClusterExecutionStep extends AbstractExecutionStep {
     }
   }
 
+  public int getClusterId() {
+    return clusterId;
+  }
+
   @Override
   public boolean canBeCached() {
     return true;
@@ -15,10 +15,14 @@ public class FetchFromClustersExecutionStep extends AbstractExecutionStep {
   List<OExecutionStep> subSteps;
   private boolean orderByRidAsc  = false;
   private boolean orderByRidDesc = false;
+  private boolean parallel       = false;
 
   OResultSet currentResultSet;
   int currentStep = 0;
 
+  private boolean         started = false;
+  private ParallelFetcher fetcher = null;
+
   /**
    * iterates over a class and its subclasses
    *
@@ -48,6 +52,13 @@ public class FetchFromClustersExecutionStep extends AbstractExecutionStep {
     }
   }
 
+  /**
+   * @param parallel true if the query contains PARALLEL keyword, so big clusters may be scanned by the shared pool of workers
+   */
+  public void setParallel(boolean parallel) {
+    this.parallel = parallel;
+  }
+
   private void sortClusers(int[] clusterIds) {
     if (orderByRidAsc) {
       Arrays.sort(clusterIds);
@@ -65,6 +76,19 @@ public class FetchFromClustersExecutionStep extends AbstractExecutionStep {
   @Override
   public OResultSet syncPull(OCommandContext ctx, int nRecords) throws OTimeoutException {
     getPrev().ifPresent(x -> x.syncPull(ctx, nRecords));
+    if (!started) {
+      started = true;
+      //big clusters of parallel query are scanned by the shared pool of workers, unless records should be sorted by RID
+      if (!orderByRidAsc && !orderByRidDesc) {
+        fetcher = ParallelFetcher.forClusterScan(ctx, subSteps, parallel);
+        if (fetcher != null) {
+          fetcher.start();
+        }
+      }
+    }
+    if (fetcher != null) {
+      return fetcher.fetchNext(nRecords);
+    }
     return new OResultSet() {
 
       int totDispatched = 0;
@@ -136,6 +160,9 @@ public class FetchFromClustersExecutionStep extends AbstractExecutionStep {
 
   @Override
   public void sendTimeout() {
+    if (fetcher != null) {
+      fetcher.stop();
+    }
     for (OExecutionStep step : subSteps) {
       ((AbstractExecutionStep) step).sendTimeout();
     }
@@ -144,6 +171,9 @@ public class FetchFromClustersExecutionStep extends AbstractExecutionStep {
 
   @Override
   public void close() {
+    if (fetcher != null) {
+      fetcher.stop();
+    }
     for (OExecutionStep step : subSteps) {
       ((AbstractExecutionStep) step).close();
     }
@@ -185,6 +215,7 @@ public class FetchFromClustersExecutionStep extends AbstractExecutionStep {
     OResultInternal result = OExecutionStepInternal.basicSerialize(this);
     result.setProperty("orderByRidAsc", orderByRidAsc);
     result.setProperty("orderByRidDesc", orderByRidDesc);
+    result.setProperty("parallel", parallel);
     return result;
   }
 
@@ -194,6 +225,7 @@ public class FetchFromClustersExecutionStep extends AbstractExecutionStep {
       OExecutionStepInternal.basicDeserialize(fromResult, this);
       this.orderByRidAsc = fromResult.getProperty("orderByRidAsc");
       this.orderByRidDesc = fromResult.getProperty("orderByRidDesc");
+      this.parallel = Boolean.TRUE.equals(fromResult.getProperty("parallel"));
     } catch (Exception e) {
       throw OException.wrapException(new OCommandExecutionException(""), e);
     }
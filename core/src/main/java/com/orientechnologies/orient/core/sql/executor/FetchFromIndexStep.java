@@ -295,44 +295,12 @@ public class FetchFromIndexStep extends AbstractExecutionStep {
     Object rightValue = inCondition.evaluateRight((OResult) null, ctx);
     OEqualsCompareOperator equals = new OEqualsCompareOperator(-1);
     if (OMultiValue.isMultiValue(rightValue)) {
-      customIterator = new OMultiCollectionIterator<>();
+      //values of all keys are fetched by single batch lookup instead of separate index lookup per key
+      final List<Object> keys = new ArrayList<>();
       for (Object item : OMultiValue.getMultiValueIterable(rightValue)) {
-        OIndexCursor localCursor = createCursor(equals, definition, item, ctx);
-
-        customIterator.add(new Iterator<Map.Entry>() {
-          @Override
-          public boolean hasNext() {
-            return localCursor.hasNext();
-          }
-
-          @Override
-          public Map.Entry next() {
-            if (!localCursor.hasNext()) {
-              throw new IllegalStateException();
-            }
-            OIdentifiable value = localCursor.next();
-            return new Map.Entry() {
-
-              @Override
-              public Object getKey() {
-                return item;
-              }
-
-              @Override
-              public Object getValue() {
-
-                return value;
-              }
-
-              @Override
-              public Object setValue(Object value) {
-                return null;
-              }
-            };
-          }
-        });
+        keys.addAll(toIndexKey(definition, item));
       }
-      customIterator.reset();
+      cursor = index.iterateEntries(keys, isOrderAsc());
     } else {
       cursor = createCursor(equals, definition, rightValue, ctx);
     }
@@ -382,6 +350,9 @@ public class FetchFromIndexStep extends AbstractExecutionStep {
 
     OIndexDefinition indexDef = index.getDefinition();
 
+    boolean batchLookup = secondValueCombinations.size() > 1 && isFullKeyEqualityLookup(fromKeyIncluded, toKeyIncluded);
+    List<Object> batchKeys = new ArrayList<>();
+
     for (int i = 0; i < secondValueCombinations.size(); i++) {
 
       Object secondValue = secondValueCombinations.get(i).execute((OResult) null, ctx);
@@ -404,6 +375,10 @@ public class FetchFromIndexStep extends AbstractExecutionStep {
         //some problems in key conversion, so the params do not match the key types
         continue;
       }
+      if (batchLookup) {
+        batchKeys.addAll(toIndexKey(indexDef, secondValue));
+        continue;
+      }
       OIndexCursor cursor;
       if (index.supportsOrderedIterations()) {
         cursor = index.iterateEntriesBetween(toBetweenIndexKey(indexDef, secondValue), fromKeyIncluded,
@@ -416,6 +391,9 @@ public class FetchFromIndexStep extends AbstractExecutionStep {
       nextCursors.add(cursor);
 
     }
+    if (batchKeys.size() > 0) {
+      nextCursors.add(index.iterateEntries(batchKeys, isOrderAsc()));
+    }
     if (nextCursors.size() > 0) {
       cursor = nextCursors.remove(0);
       fetchNextEntry();
@@ -519,6 +497,21 @@ public class FetchFromIndexStep extends AbstractExecutionStep {
     return OType.convert(val, types[0].getDefaultJavaType());
   }
 
+  /**
+   * Checks whether the condition contains only equalities on all fields of the index, in such case values of all combinations of
+   * keys may be fetched by single batch lookup instead of range scan per each combination.
+   */
+  private boolean isFullKeyEqualityLookup(boolean fromKeyIncluded, boolean toKeyIncluded) {
+    OIndexDefinition indexDef = index.getDefinition();
+    if (additionalRangeCondition != null || !fromKeyIncluded || !toKeyIncluded || indexDef instanceof OIndexDefinitionMultiValue) {
+      return false;
+    }
+    if (!(condition instanceof OAndBlock) || !allEqualities((OAndBlock) condition)) {
+      return false;
+    }
+    return ((OAndBlock) condition).getSubBlocks().size() == indexDef.getFields().size();
+  }
+
   private boolean allEqualities(OAndBlock condition) {
     if (condition == null) {
       return false;
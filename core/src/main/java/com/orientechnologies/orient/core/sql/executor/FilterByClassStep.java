@@ -68,6 +68,8 @@ public class FilterByClassStep extends AbstractExecutionStep {
               if (clazz.isPresent() && clazz.get().isSubClassOf(identifier.getStringValue())) {
                 break;
               }
+            } else if (nextItem instanceof GetFieldsFromIndexKeyStep.IndexKeyResult) {
+              break;
             }
             nextItem = null;
           } finally {
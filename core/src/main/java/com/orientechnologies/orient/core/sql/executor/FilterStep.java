@@ -17,6 +17,9 @@ public class FilterStep extends AbstractExecutionStep {
 
   OResultSet prevResult = null;
 
+  private BinaryRecordFilter binaryFilter        = null;
+  private boolean            binaryFilterCreated = false;
+
   private long cost;
 
   public FilterStep(OWhereClause whereClause, OCommandContext ctx, boolean profilingEnabled) {
@@ -30,6 +33,10 @@ public class FilterStep extends AbstractExecutionStep {
       throw new IllegalStateException("filter step requires a previous step");
     }
     OExecutionStepInternal prevStep = prev.get();
+    if (!binaryFilterCreated) {
+      binaryFilter = BinaryRecordFilter.create(whereClause, ctx);
+      binaryFilterCreated = true;
+    }
 
     return new OResultSet() {
       public boolean finished = false;
@@ -60,7 +67,7 @@ public class FilterStep extends AbstractExecutionStep {
           nextItem = prevResult.next();
           long begin = profilingEnabled ? System.nanoTime() : 0;
           try {
-            if (whereClause.matchesFilters(nextItem, ctx)) {
+            if ((binaryFilter == null || !binaryFilter.rejects(nextItem)) && whereClause.matchesFilters(nextItem, ctx)) {
               break;
             }
 
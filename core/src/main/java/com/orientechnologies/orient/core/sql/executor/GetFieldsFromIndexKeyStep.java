@@ -0,0 +1,205 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.common.concur.OTimeoutException;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORID;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Builds results from the keys of a covering index instead of loading the records: every item of the composite key becomes a
+ * property named as the corresponding field of the index.
+ */
+public class GetFieldsFromIndexKeyStep extends AbstractExecutionStep {
+
+  /**
+   * Result built from the index key. It has no record, so its class is checked by the clusters of the indexed records instead of
+   * {@link FilterByClassStep}.
+   */
+  static final class IndexKeyResult extends OResultInternal {
+  }
+
+  private final List<String> fields;
+  private final int[]        filterClusterIds;
+
+  // runtime
+
+  private long cost = 0;
+
+  private OResultSet prevResult = null;
+
+  /**
+   * @param ctx              the execution context
+   * @param fields           the fields of the index, in the same order as the items of the index key
+   * @param filterClusterIds only extract values from these clusters, they should belong to the queried class
+   * @param profilingEnabled enable profiling
+   */
+  public GetFieldsFromIndexKeyStep(OCommandContext ctx, List<String> fields, int[] filterClusterIds, boolean profilingEnabled) {
+    super(ctx, profilingEnabled);
+    this.fields = new ArrayList<>(fields);
+    this.filterClusterIds = filterClusterIds;
+  }
+
+  @Override
+  public OResultSet syncPull(OCommandContext ctx, int nRecords) throws OTimeoutException {
+
+    if (!prev.isPresent()) {
+      throw new IllegalStateException("filter step requires a previous step");
+    }
+    OExecutionStepInternal prevStep = prev.get();
+
+    return new OResultSet() {
+
+      public boolean finished = false;
+
+      OResult nextItem = null;
+      int fetched = 0;
+
+      @Override
+      public boolean hasNext() {
+
+        if (fetched >= nRecords || finished) {
+          return false;
+        }
+        if (nextItem == null) {
+          fetchNextItem();
+        }
+
+        return nextItem != null;
+      }
+
+      @Override
+      public OResult next() {
+        if (fetched >= nRecords || finished) {
+          throw new IllegalStateException();
+        }
+        if (nextItem == null) {
+          fetchNextItem();
+        }
+        if (nextItem == null) {
+          throw new IllegalStateException();
+        }
+        OResult result = nextItem;
+        nextItem = null;
+        fetched++;
+        ctx.setVariable("$current", result);
+        return result;
+      }
+
+      private void fetchNextItem() {
+        nextItem = null;
+        if (finished) {
+          return;
+        }
+        if (prevResult == null) {
+          prevResult = prevStep.syncPull(ctx, nRecords);
+          if (!prevResult.hasNext()) {
+            finished = true;
+            return;
+          }
+        }
+        while (!finished) {
+          while (!prevResult.hasNext()) {
+            prevResult = prevStep.syncPull(ctx, nRecords);
+            if (!prevResult.hasNext()) {
+              finished = true;
+              return;
+            }
+          }
+          OResult val = prevResult.next();
+          long begin = profilingEnabled ? System.nanoTime() : 0;
+
+          try {
+            if (!matchesClusters(val.getProperty("rid"))) {
+              continue;
+            }
+
+            nextItem = toResult(val.getProperty("key"));
+            break;
+          } finally {
+            if (profilingEnabled) {
+              cost += (System.nanoTime() - begin);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void close() {
+
+      }
+
+      @Override
+      public Optional<OExecutionPlan> getExecutionPlan() {
+        return null;
+      }
+
+      @Override
+      public Map<String, Long> getQueryStats() {
+        return null;
+      }
+    };
+  }
+
+  private boolean matchesClusters(Object value) {
+    if (!(value instanceof OIdentifiable)) {
+      return false;
+    }
+    ORID rid = ((OIdentifiable) value).getIdentity();
+    for (int filterClusterId : filterClusterIds) {
+      if (rid.getClusterId() < 0 || filterClusterId == rid.getClusterId()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private OResult toResult(Object key) {
+    OResultInternal result = new IndexKeyResult();
+    if (key instanceof List) {
+      List<?> keyItems = (List<?>) key;
+      for (int i = 0; i < fields.size() && i < keyItems.size(); i++) {
+        result.setProperty(fields.get(i), keyItems.get(i));
+      }
+    } else if (fields.size() > 0) {
+      result.setProperty(fields.get(0), key);
+    }
+    return result;
+  }
+
+  @Override
+  public String prettyPrint(int depth, int indent) {
+    String spaces = OExecutionStepInternal.getIndent(depth, indent);
+    String result = spaces + "+ EXTRACT FIELDS FROM INDEX KEY [" + String.join(", ", fields) + "]";
+    if (profilingEnabled) {
+      result += " (" + getCostFormatted() + ")";
+    }
+    result += "\n";
+    result += spaces;
+    result += "  filtering clusters [";
+    result += Arrays.stream(filterClusterIds).boxed().map(x -> "" + x).collect(Collectors.joining(","));
+    result += "]";
+    return result;
+  }
+
+  @Override
+  public long getCost() {
+    return cost;
+  }
+
+  @Override
+  public boolean canBeCached() {
+    return true;
+  }
+
+  @Override
+  public OExecutionStep copy(OCommandContext ctx) {
+    return new GetFieldsFromIndexKeyStep(ctx, this.fields, this.filterClusterIds, this.profilingEnabled);
+  }
+}
@@ -0,0 +1,122 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Groups of GROUP BY which are kept in the order of their creation. Groups with serialized keys are found by the open-addressed
+ * hash table with linear probing, which keeps only indexes of groups, so the table does not contain an entry object per group.
+ * Groups which keys can not be serialized are found by the hash map of lists of values of their keys.
+ */
+final class GroupByHashTable {
+  private static final int INITIAL_CAPACITY = 16;
+
+  /**
+   * Index of group plus one, 0 for the empty slot. Amount of slots is twice the capacity of the table, so at least half of slots
+   * is always empty.
+   */
+  private int[]             slots  = new int[2 * INITIAL_CAPACITY];
+  private byte[][]          keys   = new byte[INITIAL_CAPACITY][];
+  private int[]             hashes = new int[INITIAL_CAPACITY];
+  private OResultInternal[] groups = new OResultInternal[INITIAL_CAPACITY];
+
+  private final Map<List<Object>, Integer> otherKeys = new HashMap<>();
+
+  private int size = 0;
+
+  /**
+   * @return index of the group with the passed in key or -1 if there is no such group
+   */
+  int find(GroupKey key) {
+    if (!key.isSerialized()) {
+      Integer group = otherKeys.get(key.values());
+      return group == null ? -1 : group;
+    }
+
+    int mask = slots.length - 1;
+    int hash = key.hash();
+    for (int slot = mix(hash) & mask; slots[slot] != 0; slot = (slot + 1) & mask) {
+      int group = slots[slot] - 1;
+      if (hashes[group] == hash && key.equalsTo(keys[group])) {
+        return group;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Adds the group which key is not present in the table yet.
+   *
+   * @return index of the added group
+   */
+  int add(GroupKey key, OResultInternal value) {
+    if (size == groups.length) {
+      resize();
+    }
+
+    int group = size++;
+    groups[group] = value;
+    if (key.isSerialized()) {
+      keys[group] = key.toBytes();
+      hashes[group] = key.hash();
+      insert(group);
+    } else {
+      otherKeys.put(key.values(), group);
+    }
+    return group;
+  }
+
+  OResultInternal get(int group) {
+    return groups[group];
+  }
+
+  int size() {
+    return size;
+  }
+
+  void clear() {
+    slots = new int[2 * INITIAL_CAPACITY];
+    keys = new byte[INITIAL_CAPACITY][];
+    hashes = new int[INITIAL_CAPACITY];
+    groups = new OResultInternal[INITIAL_CAPACITY];
+    otherKeys.clear();
+    size = 0;
+  }
+
+  private void resize() {
+    int capacity = 2 * groups.length;
+    keys = Arrays.copyOf(keys, capacity);
+    hashes = Arrays.copyOf(hashes, capacity);
+    groups = Arrays.copyOf(groups, capacity);
+
+    slots = new int[2 * capacity];
+    for (int group = 0; group < size; group++) {
+      if (keys[group] != null) {
+        insert(group);
+      }
+    }
+  }
+
+  private void insert(int group) {
+    int mask = slots.length - 1;
+    int slot = mix(hashes[group]) & mask;
+    while (slots[slot] != 0) {
+      slot = (slot + 1) & mask;
+    }
+    slots[slot] = group + 1;
+  }
+
+  /**
+   * Final mix of MurmurHash3, so groups which keys differ only in the last bytes are spread over the table.
+   */
+  static int mix(int hash) {
+    hash ^= hash >>> 16;
+    hash *= 0x85ebca6b;
+    hash ^= hash >>> 13;
+    hash *= 0xc2b2ae35;
+    hash ^= hash >>> 16;
+    return hash;
+  }
+}
@@ -0,0 +1,203 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORID;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Key of the group of GROUP BY. Values of GROUP BY expressions are serialized into the reusable buffer, so lookup of existing group
+ * does not allocate the key. Two keys are serialized into the same bytes only if lists of their values are equal, values of
+ * different types are never equal the same way as they are not equal in the list of values.
+ * <p>
+ * Values which can not be serialized (records which are not saved yet, embedded documents, sets, maps etc.) are compared by
+ * {@link List#equals(Object)} of the list of values instead.
+ */
+final class GroupKey {
+  private static final byte NULL    = 0;
+  private static final byte STRING  = 1;
+  private static final byte INTEGER = 2;
+  private static final byte LONG    = 3;
+  private static final byte SHORT   = 4;
+  private static final byte BYTE    = 5;
+  private static final byte DOUBLE  = 6;
+  private static final byte FLOAT   = 7;
+  private static final byte BOOLEAN = 8;
+  private static final byte DECIMAL = 9;
+  private static final byte DATE    = 10;
+  private static final byte LINK    = 11;
+  private static final byte LIST    = 12;
+
+  private final List<Object> values = new ArrayList<>();
+
+  private byte[]  buffer     = new byte[64];
+  private int     length     = 0;
+  private boolean serialized = false;
+  private int     hash       = 0;
+
+  void clear() {
+    values.clear();
+    length = 0;
+    serialized = false;
+    hash = 0;
+  }
+
+  void add(Object value) {
+    values.add(value);
+  }
+
+  /**
+   * Serializes added values, should be called once all values are added.
+   */
+  void complete() {
+    length = 0;
+    serialized = true;
+    for (Object value : values) {
+      if (!write(value)) {
+        serialized = false;
+        break;
+      }
+    }
+
+    int h = 0;
+    if (serialized) {
+      for (int i = 0; i < length; i++) {
+        h = 31 * h + buffer[i];
+      }
+    } else {
+      h = values.hashCode();
+    }
+    hash = h;
+  }
+
+  boolean isSerialized() {
+    return serialized;
+  }
+
+  int hash() {
+    return hash;
+  }
+
+  /**
+   * @return copy of the list of values of the key
+   */
+  List<Object> values() {
+    return new ArrayList<>(values);
+  }
+
+  /**
+   * @return copy of the serialized key
+   */
+  byte[] toBytes() {
+    return Arrays.copyOf(buffer, length);
+  }
+
+  boolean equalsTo(byte[] key) {
+    if (key.length != length) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      if (key[i] != buffer[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean write(Object value) {
+    if (value == null) {
+      writeByte(NULL);
+    } else if (value instanceof String) {
+      String string = (String) value;
+      writeByte(STRING);
+      writeInt(string.length());
+      ensureCapacity(2 * string.length());
+      for (int i = 0; i < string.length(); i++) {
+        char c = string.charAt(i);
+        buffer[length++] = (byte) (c >>> 8);
+        buffer[length++] = (byte) c;
+      }
+    } else if (value instanceof Integer) {
+      writeByte(INTEGER);
+      writeInt((Integer) value);
+    } else if (value instanceof Long) {
+      writeByte(LONG);
+      writeLong((Long) value);
+    } else if (value instanceof Short) {
+      writeByte(SHORT);
+      writeInt((Short) value);
+    } else if (value instanceof Byte) {
+      writeByte(BYTE);
+      writeByte((Byte) value);
+    } else if (value instanceof Double) {
+      writeByte(DOUBLE);
+      writeLong(Double.doubleToLongBits((Double) value));
+    } else if (value instanceof Float) {
+      writeByte(FLOAT);
+      writeInt(Float.floatToIntBits((Float) value));
+    } else if (value instanceof Boolean) {
+      writeByte(BOOLEAN);
+      writeByte((Boolean) value ? 1 : 0);
+    } else if (value instanceof BigDecimal) {
+      BigDecimal decimal = (BigDecimal) value;
+      byte[] unscaled = decimal.unscaledValue().toByteArray();
+      writeByte(DECIMAL);
+      writeInt(decimal.scale());
+      writeInt(unscaled.length);
+      ensureCapacity(unscaled.length);
+      System.arraycopy(unscaled, 0, buffer, length, unscaled.length);
+      length += unscaled.length;
+    } else if (value.getClass() == Date.class) {
+      writeByte(DATE);
+      writeLong(((Date) value).getTime());
+    } else if (value instanceof OIdentifiable) {
+      ORID rid = ((OIdentifiable) value).getIdentity();
+      if (!rid.isPersistent()) {
+        return false;
+      }
+      writeByte(LINK);
+      writeInt(rid.getClusterId());
+      writeLong(rid.getClusterPosition());
+    } else if (value instanceof List) {
+      List<?> list = (List<?>) value;
+      writeByte(LIST);
+      writeInt(list.size());
+      for (Object item : list) {
+        if (!write(item)) {
+          return false;
+        }
+      }
+    } else {
+      return false;
+    }
+    return true;
+  }
+
+  private void writeByte(int value) {
+    ensureCapacity(1);
+    buffer[length++] = (byte) value;
+  }
+
+  private void writeInt(int value) {
+    ensureCapacity(4);
+    buffer[length++] = (byte) (value >>> 24);
+    buffer[length++] = (byte) (value >>> 16);
+    buffer[length++] = (byte) (value >>> 8);
+    buffer[length++] = (byte) value;
+  }
+
+  private void writeLong(long value) {
+    writeInt((int) (value >>> 32));
+    writeInt((int) value);
+  }
+
+  private void ensureCapacity(int size) {
+    if (length + size > buffer.length) {
+      buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + size));
+    }
+  }
+}
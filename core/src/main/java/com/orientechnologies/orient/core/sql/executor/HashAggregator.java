@@ -0,0 +1,289 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.sql.parser.OExpression;
+import com.orientechnologies.orient.core.sql.parser.OGroupBy;
+import com.orientechnologies.orient.core.sql.parser.OProjection;
+import com.orientechnologies.orient.core.sql.parser.OProjectionItem;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Calculates aggregate projections for each group of GROUP BY. Groups are kept in {@link GroupByHashTable}, once amount of groups
+ * reaches the limit, results which belong to the new groups are written to one of the temporary files chosen by hash of the key
+ * of group. Results of each file are aggregated after the groups kept in memory are returned, by the separate aggregator which may
+ * spill them again using different bits of hash of the key. Results which can not be written to the file and results which are
+ * spilled too many times are aggregated in memory.
+ * <p>
+ * Aggregator may calculate partial aggregates of the part of the input instead of the final ones. Partial aggregate contains final
+ * values of aggregations of the part of the input and values of GROUP BY expressions in metadata, partial aggregates of different
+ * parts are merged by the aggregator which aggregates the whole input.
+ */
+final class HashAggregator implements AutoCloseable {
+  /**
+   * Name of metadata of partial aggregate which contains list of values of GROUP BY expressions.
+   */
+  static final String GROUP_KEY = "$groupKey";
+
+  private static final int PARTITIONS        = 16;
+  private static final int MAX_LEVEL         = 4;
+  private static final int SPILL_BUFFER_SIZE = 64 * 1024;
+
+  private final OProjection projection;
+  private final OGroupBy    groupBy;
+  private final boolean     mergePartials;
+  private final boolean     partialResults;
+  private final int         maxGroups;
+  private final Path        directory;
+  private final int         level;
+
+  private final GroupByHashTable table = new GroupByHashTable();
+  private final GroupKey         key   = new GroupKey();
+
+  private Path[]             partitionFiles = null;
+  private DataOutputStream[] partitions     = null;
+  private HashAggregator     partition      = null;
+
+  /**
+   * @param projection     aggregate projection
+   * @param groupBy        GROUP BY clause or null if all results belong to the single group
+   * @param mergePartials  true if added results are partial aggregates
+   * @param partialResults true if partial aggregates should be returned
+   * @param maxGroups      maximum amount of groups kept in memory, 0 or negative value means that results are never spilled
+   * @param directory      directory where temporary files are created
+   */
+  HashAggregator(OProjection projection, OGroupBy groupBy, boolean mergePartials, boolean partialResults, int maxGroups,
+      Path directory) {
+    this(projection, groupBy, mergePartials, partialResults, maxGroups, directory, 0);
+  }
+
+  private HashAggregator(OProjection projection, OGroupBy groupBy, boolean mergePartials, boolean partialResults, int maxGroups,
+      Path directory, int level) {
+    this.projection = projection;
+    this.groupBy = groupBy;
+    this.mergePartials = mergePartials;
+    this.partialResults = partialResults;
+    this.maxGroups = maxGroups;
+    this.directory = directory;
+    this.level = level;
+  }
+
+  void add(OResult item, OCommandContext ctx) {
+    key.clear();
+    if (mergePartials) {
+      List<?> values = (List<?>) item.getMetadata(GROUP_KEY);
+      for (Object value : values) {
+        key.add(value);
+      }
+    } else if (groupBy != null) {
+      for (OExpression expression : groupBy.getItems()) {
+        key.add(expression.execute(item, ctx));
+      }
+    }
+    key.complete();
+
+    int group = table.find(key);
+    if (group < 0) {
+      if (maxGroups > 0 && table.size() >= maxGroups && level < MAX_LEVEL && key.isSerialized() && ResultSpillSerializer
+          .canBeSpilled(item)) {
+        spill(item);
+        return;
+      }
+
+      OResultInternal newGroup = new OResultInternal();
+      if (partialResults) {
+        newGroup.setMetadata(GROUP_KEY, key.values());
+      }
+      group = table.add(key, newGroup);
+    }
+
+    OResultInternal preAggr = table.get(group);
+    for (OProjectionItem proj : this.projection.getItems()) {
+      String alias = proj.getProjectionAlias().getStringValue();
+      if (proj.isAggregate()) {
+        AggregationContext aggrCtx = preAggr.getProperty(alias);
+        if (aggrCtx == null) {
+          aggrCtx = proj.getAggregationContext(ctx);
+          preAggr.setProperty(alias, aggrCtx);
+        }
+        if (mergePartials) {
+          ((OFuncitonAggregationContext) aggrCtx).merge(((OResultInternal) item).content.get(alias), ctx);
+        } else {
+          aggrCtx.apply(item, ctx);
+        }
+      } else if (mergePartials) {
+        preAggr.setProperty(alias, ((OResultInternal) item).content.get(alias));
+      } else {
+        preAggr.setProperty(alias, proj.execute(item, ctx));
+      }
+    }
+  }
+
+  /**
+   * @return amount of groups kept in memory
+   */
+  int size() {
+    return table.size();
+  }
+
+  /**
+   * Returns results of all the groups and removes groups kept in memory, so aggregator may be used for the next part of the input.
+   * Results of spilled groups are calculated when they are fetched from the returned iterator.
+   */
+  Iterator<OResult> results(OCommandContext ctx) {
+    List<OResult> results = new ArrayList<>(table.size());
+    for (int i = 0; i < table.size(); i++) {
+      OResultInternal item = table.get(i);
+      for (String name : item.getPropertyNames()) {
+        Object prevVal = item.getProperty(name);
+        if (prevVal instanceof AggregationContext) {
+          item.setProperty(name, ((AggregationContext) prevVal).getFinalValue());
+        }
+      }
+      results.add(item);
+    }
+    table.clear();
+
+    if (partitions == null) {
+      return results.iterator();
+    }
+    try {
+      closePartitions();
+    } catch (IOException e) {
+      throw OException.wrapException(new OCommandExecutionException("Error on spill of aggregated results of the query"), e);
+    }
+
+    Iterator<OResult> memoryResults = results.iterator();
+    return new Iterator<OResult>() {
+      private Iterator<OResult> current       = memoryResults;
+      private int               nextPartition = 0;
+
+      @Override
+      public boolean hasNext() {
+        while (!current.hasNext()) {
+          if (nextPartition >= PARTITIONS) {
+            return false;
+          }
+          current = aggregatePartition(nextPartition++, ctx);
+        }
+        return true;
+      }
+
+      @Override
+      public OResult next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        return current.next();
+      }
+    };
+  }
+
+  /**
+   * Removes temporary files created by aggregator.
+   */
+  @Override
+  public void close() {
+    if (partition != null) {
+      partition.close();
+      partition = null;
+    }
+    if (partitions != null) {
+      try {
+        closePartitions();
+      } catch (IOException e) {
+        OLogManager.instance().error(this, "Can not close temporary files of aggregated results", e);
+      }
+      for (Path file : partitionFiles) {
+        if (file != null) {
+          try {
+            Files.deleteIfExists(file);
+          } catch (IOException e) {
+            OLogManager.instance().error(this, "Can not delete temporary file '%s' of aggregated results", e, file);
+          }
+        }
+      }
+      partitions = null;
+      partitionFiles = null;
+    }
+  }
+
+  private void spill(OResult item) {
+    if (partitions == null) {
+      partitions = new DataOutputStream[PARTITIONS];
+      partitionFiles = new Path[PARTITIONS];
+    }
+
+    //every level uses different bits of hash, so results of single file are spread over all files of the next level
+    int index = GroupByHashTable.mix(key.hash() + level * 0x9E3779B9) >>> 28;
+    try {
+      if (partitions[index] == null) {
+        Files.createDirectories(directory);
+        partitionFiles[index] = Files.createTempFile(directory, "groupBy-", ".spl");
+        partitions[index] = new DataOutputStream(
+            new BufferedOutputStream(Files.newOutputStream(partitionFiles[index]), SPILL_BUFFER_SIZE));
+      }
+      ResultSpillSerializer.write(partitions[index], (OResultInternal) item);
+    } catch (IOException e) {
+      throw OException.wrapException(new OCommandExecutionException("Error on spill of aggregated results of the query"), e);
+    }
+  }
+
+  private Iterator<OResult> aggregatePartition(int index, OCommandContext ctx) {
+    if (partition != null) {
+      partition.close();
+      partition = null;
+    }
+
+    Path file = partitionFiles[index];
+    if (file == null) {
+      return Collections.emptyIterator();
+    }
+
+    partition = new HashAggregator(projection, groupBy, mergePartials, partialResults, maxGroups, directory, level + 1);
+    try {
+      try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), SPILL_BUFFER_SIZE))) {
+        OResult item;
+        while ((item = ResultSpillSerializer.read(input)) != null) {
+          partition.add(item, ctx);
+        }
+      }
+      Files.deleteIfExists(file);
+      partitionFiles[index] = null;
+    } catch (IOException e) {
+      throw OException.wrapException(new OCommandExecutionException("Error on aggregation of spilled results of the query"), e);
+    }
+    return partition.results(ctx);
+  }
+
+  private void closePartitions() throws IOException {
+    IOException exception = null;
+    for (int i = 0; i < PARTITIONS; i++) {
+      if (partitions[i] != null) {
+        try {
+          partitions[i].close();
+        } catch (IOException e) {
+          exception = e;
+        }
+        partitions[i] = null;
+      }
+    }
+    if (exception != null) {
+      throw exception;
+    }
+  }
+}
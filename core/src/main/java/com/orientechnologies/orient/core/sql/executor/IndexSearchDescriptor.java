@@ -2,11 +2,25 @@ package com.orientechnologies.orient.core.sql.executor;
 
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.common.collection.OMultiValue;
+import com.orientechnologies.orient.core.index.OCompositeKey;
 import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.index.OIndexDefinition;
+import com.orientechnologies.orient.core.index.OIndexDefinitionMultiValue;
+import com.orientechnologies.orient.core.index.OIndexInternal;
+import com.orientechnologies.orient.core.metadata.schema.OType;
 import com.orientechnologies.orient.core.sql.parser.OAndBlock;
 import com.orientechnologies.orient.core.sql.parser.OBinaryCompareOperator;
 import com.orientechnologies.orient.core.sql.parser.OBinaryCondition;
 import com.orientechnologies.orient.core.sql.parser.OBooleanExpression;
+import com.orientechnologies.orient.core.sql.parser.OEqualsCompareOperator;
+import com.orientechnologies.orient.core.sql.parser.OGeOperator;
+import com.orientechnologies.orient.core.sql.parser.OGtOperator;
+import com.orientechnologies.orient.core.sql.parser.OLeOperator;
+import com.orientechnologies.orient.core.sql.parser.OLtOperator;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Created by luigidellaquila on 26/07/16.
@@ -43,11 +57,107 @@ public class IndexSearchDescriptor {
 
     long val = stats.getIndexStats(indexName, size, range, additionalRangeCondition != null);
     if (val == -1) {
-      //TODO query the index!
+      val = estimateFromIndex(ctx);
     }
     if (val >= 0) {
       return val > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) val;
     }
     return Integer.MAX_VALUE;
   }
+
+  /**
+   * Estimates amount of entries matching the key condition by positions of the boundaries of the key range inside of the index,
+   * without iteration over the entries.
+   *
+   * @return estimated amount of entries or -1 if the condition can not be converted to the single range of keys or the index does
+   * not support such estimation
+   */
+  private long estimateFromIndex(OCommandContext ctx) {
+    OIndexInternal<?> internal = idx.getInternal();
+    OIndexDefinition definition = idx.getDefinition();
+    if (internal == null || definition == null || definition instanceof OIndexDefinitionMultiValue || !idx
+        .supportsOrderedIterations()) {
+      return -1;
+    }
+
+    List<Object> fromKey = new ArrayList<>();
+    List<Object> toKey = new ArrayList<>();
+    boolean fromInclusive = true;
+    boolean toInclusive = true;
+
+    List<OBooleanExpression> subBlocks = keyCondition.getSubBlocks();
+    for (int i = 0; i < subBlocks.size(); i++) {
+      OBooleanExpression exp = subBlocks.get(i);
+      if (!(exp instanceof OBinaryCondition)) {
+        return -1;
+      }
+      OBinaryCompareOperator operator = ((OBinaryCondition) exp).getOperator();
+      if (!(operator instanceof OEqualsCompareOperator) && i < subBlocks.size() - 1) {
+        return -1;
+      }
+      Object value = evaluateKeyItem((OBinaryCondition) exp, definition.getTypes()[i], ctx);
+      if (value == null) {
+        return -1;
+      }
+
+      if (operator instanceof OEqualsCompareOperator) {
+        fromKey.add(value);
+        toKey.add(value);
+      } else if (operator instanceof OGtOperator || operator instanceof OGeOperator) {
+        fromKey.add(value);
+        fromInclusive = operator instanceof OGeOperator;
+      } else if (operator instanceof OLtOperator || operator instanceof OLeOperator) {
+        toKey.add(value);
+        toInclusive = operator instanceof OLeOperator;
+      } else {
+        return -1;
+      }
+    }
+
+    if (additionalRangeCondition != null) {
+      OBinaryCompareOperator operator = additionalRangeCondition.getOperator();
+      Object value = evaluateKeyItem(additionalRangeCondition, definition.getTypes()[subBlocks.size() - 1], ctx);
+      if (value == null) {
+        return -1;
+      }
+
+      if ((operator instanceof OGtOperator || operator instanceof OGeOperator) && fromKey.size() < subBlocks.size()) {
+        fromKey.add(value);
+        fromInclusive = operator instanceof OGeOperator;
+      } else if ((operator instanceof OLtOperator || operator instanceof OLeOperator) && toKey.size() < subBlocks.size()) {
+        toKey.add(value);
+        toInclusive = operator instanceof OLeOperator;
+      } else {
+        return -1;
+      }
+    }
+
+    return internal.estimateRangeSize(toRangeKey(definition, fromKey), fromInclusive, toRangeKey(definition, toKey), toInclusive);
+  }
+
+  private Object evaluateKeyItem(OBinaryCondition condition, OType type, OCommandContext ctx) {
+    if (!condition.getRight().isEarlyCalculated(ctx)) {
+      return null;
+    }
+    Object value = condition.getRight().execute((OResult) null, ctx);
+    if (value == null || OMultiValue.isMultiValue(value)) {
+      return null;
+    }
+    try {
+      return OType.convert(value, type.getDefaultJavaType());
+    } catch (Exception e) {
+      //the value does not match the key type, so the estimation is not possible
+      return null;
+    }
+  }
+
+  private Object toRangeKey(OIndexDefinition definition, List<Object> keyItems) {
+    if (keyItems.isEmpty()) {
+      return null;
+    }
+    if (definition.getFields().size() == 1) {
+      return keyItems.get(0);
+    }
+    return new OCompositeKey(keyItems);
+  }
 }
@@ -44,7 +44,7 @@ public class OCreateEdgeExecutionPlanner {
   public OInsertExecutionPlan createExecutionPlan(OCommandContext ctx, boolean enableProfiling, boolean useCache) {
     ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
     if (useCache && !enableProfiling && statement.executinPlanCanBeCached()) {
-      OExecutionPlan plan = OExecutionPlanCache.get(statement.getOriginalStatement(), ctx, db);
+      OExecutionPlan plan = OExecutionPlanCache.get(statement.getNormalizedStatement(), ctx, db);
       if (plan != null) {
         return (OInsertExecutionPlan) plan;
       }
@@ -98,7 +98,7 @@ public class OCreateEdgeExecutionPlanner {
 
     if (useCache && !enableProfiling && statement.executinPlanCanBeCached() && result.canBeCached()
         && OExecutionPlanCache.getLastInvalidation(db) < planningStart) {
-      OExecutionPlanCache.put(statement.getOriginalStatement(), result, (ODatabaseDocumentInternal) ctx.getDatabase());
+      OExecutionPlanCache.put(statement.getNormalizedStatement(), result, (ODatabaseDocumentInternal) ctx.getDatabase());
     }
 
     return result;
@@ -2,6 +2,10 @@ package com.orientechnologies.orient.core.sql.executor;
 
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.sql.functions.OSQLFunction;
+import com.orientechnologies.orient.core.sql.functions.math.OSQLFunctionMax;
+import com.orientechnologies.orient.core.sql.functions.math.OSQLFunctionMin;
+import com.orientechnologies.orient.core.sql.functions.math.OSQLFunctionSum;
+import com.orientechnologies.orient.core.sql.functions.misc.OSQLFunctionCount;
 import com.orientechnologies.orient.core.sql.parser.OExpression;
 
 import java.util.ArrayList;
@@ -28,6 +32,28 @@ public class OFuncitonAggregationContext implements AggregationContext {
     return aggregateFunction.getResult();
   }
 
+  /**
+   * @return true if final values of the aggregation calculated on different parts of the input may be merged by {@link
+   * #merge(Object, OCommandContext)}
+   */
+  public boolean canMerge() {
+    return aggregateFunction instanceof OSQLFunctionCount || aggregateFunction instanceof OSQLFunctionSum
+        || aggregateFunction instanceof OSQLFunctionMin || aggregateFunction instanceof OSQLFunctionMax;
+  }
+
+  /**
+   * Adds final value of the same aggregation calculated on the part of the input.
+   */
+  public void merge(Object partialResult, OCommandContext ctx) {
+    if (aggregateFunction instanceof OSQLFunctionCount) {
+      long total = ((Number) aggregateFunction.getResult()).longValue();
+      aggregateFunction.setResult(total + ((Number) partialResult).longValue());
+    } else {
+      //sum, min and max of the partial results are the same as of the whole input
+      aggregateFunction.execute(null, null, null, new Object[] { partialResult }, ctx);
+    }
+  }
+
   @Override public void apply(OResult next, OCommandContext ctx) {
     List<Object> paramValues = new ArrayList<>();
     for (OExpression expr : params) {
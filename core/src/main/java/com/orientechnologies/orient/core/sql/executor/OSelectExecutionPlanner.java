@@ -10,8 +10,10 @@ import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.exception.OCommandExecutionException;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.index.OCompositeIndexDefinition;
 import com.orientechnologies.orient.core.index.OIndex;
 import com.orientechnologies.orient.core.index.OIndexDefinition;
+import com.orientechnologies.orient.core.index.OIndexDefinitionMultiValue;
 import com.orientechnologies.orient.core.metadata.OMetadataInternal;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.metadata.schema.OProperty;
@@ -19,6 +21,7 @@ import com.orientechnologies.orient.core.metadata.schema.OSchema;
 import com.orientechnologies.orient.core.metadata.schema.OType;
 import com.orientechnologies.orient.core.metadata.schema.OView;
 import com.orientechnologies.orient.core.sql.OCommandExecutorSQLAbstract;
+import com.orientechnologies.orient.core.sql.OSQLEngine;
 import com.orientechnologies.orient.core.sql.parser.AggregateProjectionSplit;
 import com.orientechnologies.orient.core.sql.parser.OAndBlock;
 import com.orientechnologies.orient.core.sql.parser.OBaseExpression;
@@ -108,13 +111,14 @@ public class OSelectExecutionPlanner {
     info.skip = this.statement.getSkip();
     info.limit = this.statement.getLimit();
     info.lockRecord = this.statement.getLockRecord();
+    info.parallel = Boolean.TRUE.equals(this.statement.getParallel());
 
   }
 
   public OInternalExecutionPlan createExecutionPlan(OCommandContext ctx, boolean enableProfiling, boolean useCache) {
     ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
     if (useCache && !enableProfiling && statement.executinPlanCanBeCached()) {
-      OExecutionPlan plan = OExecutionPlanCache.get(statement.getOriginalStatement(), ctx, db);
+      OExecutionPlan plan = OExecutionPlanCache.get(statement.getNormalizedStatement(), ctx, db);
       if (plan != null) {
         return (OInternalExecutionPlan) plan;
       }
@@ -159,7 +163,7 @@ public class OSelectExecutionPlanner {
 
     if (useCache && !enableProfiling && statement.executinPlanCanBeCached() && result.canBeCached()
         && OExecutionPlanCache.getLastInvalidation(db) < planningStart) {
-      OExecutionPlanCache.put(statement.getOriginalStatement(), result, (ODatabaseDocumentInternal) ctx.getDatabase());
+      OExecutionPlanCache.put(statement.getNormalizedStatement(), result, (ODatabaseDocumentInternal) ctx.getDatabase());
     }
     return result;
   }
@@ -243,7 +247,9 @@ public class OSelectExecutionPlanner {
           subPlans.add(subPlan);
         }
       }
-      result.chain(new ParallelExecStep((List) subPlans, ctx, enableProfiling));
+      ParallelExecStep step = new ParallelExecStep((List) subPlans, ctx, enableProfiling);
+      step.setParallel(info.parallel);
+      result.chain(step);
     }
     info.distributedPlanCreated = true;
   }
@@ -610,17 +616,27 @@ public class OSelectExecutionPlanner {
     if (!binaryCondition.getLeft().isBaseIdentifier()) {
       return false;
     }
-    if (!(binaryCondition.getOperator() instanceof OEqualsCompareOperator)) {
-      //this can be extended to use range operators too
+    OBinaryCompareOperator operator = binaryCondition.getOperator();
+    boolean rangeOperator = operator instanceof OGtOperator || operator instanceof OGeOperator || operator instanceof OLtOperator
+        || operator instanceof OLeOperator;
+    if (!(operator instanceof OEqualsCompareOperator) && !rangeOperator) {
       return false;
     }
 
     for (OIndex<?> classIndex : clazz.getClassIndexes()) {
+      if (!isIndexFilterImplied(classIndex, info.flattenedWhereClause)) {
+        continue;
+      }
+      if (rangeOperator && (!classIndex.supportsOrderedIterations() || classIndex
+          .getDefinition() instanceof OIndexDefinitionMultiValue)) {
+        //range of keys of multi value index may contain the same record several times
+        continue;
+      }
       List<String> fields = classIndex.getDefinition().getFields();
       if (fields.size() == 1 && fields.get(0).equals(binaryCondition.getLeft().getDefaultAlias().getStringValue())) {
         OBinaryCondition indexCond = new OBinaryCondition(-1);
         indexCond.setLeft(new OExpression(new OIdentifier("key")));
-        indexCond.setOperator(new OEqualsCompareOperator(-1));
+        indexCond.setOperator(operator.copy());
         indexCond.setRight(((OBinaryCondition) condition).getRight().copy());
         result.chain(new FetchFromIndexStep(classIndex, indexCond, null, ctx, profilingEnabled));
         result.chain(new AggregateProjectionCalculationStep(info.aggregateProjection, info.groupBy, ctx, profilingEnabled));
@@ -1159,7 +1175,9 @@ public class OSelectExecutionPlanner {
           handleInputParamAsTarget(subPlan, info.serverToClusters.get(shardedPlan.getKey()), info, param, ctx, profilingEnabled);
           plans.add(subPlan);
         }
-        shardedPlan.getValue().chain(new ParallelExecStep(plans, ctx, profilingEnabled));
+        ParallelExecStep step = new ParallelExecStep(plans, ctx, profilingEnabled);
+        step.setParallel(info.parallel);
+        shardedPlan.getValue().chain(step);
       } else if (target.getIndex() != null) {
         handleIndexAsTarget(shardedPlan.getValue(), info, target.getIndex(), null, ctx, profilingEnabled);
         if (info.serverToClusters.size() > 1) {
@@ -1747,7 +1765,9 @@ public class OSelectExecutionPlanner {
 
     if (indexedFunctionsFound) {
       if (resultSubPlans.size() > 1) { //if resultSubPlans.size() == 1 the step was already chained (see above)
-        plan.chain(new ParallelExecStep(resultSubPlans, ctx, profilingEnabled));
+        ParallelExecStep step = new ParallelExecStep(resultSubPlans, ctx, profilingEnabled);
+        step.setParallel(info.parallel);
+        plan.chain(step);
         plan.chain(new FilterByClustersStep(filterClusters, ctx, profilingEnabled));
         plan.chain(new DistinctExecutionStep(ctx, profilingEnabled));
       }
@@ -1810,7 +1830,7 @@ public class OSelectExecutionPlanner {
     }
 
     for (OIndex idx : clazz.getIndexes().stream().filter(i -> i.supportsOrderedIterations()).filter(i -> i.getDefinition() != null)
-        .collect(Collectors.toList())) {
+        .filter(i -> isIndexFilterImplied(i, info.flattenedWhereClause)).collect(Collectors.toList())) {
       List<String> indexFields = idx.getDefinition().getFields();
       if (indexFields.size() < info.orderBy.getItems().size()) {
         continue;
@@ -1891,7 +1911,9 @@ public class OSelectExecutionPlanner {
       subclassPlans.add(subPlan);
     }
     if (subclassPlans.size() > 0) {
-      plan.chain(new ParallelExecStep(subclassPlans, ctx, profilingEnabled));
+      ParallelExecStep step = new ParallelExecStep(subclassPlans, ctx, profilingEnabled);
+      step.setParallel(info.parallel);
+      plan.chain(step);
       return true;
     }
     return false;
@@ -1952,7 +1974,9 @@ public class OSelectExecutionPlanner {
         subclassPlans.add(subPlan);
       }
       if (subclassPlans.size() > 0) {
-        result.add(new ParallelExecStep(subclassPlans, ctx, profilingEnabled));
+        ParallelExecStep step = new ParallelExecStep(subclassPlans, ctx, profilingEnabled);
+        step.setParallel(info.parallel);
+        result.add(step);
       }
     }
     return result.size() == 0 ? null : result;
@@ -1996,12 +2020,19 @@ public class OSelectExecutionPlanner {
         filterClusterIds = filterClusters.stream().map(name -> ctx.getDatabase().getClusterIdByName(name)).mapToInt(i -> i)
             .toArray();
       }
-      result.add(new GetValueFromIndexEntryStep(ctx, filterClusterIds, profilingEnabled));
+      boolean orderApplied = orderAsc != null && info.orderBy != null && fullySorted(info.orderBy, desc.keyCondition, desc.idx)
+          && info.serverToClusters.size() == 1;
+      if (isCoveredByIndex(info, desc, orderApplied)) {
+        // the index may be defined on a superclass, so only the records of the class are taken from it
+        result.add(new GetFieldsFromIndexKeyStep(ctx, desc.idx.getDefinition().getFields(),
+            filterClusterIds == null ? clazz.getPolymorphicClusterIds() : filterClusterIds, profilingEnabled));
+      } else {
+        result.add(new GetValueFromIndexEntryStep(ctx, filterClusterIds, profilingEnabled));
+      }
       if (requiresMultipleIndexLookups(desc.keyCondition)) {
         result.add(new DistinctExecutionStep(ctx, profilingEnabled));
       }
-      if (orderAsc != null && info.orderBy != null && fullySorted(info.orderBy, desc.keyCondition, desc.idx)
-          && info.serverToClusters.size() == 1) {
+      if (orderApplied) {
         info.orderApplied = true;
       }
       if (desc.remainingCondition != null && !desc.remainingCondition.isEmpty()) {
@@ -2019,11 +2050,56 @@ public class OSelectExecutionPlanner {
       }
     } else {
       result = new ArrayList<>();
-      result.add(createParallelIndexFetch(optimumIndexSearchDescriptors, filterClusters, ctx, profilingEnabled));
+      result.add(createParallelIndexFetch(optimumIndexSearchDescriptors, filterClusters, info, ctx, profilingEnabled));
     }
     return result;
   }
 
+  /**
+   * checks if the query can be answered reading only the keys of a covering index (ie. an index with included fields), without
+   * loading the records: all the projections have to be plain fields stored in the index key and no other part of the query has
+   * to access the record
+   *
+   * @param info         the query planning info
+   * @param desc         the index search descriptor
+   * @param orderApplied true if the sorting is already provided by the index
+   *
+   * @return true if the records do not have to be loaded
+   */
+  private boolean isCoveredByIndex(QueryPlanningInfo info, IndexSearchDescriptor desc, boolean orderApplied) {
+    OIndexDefinition definition = desc.idx.getDefinition();
+    if (!(definition instanceof OCompositeIndexDefinition)
+        || ((OCompositeIndexDefinition) definition).getIncludedFieldsCount() == 0) {
+      return false;
+    }
+    if (desc.remainingCondition != null && !desc.remainingCondition.isEmpty()) {
+      return false;
+    }
+    // DISTINCT on multiple lookups compares the records, that are not available here
+    if (requiresMultipleIndexLookups(desc.keyCondition)) {
+      return false;
+    }
+    if (info.perRecordLetClause != null || info.lockRecord != null || info.unwind != null || info.expand
+        || info.groupBy != null || info.aggregateProjection != null || (info.orderBy != null && !orderApplied)) {
+      return false;
+    }
+    if (info.projection == null || info.projection.getItems() == null || info.projection.getItems().isEmpty()) {
+      return false;
+    }
+
+    List<String> coveredFields = ((OCompositeIndexDefinition) definition).getCoveredFields();
+    for (OProjectionItem item : info.projection.getItems()) {
+      if (item.isAll() || item.isExpand() || item.getNestedProjection() != null || item.getExpression() == null
+          || !item.getExpression().isBaseIdentifier()) {
+        return false;
+      }
+      if (!coveredFields.contains(item.getExpression().getDefaultAlias().getStringValue())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   private static OSchema getSchemaFromContext(OCommandContext ctx) {
     return ((OMetadataInternal) ctx.getDatabase().getMetadata()).getImmutableSchemaSnapshot();
   }
@@ -2121,7 +2197,7 @@ public class OSelectExecutionPlanner {
   }
 
   private OExecutionStepInternal createParallelIndexFetch(List<IndexSearchDescriptor> indexSearchDescriptors,
-      Set<String> filterClusters, OCommandContext ctx, boolean profilingEnabled) {
+      Set<String> filterClusters, QueryPlanningInfo info, OCommandContext ctx, boolean profilingEnabled) {
     List<OInternalExecutionPlan> subPlans = new ArrayList<>();
     for (IndexSearchDescriptor desc : indexSearchDescriptors) {
       OSelectExecutionPlan subPlan = new OSelectExecutionPlan(ctx);
@@ -2140,7 +2216,9 @@ public class OSelectExecutionPlanner {
       }
       subPlans.add(subPlan);
     }
-    return new ParallelExecStep(subPlans, ctx, profilingEnabled);
+    ParallelExecStep step = new ParallelExecStep(subPlans, ctx, profilingEnabled);
+    step.setParallel(info.parallel);
+    return step;
   }
 
   /**
@@ -2178,7 +2256,7 @@ public class OSelectExecutionPlanner {
   private IndexSearchDescriptor findBestIndexFor(OCommandContext ctx, Set<OIndex<?>> indexes, OAndBlock block, OClass clazz) {
     //get all valid index descriptors
     List<IndexSearchDescriptor> descriptors = indexes.stream().filter(x -> x.getInternal().canBeUsedInEqualityOperators())
-        .map(index -> buildIndexSearchDescriptor(ctx, index, block, clazz)).filter(Objects::nonNull)
+        .filter(x -> isIndexFilterImplied(x, Collections.singletonList(block))).map(index -> buildIndexSearchDescriptor(ctx, index, block, clazz)).filter(Objects::nonNull)
         .filter(x -> x.keyCondition != null).filter(x -> x.keyCondition.getSubBlocks().size() > 0).collect(Collectors.toList());
 
     //remove the redundant descriptors (eg. if I have one on [a] and one on [a, b], the first one is redundant, just discard it)
@@ -2202,6 +2280,40 @@ public class OSelectExecutionPlanner {
     return descriptors.isEmpty() ? null : descriptors.get(descriptors.size() - 1);
   }
 
+  /**
+   * a partial index contains only the records that match its filter, so it can be used only if every block of the query condition
+   * implies the filter. For now the implication is detected only if all the conditions of one of the blocks of the filter are also
+   * conditions of the query block, eg. a query on "a = 1 and status = 'active'" can use an index filtered by "status = 'active'"
+   *
+   * @param index  the index
+   * @param blocks the flattened query condition, null if the query has no WHERE condition
+   *
+   * @return true if the index contains all the records that can match the condition
+   */
+  private boolean isIndexFilterImplied(OIndex<?> index, List<OAndBlock> blocks) {
+    OIndexDefinition definition = index.getDefinition();
+    if (definition == null || definition.getFilter() == null) {
+      return true;
+    }
+    if (blocks == null || blocks.isEmpty()) {
+      return false;
+    }
+    List<OAndBlock> filterBlocks = OSQLEngine.parseCondition(definition.getFilter()).flatten();
+    for (OAndBlock block : blocks) {
+      boolean implied = false;
+      for (OAndBlock filterBlock : filterBlocks) {
+        if (block.getSubBlocks().containsAll(filterBlock.getSubBlocks())) {
+          implied = true;
+          break;
+        }
+      }
+      if (!implied) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   private List<IndexSearchDescriptor> removePrefixIndexes(List<IndexSearchDescriptor> descriptors) {
     List<IndexSearchDescriptor> result = new ArrayList<>();
     for (IndexSearchDescriptor desc : descriptors) {
@@ -2620,6 +2732,7 @@ public class OSelectExecutionPlanner {
         clusterIds[i] = clusterId;
       }
       FetchFromClustersExecutionStep step = new FetchFromClustersExecutionStep(clusterIds, ctx, orderByRidAsc, profilingEnabled);
+      step.setParallel(info.parallel);
       plan.chain(step);
     }
   }
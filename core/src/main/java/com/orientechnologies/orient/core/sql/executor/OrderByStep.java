@@ -1,10 +1,15 @@
 package com.orientechnologies.orient.core.sql.executor;
 
 import com.orientechnologies.common.concur.OTimeoutException;
+import com.orientechnologies.orient.core.Orient;
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabase;
 import com.orientechnologies.orient.core.sql.parser.OOrderBy;
 
+import java.nio.file.Paths;
 import java.util.*;
+import java.util.function.Consumer;
 
 /**
  * Created by luigidellaquila on 11/07/16.
@@ -15,8 +20,8 @@ public class OrderByStep extends AbstractExecutionStep {
 
   private long cost = 0;
 
-  List<OResult> cachedResult = null;
-  int           nextElement  = 0;
+  Iterator<OResult> sortedResults = null;
+  ResultSorter      sorter        = null;
 
   public OrderByStep(OOrderBy orderBy, OCommandContext ctx, boolean profilingEnabled) {
     this(orderBy, null, ctx, profilingEnabled);
@@ -33,24 +38,26 @@ public class OrderByStep extends AbstractExecutionStep {
 
   @Override
   public OResultSet syncPull(OCommandContext ctx, int nRecords) throws OTimeoutException {
-    if (cachedResult == null) {
-      cachedResult = new ArrayList<>();
-      prev.ifPresent(p -> init(p, ctx));
+    if (sortedResults == null) {
+      sortedResults = prev.map(p -> init(p, ctx)).orElse(Collections.emptyIterator());
     }
 
     return new OResultSet() {
       int currentBatchReturned = 0;
-      int offset = nextElement;
 
       @Override
       public boolean hasNext() {
         if (currentBatchReturned >= nRecords) {
           return false;
         }
-        if (cachedResult.size() <= nextElement) {
-          return false;
+        long begin = profilingEnabled ? System.nanoTime() : 0;
+        try {
+          return sortedResults.hasNext();
+        } finally {
+          if (profilingEnabled) {
+            cost += (System.nanoTime() - begin);
+          }
         }
-        return true;
       }
 
       @Override
@@ -60,11 +67,10 @@ public class OrderByStep extends AbstractExecutionStep {
           if (currentBatchReturned >= nRecords) {
             throw new IllegalStateException();
           }
-          if (cachedResult.size() <= nextElement) {
+          if (!sortedResults.hasNext()) {
             throw new IllegalStateException();
           }
-          OResult result = cachedResult.get(offset + currentBatchReturned);
-          nextElement++;
+          OResult result = sortedResults.next();
           currentBatchReturned++;
           return result;
         } finally {
@@ -91,9 +97,66 @@ public class OrderByStep extends AbstractExecutionStep {
     };
   }
 
-  private void init(OExecutionStepInternal p, OCommandContext ctx) {
+  private Iterator<OResult> init(OExecutionStepInternal p, OCommandContext ctx) {
+    Comparator<OResult> comparator = (a, b) -> orderBy.compare(a, b, ctx);
+    if (maxResults != null) {
+      return selectTop(p, ctx, comparator);
+    }
+
+    sorter = new ResultSorter(comparator, getSpillThreshold(ctx), Paths.get(Orient.getTempPath()));
+    fetchAll(p, ctx, sorter::add);
+    long begin = profilingEnabled ? System.nanoTime() : 0;
+    try {
+      return sorter.sortedResults();
+    } finally {
+      if (profilingEnabled) {
+        cost += (System.nanoTime() - begin);
+      }
+    }
+  }
+
+  /**
+   * Keeps only the first maxResults results in the heap, the greatest of them is on the top of the heap and is replaced once
+   * smaller result is found. Results which are equal are returned in the order in which they are fetched.
+   */
+  private Iterator<OResult> selectTop(OExecutionStepInternal p, OCommandContext ctx, Comparator<OResult> comparator) {
+    Comparator<HeapEntry> entryComparator = (a, b) -> {
+      int cmp = comparator.compare(a.result, b.result);
+      return cmp != 0 ? cmp : Long.compare(a.order, b.order);
+    };
+    PriorityQueue<HeapEntry> heap = new PriorityQueue<>(entryComparator.reversed());
+    long[] order = new long[1];
+
+    fetchAll(p, ctx, item -> {
+      if (maxResults == 0) {
+        return;
+      }
+      HeapEntry entry = new HeapEntry(item, order[0]++);
+      if (heap.size() < maxResults) {
+        heap.add(entry);
+      } else if (entryComparator.compare(entry, heap.peek()) < 0) {
+        heap.poll();
+        heap.add(entry);
+      }
+    });
+
+    long begin = profilingEnabled ? System.nanoTime() : 0;
+    try {
+      List<HeapEntry> entries = new ArrayList<>(heap);
+      entries.sort(entryComparator);
+      List<OResult> result = new ArrayList<>(entries.size());
+      for (HeapEntry entry : entries) {
+        result.add(entry.result);
+      }
+      return result.iterator();
+    } finally {
+      if (profilingEnabled) {
+        cost += (System.nanoTime() - begin);
+      }
+    }
+  }
 
-    boolean sorted = true;
+  private void fetchAll(OExecutionStepInternal p, OCommandContext ctx, Consumer<OResult> consumer) {
     do {
       OResultSet lastBatch = p.syncPull(ctx, 100);
       if (!lastBatch.hasNext()) {
@@ -106,14 +169,7 @@ public class OrderByStep extends AbstractExecutionStep {
         OResult item = lastBatch.next();
         long begin = profilingEnabled ? System.nanoTime() : 0;
         try {
-          cachedResult.add(item);
-          sorted = false;
-          //compact, only at twice as the buffer, to avoid to do it at each add
-          if (this.maxResults != null && maxResults * 2 < cachedResult.size()) {
-            cachedResult.sort((a, b) -> orderBy.compare(a, b, ctx));
-            cachedResult = new ArrayList<>(cachedResult.subList(0, maxResults));
-            sorted = true;
-          }
+          consumer.accept(item);
         } finally {
           if (profilingEnabled) {
             cost += (System.nanoTime() - begin);
@@ -123,31 +179,23 @@ public class OrderByStep extends AbstractExecutionStep {
       if (timedOut) {
         break;
       }
-      long begin = profilingEnabled ? System.nanoTime() : 0;
-      try {
-        //compact at each batch, if needed
-        if (!sorted && this.maxResults != null && maxResults < cachedResult.size()) {
-          cachedResult.sort((a, b) -> orderBy.compare(a, b, ctx));
-          cachedResult = new ArrayList<>(cachedResult.subList(0, maxResults));
-          sorted = true;
-        }
-      } finally {
-        if (profilingEnabled) {
-          cost += (System.nanoTime() - begin);
-        }
-      }
     } while (true);
-    long begin = profilingEnabled ? System.nanoTime() : 0;
-    try {
-      if (!sorted) {
-        cachedResult.sort((a, b) -> orderBy.compare(a, b, ctx));
-      }
-    } finally {
-      if (profilingEnabled) {
-        cost += (System.nanoTime() - begin);
-      }
+  }
+
+  private static int getSpillThreshold(OCommandContext ctx) {
+    ODatabase db = ctx.getDatabase();
+    if (db == null) {
+      return OGlobalConfiguration.QUERY_ORDER_BY_SPILL_THRESHOLD.getValueAsInteger();
     }
+    return db.getConfiguration().getValueAsInteger(OGlobalConfiguration.QUERY_ORDER_BY_SPILL_THRESHOLD);
+  }
 
+  @Override
+  public void close() {
+    super.close();
+    if (sorter != null) {
+      sorter.close();
+    }
   }
 
   @Override
@@ -164,4 +212,14 @@ public class OrderByStep extends AbstractExecutionStep {
   public long getCost() {
     return cost;
   }
+
+  private static final class HeapEntry {
+    private final OResult result;
+    private final long    order;
+
+    private HeapEntry(OResult result, long order) {
+      this.result = result;
+      this.order = order;
+    }
+  }
 }
@@ -17,14 +17,37 @@ public class ParallelExecStep extends AbstractExecutionStep {
   int current = 0;
   private OResultSet currentResultSet = null;
 
+  private boolean         parallel = false;
+  private boolean         started  = false;
+  private ParallelFetcher fetcher  = null;
+
   public ParallelExecStep(List<OInternalExecutionPlan> subExecuitonPlans, OCommandContext ctx, boolean profilingEnabled) {
     super(ctx, profilingEnabled);
     this.subExecutionPlans = subExecuitonPlans;
   }
 
+  /**
+   * @param parallel true if the query contains PARALLEL keyword, so sub plans may be executed by the shared pool of workers
+   */
+  public void setParallel(boolean parallel) {
+    this.parallel = parallel;
+  }
+
   @Override
   public OResultSet syncPull(OCommandContext ctx, int nRecords) throws OTimeoutException {
     getPrev().ifPresent(x -> x.syncPull(ctx, nRecords));
+    if (!started) {
+      started = true;
+      //sub plans of parallel query are executed by the shared pool of workers if possible, otherwise one after another by current
+      //thread
+      fetcher = ParallelFetcher.create(ctx, subExecutionPlans, parallel);
+      if (fetcher != null) {
+        fetcher.start();
+      }
+    }
+    if (fetcher != null) {
+      return fetcher.fetchNext(nRecords);
+    }
     return new OResultSet() {
       int localCount = 0;
 
@@ -87,6 +110,27 @@ public class ParallelExecStep extends AbstractExecutionStep {
     } while (!currentResultSet.hasNext());
   }
 
+  @Override
+  public void sendTimeout() {
+    super.sendTimeout();
+    if (fetcher != null) {
+      fetcher.stop();
+    }
+    for (OInternalExecutionPlan plan : subExecutionPlans) {
+      for (OExecutionStep step : plan.getSteps()) {
+        ((OExecutionStepInternal) step).sendTimeout();
+      }
+    }
+  }
+
+  @Override
+  public void close() {
+    if (fetcher != null) {
+      fetcher.stop();
+    }
+    super.close();
+  }
+
   @Override
   public String prettyPrint(int depth, int indent) {
     String result = "";
@@ -217,7 +261,9 @@ public class ParallelExecStep extends AbstractExecutionStep {
 
   @Override
   public OExecutionStep copy(OCommandContext ctx) {
-    return new ParallelExecStep(subExecutionPlans.stream().map(x -> x.copy(ctx)).collect(Collectors.toList()), ctx,
-        profilingEnabled);
+    ParallelExecStep result = new ParallelExecStep(subExecutionPlans.stream().map(x -> x.copy(ctx)).collect(Collectors.toList()),
+        ctx, profilingEnabled);
+    result.parallel = parallel;
+    return result;
   }
 }
@@ -0,0 +1,378 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.command.OBasicCommandContext;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabase;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
+import com.orientechnologies.orient.core.db.OExecutionThreadLocal;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.exception.OCommandInterruptedException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executes branches of the query (sub plans of {@link ParallelExecStep}, scans of clusters of the class) at the same time by the
+ * shared pool of workers. Every worker uses own copy of the database session and of the command context and takes branches one
+ * by one from the common queue. Results of each branch are passed to the thread which runs the query through the bounded queue of
+ * the branch, so worker waits once it fetches too many results in advance.
+ * <p>
+ * Results of different branches are interleaved, order of results inside of single branch is kept. Fetcher is stopped once all
+ * the branches are completed, the query is closed, timed out or interrupted.
+ */
+final class ParallelFetcher {
+  private static final Object END = new Object();
+
+  /**
+   * Interval in milliseconds after which waiting threads check whether execution is stopped.
+   */
+  private static final int WAIT_INTERVAL = 100;
+
+  /**
+   * Set for workers, so branches of the nested parallel steps are executed sequentially and workers do not wait for each other.
+   */
+  private static final ThreadLocal<Boolean> WORKER = new ThreadLocal<>();
+
+  private final OCommandContext              ctx;
+  private final List<OInternalExecutionPlan> branches;
+  private final int                          threads;
+  private final int                          batchSize;
+
+  private final List<BlockingQueue<Object>> queues          = new ArrayList<>();
+  private final Queue<Integer>              pendingBranches = new ConcurrentLinkedQueue<>();
+  private final Semaphore                   ready           = new Semaphore(0);
+
+  private volatile boolean stopped = false;
+
+  private int     completedBranches = 0;
+  private int     nextBranch        = 0;
+  private OResult nextItem          = null;
+
+  private ParallelFetcher(OCommandContext ctx, List<OInternalExecutionPlan> branches, int threads, int queueSize) {
+    this.ctx = ctx;
+    this.branches = branches;
+    this.threads = threads;
+    this.batchSize = queueSize;
+
+    for (int i = 0; i < branches.size(); i++) {
+      queues.add(new ArrayBlockingQueue<>(queueSize));
+      pendingBranches.add(i);
+    }
+  }
+
+  /**
+   * @param ctx      the query context
+   * @param branches branches of the query, they are not executed itself, every worker executes own copies of them
+   * @param parallel true if the query contains PARALLEL keyword
+   *
+   * @return fetcher which executes passed in branches in parallel or null if they should be executed sequentially by the current
+   * thread: query does not contain PARALLEL keyword and {@link OGlobalConfiguration#QUERY_PARALLEL_AUTO} is off, parallel
+   * execution is disabled, branches can not be copied, query runs inside of the transaction which changes are not visible to other
+   * sessions or query is executed by the worker of another parallel query
+   */
+  static ParallelFetcher create(OCommandContext ctx, List<OInternalExecutionPlan> branches, boolean parallel) {
+    if (branches.size() < 2 || WORKER.get() != null) {
+      return null;
+    }
+    ODatabase db = ctx.getDatabase();
+    if (!(db instanceof ODatabaseDocumentInternal) || db.getTransaction().isActive() || ((ODatabaseDocumentInternal) db)
+        .getStorage().isRemote()) {
+      return null;
+    }
+    //results of the branches are interleaved, so the order of results changes only if user asks for it
+    if (!parallel && !db.getConfiguration().getValueAsBoolean(OGlobalConfiguration.QUERY_PARALLEL_AUTO)) {
+      return null;
+    }
+    int threads = db.getConfiguration().getValueAsInteger(OGlobalConfiguration.QUERY_PARALLEL_EXECUTION_THREADS);
+    if (threads < 2) {
+      return null;
+    }
+    for (OInternalExecutionPlan branch : branches) {
+      if (!branch.canBeCached()) {
+        return null;
+      }
+    }
+    int queueSize = Math.max(1, db.getConfiguration().getValueAsInteger(OGlobalConfiguration.QUERY_PARALLEL_RESULT_QUEUE_SIZE));
+    return new ParallelFetcher(ctx, branches, Math.min(threads, branches.size()), queueSize);
+  }
+
+  /**
+   * Creates fetcher which scans the clusters in parallel. It is used only if the clusters contain enough records to outweigh the
+   * cost of the workers, steps should not sort records by RID.
+   *
+   * @param ctx          the query context
+   * @param clusterSteps steps which fetch records of single cluster
+   * @param parallel     true if the query contains PARALLEL keyword
+   *
+   * @return fetcher which scans the clusters or null if they should be scanned sequentially by the current thread
+   */
+  static ParallelFetcher forClusterScan(OCommandContext ctx, List<OExecutionStep> clusterSteps, boolean parallel) {
+    return forClusterScan(ctx, clusterSteps, Collections.emptyList(), parallel);
+  }
+
+  /**
+   * Creates fetcher which scans the clusters in parallel and processes records of each cluster by the passed in steps.
+   *
+   * @param ctx          the query context
+   * @param clusterSteps steps which fetch records of single cluster
+   * @param branchSteps  steps which are executed by each branch after the scan of the cluster, they are not executed itself,
+   *                     every branch is chained with own copies of them
+   * @param parallel     true if the query contains PARALLEL keyword
+   *
+   * @return fetcher which scans the clusters or null if they should be scanned sequentially by the current thread
+   */
+  static ParallelFetcher forClusterScan(OCommandContext ctx, List<OExecutionStep> clusterSteps,
+      List<OExecutionStepInternal> branchSteps, boolean parallel) {
+    ODatabase db = ctx.getDatabase();
+    if (db == null || clusterSteps.size() < 2) {
+      return null;
+    }
+    long records = 0;
+    List<OInternalExecutionPlan> branches = new ArrayList<>();
+    for (OExecutionStep step : clusterSteps) {
+      if (step instanceof FetchFromClusterExecutionStep) {
+        records += db.countClusterElements(((FetchFromClusterExecutionStep) step).getClusterId());
+      }
+      OSelectExecutionPlan branch = new OSelectExecutionPlan(ctx);
+      branch.chain((OExecutionStepInternal) step);
+      for (OExecutionStepInternal branchStep : branchSteps) {
+        branch.chain((OExecutionStepInternal) branchStep.copy(ctx));
+      }
+      branches.add(branch);
+    }
+    if (records < db.getConfiguration().getValueAsLong(OGlobalConfiguration.QUERY_PARALLEL_MINIMUM_RECORDS)) {
+      return null;
+    }
+    return create(ctx, branches, parallel);
+  }
+
+  void start() {
+    ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
+    Map<String, Object> variables = ctx.getVariables();
+    try {
+      for (int i = 0; i < threads; i++) {
+        ODatabaseDocumentInternal workerDb = db.copy();
+        db.activateOnCurrentThread();
+
+        OBasicCommandContext workerCtx = new OBasicCommandContext();
+        workerCtx.setDatabase(workerDb);
+        workerCtx.setInputParameters(ctx.getInputParameters());
+        //variables are copied before parent is set, so values assigned by worker are not propagated to the context of the query
+        variables.forEach(workerCtx::setVariable);
+        workerCtx.setParentWithoutOverridingChild(ctx.getParent());
+
+        try {
+          Orient.instance().submit(() -> {
+            WORKER.set(Boolean.TRUE);
+            workerDb.activateOnCurrentThread();
+            try {
+              executeBranches(workerCtx);
+            } finally {
+              workerDb.close();
+              ODatabaseRecordThreadLocal.instance().remove();
+              WORKER.remove();
+            }
+          });
+        } catch (RuntimeException e) {
+          workerDb.activateOnCurrentThread();
+          workerDb.close();
+          throw e;
+        } finally {
+          db.activateOnCurrentThread();
+        }
+      }
+    } catch (RuntimeException e) {
+      stop();
+      throw e;
+    }
+  }
+
+  private void executeBranches(OCommandContext workerCtx) {
+    Integer branch;
+    while (!stopped && (branch = pendingBranches.poll()) != null) {
+      BlockingQueue<Object> queue = queues.get(branch);
+      Object last = END;
+      try {
+        OInternalExecutionPlan plan = branches.get(branch).copy(workerCtx);
+        try {
+          boolean completed = false;
+          while (!completed && !stopped) {
+            OResultSet results = plan.fetchNext(batchSize);
+            completed = true;
+            while (results.hasNext()) {
+              completed = false;
+              if (!offer(queue, results.next())) {
+                return;
+              }
+            }
+          }
+        } finally {
+          plan.close();
+        }
+      } catch (Throwable t) {
+        //failure is rethrown by the thread which runs the query
+        last = t;
+      }
+      if (!offer(queue, last)) {
+        return;
+      }
+    }
+  }
+
+  private boolean offer(BlockingQueue<Object> queue, Object item) {
+    try {
+      while (!stopped) {
+        if (queue.offer(item, WAIT_INTERVAL, TimeUnit.MILLISECONDS)) {
+          ready.release();
+          return true;
+        }
+      }
+    } catch (InterruptedException ignore) {
+      Thread.currentThread().interrupt();
+    }
+    return false;
+  }
+
+  /**
+   * @return result set which contains up to passed in amount of the next results of the branches, it waits for the results which
+   * are not fetched by workers yet
+   */
+  OResultSet fetchNext(int nRecords) {
+    return new OResultSet() {
+      int fetched = 0;
+
+      @Override
+      public boolean hasNext() {
+        if (fetched >= nRecords) {
+          return false;
+        }
+        if (nextItem == null) {
+          nextItem = nextResult();
+        }
+        return nextItem != null;
+      }
+
+      @Override
+      public OResult next() {
+        if (!hasNext()) {
+          throw new IllegalStateException();
+        }
+        OResult result = nextItem;
+        nextItem = null;
+        fetched++;
+        ctx.setVariable("$current", result);
+        return result;
+      }
+
+      @Override
+      public void close() {
+
+      }
+
+      @Override
+      public Optional<OExecutionPlan> getExecutionPlan() {
+        return Optional.empty();
+      }
+
+      @Override
+      public Map<String, Long> getQueryStats() {
+        return new HashMap<>();
+      }
+    };
+  }
+
+  /**
+   * Waits for the next result of any branch.
+   *
+   * @return next result or null if all the branches are completed or execution is stopped
+   */
+  private OResult nextResult() {
+    while (!stopped && completedBranches < queues.size()) {
+      if (!awaitResult()) {
+        return null;
+      }
+      for (int i = 0; i < queues.size(); i++) {
+        int branch = (nextBranch + i) % queues.size();
+        Object item = queues.get(branch).poll();
+        if (item == null) {
+          continue;
+        }
+        nextBranch = branch + 1;
+        if (item == END) {
+          completedBranches++;
+          break;
+        }
+        if (item instanceof Throwable) {
+          stop();
+          throw rethrow((Throwable) item);
+        }
+        return (OResult) item;
+      }
+    }
+    if (completedBranches == queues.size()) {
+      stop();
+    }
+    return null;
+  }
+
+  private boolean awaitResult() {
+    try {
+      while (!ready.tryAcquire(WAIT_INTERVAL, TimeUnit.MILLISECONDS)) {
+        if (stopped) {
+          return false;
+        }
+        if (OExecutionThreadLocal.isInterruptCurrentOperation()) {
+          stop();
+          throw new OCommandInterruptedException("The command has been interrupted");
+        }
+        if (!ctx.checkTimeout()) {
+          stop();
+          return false;
+        }
+      }
+      return true;
+    } catch (InterruptedException e) {
+      stop();
+      Thread.currentThread().interrupt();
+      throw OException.wrapException(new OCommandInterruptedException("The command has been interrupted"), e);
+    } catch (RuntimeException e) {
+      stop();
+      throw e;
+    }
+  }
+
+  private static RuntimeException rethrow(Throwable t) {
+    if (t instanceof RuntimeException) {
+      return (RuntimeException) t;
+    }
+    if (t instanceof Error) {
+      throw (Error) t;
+    }
+    return OException.wrapException(new OCommandExecutionException("Error on parallel execution of the query"), t);
+  }
+
+  /**
+   * Stops the workers, results which are not consumed yet are discarded. Workers do not wait for the completion of the current
+   * batch of results and release their database sessions once they notice that execution is stopped.
+   */
+  void stop() {
+    stopped = true;
+    for (BlockingQueue<Object> queue : queues) {
+      queue.clear();
+    }
+  }
+}
@@ -52,6 +52,11 @@ public class QueryPlanningInfo {
   OAndBlock ridRangeConditions;
   OStorage.LOCKING_STRATEGY lockRecord;
 
+  /**
+   * true if the query contains PARALLEL keyword, so its branches may be executed by the shared pool of workers
+   */
+  boolean parallel = false;
+
   public QueryPlanningInfo copy() {
     //TODO check what has to be copied and what can be just referenced as it is
     QueryPlanningInfo result = new QueryPlanningInfo();
@@ -82,6 +87,7 @@ public class QueryPlanningInfo {
     result.ridRangeConditions = this.ridRangeConditions;
 
     result.lockRecord = this.lockRecord;
+    result.parallel = this.parallel;
     return result;
   }
 }
@@ -0,0 +1,310 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Sorts results of the query which do not fit into memory. Results are accumulated in memory till their amount reaches the size of
+ * run, then they are sorted and written to the temporary file as sorted run. Once all the results are added, sorted runs are merged
+ * lazily, so only the current result of each run is kept in memory.
+ * <p>
+ * Results are written by {@link ResultSpillSerializer}, runs which contain results that can not be restored from the temporary
+ * file stay in memory. Order of results which are equal according to the comparator is not defined once runs are spilled.
+ * Temporary files are removed once sorter is closed.
+ */
+final class ResultSorter implements AutoCloseable {
+  private static final int RUN_BUFFER_SIZE   = 8 * 1024;
+  private static final int SPILL_BUFFER_SIZE = 64 * 1024;
+  private static final int MAX_RUNS_TO_MERGE = 256;
+
+  private final Comparator<OResult> comparator;
+  private final int                 runSize;
+  private final Path                directory;
+
+  private final Comparator<Run> runComparator = (first, second) -> {
+    int cmp = ResultSorter.this.comparator.compare(first.current, second.current);
+    if (cmp != 0) {
+      return cmp;
+    }
+    return Integer.compare(first.order, second.order);
+  };
+
+  private final List<Path> runs       = new ArrayList<>();
+  private final List<Run>  openedRuns = new ArrayList<>();
+
+  private List<OResult> buffer        = new ArrayList<>();
+  private List<OResult> memoryResults = new ArrayList<>();
+
+  private boolean sorted = false;
+
+  /**
+   * @param comparator the order of results
+   * @param runSize    maximum amount of results kept in memory before they are spilled to the disk, 0 or negative value means that
+   *                   results are never spilled
+   * @param directory  directory where temporary files are created
+   */
+  ResultSorter(Comparator<OResult> comparator, int runSize, Path directory) {
+    this.comparator = comparator;
+    this.runSize = runSize;
+    this.directory = directory;
+  }
+
+  void add(OResult result) {
+    if (sorted) {
+      throw new IllegalStateException("Results are already sorted");
+    }
+    buffer.add(result);
+    if (runSize > 0 && buffer.size() >= runSize) {
+      spill();
+    }
+  }
+
+  /**
+   * @return iterator which returns all added results in sorted order. This method may be called only once, no results may be added
+   * after it was called.
+   */
+  Iterator<OResult> sortedResults() {
+    if (sorted) {
+      throw new IllegalStateException("Results are already sorted");
+    }
+    sorted = true;
+
+    memoryResults.addAll(buffer);
+    buffer = null;
+    memoryResults.sort(comparator);
+
+    if (runs.isEmpty()) {
+      return memoryResults.iterator();
+    }
+
+    try {
+      while (runs.size() > MAX_RUNS_TO_MERGE) {
+        mergeRuns();
+      }
+
+      PriorityQueue<Run> queue = new PriorityQueue<>(runs.size() + 1, runComparator);
+      int order = 0;
+      for (Path run : runs) {
+        FileRun fileRun = new FileRun(run, order++);
+        openedRuns.add(fileRun);
+        if (fileRun.next()) {
+          queue.add(fileRun);
+        } else {
+          fileRun.close();
+        }
+      }
+
+      MemoryRun memoryRun = new MemoryRun(memoryResults.iterator(), order);
+      if (memoryRun.next()) {
+        queue.add(memoryRun);
+      }
+      return new MergeIterator(queue);
+    } catch (IOException e) {
+      throw OException.wrapException(new OCommandExecutionException("Error on merge of sorted results of the query"), e);
+    }
+  }
+
+  /**
+   * Removes temporary files created by sorter.
+   */
+  @Override
+  public void close() {
+    buffer = null;
+    memoryResults = null;
+
+    for (Run run : openedRuns) {
+      try {
+        run.close();
+      } catch (IOException e) {
+        OLogManager.instance().error(this, "Can not close temporary file of sorted results", e);
+      }
+    }
+    openedRuns.clear();
+
+    for (Path run : runs) {
+      try {
+        Files.deleteIfExists(run);
+      } catch (IOException e) {
+        OLogManager.instance().error(this, "Can not delete temporary file '%s' of sorted results", e, run);
+      }
+    }
+    runs.clear();
+  }
+
+  /**
+   * Writes the buffer to the temporary file as sorted run, buffer which contains results that can not be written stays in memory.
+   */
+  private void spill() {
+    List<OResult> results = buffer;
+    buffer = new ArrayList<>();
+
+    for (OResult result : results) {
+      if (!ResultSpillSerializer.canBeSpilled(result)) {
+        memoryResults.addAll(results);
+        return;
+      }
+    }
+    results.sort(comparator);
+
+    try {
+      Files.createDirectories(directory);
+      Path run = Files.createTempFile(directory, "orderBy-", ".srt");
+      runs.add(run);
+      try (DataOutputStream output = new DataOutputStream(
+          new BufferedOutputStream(Files.newOutputStream(run), SPILL_BUFFER_SIZE))) {
+        for (OResult result : results) {
+          ResultSpillSerializer.write(output, (OResultInternal) result);
+        }
+      }
+    } catch (IOException e) {
+      throw OException.wrapException(new OCommandExecutionException("Error on spill of sorted results of the query"), e);
+    }
+  }
+
+  /**
+   * Merges the oldest runs into the single run, so amount of files opened at the same time during the final merge is limited.
+   */
+  private void mergeRuns() throws IOException {
+    List<Path> runsToMerge = new ArrayList<>(runs.subList(0, MAX_RUNS_TO_MERGE));
+
+    PriorityQueue<Run> queue = new PriorityQueue<>(runsToMerge.size(), runComparator);
+
+    Path mergedRun = Files.createTempFile(directory, "orderBy-", ".srt");
+    try {
+      int order = 0;
+      for (Path run : runsToMerge) {
+        FileRun fileRun = new FileRun(run, order++);
+        if (fileRun.next()) {
+          queue.add(fileRun);
+        } else {
+          fileRun.close();
+        }
+      }
+
+      try (DataOutputStream output = new DataOutputStream(
+          new BufferedOutputStream(Files.newOutputStream(mergedRun), SPILL_BUFFER_SIZE))) {
+        MergeIterator mergeIterator = new MergeIterator(queue);
+        while (mergeIterator.hasNext()) {
+          ResultSpillSerializer.write(output, (OResultInternal) mergeIterator.next());
+        }
+      }
+    } catch (IOException | RuntimeException e) {
+      for (Run run : queue) {
+        run.close();
+      }
+      Files.deleteIfExists(mergedRun);
+      throw e;
+    }
+
+    for (Path run : runsToMerge) {
+      Files.deleteIfExists(run);
+    }
+    runs.subList(0, MAX_RUNS_TO_MERGE).clear();
+    runs.add(0, mergedRun);
+  }
+
+  private abstract static class Run {
+    private final int order;
+
+    OResult current;
+
+    Run(int order) {
+      this.order = order;
+    }
+
+    abstract boolean next() throws IOException;
+
+    abstract void close() throws IOException;
+  }
+
+  private static final class MemoryRun extends Run {
+    private final Iterator<OResult> iterator;
+
+    private MemoryRun(Iterator<OResult> iterator, int order) {
+      super(order);
+      this.iterator = iterator;
+    }
+
+    @Override
+    boolean next() {
+      if (iterator.hasNext()) {
+        current = iterator.next();
+        return true;
+      }
+      current = null;
+      return false;
+    }
+
+    @Override
+    void close() {
+    }
+  }
+
+  private static final class FileRun extends Run {
+    private final DataInputStream input;
+
+    private FileRun(Path file, int order) throws IOException {
+      super(order);
+      this.input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), RUN_BUFFER_SIZE));
+    }
+
+    @Override
+    boolean next() throws IOException {
+      current = ResultSpillSerializer.read(input);
+      return current != null;
+    }
+
+    @Override
+    void close() throws IOException {
+      input.close();
+    }
+  }
+
+  private static final class MergeIterator implements Iterator<OResult> {
+    private final PriorityQueue<Run> queue;
+
+    private MergeIterator(PriorityQueue<Run> queue) {
+      this.queue = queue;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return !queue.isEmpty();
+    }
+
+    @Override
+    public OResult next() {
+      Run run = queue.poll();
+      if (run == null) {
+        throw new NoSuchElementException();
+      }
+
+      OResult result = run.current;
+      try {
+        if (run.next()) {
+          queue.add(run);
+        } else {
+          run.close();
+        }
+      } catch (IOException e) {
+        throw OException.wrapException(new OCommandExecutionException("Error on merge of sorted results of the query"), e);
+      }
+      return result;
+    }
+  }
+}
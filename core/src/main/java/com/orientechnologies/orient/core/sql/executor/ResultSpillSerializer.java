@@ -0,0 +1,246 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.ORecordInternal;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.record.impl.ODocumentInternal;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.ORecordSerializerBinary;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Writes results of the query to the temporary files and reads them back. Records are written together with their version and
+ * content, so results which are read back contain records as they were when the results were written, even if the records are
+ * deleted or updated in the meantime. Properties of projections and metadata are written as fields of the document serialized by
+ * {@link ORecordSerializerBinary}. Only results which can be restored this way may be written: results which contain new or
+ * changed records, nested results or other values which are not restored by the serializer as values of the same type should be
+ * kept in memory.
+ */
+final class ResultSpillSerializer {
+  private static final byte PROJECTION = 0;
+  private static final byte RECORD     = 1;
+
+  private ResultSpillSerializer() {
+  }
+
+  /**
+   * @return true if result can be restored from the stream as the equivalent result
+   */
+  static boolean canBeSpilled(OResult result) {
+    if (result.getClass() != OResultInternal.class) {
+      return false;
+    }
+    OResultInternal internal = (OResultInternal) result;
+    if (internal.element != null) {
+      if (!(internal.element instanceof ORecord) || !internal.element.getIdentity().isPersistent()) {
+        return false;
+      }
+      if (((ORecord) internal.element).isDirty()) {
+        return false;
+      }
+    }
+    return canBeSpilled(internal.content) && (internal.metadata == null || canBeSpilled(internal.metadata));
+  }
+
+  private static boolean canBeSpilled(Map<String, Object> values) {
+    for (Object value : values.values()) {
+      if (value instanceof ORecordId) {
+        if (!((ORecordId) value).isPersistent()) {
+          return false;
+        }
+      } else if (value instanceof Collection) {
+        if (!(value instanceof List || value instanceof Set)) {
+          return false;
+        }
+        for (Object item : (Collection<?>) value) {
+          if (!isScalar(item)) {
+            return false;
+          }
+        }
+      } else if (value instanceof Map) {
+        for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+          if (!(entry.getKey() instanceof String) || !isScalar(entry.getValue())) {
+            return false;
+          }
+        }
+      } else if (!isScalar(value)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @return true if value is restored by the binary serializer as the value of the same type
+   */
+  private static boolean isScalar(Object value) {
+    return value == null || value instanceof String || value instanceof Integer || value instanceof Long || value instanceof Short
+        || value instanceof Byte || value instanceof Boolean || value instanceof Double || value instanceof Float
+        || value instanceof BigDecimal || value instanceof byte[] || value.getClass() == Date.class;
+  }
+
+  /**
+   * Writes result which passed the {@link #canBeSpilled(OResult)} check.
+   */
+  static void write(DataOutputStream output, OResultInternal result) throws IOException {
+    if (result.element != null) {
+      ORecord record = (ORecord) result.element;
+      ORID rid = record.getIdentity();
+      byte[] content = record.toStream();
+      output.writeByte(RECORD);
+      output.writeShort(rid.getClusterId());
+      output.writeLong(rid.getClusterPosition());
+      output.writeInt(record.getVersion());
+      output.writeByte(ORecordInternal.getRecordType(record));
+      output.writeInt(content.length);
+      output.write(content);
+    } else {
+      output.writeByte(PROJECTION);
+    }
+
+    Map<String, Object> metadata = result.metadata == null ? new HashMap<>() : result.metadata;
+    ODocument values = new ODocument();
+    int field = 0;
+    output.writeInt(result.content.size());
+    for (Map.Entry<String, Object> entry : result.content.entrySet()) {
+      output.writeUTF(entry.getKey());
+      setField(values, field++, entry.getValue());
+    }
+    output.writeInt(metadata.size());
+    for (Map.Entry<String, Object> entry : metadata.entrySet()) {
+      output.writeUTF(entry.getKey());
+      setField(values, field++, entry.getValue());
+    }
+
+    if (field > 0) {
+      byte[] stream = ORecordSerializerBinary.INSTANCE.toStream(values, false);
+      output.writeInt(stream.length);
+      output.write(stream);
+    }
+  }
+
+  /**
+   * Fields of the document are named by position, so names of properties are not restricted by the rules of names of fields.
+   */
+  private static void setField(ODocument document, int field, Object value) {
+    OType type;
+    if (value instanceof ORecordId) {
+      type = OType.LINK;
+    } else if (value instanceof List) {
+      type = OType.EMBEDDEDLIST;
+    } else if (value instanceof Set) {
+      type = OType.EMBEDDEDSET;
+    } else if (value instanceof Map) {
+      type = OType.EMBEDDEDMAP;
+    } else {
+      type = OType.getTypeByValue(value);
+    }
+    ODocumentInternal.rawField(document, "f" + field, value, type);
+  }
+
+  /**
+   * @return the next result or null if the end of the stream is reached
+   */
+  static OResultInternal read(DataInputStream input) throws IOException {
+    int kind;
+    try {
+      kind = input.readByte();
+    } catch (EOFException ignore) {
+      return null;
+    }
+
+    OResultInternal result = new OResultInternal();
+    if (kind == RECORD) {
+      ORecordId rid = new ORecordId(input.readShort(), input.readLong());
+      int version = input.readInt();
+      byte recordType = input.readByte();
+      byte[] content = new byte[input.readInt()];
+      input.readFully(content);
+      result.element = restoreRecord(rid, version, recordType, content);
+    }
+
+    String[] contentNames = new String[input.readInt()];
+    for (int i = 0; i < contentNames.length; i++) {
+      contentNames[i] = input.readUTF();
+    }
+    String[] metadataNames = new String[input.readInt()];
+    for (int i = 0; i < metadataNames.length; i++) {
+      metadataNames[i] = input.readUTF();
+    }
+
+    if (contentNames.length + metadataNames.length > 0) {
+      byte[] stream = new byte[input.readInt()];
+      input.readFully(stream);
+      ODocument values = (ODocument) ORecordSerializerBinary.INSTANCE.fromStream(stream, new ODocument(), null);
+
+      int field = 0;
+      for (String name : contentNames) {
+        result.content.put(name, getField(values, field++));
+      }
+      for (String name : metadataNames) {
+        result.setMetadata(name, getField(values, field++));
+      }
+    }
+    return result;
+  }
+
+  /**
+   * @return record of the local cache if it is not changed since the result was written, otherwise the copy of the record
+   * restored from the written content
+   */
+  private static ORecord restoreRecord(ORecordId rid, int version, byte recordType, byte[] content) {
+    ODatabaseDocumentInternal db = ODatabaseRecordThreadLocal.instance().get();
+    ORecord cached = db.getLocalCache().findRecord(rid);
+    if (cached != null && cached.getVersion() == version && !cached.isDirty()) {
+      return cached;
+    }
+
+    ORecord record = Orient.instance().getRecordFactoryManager().newInstance(recordType, rid.getClusterId(), db);
+    ORecordInternal.setRecordSerializer(record, db.getSerializer());
+    ORecordInternal.fill(record, rid, version, content, false, db);
+    if (record instanceof ODocument) {
+      ODocumentInternal.checkClass((ODocument) record, db);
+    }
+    return record;
+  }
+
+  /**
+   * Collections are copied, so results do not contain collections which track changes of the document.
+   */
+  private static Object getField(ODocument document, int field) {
+    Object value = document.rawField("f" + field);
+    if (value instanceof OIdentifiable) {
+      return ((OIdentifiable) value).getIdentity();
+    }
+    if (value instanceof List) {
+      return new ArrayList<>((List<?>) value);
+    }
+    if (value instanceof Set) {
+      return new LinkedHashSet<>((Set<?>) value);
+    }
+    if (value instanceof Map) {
+      return new LinkedHashMap<>((Map<?, ?>) value);
+    }
+    return value;
+  }
+}
@@ -0,0 +1,115 @@
+/* Generated By:JJTree: Do not edit this line. OCompactClusterStatement.java Version 4.3 */
+/* JavaCCOptions:MULTI=true,NODE_USES_PARSER=false,VISITOR=true,TRACK_TOKENS=true,NODE_PREFIX=O,NODE_EXTENDS=,NODE_FACTORY=,SUPPORT_CLASS_VISIBILITY_PUBLIC=true */
+package com.orientechnologies.orient.core.sql.parser;
+
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentAbstract;
+import com.orientechnologies.orient.core.exception.ODatabaseException;
+import com.orientechnologies.orient.core.sql.executor.OInternalResultSet;
+import com.orientechnologies.orient.core.sql.executor.OResultInternal;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import com.orientechnologies.orient.core.storage.OStorage;
+import com.orientechnologies.orient.core.storage.cluster.OClusterCompactionResult;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+
+import java.util.Map;
+
+public class OCompactClusterStatement extends ODDLStatement {
+
+  public OIdentifier clusterName;
+  public OInteger    clusterNumber;
+
+  public OCompactClusterStatement(int id) {
+    super(id);
+  }
+
+  public OCompactClusterStatement(OrientSql p, int id) {
+    super(p, id);
+  }
+
+  @Override public OResultSet executeDDL(OCommandContext ctx) {
+    ODatabaseDocumentAbstract database = (ODatabaseDocumentAbstract) ctx.getDatabase();
+
+    int clusterId;
+    if (clusterNumber != null) {
+      clusterId = clusterNumber.getValue().intValue();
+    } else {
+      clusterId = database.getClusterIdByName(clusterName.getStringValue());
+    }
+
+    if (clusterId < 0) {
+      throw new ODatabaseException("Cluster with name " + clusterName + " does not exist");
+    }
+
+    final String name = database.getClusterNameById(clusterId);
+    if (name == null) {
+      throw new ODatabaseException("Cluster with id " + clusterId + " does not exist");
+    }
+
+    database.checkForClusterPermissions(name);
+
+    final OStorage storage = database.getStorage().getUnderlying();
+    if (!(storage instanceof OAbstractPaginatedStorage)) {
+      throw new ODatabaseException("Compaction of clusters is not supported by storage " + storage.getName());
+    }
+
+    final OClusterCompactionResult compactionResult = ((OAbstractPaginatedStorage) storage).compactCluster(clusterId);
+
+    OResultInternal result = new OResultInternal();
+    result.setProperty("operation", "compact cluster");
+    result.setProperty("clusterName", name);
+    result.setProperty("clusterId", clusterId);
+    result.setProperty("relocatedRecords", compactionResult.getRelocatedRecords());
+    result.setProperty("releasedPages", compactionResult.getReleasedPages());
+
+    OInternalResultSet rs = new OInternalResultSet();
+    rs.add(result);
+    return rs;
+  }
+
+  /**
+   * Accept the visitor.
+   **/
+  public Object jjtAccept(OrientSqlVisitor visitor, Object data) {
+    return visitor.visit(this, data);
+  }
+
+  @Override public void toString(Map<Object, Object> params, StringBuilder builder) {
+    builder.append("COMPACT CLUSTER ");
+    if (clusterName != null) {
+      clusterName.toString(params, builder);
+    } else if (clusterNumber != null) {
+      clusterNumber.toString(params, builder);
+    }
+  }
+
+  @Override public OCompactClusterStatement copy() {
+    OCompactClusterStatement result = new OCompactClusterStatement(-1);
+    result.clusterName = clusterName == null ? null : clusterName.copy();
+    result.clusterNumber = clusterNumber == null ? null : clusterNumber.copy();
+    return result;
+  }
+
+  @Override public boolean equals(Object o) {
+    if (this == o)
+      return true;
+    if (o == null || getClass() != o.getClass())
+      return false;
+
+    OCompactClusterStatement that = (OCompactClusterStatement) o;
+
+    if (clusterName != null ? !clusterName.equals(that.clusterName) : that.clusterName != null)
+      return false;
+    if (clusterNumber != null ? !clusterNumber.equals(that.clusterNumber) : that.clusterNumber != null)
+      return false;
+
+    return true;
+  }
+
+  @Override public int hashCode() {
+    int result = clusterName != null ? clusterName.hashCode() : 0;
+    result = 31 * result + (clusterNumber != null ? clusterNumber.hashCode() : 0);
+    return result;
+  }
+}
+/* JavaCC - OriginalChecksum=5c1d2e8a7f3b4d6e9a0b1c2d3e4f5a6b (do not edit this line) */
@@ -25,10 +25,12 @@ public class OCreateIndexStatement extends ODDLStatement {
   protected OIndexName  name;
   protected OIdentifier className;
   protected List<Property> propertyList = new ArrayList<Property>();
+  protected List<OIdentifier> includedFields = new ArrayList<OIdentifier>();
   protected OIdentifier type;
   protected OIdentifier engine;
   protected List<OIdentifier> keyTypes = new ArrayList<OIdentifier>();
   protected OJson metadata;
+  protected OWhereClause where;
   protected boolean ifNotExists = false;
 
   public OCreateIndexStatement(int id) {
@@ -68,6 +70,10 @@ public class OCreateIndexStatement extends ODDLStatement {
     String engine = this.engine == null ? null : this.engine.getStringValue().toUpperCase(Locale.ENGLISH);
     ODocument metadataDoc = calculateMetadata(ctx);
 
+    if (where != null && (className == null || propertyList == null || propertyList.size() == 0)) {
+      throw new OCommandExecutionException("Filter can be defined only for index on properties of a class: " + toString());
+    }
+
     if (propertyList == null || propertyList.size() == 0) {
       OIndexFactory factory = OIndexes.getFactory(type.getStringValue(), null);
 
@@ -107,7 +113,11 @@ public class OCreateIndexStatement extends ODDLStatement {
     } else {
       String[] fields = calculateProperties(ctx);
       OClass oClass = getIndexClass(ctx);
-      idx = getoIndex(oClass, fields, engine, database, collatesList, metadataDoc);
+      if (includedFields != null && !includedFields.isEmpty()) {
+        idx = createCoveringIndex(oClass, fields, engine, database, collatesList, metadataDoc);
+      } else {
+        idx = getoIndex(oClass, fields, engine, database, collatesList, metadataDoc);
+      }
     }
 
     if (idx != null)
@@ -119,7 +129,7 @@ public class OCreateIndexStatement extends ODDLStatement {
   private OIndex<?> getoIndex(OClass oClass, String[] fields, String engine, ODatabase database, List<OCollate> collatesList,
       ODocument metadataDoc) {
     OIndex<?> idx;
-    if ((keyTypes == null || keyTypes.size() == 0) && collatesList == null) {
+    if ((keyTypes == null || keyTypes.size() == 0) && collatesList == null && where == null) {
 
       idx = oClass.createIndex(name.getValue(), type.getStringValue(), null, metadataDoc, engine, fields);
     } else {
@@ -137,6 +147,7 @@ public class OCreateIndexStatement extends ODDLStatement {
 
       final OIndexDefinition idxDef = OIndexDefinitionFactory
           .createIndexDefinition(oClass, Arrays.asList(fields), fieldTypeList, collatesList, type.getStringValue(), null);
+      applyFilter(idxDef);
 
       idx = database.getMetadata().getIndexManager()
           .createIndex(name.getValue(), type.getStringValue(), idxDef, oClass.getPolymorphicClusterIds(), null, metadataDoc,
@@ -145,6 +156,66 @@ public class OCreateIndexStatement extends ODDLStatement {
     return idx;
   }
 
+  /**
+   * creates an index that stores the values of the included fields after the values of the key fields, so that queries that need
+   * only these fields can be answered without loading the records
+   */
+  private OIndex<?> createCoveringIndex(OClass oClass, String[] fields, String engine, ODatabase database,
+      List<OCollate> collatesList, ODocument metadataDoc) {
+    if (!OClass.INDEX_TYPE.NOTUNIQUE.name().equalsIgnoreCase(type.getStringValue())) {
+      throw new OCommandExecutionException(
+          "Included fields are supported only by " + OClass.INDEX_TYPE.NOTUNIQUE + " indexes, index " + name + " has type "
+              + type);
+    }
+
+    List<String> allFields = new ArrayList<>(Arrays.asList(fields));
+    for (OIdentifier includedField : includedFields) {
+      String fieldName = includedField.getStringValue();
+      if (allFields.contains(fieldName)) {
+        throw new OCommandExecutionException("Field " + fieldName + " is included into index " + name + " more than once");
+      }
+      allFields.add(fieldName);
+    }
+
+    final List<OType> fieldTypeList;
+    if (keyTypes == null || keyTypes.size() == 0) {
+      for (final String fieldName : allFields) {
+        if (!fieldName.equals("@rid") && !oClass.existsProperty(OIndexDefinitionFactory.extractFieldName(fieldName)))
+          throw new OIndexException(
+              "Index with name : '" + name.getValue() + "' cannot be created on class : '" + oClass.getName()
+                  + "' because field: '" + fieldName + "' is absent in class definition.");
+      }
+      fieldTypeList = ((OClassImpl) oClass).extractFieldTypes(allFields.toArray(new String[] {}));
+    } else {
+      fieldTypeList = keyTypes.stream().map(x -> OType.valueOf(x.getStringValue())).collect(Collectors.toList());
+    }
+
+    List<OCollate> collates = null;
+    if (collatesList != null) {
+      collates = new ArrayList<>(collatesList);
+      while (collates.size() < allFields.size()) {
+        collates.add(null);
+      }
+    }
+
+    final OIndexDefinition idxDef = OIndexDefinitionFactory
+        .createIndexDefinition(oClass, allFields, fieldTypeList, collates, type.getStringValue(), null);
+    ((OCompositeIndexDefinition) idxDef).setIncludedFieldsCount(includedFields.size());
+    applyFilter(idxDef);
+
+    return database.getMetadata().getIndexManager()
+        .createIndex(name.getValue(), type.getStringValue(), idxDef, oClass.getPolymorphicClusterIds(), null, metadataDoc, engine);
+  }
+
+  /**
+   * makes the index partial, so that it contains only the records that match the WHERE condition of the statement
+   */
+  private void applyFilter(OIndexDefinition idxDef) {
+    if (where != null) {
+      idxDef.setFilter(where.toString());
+    }
+  }
+
   /***
    * returns the list of property names to be indexed
    *
@@ -246,6 +317,18 @@ public class OCreateIndexStatement extends ODDLStatement {
         first = false;
       }
       builder.append(")");
+      if (includedFields != null && includedFields.size() > 0) {
+        builder.append(" INCLUDE (");
+        first = true;
+        for (OIdentifier includedField : includedFields) {
+          if (!first) {
+            builder.append(", ");
+          }
+          includedField.toString(params, builder);
+          first = false;
+        }
+        builder.append(")");
+      }
     }
     builder.append(" ");
     type.toString(params, builder);
@@ -268,6 +351,10 @@ public class OCreateIndexStatement extends ODDLStatement {
       builder.append(" METADATA ");
       metadata.toString(params, builder);
     }
+    if (where != null) {
+      builder.append(" WHERE ");
+      where.toString(params, builder);
+    }
   }
 
   @Override
@@ -276,10 +363,13 @@ public class OCreateIndexStatement extends ODDLStatement {
     result.name = name == null ? null : name.copy();
     result.className = className == null ? null : className.copy();
     result.propertyList = propertyList == null ? null : propertyList.stream().map(x -> x.copy()).collect(Collectors.toList());
+    result.includedFields =
+        includedFields == null ? null : includedFields.stream().map(x -> x.copy()).collect(Collectors.toList());
     result.type = type == null ? null : type.copy();
     result.engine = engine == null ? null : engine.copy();
     result.keyTypes = keyTypes == null ? null : keyTypes.stream().map(x -> x.copy()).collect(Collectors.toList());
     result.metadata = metadata == null ? null : metadata.copy();
+    result.where = where == null ? null : where.copy();
     return result;
   }
 
@@ -298,6 +388,8 @@ public class OCreateIndexStatement extends ODDLStatement {
       return false;
     if (propertyList != null ? !propertyList.equals(that.propertyList) : that.propertyList != null)
       return false;
+    if (includedFields != null ? !includedFields.equals(that.includedFields) : that.includedFields != null)
+      return false;
     if (type != null ? !type.equals(that.type) : that.type != null)
       return false;
     if (engine != null ? !engine.equals(that.engine) : that.engine != null)
@@ -306,6 +398,8 @@ public class OCreateIndexStatement extends ODDLStatement {
       return false;
     if (metadata != null ? !metadata.equals(that.metadata) : that.metadata != null)
       return false;
+    if (where != null ? !where.equals(that.where) : that.where != null)
+      return false;
 
     return true;
   }
@@ -315,10 +409,12 @@ public class OCreateIndexStatement extends ODDLStatement {
     int result = name != null ? name.hashCode() : 0;
     result = 31 * result + (className != null ? className.hashCode() : 0);
     result = 31 * result + (propertyList != null ? propertyList.hashCode() : 0);
+    result = 31 * result + (includedFields != null ? includedFields.hashCode() : 0);
     result = 31 * result + (type != null ? type.hashCode() : 0);
     result = 31 * result + (engine != null ? engine.hashCode() : 0);
     result = 31 * result + (keyTypes != null ? keyTypes.hashCode() : 0);
     result = 31 * result + (metadata != null ? metadata.hashCode() : 0);
+    result = 31 * result + (where != null ? where.hashCode() : 0);
     return result;
   }
 
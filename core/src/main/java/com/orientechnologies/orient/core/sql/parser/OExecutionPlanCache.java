@@ -2,42 +2,63 @@ package com.orientechnologies.orient.core.sql.parser;
 
 import com.orientechnologies.orient.core.command.OBasicCommandContext;
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OStorageClusterConfiguration;
 import com.orientechnologies.orient.core.config.OStorageConfiguration;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
 import com.orientechnologies.orient.core.db.OMetadataUpdateListener;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.index.OIndexDefinition;
 import com.orientechnologies.orient.core.index.OIndexManagerAbstract;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OProperty;
 import com.orientechnologies.orient.core.metadata.schema.OSchemaShared;
+import com.orientechnologies.orient.core.sql.OCommandSQLParsingException;
 import com.orientechnologies.orient.core.sql.executor.OExecutionPlan;
 import com.orientechnologies.orient.core.sql.executor.OInternalExecutionPlan;
 
-import java.util.LinkedHashMap;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * This class is an LRU cache for already prepared SQL execution plans. It stores itself in the storage as a resource. It also acts
  * an an entry point for the SQL executor.
+ * <p>
+ * Plans are cached by the normalized text of their statements and are read without locks, the least recently used plans are
+ * evicted once the cache is full. On changes of metadata the cache compares the new metadata with the state seen on the previous
+ * change and removes only the plans which statements mention the changed classes, their superclasses and subclasses, the changed
+ * indexes, clusters or functions.
  *
  * @author Luigi Dell'Aquila (l.dellaquila-(at)-orientdb.com)
  */
 public class OExecutionPlanCache implements OMetadataUpdateListener {
 
-  Map<String, OInternalExecutionPlan> map;
-  int                                 mapSize;
+  final ConcurrentMap<String, Entry> map = new ConcurrentHashMap<>();
+  final int                          mapSize;
 
-  protected long lastInvalidation = -1;
+  protected volatile long lastInvalidation = -1;
+
+  private final LongAdder hits          = new LongAdder();
+  private final LongAdder misses        = new LongAdder();
+  private final LongAdder evictions     = new LongAdder();
+  private final LongAdder invalidations = new LongAdder();
+
+  //state of metadata seen on the previous change, null if it is unknown, guarded by this
+  private Map<String, ClassState> classes         = null;
+  private Map<String, IndexState> indexes         = null;
+  private Map<Integer, String>    clusters        = null;
+  private String                  storageSettings = null;
+  private Set<String>             functions       = null;
 
   /**
    * @param size the size of the cache
    */
   public OExecutionPlanCache(int size) {
     this.mapSize = size;
-    map = new LinkedHashMap<String, OInternalExecutionPlan>(size) {
-      protected boolean removeEldestEntry(final Map.Entry<String, OInternalExecutionPlan> eldest) {
-        return super.size() > mapSize;
-      }
-    };
   }
 
   public static long getLastInvalidation(ODatabaseDocumentInternal db) {
@@ -46,9 +67,7 @@ public class OExecutionPlanCache implements OMetadataUpdateListener {
     }
 
     OExecutionPlanCache resource = db.getSharedContext().getExecutionPlanCache();
-    synchronized (resource) {
-      return resource.lastInvalidation;
-    }
+    return resource.lastInvalidation;
   }
 
   /**
@@ -57,15 +76,20 @@ public class OExecutionPlanCache implements OMetadataUpdateListener {
    * @return true if the corresponding executor is present in the cache
    */
   public boolean contains(String statement) {
-    synchronized (map) {
-      return map.containsKey(statement);
+    if (map.containsKey(statement)) {
+      return true;
+    }
+    try {
+      return map.containsKey(OStatementCache.parse(statement).getNormalizedStatement());
+    } catch (OCommandSQLParsingException e) {
+      return false;
     }
   }
 
   /**
    * returns an already prepared SQL execution plan, taking it from the cache if it exists or creating a new one if it doesn't
    *
-   * @param statement the SQL statement
+   * @param statement the normalized SQL statement
    * @param ctx
    * @param db        the current DB instance
    *
@@ -97,17 +121,19 @@ public class OExecutionPlanCache implements OMetadataUpdateListener {
   }
 
   public void putInternal(String statement, OExecutionPlan plan, ODatabaseDocument db) {
-    if (statement == null) {
+    if (statement == null || mapSize <= 0) {
       return;
     }
-    synchronized (map) {
-      OInternalExecutionPlan internal = (OInternalExecutionPlan) plan;
-      OBasicCommandContext ctx = new OBasicCommandContext();
-      ctx.setDatabase(db);
-      internal = internal.copy(ctx);
-      //this copy is never used, so it has to be closed to free resources
-      internal.close();
-      map.put(statement, internal);
+    OInternalExecutionPlan internal = (OInternalExecutionPlan) plan;
+    OBasicCommandContext ctx = new OBasicCommandContext();
+    ctx.setDatabase(db);
+    internal = internal.copy(ctx);
+    //this copy is never used, so it has to be closed to free resources
+    internal.close();
+    map.put(statement, new Entry(internal, statement.toLowerCase(Locale.ENGLISH)));
+
+    while (map.size() > mapSize) {
+      evictLeastRecentlyUsed();
     }
   }
 
@@ -118,54 +144,231 @@ public class OExecutionPlanCache implements OMetadataUpdateListener {
    * @return the corresponding executor, taking it from the internal cache, if it exists
    */
   public OExecutionPlan getInternal(String statement, OCommandContext ctx, ODatabaseDocumentInternal db) {
-    OInternalExecutionPlan result;
     if (statement == null) {
       return null;
     }
-    synchronized (map) {
-      //LRU
-      result = map.remove(statement);
-      if (result != null) {
-        map.put(statement, result);
-        result = result.copy(ctx);
-      }
+    Entry entry = map.get(statement);
+    if (entry == null) {
+      misses.increment();
+      return null;
     }
+    hits.increment();
+    entry.lastAccess = System.nanoTime();
+    return entry.plan.copy(ctx);
+  }
 
-    return result;
+  /**
+   * @return amount of plans found in the cache
+   */
+  public long getHits() {
+    return hits.sum();
+  }
+
+  /**
+   * @return amount of plans which were not found in the cache
+   */
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  /**
+   * @return amount of plans removed from the cache because it was full
+   */
+  public long getEvictions() {
+    return evictions.sum();
+  }
+
+  /**
+   * @return amount of plans removed from the cache because of changes of metadata
+   */
+  public long getInvalidations() {
+    return invalidations.sum();
+  }
+
+  /**
+   * @return amount of plans in the cache
+   */
+  public int size() {
+    return map.size();
   }
 
   public void invalidate() {
     synchronized (this) {
-      synchronized (map) {
-        map.clear();
+      removeAll();
+      classes = null;
+      indexes = null;
+      clusters = null;
+      storageSettings = null;
+      functions = null;
+    }
+  }
+
+  private void removeAll() {
+    lastInvalidation = System.currentTimeMillis();
+    for (Map.Entry<String, Entry> entry : map.entrySet()) {
+      if (map.remove(entry.getKey(), entry.getValue())) {
+        invalidations.increment();
+      }
+    }
+  }
+
+  /**
+   * Removes plans which statements mention any of the passed in names of metadata.
+   *
+   * @param names lower case names of classes, indexes, clusters or functions
+   */
+  private void invalidate(Set<String> names) {
+    if (names.isEmpty()) {
+      return;
+    }
+    lastInvalidation = System.currentTimeMillis();
+    for (Map.Entry<String, Entry> entry : map.entrySet()) {
+      if (entry.getValue().mentionsAny(names) && map.remove(entry.getKey(), entry.getValue())) {
+        invalidations.increment();
+      }
+    }
+  }
+
+  private void evictLeastRecentlyUsed() {
+    Map.Entry<String, Entry> eldest = null;
+    for (Map.Entry<String, Entry> entry : map.entrySet()) {
+      if (eldest == null || entry.getValue().lastAccess - eldest.getValue().lastAccess < 0) {
+        eldest = entry;
       }
-      lastInvalidation = System.currentTimeMillis();
+    }
+    if (eldest != null && map.remove(eldest.getKey(), eldest.getValue())) {
+      evictions.increment();
     }
   }
 
   @Override
-  public void onSchemaUpdate(String database, OSchemaShared schema) {
-    invalidate();
+  public synchronized void onSchemaUpdate(String database, OSchemaShared schema) {
+    Map<String, ClassState> newClasses;
+    try {
+      ODatabaseDocumentInternal db = ODatabaseRecordThreadLocal.instance().getIfDefined();
+      newClasses = new HashMap<>();
+      for (OClass clazz : schema.makeSnapshot(db).getClasses()) {
+        newClasses.put(clazz.getName().toLowerCase(Locale.ENGLISH), new ClassState(clazz));
+      }
+    } catch (RuntimeException e) {
+      //the new state is unknown, so it can not be compared with the next one
+      removeAll();
+      classes = null;
+      return;
+    }
+
+    if (classes == null) {
+      removeAll();
+    } else {
+      Set<String> changed = new HashSet<>();
+      addChanged(classes, newClasses, changed);
+      invalidate(withHierarchy(changed, newClasses));
+    }
+    classes = newClasses;
   }
 
   @Override
-  public void onIndexManagerUpdate(String database, OIndexManagerAbstract indexManager) {
-    invalidate();
+  public synchronized void onIndexManagerUpdate(String database, OIndexManagerAbstract indexManager) {
+    Map<String, IndexState> newIndexes;
+    try {
+      ODatabaseDocumentInternal db = ODatabaseRecordThreadLocal.instance().getIfDefined();
+      newIndexes = new HashMap<>();
+      for (OIndex<?> index : indexManager.getIndexes(db)) {
+        newIndexes.put(index.getName().toLowerCase(Locale.ENGLISH), new IndexState(index));
+      }
+    } catch (RuntimeException e) {
+      removeAll();
+      indexes = null;
+      return;
+    }
+
+    if (indexes == null || classes == null) {
+      removeAll();
+    } else {
+      Set<String> changed = new HashSet<>();
+      addChanged(indexes, newIndexes, changed);
+      Set<String> changedClasses = new HashSet<>();
+      for (String name : changed) {
+        addClassName(indexes.get(name), changedClasses);
+        addClassName(newIndexes.get(name), changedClasses);
+      }
+      changed.addAll(withHierarchy(changedClasses, classes));
+      invalidate(changed);
+    }
+    indexes = newIndexes;
   }
 
   @Override
-  public void onFunctionLibraryUpdate(String database) {
-    invalidate();
+  public synchronized void onFunctionLibraryUpdate(String database) {
+    Set<String> newFunctions;
+    try {
+      ODatabaseDocumentInternal db = ODatabaseRecordThreadLocal.instance().get();
+      newFunctions = new HashSet<>();
+      for (String name : db.getMetadata().getFunctionLibrary().getFunctionNames()) {
+        newFunctions.add(name.toLowerCase(Locale.ENGLISH));
+      }
+    } catch (RuntimeException e) {
+      removeAll();
+      functions = null;
+      return;
+    }
+
+    //the event does not tell which function is changed, so all the plans which mention any of the functions are removed
+    Set<String> changed = new HashSet<>(newFunctions);
+    if (functions != null) {
+      changed.addAll(functions);
+    }
+    invalidate(changed);
+    functions = newFunctions;
   }
 
   @Override
   public void onSequenceLibraryUpdate(String database) {
-    invalidate();
+    //sequences are looked up when the statement is executed, so plans do not depend on them
   }
 
   @Override
-  public void onStorageConfigurationUpdate(String database, OStorageConfiguration update) {
-    invalidate();
+  public synchronized void onStorageConfigurationUpdate(String database, OStorageConfiguration update) {
+    if (update == null) {
+      removeAll();
+      clusters = null;
+      return;
+    }
+    Map<Integer, String> newClusters = new HashMap<>();
+    for (OStorageClusterConfiguration cluster : update.getClusters()) {
+      if (cluster != null && cluster.getName() != null) {
+        newClusters.put(cluster.getId(), cluster.getName().toLowerCase(Locale.ENGLISH));
+      }
+    }
+    //settings which are used to parse values of the statements
+    String newSettings =
+        update.getCharset() + "|" + update.getDateFormat() + "|" + update.getDateTimeFormat() + "|" + update.getTimeZone() + "|"
+            + update.getLocaleLanguage() + "|" + update.getLocaleCountry() + "|" + update.getClusterSelection() + "|" + update
+            .getConflictStrategy();
+
+    if (clusters == null || !newSettings.equals(storageSettings)) {
+      removeAll();
+    } else {
+      Set<String> changed = new HashSet<>();
+      Set<Integer> ids = new HashSet<>(clusters.keySet());
+      ids.addAll(newClusters.keySet());
+      for (Integer id : ids) {
+        String oldName = clusters.get(id);
+        String newName = newClusters.get(id);
+        if (!Objects.equals(oldName, newName)) {
+          changed.add(String.valueOf(id));
+          if (oldName != null) {
+            changed.add(oldName);
+          }
+          if (newName != null) {
+            changed.add(newName);
+          }
+        }
+      }
+      invalidate(changed);
+    }
+    clusters = newClusters;
+    storageSettings = newSettings;
   }
 
   public static OExecutionPlanCache instance(ODatabaseDocumentTx db) {
@@ -176,4 +379,170 @@ public class OExecutionPlanCache implements OMetadataUpdateListener {
     OExecutionPlanCache resource = db.getSharedContext().getExecutionPlanCache();
     return resource;
   }
+
+  private static <T> void addChanged(Map<String, T> oldState, Map<String, T> newState, Set<String> changed) {
+    for (Map.Entry<String, T> entry : oldState.entrySet()) {
+      if (!entry.getValue().equals(newState.get(entry.getKey()))) {
+        changed.add(entry.getKey());
+      }
+    }
+    for (String name : newState.keySet()) {
+      if (!oldState.containsKey(name)) {
+        changed.add(name);
+      }
+    }
+  }
+
+  private static void addClassName(IndexState index, Set<String> classNames) {
+    if (index != null && index.className != null) {
+      classNames.add(index.className);
+    }
+  }
+
+  /**
+   * Plans of the superclasses depend on the clusters of their subclasses, while plans of the subclasses depend on the properties
+   * and the indexes of their superclasses.
+   *
+   * @return passed in classes together with all their superclasses and subclasses
+   */
+  private static Set<String> withHierarchy(Set<String> classNames, Map<String, ClassState> classes) {
+    Set<String> result = new HashSet<>(classNames);
+
+    Deque<String> toVisit = new ArrayDeque<>(classNames);
+    while (!toVisit.isEmpty()) {
+      ClassState state = classes.get(toVisit.poll());
+      if (state != null) {
+        for (String superClass : state.superClasses) {
+          if (result.add(superClass)) {
+            toVisit.add(superClass);
+          }
+        }
+      }
+    }
+
+    Set<String> subclasses = new HashSet<>(classNames);
+    boolean added = true;
+    while (added) {
+      added = false;
+      for (Map.Entry<String, ClassState> entry : classes.entrySet()) {
+        if (!subclasses.contains(entry.getKey()) && !Collections.disjoint(entry.getValue().superClasses, subclasses)) {
+          subclasses.add(entry.getKey());
+          added = true;
+        }
+      }
+    }
+    result.addAll(subclasses);
+    return result;
+  }
+
+  static final class Entry {
+    private final OInternalExecutionPlan plan;
+    private final String                 lowerCaseStatement;
+    private volatile long lastAccess = System.nanoTime();
+
+    private Entry(OInternalExecutionPlan plan, String lowerCaseStatement) {
+      this.plan = plan;
+      this.lowerCaseStatement = lowerCaseStatement;
+    }
+
+    /**
+     * Name is considered mentioned if it is not a part of a longer identifier, so the check may only find more dependencies than
+     * the plan actually has.
+     */
+    private boolean mentionsAny(Set<String> names) {
+      for (String name : names) {
+        int from = 0;
+        int found;
+        while (!name.isEmpty() && (found = lowerCaseStatement.indexOf(name, from)) >= 0) {
+          int end = found + name.length();
+          if ((found == 0 || !isIdentifierPart(lowerCaseStatement.charAt(found - 1))) && (end == lowerCaseStatement.length()
+              || !isIdentifierPart(lowerCaseStatement.charAt(end)))) {
+            return true;
+          }
+          from = found + 1;
+        }
+      }
+      return false;
+    }
+
+    private static boolean isIdentifierPart(char c) {
+      return Character.isLetterOrDigit(c) || c == '_' || c == '$';
+    }
+  }
+
+  /**
+   * Part of the class definition which may be used by planning.
+   */
+  private static final class ClassState {
+    private final List<String> superClasses = new ArrayList<>();
+    private final String       definition;
+
+    private ClassState(OClass clazz) {
+      for (String superClass : clazz.getSuperClassesNames()) {
+        superClasses.add(superClass.toLowerCase(Locale.ENGLISH));
+      }
+
+      StringBuilder builder = new StringBuilder();
+      builder.append(clazz.getName()).append(superClasses).append(Arrays.toString(clazz.getClusterIds()))
+          .append(Arrays.toString(clazz.getPolymorphicClusterIds())).append(clazz.getDefaultClusterId()).append(clazz.isAbstract())
+          .append(clazz.isStrictMode());
+      if (clazz.getClusterSelection() != null) {
+        builder.append(clazz.getClusterSelection().getName());
+      }
+      List<OProperty> properties = new ArrayList<>(clazz.declaredProperties());
+      properties.sort(Comparator.comparing(OProperty::getName));
+      for (OProperty property : properties) {
+        builder.append('|').append(property.getName()).append(':').append(property.getType()).append(':')
+            .append(property.getLinkedType()).append(':')
+            .append(property.getLinkedClass() == null ? null : property.getLinkedClass().getName()).append(':')
+            .append(property.getCollate() == null ? null : property.getCollate().getName());
+      }
+      definition = builder.toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof ClassState && definition.equals(((ClassState) o).definition);
+    }
+
+    @Override
+    public int hashCode() {
+      return definition.hashCode();
+    }
+  }
+
+  /**
+   * Part of the index definition which may be used by planning.
+   */
+  private static final class IndexState {
+    private final String className;
+    private final String definition;
+
+    private IndexState(OIndex<?> index) {
+      OIndexDefinition indexDefinition = index.getDefinition();
+      StringBuilder builder = new StringBuilder();
+      builder.append(index.getName()).append(':').append(index.getType()).append(':').append(index.getAlgorithm()).append(':')
+          .append(new TreeSet<>(index.getClusters()));
+      if (indexDefinition == null) {
+        className = null;
+      } else {
+        className = indexDefinition.getClassName() == null ? null : indexDefinition.getClassName().toLowerCase(Locale.ENGLISH);
+        builder.append(':').append(indexDefinition.getClassName()).append(':').append(indexDefinition.getFields()).append(':')
+            .append(Arrays.toString(indexDefinition.getTypes())).append(':')
+            .append(indexDefinition.getCollate() == null ? null : indexDefinition.getCollate().getName()).append(':')
+            .append(indexDefinition.isNullValuesIgnored()).append(':').append(indexDefinition.getFilter());
+      }
+      definition = builder.toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof IndexState && definition.equals(((IndexState) o).definition);
+    }
+
+    @Override
+    public int hashCode() {
+      return definition.hashCode();
+    }
+  }
 }
@@ -315,6 +315,10 @@ public class OProjectionItem extends SimpleNode {
     }
   }
 
+  public ONestedProjection getNestedProjection() {
+    return nestedProjection;
+  }
+
   public void setNestedProjection(ONestedProjection nestedProjection) {
     this.nestedProjection = nestedProjection;
   }
@@ -22,6 +22,9 @@ public class OStatement extends SimpleNode {
   //only for internal use!!! (caching and profiling)
   protected String originalStatement;
 
+  //text of the statement produced from its syntax tree, lazily calculated for the execution plan cache
+  private volatile String normalizedStatement;
+
   public static final String CUSTOM_STRICT_SQL = "strictSql";
 
   public OStatement(int id) {
@@ -144,5 +147,18 @@ public class OStatement extends SimpleNode {
   public void setOriginalStatement(String originalStatement) {
     this.originalStatement = originalStatement;
   }
+
+  /**
+   * @return text of the statement produced from its syntax tree, so statements which differ only in whitespaces or in case of
+   * keywords have the same normalized text
+   */
+  public String getNormalizedStatement() {
+    String result = normalizedStatement;
+    if (result == null) {
+      result = toString();
+      normalizedStatement = result;
+    }
+    return result;
+  }
 }
 /* JavaCC - OriginalChecksum=589c4dcc8287f430e46d8eb12b0412c5 (do not edit this line) */
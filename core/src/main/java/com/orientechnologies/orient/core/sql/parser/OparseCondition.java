@@ -0,0 +1,21 @@
+/* Generated By:JJTree: Do not edit this line. OparseCondition.java Version 4.3 */
+/* JavaCCOptions:MULTI=true,NODE_USES_PARSER=false,VISITOR=true,TRACK_TOKENS=true,NODE_PREFIX=O,NODE_EXTENDS=,NODE_FACTORY=,SUPPORT_CLASS_VISIBILITY_PUBLIC=true */
+package com.orientechnologies.orient.core.sql.parser;
+
+public
+class OparseCondition extends SimpleNode {
+  public OparseCondition(int id) {
+    super(id);
+  }
+
+  public OparseCondition(OrientSql p, int id) {
+    super(p, id);
+  }
+
+
+  /** Accept the visitor. **/
+  public Object jjtAccept(OrientSqlVisitor visitor, Object data) {
+    return visitor.visit(this, data);
+  }
+}
+/* JavaCC - OriginalChecksum=facae05eef434c81e69ee869541c0a4c (do not edit this line) */
@@ -5,202 +5,205 @@ public interface OrientSqlTreeConstants
 {
   public int JJTRID = 0;
   public int JJTPARSE = 1;
-  public int JJTPARSESCRIPT = 2;
-  public int JJTSTRING = 3;
-  public int JJTIDENTIFIER = 4;
-  public int JJTINTEGER = 5;
-  public int JJTFLOATINGPOINT = 6;
-  public int JJTNUMBER = 7;
-  public int JJTSTATEMENT = 8;
-  public int JJTSTATEMENTSEMICOLON = 9;
-  public int JJTSTATEMENTINTERNAL = 10;
-  public int JJTQUERYSTATEMENT = 11;
-  public int JJTSELECTWITHOUTTARGETSTATEMENT = 12;
-  public int JJTSELECTSTATEMENT = 13;
-  public int JJTTRAVERSESTATEMENT = 14;
-  public int JJTMATCHSTATEMENT = 15;
-  public int JJTDELETESTATEMENT = 16;
-  public int JJTDELETEVERTEXSTATEMENT = 17;
-  public int JJTDELETEEDGESTATEMENT = 18;
-  public int JJTDELETEEDGEBYRIDSTATEMENT = 19;
-  public int JJTDELETEEDGEFROMTOSTATEMENT = 20;
-  public int JJTDELETEEDGETOSTATEMENT = 21;
-  public int JJTDELETEEDGEVTOSTATEMENT = 22;
-  public int JJTDELETEEDGEWHERESTATEMENT = 23;
-  public int JJTUPDATEEDGESTATEMENT = 24;
-  public int JJTUPDATESTATEMENT = 25;
-  public int JJTUPDATEOPERATIONS = 26;
-  public int JJTUPDATEITEM = 27;
-  public int JJTUPDATEINCREMENTITEM = 28;
-  public int JJTUPDATEREMOVEITEM = 29;
-  public int JJTUPDATEPUTITEM = 30;
-  public int JJTUPDATEADDITEM = 31;
-  public int JJTINSERTSTATEMENT = 32;
-  public int JJTINSERTBODY = 33;
-  public int JJTCREATEVERTEXSTATEMENTEMPTYNOTARGET = 34;
-  public int JJTCREATEVERTEXSTATEMENTEMPTY = 35;
-  public int JJTCREATEVERTEXSTATEMENT = 36;
-  public int JJTCREATEVERTEXSTATEMENTNOTARGET = 37;
-  public int JJTMOVEVERTEXSTATEMENT = 38;
-  public int JJTCREATEEDGESTATEMENT = 39;
-  public int JJTINPUTPARAMETER = 40;
-  public int JJTPOSITIONALPARAMETER = 41;
-  public int JJTNAMEDPARAMETER = 42;
-  public int JJTPROJECTION = 43;
-  public int JJTPROJECTIONITEM = 44;
-  public int JJTNESTEDPROJECTION = 45;
-  public int JJTNESTEDPROJECTIONITEM = 46;
-  public int JJTARRAYSELECTOR = 47;
-  public int JJTARRAYNUMBERSELECTOR = 48;
-  public int JJTARRAYSINGLEVALUESSELECTOR = 49;
-  public int JJTARRAYRANGESELECTOR = 50;
-  public int JJTALIAS = 51;
-  public int JJTRECORDATTRIBUTE = 52;
-  public int JJTFUNCTIONCALL = 53;
-  public int JJTMETHODCALL = 54;
-  public int JJTLEVELZEROIDENTIFIER = 55;
-  public int JJTSUFFIXIDENTIFIER = 56;
-  public int JJTBASEIDENTIFIER = 57;
-  public int JJTMODIFIER = 58;
-  public int JJTEXPRESSION = 59;
-  public int JJTARRAYCONCATEXPRESSION = 60;
-  public int JJTARRAYCONCATEXPRESSIONELEMENT = 61;
-  public int JJTMATHEXPRESSION = 62;
-  public int JJTFIRSTLEVELEXPRESSION = 63;
-  public int JJTPARENTHESISEXPRESSION = 64;
-  public int JJTBASEEXPRESSION = 65;
-  public int JJTFROMCLAUSE = 66;
-  public int JJTLETCLAUSE = 67;
-  public int JJTLETITEM = 68;
-  public int JJTFROMITEM = 69;
-  public int JJTCLUSTER = 70;
-  public int JJTCLUSTERLIST = 71;
-  public int JJTMETADATAIDENTIFIER = 72;
-  public int JJTINDEXNAME = 73;
-  public int JJTINDEXIDENTIFIER = 74;
-  public int JJTWHERECLAUSE = 75;
-  public int JJTORBLOCK = 76;
-  public int JJTANDBLOCK = 77;
-  public int JJTNOTBLOCK = 78;
-  public int JJTPARENTHESISBLOCK = 79;
-  public int JJTCONDITIONBLOCK = 80;
-  public int JJTCOMPAREOPERATOR = 81;
-  public int JJTLTOPERATOR = 82;
-  public int JJTGTOPERATOR = 83;
-  public int JJTNEOPERATOR = 84;
-  public int JJTNEQOPERATOR = 85;
-  public int JJTGEOPERATOR = 86;
-  public int JJTLEOPERATOR = 87;
-  public int JJTLIKEOPERATOR = 88;
-  public int JJTLUCENEOPERATOR = 89;
-  public int JJTNEAROPERATOR = 90;
-  public int JJTWITHINOPERATOR = 91;
-  public int JJTSCANDOPERATOR = 92;
-  public int JJTCONTAINSKEYOPERATOR = 93;
-  public int JJTCONTAINSVALUEOPERATOR = 94;
-  public int JJTEQUALSCOMPAREOPERATOR = 95;
-  public int JJTRIGHTBINARYCONDITION = 96;
-  public int JJTBINARYCONDITION = 97;
-  public int JJTCONTAINSVALUECONDITION = 98;
-  public int JJTINSTANCEOFCONDITION = 99;
-  public int JJTINDEXMATCHCONDITION = 100;
-  public int JJTBETWEENCONDITION = 101;
-  public int JJTISNULLCONDITION = 102;
-  public int JJTISNOTNULLCONDITION = 103;
-  public int JJTISDEFINEDCONDITION = 104;
-  public int JJTISNOTDEFINEDCONDITION = 105;
-  public int JJTCONTAINSCONDITION = 106;
-  public int JJTINOPERATOR = 107;
-  public int JJTINCONDITION = 108;
-  public int JJTNOTINCONDITION = 109;
-  public int JJTCONTAINSALLCONDITION = 110;
-  public int JJTCONTAINSANYCONDITION = 111;
-  public int JJTCONTAINSTEXTCONDITION = 112;
-  public int JJTMATCHESCONDITION = 113;
-  public int JJTORDERBY = 114;
-  public int JJTGROUPBY = 115;
-  public int JJTUNWIND = 116;
-  public int JJTLIMIT = 117;
-  public int JJTSKIP = 118;
-  public int JJTBATCH = 119;
-  public int JJTTIMEOUT = 120;
-  public int JJTWAIT = 121;
-  public int JJTRETRY = 122;
-  public int JJTCOLLECTION = 123;
-  public int JJTFETCHPLAN = 124;
-  public int JJTFETCHPLANITEM = 125;
-  public int JJTTRAVERSEPROJECTIONITEM = 126;
-  public int JJTJSON = 127;
-  public int JJTMATCHEXPRESSION = 128;
-  public int JJTMATCHPATHITEM = 129;
-  public int JJTMATCHPATHITEMFIRST = 130;
-  public int JJTMULTIMATCHPATHITEM = 131;
-  public int JJTMULTIMATCHPATHITEMARROWS = 132;
-  public int JJTMATCHFILTER = 133;
-  public int JJTMATCHFILTERITEM = 134;
-  public int JJTOUTPATHITEM = 135;
-  public int JJTINPATHITEM = 136;
-  public int JJTBOTHPATHITEM = 137;
-  public int JJTOUTPATHITEMOPT = 138;
-  public int JJTINPATHITEMOPT = 139;
-  public int JJTBOTHPATHITEMOPT = 140;
-  public int JJTPROFILESTORAGESTATEMENT = 141;
-  public int JJTTRUNCATECLASSSTATEMENT = 142;
-  public int JJTTRUNCATECLUSTERSTATEMENT = 143;
-  public int JJTTRUNCATERECORDSTATEMENT = 144;
-  public int JJTFINDREFERENCESSTATEMENT = 145;
-  public int JJTCREATECLASSSTATEMENT = 146;
-  public int JJTCREATEVIEWSTATEMENT = 147;
-  public int JJTALTERCLASSSTATEMENT = 148;
-  public int JJTDROPCLASSSTATEMENT = 149;
-  public int JJTDROPVIEWSTATEMENT = 150;
-  public int JJTIFNOTEXISTS = 151;
-  public int JJTCREATEPROPERTYSTATEMENT = 152;
-  public int JJTCREATEPROPERTYATTRIBUTESTATEMENT = 153;
-  public int JJTALTERPROPERTYSTATEMENT = 154;
-  public int JJTDROPPROPERTYSTATEMENT = 155;
-  public int JJTCREATEINDEXSTATEMENT = 156;
-  public int JJTREBUILDINDEXSTATEMENT = 157;
-  public int JJTDROPINDEXSTATEMENT = 158;
-  public int JJTCREATECLUSTERSTATEMENT = 159;
-  public int JJTALTERCLUSTERSTATEMENT = 160;
-  public int JJTDROPCLUSTERSTATEMENT = 161;
-  public int JJTALTERDATABASESTATEMENT = 162;
-  public int JJTCOMMANDLINEOPTION = 163;
-  public int JJTOPTIMIZEDATABASESTATEMENT = 164;
-  public int JJTCREATELINKSTATEMENT = 165;
-  public int JJTEXPLAINSTATEMENT = 166;
-  public int JJTPROFILESTATEMENT = 167;
-  public int JJTPERMISSION = 168;
-  public int JJTRESOURCEPATHITEM = 169;
-  public int JJTGRANTSTATEMENT = 170;
-  public int JJTREVOKESTATEMENT = 171;
-  public int JJTCREATEFUNCTIONSTATEMENT = 172;
-  public int JJTCREATEUSERSTATEMENT = 173;
-  public int JJTDROPUSERSTATEMENT = 174;
-  public int JJTLETSTATEMENT = 175;
-  public int JJTBEGINSTATEMENT = 176;
-  public int JJTCOMMITSTATEMENT = 177;
-  public int JJTROLLBACKSTATEMENT = 178;
-  public int JJTRETURNSTATEMENT = 179;
-  public int JJTIFSTATEMENT = 180;
-  public int JJTSLEEPSTATEMENT = 181;
-  public int JJTCONSOLESTATEMENT = 182;
-  public int JJTCREATESEQUENCESTATEMENT = 183;
-  public int JJTALTERSEQUENCESTATEMENT = 184;
-  public int JJTDROPSEQUENCESTATEMENT = 185;
-  public int JJTHASTATUSSTATEMENT = 186;
-  public int JJTHAREMOVESERVERSTATEMENT = 187;
-  public int JJTHASYNCDATABASESTATEMENT = 188;
-  public int JJTHASYNCCLUSTERSTATEMENT = 189;
-  public int JJTHASETSTATEMENT = 190;
-  public int JJTFOREACHBLOCK = 191;
-  public int JJTWHILEBLOCK = 192;
+  public int JJTPARSECONDITION = 2;
+  public int JJTPARSESCRIPT = 3;
+  public int JJTSTRING = 4;
+  public int JJTIDENTIFIER = 5;
+  public int JJTINTEGER = 6;
+  public int JJTFLOATINGPOINT = 7;
+  public int JJTNUMBER = 8;
+  public int JJTSTATEMENT = 9;
+  public int JJTSTATEMENTSEMICOLON = 10;
+  public int JJTSTATEMENTINTERNAL = 11;
+  public int JJTQUERYSTATEMENT = 12;
+  public int JJTSELECTWITHOUTTARGETSTATEMENT = 13;
+  public int JJTSELECTSTATEMENT = 14;
+  public int JJTTRAVERSESTATEMENT = 15;
+  public int JJTMATCHSTATEMENT = 16;
+  public int JJTDELETESTATEMENT = 17;
+  public int JJTDELETEVERTEXSTATEMENT = 18;
+  public int JJTDELETEEDGESTATEMENT = 19;
+  public int JJTDELETEEDGEBYRIDSTATEMENT = 20;
+  public int JJTDELETEEDGEFROMTOSTATEMENT = 21;
+  public int JJTDELETEEDGETOSTATEMENT = 22;
+  public int JJTDELETEEDGEVTOSTATEMENT = 23;
+  public int JJTDELETEEDGEWHERESTATEMENT = 24;
+  public int JJTUPDATEEDGESTATEMENT = 25;
+  public int JJTUPDATESTATEMENT = 26;
+  public int JJTUPDATEOPERATIONS = 27;
+  public int JJTUPDATEITEM = 28;
+  public int JJTUPDATEINCREMENTITEM = 29;
+  public int JJTUPDATEREMOVEITEM = 30;
+  public int JJTUPDATEPUTITEM = 31;
+  public int JJTUPDATEADDITEM = 32;
+  public int JJTINSERTSTATEMENT = 33;
+  public int JJTINSERTBODY = 34;
+  public int JJTCREATEVERTEXSTATEMENTEMPTYNOTARGET = 35;
+  public int JJTCREATEVERTEXSTATEMENTEMPTY = 36;
+  public int JJTCREATEVERTEXSTATEMENT = 37;
+  public int JJTCREATEVERTEXSTATEMENTNOTARGET = 38;
+  public int JJTMOVEVERTEXSTATEMENT = 39;
+  public int JJTCREATEEDGESTATEMENT = 40;
+  public int JJTINPUTPARAMETER = 41;
+  public int JJTPOSITIONALPARAMETER = 42;
+  public int JJTNAMEDPARAMETER = 43;
+  public int JJTPROJECTION = 44;
+  public int JJTPROJECTIONITEM = 45;
+  public int JJTNESTEDPROJECTION = 46;
+  public int JJTNESTEDPROJECTIONITEM = 47;
+  public int JJTARRAYSELECTOR = 48;
+  public int JJTARRAYNUMBERSELECTOR = 49;
+  public int JJTARRAYSINGLEVALUESSELECTOR = 50;
+  public int JJTARRAYRANGESELECTOR = 51;
+  public int JJTALIAS = 52;
+  public int JJTRECORDATTRIBUTE = 53;
+  public int JJTFUNCTIONCALL = 54;
+  public int JJTMETHODCALL = 55;
+  public int JJTLEVELZEROIDENTIFIER = 56;
+  public int JJTSUFFIXIDENTIFIER = 57;
+  public int JJTBASEIDENTIFIER = 58;
+  public int JJTMODIFIER = 59;
+  public int JJTEXPRESSION = 60;
+  public int JJTARRAYCONCATEXPRESSION = 61;
+  public int JJTARRAYCONCATEXPRESSIONELEMENT = 62;
+  public int JJTMATHEXPRESSION = 63;
+  public int JJTFIRSTLEVELEXPRESSION = 64;
+  public int JJTPARENTHESISEXPRESSION = 65;
+  public int JJTBASEEXPRESSION = 66;
+  public int JJTFROMCLAUSE = 67;
+  public int JJTLETCLAUSE = 68;
+  public int JJTLETITEM = 69;
+  public int JJTFROMITEM = 70;
+  public int JJTCLUSTER = 71;
+  public int JJTCLUSTERLIST = 72;
+  public int JJTMETADATAIDENTIFIER = 73;
+  public int JJTINDEXNAME = 74;
+  public int JJTINDEXIDENTIFIER = 75;
+  public int JJTWHERECLAUSE = 76;
+  public int JJTORBLOCK = 77;
+  public int JJTANDBLOCK = 78;
+  public int JJTNOTBLOCK = 79;
+  public int JJTPARENTHESISBLOCK = 80;
+  public int JJTCONDITIONBLOCK = 81;
+  public int JJTCOMPAREOPERATOR = 82;
+  public int JJTLTOPERATOR = 83;
+  public int JJTGTOPERATOR = 84;
+  public int JJTNEOPERATOR = 85;
+  public int JJTNEQOPERATOR = 86;
+  public int JJTGEOPERATOR = 87;
+  public int JJTLEOPERATOR = 88;
+  public int JJTLIKEOPERATOR = 89;
+  public int JJTLUCENEOPERATOR = 90;
+  public int JJTNEAROPERATOR = 91;
+  public int JJTWITHINOPERATOR = 92;
+  public int JJTSCANDOPERATOR = 93;
+  public int JJTCONTAINSKEYOPERATOR = 94;
+  public int JJTCONTAINSVALUEOPERATOR = 95;
+  public int JJTEQUALSCOMPAREOPERATOR = 96;
+  public int JJTRIGHTBINARYCONDITION = 97;
+  public int JJTBINARYCONDITION = 98;
+  public int JJTCONTAINSVALUECONDITION = 99;
+  public int JJTINSTANCEOFCONDITION = 100;
+  public int JJTINDEXMATCHCONDITION = 101;
+  public int JJTBETWEENCONDITION = 102;
+  public int JJTISNULLCONDITION = 103;
+  public int JJTISNOTNULLCONDITION = 104;
+  public int JJTISDEFINEDCONDITION = 105;
+  public int JJTISNOTDEFINEDCONDITION = 106;
+  public int JJTCONTAINSCONDITION = 107;
+  public int JJTINOPERATOR = 108;
+  public int JJTINCONDITION = 109;
+  public int JJTNOTINCONDITION = 110;
+  public int JJTCONTAINSALLCONDITION = 111;
+  public int JJTCONTAINSANYCONDITION = 112;
+  public int JJTCONTAINSTEXTCONDITION = 113;
+  public int JJTMATCHESCONDITION = 114;
+  public int JJTORDERBY = 115;
+  public int JJTGROUPBY = 116;
+  public int JJTUNWIND = 117;
+  public int JJTLIMIT = 118;
+  public int JJTSKIP = 119;
+  public int JJTBATCH = 120;
+  public int JJTTIMEOUT = 121;
+  public int JJTWAIT = 122;
+  public int JJTRETRY = 123;
+  public int JJTCOLLECTION = 124;
+  public int JJTFETCHPLAN = 125;
+  public int JJTFETCHPLANITEM = 126;
+  public int JJTTRAVERSEPROJECTIONITEM = 127;
+  public int JJTJSON = 128;
+  public int JJTMATCHEXPRESSION = 129;
+  public int JJTMATCHPATHITEM = 130;
+  public int JJTMATCHPATHITEMFIRST = 131;
+  public int JJTMULTIMATCHPATHITEM = 132;
+  public int JJTMULTIMATCHPATHITEMARROWS = 133;
+  public int JJTMATCHFILTER = 134;
+  public int JJTMATCHFILTERITEM = 135;
+  public int JJTOUTPATHITEM = 136;
+  public int JJTINPATHITEM = 137;
+  public int JJTBOTHPATHITEM = 138;
+  public int JJTOUTPATHITEMOPT = 139;
+  public int JJTINPATHITEMOPT = 140;
+  public int JJTBOTHPATHITEMOPT = 141;
+  public int JJTPROFILESTORAGESTATEMENT = 142;
+  public int JJTTRUNCATECLASSSTATEMENT = 143;
+  public int JJTTRUNCATECLUSTERSTATEMENT = 144;
+  public int JJTCOMPACTCLUSTERSTATEMENT = 145;
+  public int JJTTRUNCATERECORDSTATEMENT = 146;
+  public int JJTFINDREFERENCESSTATEMENT = 147;
+  public int JJTCREATECLASSSTATEMENT = 148;
+  public int JJTCREATEVIEWSTATEMENT = 149;
+  public int JJTALTERCLASSSTATEMENT = 150;
+  public int JJTDROPCLASSSTATEMENT = 151;
+  public int JJTDROPVIEWSTATEMENT = 152;
+  public int JJTIFNOTEXISTS = 153;
+  public int JJTCREATEPROPERTYSTATEMENT = 154;
+  public int JJTCREATEPROPERTYATTRIBUTESTATEMENT = 155;
+  public int JJTALTERPROPERTYSTATEMENT = 156;
+  public int JJTDROPPROPERTYSTATEMENT = 157;
+  public int JJTCREATEINDEXSTATEMENT = 158;
+  public int JJTREBUILDINDEXSTATEMENT = 159;
+  public int JJTDROPINDEXSTATEMENT = 160;
+  public int JJTCREATECLUSTERSTATEMENT = 161;
+  public int JJTALTERCLUSTERSTATEMENT = 162;
+  public int JJTDROPCLUSTERSTATEMENT = 163;
+  public int JJTALTERDATABASESTATEMENT = 164;
+  public int JJTCOMMANDLINEOPTION = 165;
+  public int JJTOPTIMIZEDATABASESTATEMENT = 166;
+  public int JJTCREATELINKSTATEMENT = 167;
+  public int JJTEXPLAINSTATEMENT = 168;
+  public int JJTPROFILESTATEMENT = 169;
+  public int JJTPERMISSION = 170;
+  public int JJTRESOURCEPATHITEM = 171;
+  public int JJTGRANTSTATEMENT = 172;
+  public int JJTREVOKESTATEMENT = 173;
+  public int JJTCREATEFUNCTIONSTATEMENT = 174;
+  public int JJTCREATEUSERSTATEMENT = 175;
+  public int JJTDROPUSERSTATEMENT = 176;
+  public int JJTLETSTATEMENT = 177;
+  public int JJTBEGINSTATEMENT = 178;
+  public int JJTCOMMITSTATEMENT = 179;
+  public int JJTROLLBACKSTATEMENT = 180;
+  public int JJTRETURNSTATEMENT = 181;
+  public int JJTIFSTATEMENT = 182;
+  public int JJTSLEEPSTATEMENT = 183;
+  public int JJTCONSOLESTATEMENT = 184;
+  public int JJTCREATESEQUENCESTATEMENT = 185;
+  public int JJTALTERSEQUENCESTATEMENT = 186;
+  public int JJTDROPSEQUENCESTATEMENT = 187;
+  public int JJTHASTATUSSTATEMENT = 188;
+  public int JJTHAREMOVESERVERSTATEMENT = 189;
+  public int JJTHASYNCDATABASESTATEMENT = 190;
+  public int JJTHASYNCCLUSTERSTATEMENT = 191;
+  public int JJTHASETSTATEMENT = 192;
+  public int JJTFOREACHBLOCK = 193;
+  public int JJTWHILEBLOCK = 194;
 
 
   public String[] jjtNodeName = {
     "Rid",
     "parse",
+    "parseCondition",
     "parseScript",
     "String",
     "Identifier",
@@ -343,6 +346,7 @@ public interface OrientSqlTreeConstants
     "ProfileStorageStatement",
     "TruncateClassStatement",
     "TruncateClusterStatement",
+    "CompactClusterStatement",
     "TruncateRecordStatement",
     "FindReferencesStatement",
     "CreateClassStatement",
@@ -394,4 +398,4 @@ public interface OrientSqlTreeConstants
     "WhileBlock",
   };
 }
-/* JavaCC - OriginalChecksum=3d1915b3abd744c652b0f305af1781af (do not edit this line) */
+/* JavaCC - OriginalChecksum=e88dfd6f3c72854b8bef886b1f3959d6 (do not edit this line) */
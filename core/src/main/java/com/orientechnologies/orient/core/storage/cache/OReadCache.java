@@ -72,6 +72,19 @@ public interface OReadCache {
   OCacheEntry loadForRead(long fileId, long pageIndex, boolean checkPinnedPages, OWriteCache writeCache, int pageCount,
       boolean verifyChecksums) throws IOException;
 
+  /**
+   * Loads pages which are going to be accessed soon into the cache. Pages which are already cached are skipped, the rest of pages
+   * is loaded by single batch from write cache. Pages are not acquired by this method and may be evicted from the cache before
+   * they are accessed.
+   *
+   * @param fileId      Id of file pages of which are loaded.
+   * @param pageIndexes Indexes of pages to load.
+   * @param writeCache  Write cache which is used to load pages.
+   *
+   * @see OWriteCache#load(long, long[], boolean)
+   */
+  void prefetch(long fileId, long[] pageIndexes, OWriteCache writeCache) throws IOException;
+
   void releaseFromRead(OCacheEntry cacheEntry, OWriteCache writeCache);
 
   void releaseFromWrite(OCacheEntry cacheEntry, OWriteCache writeCache);
@@ -83,10 +96,27 @@ public interface OReadCache {
 
   long getUsedMemory();
 
+  /**
+   * Changes amount of memory which may be used by given cache.
+   *
+   * @param readCacheMaxMemory New maximum size of cache in bytes.
+   *
+   * @throws IllegalStateException In case of new size of disk cache is too small to hold existing pinned pages.
+   */
+  void changeMaximumAmountOfMemory(long readCacheMaxMemory) throws IllegalStateException;
+
   void clear();
 
   void truncateFile(long fileId, OWriteCache writeCache) throws IOException;
 
+  /**
+   * Removes pages with indexes equal to or bigger than <code>pagesCount</code> from the read and write caches and truncates file
+   * so it contains only first <code>pagesCount</code> pages.
+   *
+   * @see OWriteCache#shrinkFile(long, long)
+   */
+  void shrinkFile(long fileId, long pagesCount, OWriteCache writeCache) throws IOException;
+
   void closeFile(long fileId, boolean flush, OWriteCache writeCache);
 
   void deleteFile(long fileId, OWriteCache writeCache) throws IOException;
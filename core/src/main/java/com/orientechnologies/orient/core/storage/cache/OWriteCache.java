@@ -96,6 +96,20 @@ public interface OWriteCache {
   OCachePointer[] load(long fileId, long startPageIndex, int pageCount, boolean addNewPages, OModifiableBoolean cacheHit,
       boolean verifyChecksums) throws IOException;
 
+  /**
+   * Loads batch of pages which may be located at arbitrary positions of the file. Pages which are absent in write cache are read
+   * from the disk in parallel, so this method is used to perform read-ahead of pages which are going to be accessed soon. New
+   * pages are never allocated by this method.
+   *
+   * @param fileId          Id of file pages of which are loaded.
+   * @param pageIndexes     Indexes of pages to load.
+   * @param verifyChecksums Whether checksums of pages which are read from the disk should be verified.
+   *
+   * @return Pointers to the loaded pages in the same order as passed in indexes, or <code>null</code> for pages which are out of
+   * file range. Readers referrer of each returned pointer is incremented.
+   */
+  OCachePointer[] load(long fileId, long[] pageIndexes, boolean verifyChecksums) throws IOException;
+
   void flush(long fileId);
 
   void flush();
@@ -108,6 +122,12 @@ public interface OWriteCache {
 
   void truncateFile(long fileId) throws IOException;
 
+  /**
+   * Removes pages with indexes equal to or bigger than <code>pagesCount</code> from the cache and truncates file so it contains
+   * only first <code>pagesCount</code> pages. Content of removed pages is lost, so they should not be used by any component.
+   */
+  void shrinkFile(long fileId, long pagesCount) throws IOException;
+
   void renameFile(long fileId, String newFileName) throws IOException;
 
   /**
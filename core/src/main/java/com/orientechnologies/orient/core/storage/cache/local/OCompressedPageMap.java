@@ -0,0 +1,568 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.storage.cache.local;
+
+import com.orientechnologies.common.directmemory.OByteBufferPool;
+import com.orientechnologies.common.directmemory.OPointer;
+import com.orientechnologies.common.io.OIOUtils;
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.orient.core.exception.OStorageException;
+import com.orientechnologies.orient.core.storage.fs.OFileClassic;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Exception;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Map of locations of pages of the file which content is compressed by LZ4 before it is written to the disk.
+ * <p>
+ * Compressed pages have variable size, so data file is split on blocks and each page occupies a slot which consist of several
+ * contiguous blocks. Slot starts either from the page itself, if page can not be compressed good enough to save at least one
+ * block, or from the header which consist of {@link #COMPRESSED_PAGE_MAGIC} and length of compressed content. Uncompressed pages
+ * always start from the magic number of the write cache, so content of slot does not depend on the state of the map. If
+ * compressed page fits into the slot which is already assigned to the page it is overwritten in place, otherwise page is moved to
+ * the new slot.
+ * <p>
+ * Map is stored in the separate file next to the data file and is written to the disk only when the data file is synced. So
+ * after the crash map points to the slots which were written before the last sync and restore of data from WAL starts from the
+ * same point. To keep those slots intact, slots released by moved pages are not reused till the map is written to the disk again.
+ * Free slots are not stored on the disk but calculated during the load of map as blocks which are not referenced by any page.
+ * <p>
+ * Map is thread safe, but pages themselves should be protected by locks of write cache.
+ */
+final class OCompressedPageMap {
+  /**
+   * Marks slots which contain compressed pages.
+   */
+  static final long COMPRESSED_PAGE_MAGIC = 0x4C5A34504147455AL;
+
+  private static final long MAP_MAGIC   = 0x4F4350494D415031L;
+  private static final int  MAP_VERSION = 1;
+
+  private static final int MAP_HEADER_SIZE = 16;
+  private static final int ENTRY_SIZE      = 8;
+
+  /**
+   * Amount of entries which are written to the disk at once if at least one of them is changed.
+   */
+  private static final int ENTRIES_PER_CHUNK = 512;
+
+  private static final int COMPRESSED_HEADER_SIZE = 12;
+  private static final int MAX_BLOCK_SIZE         = 4 * 1024;
+
+  private static final int SLOT_SIZE_BITS = 16;
+  private static final int SLOT_SIZE_MASK = (1 << SLOT_SIZE_BITS) - 1;
+
+  private static final LZ4Compressor       COMPRESSOR;
+  private static final LZ4SafeDecompressor DECOMPRESSOR;
+
+  static {
+    final LZ4Factory factory = LZ4Factory.fastestInstance();
+
+    COMPRESSOR = factory.fastCompressor();
+    DECOMPRESSOR = factory.safeDecompressor();
+  }
+
+  private final int             pageSize;
+  private final int             blockSize;
+  private final int             pageBlocks;
+  private final OByteBufferPool bufferPool;
+
+  private Path path;
+
+  /**
+   * Slots of pages, each slot is encoded as index of first block shifted by {@link #SLOT_SIZE_BITS} bits and amount of blocks.
+   */
+  private long[] slots;
+  private int    pagesCount;
+
+  /**
+   * Amount of blocks in data file.
+   */
+  private long fileBlocks;
+
+  /**
+   * Free slots are indexed by position to merge adjacent slots and by size to find the smallest slot which fits the page.
+   */
+  private final TreeMap<Long, Integer>          freeSlotsByPosition = new TreeMap<>();
+  private final TreeMap<Integer, TreeSet<Long>> freeSlotsBySize     = new TreeMap<>();
+
+  /**
+   * Slots which are released after the last write of map to the disk.
+   */
+  private final List<Long> releasedSlots = new ArrayList<>();
+
+  /**
+   * Chunks of entries changed after the last write of map to the disk.
+   */
+  private final BitSet dirtyChunks = new BitSet();
+
+  private OCompressedPageMap(final Path path, final int pageSize, final OByteBufferPool bufferPool) {
+    this.path = path;
+    this.pageSize = pageSize;
+    this.bufferPool = bufferPool;
+
+    //page size is always multiple of block size, so uncompressed pages do not need any header
+    this.blockSize = pageSize % MAX_BLOCK_SIZE == 0 ? MAX_BLOCK_SIZE : pageSize;
+    this.pageBlocks = pageSize / blockSize;
+
+    this.slots = new long[ENTRIES_PER_CHUNK];
+  }
+
+  /**
+   * @return Path to the file of map which belongs to the given data file, it has the same name as data file plus
+   * {@link OWOWCache#COMPRESSED_PAGE_MAP_EXTENSION}.
+   */
+  static Path mapPath(final OFileClassic file) {
+    return Paths.get(file.getPath() + OWOWCache.COMPRESSED_PAGE_MAP_EXTENSION);
+  }
+
+  /**
+   * Creates new empty map for empty data file, file of map is overwritten if it already exists.
+   */
+  static OCompressedPageMap create(final Path path, final int pageSize, final OByteBufferPool bufferPool, final boolean fsync)
+      throws IOException {
+    final OCompressedPageMap map = new OCompressedPageMap(path, pageSize, bufferPool);
+    map.writeEmptyMap(fsync);
+    return map;
+  }
+
+  /**
+   * Loads map of existing data file and calculates free slots of data file.
+   */
+  static OCompressedPageMap load(final Path path, final int pageSize, final OByteBufferPool bufferPool, final long fileSize)
+      throws IOException {
+    final OCompressedPageMap map = new OCompressedPageMap(path, pageSize, bufferPool);
+    map.readMap(fileSize);
+    return map;
+  }
+
+  synchronized long pagesCount() {
+    return pagesCount;
+  }
+
+  /**
+   * Reads page and decompresses it if needed.
+   *
+   * @param page Buffer of page size where content of page will be placed.
+   */
+  void readPage(final OFileClassic file, final long pageIndex, final ByteBuffer page) throws IOException {
+    final long slot;
+    synchronized (this) {
+      if (pageIndex >= pagesCount) {
+        throw new OStorageException(
+            "Page " + pageIndex + " is out of range of file " + file.getName() + " which contains " + pagesCount + " pages");
+      }
+
+      slot = slots[(int) pageIndex];
+    }
+
+    final int slotBytes = slotSize(slot) * blockSize;
+    final long slotPosition = slotStart(slot) * blockSize;
+
+    if (slotBytes == pageSize) {
+      //page is compressed only if it saves at least one block
+      file.read(slotPosition, nativeDuplicate(page, pageSize), true);
+    } else {
+      final OPointer pointer = bufferPool.acquireDirect(false);
+      try {
+        final ByteBuffer compressed = nativeDuplicate(pointer.getNativeByteBuffer(), slotBytes);
+        file.read(slotPosition, compressed, true);
+
+        decompress(file, pageIndex, compressed, page);
+      } finally {
+        bufferPool.release(pointer);
+      }
+    }
+  }
+
+  /**
+   * Compresses page and writes it to the data file. If page index is equal to the amount of pages, page is added to the end of
+   * the file.
+   *
+   * @param page Buffer which contains page, position and limit of buffer are not changed.
+   */
+  void writePage(final OFileClassic file, final long pageIndex, final ByteBuffer page) throws IOException {
+    final OPointer pointer = bufferPool.acquireDirect(false);
+    try {
+      final ByteBuffer content = compress(page, nativeDuplicate(pointer.getNativeByteBuffer(), pageSize));
+      final int blocks = (content.limit() + blockSize - 1) / blockSize;
+
+      final long slot;
+      synchronized (this) {
+        if (pageIndex == pagesCount) {
+          ensureCapacity(pagesCount + 1);
+
+          slots[pagesCount] = allocateSlot(file, content, blocks);
+          markDirty(pagesCount);
+
+          pagesCount++;
+          return;
+        }
+
+        if (pageIndex > pagesCount) {
+          throw new OStorageException(
+              "Page " + pageIndex + " can not be added to the file " + file.getName() + " which contains " + pagesCount + " pages");
+        }
+
+        final long currentSlot = slots[(int) pageIndex];
+        final int currentSize = slotSize(currentSlot);
+
+        if (currentSize < blocks) {
+          //page does not fit into the current slot, so it is moved to the new one and current slot is reused after the map is
+          //written to the disk
+          slots[(int) pageIndex] = allocateSlot(file, content, blocks);
+          markDirty(pageIndex);
+
+          releasedSlots.add(currentSlot);
+          return;
+        }
+
+        if (currentSize > blocks) {
+          //tail of the slot is not used any more
+          slot = encodeSlot(slotStart(currentSlot), blocks);
+          slots[(int) pageIndex] = slot;
+          markDirty(pageIndex);
+
+          releasedSlots.add(encodeSlot(slotStart(currentSlot) + blocks, currentSize - blocks));
+        } else {
+          slot = currentSlot;
+        }
+      }
+
+      //slot can not be reused by other pages till page is not moved, so we do not need to hold the lock
+      file.write(slotStart(slot) * blockSize, content);
+    } finally {
+      bufferPool.release(pointer);
+    }
+  }
+
+  /**
+   * Writes changes of map to the disk and makes slots released since the last write of the map available for reuse. Data file is
+   * synced before the write of map, so map never points to the slots which content is not on the disk yet.
+   *
+   * @param fsync Whether data file and the map should be synced with the disk.
+   */
+  synchronized void flush(final OFileClassic file, final boolean fsync) throws IOException {
+    if (dirtyChunks.isEmpty() && releasedSlots.isEmpty()) {
+      return;
+    }
+
+    if (fsync) {
+      file.synch();
+    }
+
+    if (!dirtyChunks.isEmpty()) {
+      try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+        for (int chunk = dirtyChunks.nextSetBit(0); chunk >= 0; chunk = dirtyChunks.nextSetBit(chunk + 1)) {
+          final int firstEntry = chunk * ENTRIES_PER_CHUNK;
+          final int entries = Math.min(ENTRIES_PER_CHUNK, pagesCount - firstEntry);
+
+          if (entries <= 0) {
+            continue;
+          }
+
+          final ByteBuffer buffer = ByteBuffer.allocate(entries * ENTRY_SIZE).order(ByteOrder.nativeOrder());
+          for (int i = 0; i < entries; i++) {
+            buffer.putLong(slots[firstEntry + i]);
+          }
+
+          buffer.flip();
+          OIOUtils.writeByteBuffer(buffer, channel, MAP_HEADER_SIZE + (long) firstEntry * ENTRY_SIZE);
+        }
+
+        if (fsync) {
+          channel.force(true);
+        }
+      }
+
+      dirtyChunks.clear();
+    }
+
+    for (final long slot : releasedSlots) {
+      addFreeSlot(slotStart(slot), slotSize(slot));
+    }
+
+    releasedSlots.clear();
+  }
+
+  /**
+   * Removes all pages from the map. Map is written to the disk before data file is truncated by the caller, so map never points
+   * to the slots outside of the data file.
+   */
+  synchronized void truncate(final boolean fsync) throws IOException {
+    pagesCount = 0;
+    fileBlocks = 0;
+    slots = new long[ENTRIES_PER_CHUNK];
+
+    freeSlotsByPosition.clear();
+    freeSlotsBySize.clear();
+    releasedSlots.clear();
+    dirtyChunks.clear();
+
+    writeEmptyMap(fsync);
+  }
+
+  synchronized void delete() throws IOException {
+    Files.deleteIfExists(path);
+  }
+
+  synchronized void rename(final Path newPath) throws IOException {
+    Files.move(path, newPath);
+    path = newPath;
+  }
+
+  private ByteBuffer compress(final ByteBuffer page, final ByteBuffer slot) {
+    //compression makes sense only if it saves at least one block
+    final int maxCompressedLength = (pageBlocks - 1) * blockSize - COMPRESSED_HEADER_SIZE;
+
+    if (maxCompressedLength > 0) {
+      try {
+        final int compressedLength = COMPRESSOR.compress(page, 0, pageSize, slot, COMPRESSED_HEADER_SIZE, maxCompressedLength);
+
+        slot.putLong(0, COMPRESSED_PAGE_MAGIC);
+        slot.putInt(8, compressedLength);
+
+        slot.position(0);
+        slot.limit(COMPRESSED_HEADER_SIZE + compressedLength);
+
+        return slot;
+      } catch (final LZ4Exception ignore) {
+        //page can not be compressed good enough
+      }
+    }
+
+    return nativeDuplicate(page, pageSize);
+  }
+
+  private void decompress(final OFileClassic file, final long pageIndex, final ByteBuffer compressed, final ByteBuffer page) {
+    final int compressedLength = compressed.getInt(8);
+
+    int pageLength = -1;
+    if (compressedLength > 0 && compressedLength <= compressed.capacity() - COMPRESSED_HEADER_SIZE) {
+      try {
+        pageLength = DECOMPRESSOR.decompress(compressed, COMPRESSED_HEADER_SIZE, compressedLength, page, 0, pageSize);
+      } catch (final LZ4Exception e) {
+        OLogManager.instance().error(this, "Error during decompression of page %d of file %s", e, pageIndex, file.getName());
+      }
+    }
+
+    if (pageLength != pageSize) {
+      //page is broken, content of page is cleared, so error is detected during verification of magic number and checksum
+      final ByteBuffer buffer = nativeDuplicate(page, pageSize);
+      while (buffer.hasRemaining()) {
+        buffer.put((byte) 0);
+      }
+    }
+  }
+
+  private long allocateSlot(final OFileClassic file, final ByteBuffer content, final int blocks) throws IOException {
+    final Map.Entry<Integer, TreeSet<Long>> freeSlot = freeSlotsBySize.ceilingEntry(blocks);
+
+    if (freeSlot != null) {
+      final int size = freeSlot.getKey();
+      final long start = freeSlot.getValue().first();
+
+      removeFreeSlot(start, size);
+      if (size > blocks) {
+        addFreeSlot(start + blocks, size - blocks);
+      }
+
+      file.write(start * blockSize, content);
+      return encodeSlot(start, blocks);
+    }
+
+    //data file grows only by whole blocks
+    final long start = fileBlocks;
+    content.limit(blocks * blockSize);
+    file.allocateSpace(content);
+    content.position(0);
+
+    fileBlocks += blocks;
+    return encodeSlot(start, blocks);
+  }
+
+  private void addFreeSlot(long start, int size) {
+    final Map.Entry<Long, Integer> previous = freeSlotsByPosition.floorEntry(start);
+    if (previous != null && previous.getKey() + previous.getValue() == start) {
+      removeFreeSlot(previous.getKey(), previous.getValue());
+
+      start = previous.getKey();
+      size += previous.getValue();
+    }
+
+    final Integer nextSize = freeSlotsByPosition.get(start + size);
+    if (nextSize != null) {
+      removeFreeSlot(start + size, nextSize);
+      size += nextSize;
+    }
+
+    freeSlotsByPosition.put(start, size);
+    freeSlotsBySize.computeIfAbsent(size, (s) -> new TreeSet<>()).add(start);
+  }
+
+  private void removeFreeSlot(final long start, final int size) {
+    freeSlotsByPosition.remove(start);
+
+    final TreeSet<Long> slotsOfSize = freeSlotsBySize.get(size);
+    slotsOfSize.remove(start);
+
+    if (slotsOfSize.isEmpty()) {
+      freeSlotsBySize.remove(size);
+    }
+  }
+
+  private void ensureCapacity(final int capacity) {
+    if (slots.length < capacity) {
+      slots = Arrays.copyOf(slots, Math.max(capacity, slots.length << 1));
+    }
+  }
+
+  private void markDirty(final long pageIndex) {
+    dirtyChunks.set((int) (pageIndex / ENTRIES_PER_CHUNK));
+  }
+
+  private void writeEmptyMap(final boolean fsync) throws IOException {
+    try (final FileChannel channel = FileChannel
+        .open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+      final ByteBuffer header = ByteBuffer.allocate(MAP_HEADER_SIZE).order(ByteOrder.nativeOrder());
+      header.putLong(MAP_MAGIC);
+      header.putInt(MAP_VERSION);
+      header.putInt(blockSize);
+      header.flip();
+
+      OIOUtils.writeByteBuffer(header, channel, 0);
+
+      if (fsync) {
+        channel.force(true);
+      }
+    }
+  }
+
+  private void readMap(final long fileSize) throws IOException {
+    try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      final long mapSize = channel.size();
+      if (mapSize < MAP_HEADER_SIZE) {
+        throw new OStorageException("Map of compressed pages " + path + " is broken");
+      }
+
+      final ByteBuffer header = ByteBuffer.allocate(MAP_HEADER_SIZE).order(ByteOrder.nativeOrder());
+      OIOUtils.readByteBuffer(header, channel, 0, true);
+      header.flip();
+
+      if (header.getLong() != MAP_MAGIC || header.getInt() != MAP_VERSION) {
+        throw new OStorageException("Map of compressed pages " + path + " is broken");
+      }
+
+      final int storedBlockSize = header.getInt();
+      if (storedBlockSize != blockSize) {
+        throw new OStorageException(
+            "Map of compressed pages " + path + " is created for block size " + storedBlockSize + " but block size " + blockSize
+                + " is used");
+      }
+
+      pagesCount = (int) ((mapSize - MAP_HEADER_SIZE) / ENTRY_SIZE);
+      slots = new long[Math.max(pagesCount, ENTRIES_PER_CHUNK)];
+
+      final ByteBuffer entries = ByteBuffer.allocate(pagesCount * ENTRY_SIZE).order(ByteOrder.nativeOrder());
+      OIOUtils.readByteBuffer(entries, channel, MAP_HEADER_SIZE, true);
+      entries.flip();
+
+      for (int i = 0; i < pagesCount; i++) {
+        slots[i] = entries.getLong();
+      }
+    }
+
+    //partially written block may be left after crash
+    fileBlocks = fileSize / blockSize;
+
+    final long[] usedSlots = Arrays.copyOf(slots, pagesCount);
+    Arrays.sort(usedSlots);
+
+    long position = 0;
+    for (final long slot : usedSlots) {
+      final long start = slotStart(slot);
+      if (start < position || start + slotSize(slot) > fileBlocks) {
+        throw new OStorageException("Map of compressed pages " + path + " is broken, slot of page is outside of data file");
+      }
+
+      if (start > position) {
+        addFreeSpace(position, start);
+      }
+
+      position = start + slotSize(slot);
+    }
+
+    if (position < fileBlocks) {
+      addFreeSpace(position, fileBlocks);
+    }
+  }
+
+  private void addFreeSpace(final long start, final long end) {
+    //size of slot is limited, so big gaps are split on several slots
+    final int maxSize = SLOT_SIZE_MASK;
+
+    long position = start;
+    while (position < end) {
+      final int size = (int) Math.min(maxSize, end - position);
+
+      freeSlotsByPosition.put(position, size);
+      freeSlotsBySize.computeIfAbsent(size, (s) -> new TreeSet<>()).add(position);
+
+      position += size;
+    }
+  }
+
+  private static ByteBuffer nativeDuplicate(final ByteBuffer buffer, final int limit) {
+    final ByteBuffer duplicate = buffer.duplicate().order(ByteOrder.nativeOrder());
+    duplicate.position(0);
+    duplicate.limit(limit);
+
+    return duplicate;
+  }
+
+  private static long encodeSlot(final long start, final int size) {
+    return (start << SLOT_SIZE_BITS) | size;
+  }
+
+  private static long slotStart(final long slot) {
+    return slot >>> SLOT_SIZE_BITS;
+  }
+
+  private static int slotSize(final long slot) {
+    return (int) (slot & SLOT_SIZE_MASK);
+  }
+}
@@ -0,0 +1,212 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.storage.cache.local;
+
+import com.orientechnologies.common.io.OIOUtils;
+import com.orientechnologies.common.log.OLogManager;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Log of pages which are going to be written to the data files. Pages are appended to the log and log is synced with the disk
+ * before pages are written to their places in data files, so if write of page into the data file is interrupted by the crash and
+ * page is broken, its content is restored from the log.
+ * <p>
+ * Log consist of records, each record contains batch of pages and has following format : amount of pages (int), CRC32 of the rest
+ * of the record (int), pairs of internal file id (int) and page index (long) for each page, content of pages. Record which is
+ * partially written or has incorrect checksum ends the log.
+ * <p>
+ * Log may be truncated only after all data files which pages are contained in the log are synced with the disk. Class is not
+ * thread safe, log is accessed only by the data flush thread of write cache.
+ */
+final class ODoubleWriteLog {
+  private static final int RECORD_HEADER_SIZE = 8;
+  private static final int PAGE_ENTRY_SIZE    = 12;
+
+  private final Path path;
+  private final int  pageSize;
+
+  private FileChannel channel;
+  private long        size;
+
+  ODoubleWriteLog(final Path path, final int pageSize) {
+    this.path = path;
+    this.pageSize = pageSize;
+  }
+
+  void open() throws IOException {
+    channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    size = channel.size();
+  }
+
+  long size() {
+    return size;
+  }
+
+  /**
+   * Appends pages to the log and syncs log with the disk.
+   *
+   * @param fileIds     Internal ids of files of pages.
+   * @param pageIndexes Indexes of pages.
+   * @param pages       Content of pages, position and limit of buffers are not changed.
+   */
+  void write(final int[] fileIds, final long[] pageIndexes, final ByteBuffer[] pages) throws IOException {
+    final ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_SIZE + pages.length * PAGE_ENTRY_SIZE)
+        .order(ByteOrder.nativeOrder());
+    header.putInt(pages.length);
+    header.putInt(0);
+
+    for (int i = 0; i < pages.length; i++) {
+      header.putInt(fileIds[i]);
+      header.putLong(pageIndexes[i]);
+    }
+
+    final ByteBuffer[] buffers = new ByteBuffer[pages.length];
+    for (int i = 0; i < pages.length; i++) {
+      final ByteBuffer buffer = pages[i].duplicate();
+      buffer.position(0);
+      buffer.limit(pageSize);
+
+      buffers[i] = buffer;
+    }
+
+    final CRC32 crc32 = new CRC32();
+    header.position(RECORD_HEADER_SIZE);
+    crc32.update(header);
+
+    for (final ByteBuffer buffer : buffers) {
+      crc32.update(buffer);
+      buffer.position(0);
+    }
+
+    header.putInt(4, (int) crc32.getValue());
+    header.position(0);
+
+    final long recordSize = header.limit() + (long) pages.length * pageSize;
+
+    OIOUtils.writeByteBuffer(header, channel, size);
+
+    long position = size + header.limit();
+    for (final ByteBuffer buffer : buffers) {
+      OIOUtils.writeByteBuffer(buffer, channel, position);
+      position += pageSize;
+    }
+
+    channel.force(false);
+    size += recordSize;
+  }
+
+  /**
+   * Iterates over all pages contained in the log, pages are passed to the listener in the same order as they were written. If the
+   * same page is written several times it is passed to the listener several times too.
+   */
+  void iteratePages(final PageListener listener) throws IOException {
+    long position = 0;
+
+    while (position + RECORD_HEADER_SIZE <= size) {
+      final ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_SIZE).order(ByteOrder.nativeOrder());
+      OIOUtils.readByteBuffer(header, channel, position, true);
+
+      final int pagesCount = header.getInt(0);
+      final int storedCRC = header.getInt(4);
+
+      final long recordSize = RECORD_HEADER_SIZE + (long) pagesCount * (PAGE_ENTRY_SIZE + pageSize);
+      if (pagesCount <= 0 || position + recordSize > size) {
+        break;
+      }
+
+      final ByteBuffer entries = ByteBuffer.allocate(pagesCount * PAGE_ENTRY_SIZE).order(ByteOrder.nativeOrder());
+      OIOUtils.readByteBuffer(entries, channel, position + RECORD_HEADER_SIZE, true);
+
+      final CRC32 crc32 = new CRC32();
+      entries.position(0);
+      crc32.update(entries);
+
+      final long pagesPosition = position + RECORD_HEADER_SIZE + entries.limit();
+      final ByteBuffer page = ByteBuffer.allocate(pageSize).order(ByteOrder.nativeOrder());
+      for (int i = 0; i < pagesCount; i++) {
+        page.position(0);
+        OIOUtils.readByteBuffer(page, channel, pagesPosition + (long) i * pageSize, true);
+
+        page.position(0);
+        crc32.update(page);
+      }
+
+      if ((int) crc32.getValue() != storedCRC) {
+        OLogManager.instance().warn(this, "Double write log %s is broken at position %d, rest of the log is ignored", path, position);
+        break;
+      }
+
+      for (int i = 0; i < pagesCount; i++) {
+        final int fileId = entries.getInt(i * PAGE_ENTRY_SIZE);
+        final long pageIndex = entries.getLong(i * PAGE_ENTRY_SIZE + 4);
+
+        listener.onPage(fileId, pageIndex, pagesPosition + (long) i * pageSize);
+      }
+
+      position += recordSize;
+    }
+  }
+
+  /**
+   * Reads content of the page which is stored at the given position of the log.
+   *
+   * @see PageListener#onPage(int, long, long)
+   */
+  void readPage(final long position, final ByteBuffer page) throws IOException {
+    final ByteBuffer buffer = page.duplicate();
+    buffer.position(0);
+    buffer.limit(pageSize);
+
+    OIOUtils.readByteBuffer(buffer, channel, position, true);
+  }
+
+  void truncate() throws IOException {
+    channel.truncate(0);
+    channel.force(true);
+
+    size = 0;
+  }
+
+  void close() throws IOException {
+    channel.close();
+  }
+
+  void delete() throws IOException {
+    channel.close();
+    Files.deleteIfExists(path);
+  }
+
+  interface PageListener {
+    /**
+     * @param fileId    Internal id of file of the page.
+     * @param pageIndex Index of the page.
+     * @param position  Position of the page content inside of the log.
+     */
+    void onPage(int fileId, long pageIndex, long position) throws IOException;
+  }
+}
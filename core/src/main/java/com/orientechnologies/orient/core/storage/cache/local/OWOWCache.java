@@ -74,6 +74,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
@@ -88,10 +89,12 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Lock;
@@ -122,6 +125,16 @@ import java.util.zip.CRC32;
  * @since 7/23/13
  */
 public final class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCachePointer.WritersListener {
+  /**
+   * Extension for the files which contain locations of compressed pages
+   */
+  public static final String COMPRESSED_PAGE_MAP_EXTENSION = ".cpi";
+
+  /**
+   * Extension for the file which contains double write log of pages
+   */
+  public static final String DOUBLE_WRITE_LOG_EXTENSION = ".dwl";
+
   /**
    * Extension for the file which contains mapping between file name and file id
    */
@@ -176,7 +189,23 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
    */
   private static final ExecutorService cacheEventsPublisher;
 
+  /**
+   * Executor which reads batches of pages from the disk in parallel, <code>null</code> if pages are read by requesting thread.
+   *
+   * @see #load(long, long[], boolean)
+   */
+  private static final OThreadPoolExecutorWithLogging readExecutor;
+
   static {
+    final int readThreads = OGlobalConfiguration.DISK_CACHE_READ_THREADS.getValueAsInteger();
+    if (readThreads > 1) {
+      readExecutor = new OThreadPoolExecutorWithLogging(readThreads, readThreads, 60L, TimeUnit.SECONDS,
+          new LinkedBlockingQueue<>(), new ReadThreadFactory());
+      readExecutor.allowCoreThreadTimeOut(true);
+    } else {
+      readExecutor = null;
+    }
+
     cacheEventsPublisher = new OThreadPoolExecutorWithLogging(0, Integer.MAX_VALUE, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(),
         new CacheEventsPublisherFactory());
 
@@ -420,6 +449,40 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
 
   private final ConcurrentHashMap<ExclusiveFlushTask, CountDownLatch> triggeredTasks = new ConcurrentHashMap<>();
 
+  /**
+   * Lower cased names of files (without extension) which pages are compressed before they are written to the disk, "*" means that
+   * pages of all files are compressed. Only newly created files are compressed.
+   */
+  private final Set<String> compressedFiles;
+
+  /**
+   * Maps of locations of pages inside of files which pages are compressed, key is internal id of file.
+   */
+  private final ConcurrentHashMap<Integer, OCompressedPageMap> compressedPageMaps = new ConcurrentHashMap<>();
+
+  /**
+   * Maximum size of double write log after which data files are synced and log is truncated, <code>-1</code> means that double
+   * write log is not used.
+   */
+  private final long doubleWriteLogMaxSize;
+
+  /**
+   * Log which protects pages from being torn by partial writes, all fields related to the log are accessed only by data flush
+   * thread.
+   */
+  private ODoubleWriteLog doubleWriteLog;
+
+  /**
+   * Chunks of pages which are written to the double write log but not written to the data files yet.
+   */
+  private final List<ArrayList<OQuarto<Long, ByteBuffer, OPointer, OCachePointer>>> doubleWriteChunks = new ArrayList<>();
+  private       int                                                                doubleWritePages;
+
+  /**
+   * Internal ids of files which pages were written since the last truncation of double write log.
+   */
+  private final Set<Integer> doubleWriteFiles = new HashSet<>();
+
   private final int shutdownTimeout;
 
   /**
@@ -432,6 +495,23 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
       final String storageName, final OBinarySerializer<String> stringSerializer,
       final OClosableLinkedContainer<Long, OFileClassic> files, final int id, final OChecksumMode checksumMode,
       final boolean callFsync, final boolean printCacheStatistics, final int statisticsPrintInterval) {
+    this(pageSize, bufferPool, writeAheadLog, pagesFlushInterval, shutdownTimeout, exclusiveWriteCacheMaxSize, storagePath,
+        storageName, stringSerializer, files, id, checksumMode, callFsync, printCacheStatistics, statisticsPrintInterval,
+        Collections.emptySet(), -1);
+  }
+
+  /**
+   * @param compressedFiles       Lower cased names of files without extension which pages are compressed by LZ4 before they are
+   *                              written to the disk, "*" means that pages of all files are compressed.
+   * @param doubleWriteLogMaxSize Maximum size of double write log in bytes, <code>-1</code> means that pages are written
+   *                              directly to the data files.
+   */
+  public OWOWCache(final int pageSize, final OByteBufferPool bufferPool, final OWriteAheadLog writeAheadLog,
+      final long pagesFlushInterval, final int shutdownTimeout, final long exclusiveWriteCacheMaxSize, final Path storagePath,
+      final String storageName, final OBinarySerializer<String> stringSerializer,
+      final OClosableLinkedContainer<Long, OFileClassic> files, final int id, final OChecksumMode checksumMode,
+      final boolean callFsync, final boolean printCacheStatistics, final int statisticsPrintInterval,
+      final Set<String> compressedFiles, final long doubleWriteLogMaxSize) {
 
     this.shutdownTimeout = shutdownTimeout;
     this.pagesFlushInterval = pagesFlushInterval;
@@ -439,6 +519,8 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
 
     this.printCacheStatistics = printCacheStatistics;
     this.statisticsPrintInterval = statisticsPrintInterval;
+    this.compressedFiles = compressedFiles;
+    this.doubleWriteLogMaxSize = doubleWriteLogMaxSize;
 
     filesLock.acquireWriteLock();
     try {
@@ -479,6 +561,7 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
     filesLock.acquireWriteLock();
     try {
       initNameIdMapping();
+      initDoubleWriteLog();
     } finally {
       filesLock.releaseWriteLock();
     }
@@ -729,6 +812,7 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
             "File '" + fileName + "' is not registered in 'file name - id' map, but exists in file system. Registering it");
 
         openFile(fileClassic);
+        loadCompressedPageMap(fileId, fileClassic);
 
         final long externalId = composeFileId(id, fileId);
         files.add(externalId, fileClassic);
@@ -766,6 +850,7 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
       }
 
       fileClassic = createFileInstance(fileName, fileId);
+      createCompressedPageMap(fileName, fileId, fileClassic);
       createFile(fileClassic, callFsync);
 
       final long externalId = composeFileId(id, fileId);
@@ -874,6 +959,8 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
               "File with given id exists but has different name " + fileClassic.getName() + " vs. proposed " + fileName);
         }
 
+        //map is cleared first, so it never points to the space outside of the file
+        createCompressedPageMap(fileName, intId, fileClassic);
         fileClassic.shrink(0);
 
         if (callFsync) {
@@ -885,6 +972,7 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
         }
 
         fileClassic = createFileInstance(fileName, intId);
+        createCompressedPageMap(fileName, intId, fileClassic);
         createFile(fileClassic, callFsync);
 
         files.add(fileId, fileClassic);
@@ -926,12 +1014,18 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
             continue;
           }
 
-          if (callFsync) {
+          final OCompressedPageMap compressedPageMap = compressedPageMaps.get(intId);
+          if (callFsync || compressedPageMap != null) {
             final long fileId = composeFileId(id, intId);
             final OClosableEntry<Long, OFileClassic> entry = files.acquire(fileId);
             try {
               final OFileClassic fileClassic = entry.get();
-              fileClassic.synch();
+              if (compressedPageMap != null) {
+                //segments of WAL are cut only if map of pages is stored on the disk
+                compressedPageMap.flush(fileClassic, callFsync);
+              } else {
+                fileClassic.synch();
+              }
             } finally {
               files.release(entry);
             }
@@ -1166,7 +1260,7 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
         try {
           final OFileClassic fileClassic = entry.get();
 
-          long startAllocationIndex = fileClassic.getFileSize() / pageSize;
+          long startAllocationIndex = filledUpTo(intId, fileClassic);
           @SuppressWarnings("UnnecessaryLocalVariable")
           final long stopAllocationIndex = startPageIndex;
 
@@ -1182,7 +1276,7 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
           //but it the same moment another page for the same index is added to the write cache
           final Lock[] locks = lockManager.acquireExclusiveLocksInBatch(allocationPageKeys);
           try {
-            final long fileSize = fileClassic.getFileSize();
+            final long fileSize = filledUpTo(intId, fileClassic) * pageSize;
             final int spaceToAllocate = (int) ((stopAllocationIndex + 1) * pageSize - fileSize);
 
             OCachePointer resultPointer = null;
@@ -1195,7 +1289,13 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
                 final ByteBuffer buffer = pointer.getNativeByteBuffer();
 
                 addMagicAndChecksum(buffer);
-                fileClassic.allocateSpace(buffer);
+
+                final OCompressedPageMap compressedPageMap = compressedPageMaps.get(intId);
+                if (compressedPageMap == null) {
+                  fileClassic.allocateSpace(buffer);
+                } else {
+                  compressedPageMap.writePage(fileClassic, index, buffer);
+                }
                 buffer.rewind();
 
                 final OCachePointer cachePointer = new OCachePointer(pointer, bufferPool, fileId, index);
@@ -1251,6 +1351,121 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
     }
   }
 
+  @Override
+  public OCachePointer[] load(final long fileId, final long[] pageIndexes, final boolean verifyChecksums) throws IOException {
+    final int intId = extractFileId(fileId);
+    final OCachePointer[] pagePointers = new OCachePointer[pageIndexes.length];
+
+    if (pageIndexes.length == 0) {
+      return pagePointers;
+    }
+
+    final PageKey[] pageKeys = new PageKey[pageIndexes.length];
+    for (int i = 0; i < pageIndexes.length; i++) {
+      pageKeys[i] = new PageKey(intId, pageIndexes[i]);
+    }
+
+    filesLock.acquireReadLock();
+    try {
+      final Lock[] pageLocks = lockManager.acquireSharedLocksInBatch(pageKeys);
+      try {
+        //pages which are absent in write cache are split on runs of consecutive pages, each run is read by single call
+        final List<PagesRun> runs = new ArrayList<>();
+        PagesRun run = null;
+
+        for (int i = 0; i < pageKeys.length; i++) {
+          final OCachePointer pagePointer = writeCachePages.get(pageKeys[i]);
+
+          if (pagePointer != null) {
+            pagePointer.incrementReadersReferrer();
+            pagePointers[i] = pagePointer;
+
+            run = null;
+          } else if (run != null && pageIndexes[i] == pageIndexes[i - 1] + 1) {
+            run.pageCount++;
+          } else {
+            run = new PagesRun(i, pageIndexes[i]);
+            runs.add(run);
+          }
+        }
+
+        //first run is always read by current thread, the rest of runs is read by read executor if it is present
+        final int localRuns = readExecutor == null ? runs.size() : Math.min(1, runs.size());
+
+        final List<Future<Void>> futures = new ArrayList<>();
+        for (int i = localRuns; i < runs.size(); i++) {
+          final PagesRun pagesRun = runs.get(i);
+          futures.add(readExecutor.submit(() -> {
+            readPagesRun(intId, pagesRun, pagePointers, verifyChecksums);
+            return null;
+          }));
+        }
+
+        Throwable error = null;
+        try {
+          for (int i = 0; i < localRuns; i++) {
+            readPagesRun(intId, runs.get(i), pagePointers, verifyChecksums);
+          }
+        } catch (final IOException | RuntimeException e) {
+          error = e;
+        }
+
+        for (final Future<Void> future : futures) {
+          try {
+            future.get();
+          } catch (final ExecutionException e) {
+            if (error == null) {
+              error = e.getCause();
+            }
+          } catch (final InterruptedException e) {
+            if (error == null) {
+              error = e;
+            }
+          }
+        }
+
+        if (error != null) {
+          for (final OCachePointer pagePointer : pagePointers) {
+            if (pagePointer != null) {
+              pagePointer.decrementReadersReferrer();
+            }
+          }
+
+          if (error instanceof IOException) {
+            throw (IOException) error;
+          }
+
+          if (error instanceof RuntimeException) {
+            throw (RuntimeException) error;
+          }
+
+          throw OException.wrapException(new OStorageException("Batch load of pages of file " + fileId + " was failed"), error);
+        }
+
+        return pagePointers;
+      } finally {
+        for (final Lock pageLock : pageLocks) {
+          pageLock.unlock();
+        }
+      }
+    } finally {
+      filesLock.releaseReadLock();
+    }
+  }
+
+  private void readPagesRun(final int intId, final PagesRun run, final OCachePointer[] pagePointers, final boolean verifyChecksums)
+      throws IOException {
+    final OCachePointer[] loadedPointers = loadFileContent(intId, run.startPageIndex, run.pageCount, verifyChecksums);
+
+    //pages which are out of file range are left null
+    if (loadedPointers != null) {
+      for (int n = 0; n < loadedPointers.length; n++) {
+        loadedPointers[n].incrementReadersReferrer();
+        pagePointers[run.startPosition + n] = loadedPointers[n];
+      }
+    }
+  }
+
   @Override
   public void addOnlyWriters(final long fileId, final long pageIndex) {
     exclusiveWriteCacheSize.incrementAndGet();
@@ -1301,7 +1516,7 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
     try {
       final OClosableEntry<Long, OFileClassic> entry = files.acquire(fileId);
       try {
-        return entry.get().getFileSize() / pageSize;
+        return filledUpTo(intId, entry.get());
       } finally {
         files.release(entry);
       }
@@ -1346,8 +1561,15 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
     filesLock.acquireWriteLock();
     try {
       removeCachedPages(intId);
+      truncateDoubleWriteLogInFlushThread();
+
       final OClosableEntry<Long, OFileClassic> entry = files.acquire(fileId);
       try {
+        final OCompressedPageMap compressedPageMap = compressedPageMaps.get(intId);
+        if (compressedPageMap != null) {
+          compressedPageMap.truncate(callFsync);
+        }
+
         entry.get().shrink(0);
       } finally {
         files.release(entry);
@@ -1359,6 +1581,35 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
     }
   }
 
+  @Override
+  public void shrinkFile(long fileId, final long pagesCount) throws IOException {
+    final int intId = extractFileId(fileId);
+    fileId = composeFileId(id, intId);
+
+    filesLock.acquireWriteLock();
+    try {
+      removeCachedPages(intId, pagesCount);
+      truncateDoubleWriteLogInFlushThread();
+
+      final OClosableEntry<Long, OFileClassic> entry = files.acquire(fileId);
+      try {
+        //space of compressed pages is reused inside of the file, so only pages of plain files are released
+        if (!compressedPageMaps.containsKey(intId)) {
+          final OFileClassic fileClassic = entry.get();
+          if (fileClassic.getFileSize() > pagesCount * pageSize) {
+            fileClassic.shrink(pagesCount * pageSize);
+          }
+        }
+      } finally {
+        files.release(entry);
+      }
+    } catch (final InterruptedException e) {
+      throw OException.wrapException(new OStorageException("File shrink was interrupted"), e);
+    } finally {
+      filesLock.releaseWriteLock();
+    }
+  }
+
   @Override
   public void replaceFileContentWith(long fileId, final Path newContentFile) throws IOException {
     final int intId = extractFileId(fileId);
@@ -1367,10 +1618,16 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
     filesLock.acquireWriteLock();
     try {
       removeCachedPages(intId);
+      truncateDoubleWriteLogInFlushThread();
 
       final OClosableEntry<Long, OFileClassic> entry = files.acquire(fileId);
       try {
-        entry.get().replaceContentWith(newContentFile);
+        final OCompressedPageMap compressedPageMap = compressedPageMaps.get(intId);
+        if (compressedPageMap == null) {
+          entry.get().replaceContentWith(newContentFile);
+        } else {
+          replaceCompressedFileContentWith(entry.get(), compressedPageMap, newContentFile);
+        }
       } finally {
         files.release(entry);
       }
@@ -1403,6 +1660,11 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
 
         final Path newFile = storagePath.resolve(newOsFileName);
         file.renameTo(newFile);
+
+        final OCompressedPageMap compressedPageMap = compressedPageMaps.get(intId);
+        if (compressedPageMap != null) {
+          compressedPageMap.rename(OCompressedPageMap.mapPath(file));
+        }
       } finally {
         files.release(entry);
       }
@@ -1459,6 +1721,18 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
 
     filesLock.acquireWriteLock();
     try {
+      if (doubleWriteLog != null) {
+        //all pages are flushed, so log is not needed any more
+        try {
+          truncateDoubleWriteLog();
+        } catch (final InterruptedException e) {
+          throw OException.wrapException(new OStorageException("Truncation of double write log was interrupted"), e);
+        }
+
+        doubleWriteLog.delete();
+        doubleWriteLog = null;
+      }
+
       final Collection<Integer> fileIds = nameIdMap.values();
 
       final List<Long> closedIds = new ArrayList<>(1_000);
@@ -1496,6 +1770,7 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
 
       nameIdMap.clear();
       idNameMap.clear();
+      compressedPageMaps.clear();
 
       final long[] ids = new long[closedIds.size()];
       int n = 0;
@@ -1596,7 +1871,8 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
 
       long time = System.currentTimeMillis();
 
-      final long filledUpTo = fileClassic.getFileSize();
+      final long filledUpTo = filledUpTo(intId, fileClassic) * pageSize;
+      final OCompressedPageMap compressedPageMap = compressedPageMaps.get(intId);
       fileIsCorrect = true;
 
       for (long pos = 0; pos < filledUpTo; pos += pageSize) {
@@ -1608,7 +1884,7 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
         final OPointer pointer = bufferPool.acquireDirect(true);
         try {
           final ByteBuffer byteBuffer = pointer.getNativeByteBuffer();
-          fileClassic.read(pos, byteBuffer, true);
+          readPage(fileClassic, compressedPageMap, pos / pageSize, byteBuffer, true);
           byteBuffer.rewind();
           byteBuffer.get(data);
         } finally {
@@ -1698,6 +1974,15 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
         nameIdMapHolder = null;
         nameIdMapHolderPath = null;
       }
+
+      final Future<Void> future = commitExecutor.submit(new DeleteDoubleWriteLogTask());
+      try {
+        future.get();
+      } catch (final InterruptedException e) {
+        throw OException.wrapException(new OInterruptedException("Removal of double write log was interrupted"), e);
+      } catch (final Exception e) {
+        throw OException.wrapException(new OWriteCacheException("Removal of double write log was abnormally terminated"), e);
+      }
     } finally {
       filesLock.releaseWriteLock();
     }
@@ -1748,6 +2033,313 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
     return exclusiveWriteCacheSize.get();
   }
 
+  /**
+   * @return Amount of pages stored in the file.
+   */
+  private long filledUpTo(final int intId, final OFileClassic fileClassic) {
+    final OCompressedPageMap compressedPageMap = compressedPageMaps.get(intId);
+    if (compressedPageMap == null) {
+      return fileClassic.getFileSize() / pageSize;
+    }
+
+    return compressedPageMap.pagesCount();
+  }
+
+  private void readPage(final OFileClassic fileClassic, final OCompressedPageMap compressedPageMap, final long pageIndex,
+      final ByteBuffer buffer, final boolean throwOnEof) throws IOException {
+    if (compressedPageMap == null) {
+      fileClassic.read(pageIndex * pageSize, buffer, throwOnEof);
+    } else {
+      compressedPageMap.readPage(fileClassic, pageIndex, buffer);
+    }
+  }
+
+  private boolean isCompressed(final String fileName) {
+    if (compressedFiles.isEmpty()) {
+      return false;
+    }
+
+    if (compressedFiles.contains("*")) {
+      return true;
+    }
+
+    final int extSeparator = fileName.lastIndexOf('.');
+    final String name = extSeparator > 0 ? fileName.substring(0, extSeparator) : fileName;
+
+    return compressedFiles.contains(name.toLowerCase(Locale.ENGLISH));
+  }
+
+  /**
+   * Creates empty map of compressed pages for newly created file if pages of this file should be compressed, otherwise removes
+   * map which may be left from the previous file with the same name.
+   */
+  private void createCompressedPageMap(final String fileName, final int intId, final OFileClassic fileClassic)
+      throws IOException {
+    compressedPageMaps.remove(intId);
+
+    final Path mapPath = OCompressedPageMap.mapPath(fileClassic);
+    if (isCompressed(fileName)) {
+      compressedPageMaps.put(intId, OCompressedPageMap.create(mapPath, pageSize, bufferPool, callFsync));
+    } else {
+      Files.deleteIfExists(mapPath);
+    }
+  }
+
+  private void loadCompressedPageMap(final int intId, final OFileClassic fileClassic) throws IOException {
+    final Path mapPath = OCompressedPageMap.mapPath(fileClassic);
+    if (Files.exists(mapPath)) {
+      compressedPageMaps.put(intId, OCompressedPageMap.load(mapPath, pageSize, bufferPool, fileClassic.getFileSize()));
+    }
+  }
+
+  /**
+   * Content of the new file consist of uncompressed pages, so they are compressed one by one and written into the cleared file.
+   */
+  private void replaceCompressedFileContentWith(final OFileClassic fileClassic, final OCompressedPageMap compressedPageMap,
+      final Path newContentFile) throws IOException {
+    compressedPageMap.truncate(callFsync);
+    fileClassic.shrink(0);
+
+    final OFileClassic newContent = new OFileClassic(newContentFile);
+    newContent.open();
+    try {
+      final long pages = newContent.getFileSize() / pageSize;
+
+      final OPointer pointer = bufferPool.acquireDirect(false);
+      try {
+        final ByteBuffer buffer = pointer.getNativeByteBuffer();
+
+        for (long pageIndex = 0; pageIndex < pages; pageIndex++) {
+          buffer.position(0);
+          newContent.read(pageIndex * pageSize, buffer, true);
+
+          compressedPageMap.writePage(fileClassic, pageIndex, buffer);
+        }
+      } finally {
+        bufferPool.release(pointer);
+      }
+    } finally {
+      newContent.close();
+    }
+
+    compressedPageMap.flush(fileClassic, callFsync);
+  }
+
+  /**
+   * Restores pages broken by partial writes from the double write log which is left after the crash and opens the log if it is
+   * used.
+   */
+  private void initDoubleWriteLog() throws IOException, InterruptedException {
+    if (doubleWriteLog != null) {
+      return;
+    }
+
+    final Path path = storagePath.resolve(storageName + DOUBLE_WRITE_LOG_EXTENSION);
+    if (!Files.exists(path) && doubleWriteLogMaxSize <= 0) {
+      return;
+    }
+
+    final ODoubleWriteLog log = new ODoubleWriteLog(path, pageSize);
+    log.open();
+
+    restoreFromDoubleWriteLog(log);
+
+    if (doubleWriteLogMaxSize > 0) {
+      doubleWriteLog = log;
+    } else {
+      log.delete();
+    }
+  }
+
+  private void restoreFromDoubleWriteLog(final ODoubleWriteLog log) throws IOException, InterruptedException {
+    //only the last copy of the page may be written into the data file when the crash happened
+    final Map<PageKey, Long> lastCopies = new HashMap<>();
+    log.iteratePages((fileId, pageIndex, position) -> lastCopies.put(new PageKey(fileId, pageIndex), position));
+
+    final Set<Integer> restoredFiles = new HashSet<>();
+    int restoredPages = 0;
+
+    final OPointer pointer = bufferPool.acquireDirect(false);
+    try {
+      final ByteBuffer buffer = pointer.getNativeByteBuffer();
+
+      for (final Map.Entry<PageKey, Long> copy : lastCopies.entrySet()) {
+        final PageKey pageKey = copy.getKey();
+
+        final OClosableEntry<Long, OFileClassic> entry = files.acquire(composeFileId(id, pageKey.fileId));
+        if (entry == null) {
+          //file was deleted
+          continue;
+        }
+
+        try {
+          final OFileClassic fileClassic = entry.get();
+          final OCompressedPageMap compressedPageMap = compressedPageMaps.get(pageKey.fileId);
+
+          if (pageKey.pageIndex >= filledUpTo(pageKey.fileId, fileClassic)) {
+            continue;
+          }
+
+          buffer.position(0);
+          readPage(fileClassic, compressedPageMap, pageKey.pageIndex, buffer, true);
+
+          if (!isPageBroken(buffer)) {
+            continue;
+          }
+
+          log.readPage(copy.getValue(), buffer);
+          buffer.position(0);
+
+          if (compressedPageMap == null) {
+            fileClassic.write(pageKey.pageIndex * pageSize, buffer);
+          } else {
+            compressedPageMap.writePage(fileClassic, pageKey.pageIndex, buffer);
+          }
+
+          restoredFiles.add(pageKey.fileId);
+          restoredPages++;
+        } finally {
+          files.release(entry);
+        }
+      }
+    } finally {
+      bufferPool.release(pointer);
+    }
+
+    for (final int intId : restoredFiles) {
+      final OClosableEntry<Long, OFileClassic> entry = files.acquire(composeFileId(id, intId));
+      try {
+        final OFileClassic fileClassic = entry.get();
+        final OCompressedPageMap compressedPageMap = compressedPageMaps.get(intId);
+
+        if (compressedPageMap != null) {
+          compressedPageMap.flush(fileClassic, true);
+        } else {
+          fileClassic.synch();
+        }
+      } finally {
+        files.release(entry);
+      }
+    }
+
+    if (restoredPages > 0) {
+      OLogManager.instance()
+          .warn(this, "%d broken pages of storage %s were restored from double write log", restoredPages, storageName);
+    }
+
+    log.truncate();
+  }
+
+  /**
+   * Page is treated as broken if its magic number is incorrect or stored checksum does not match its content. Pages which are
+   * stored without checksum can not be verified.
+   */
+  private boolean isPageBroken(final ByteBuffer buffer) {
+    final long magicNumber = buffer.getLong(MAGIC_NUMBER_OFFSET);
+    if (magicNumber == MAGIC_NUMBER_WITHOUT_CHECKSUM) {
+      return false;
+    }
+
+    if (magicNumber != MAGIC_NUMBER_WITH_CHECKSUM) {
+      return true;
+    }
+
+    final int storedChecksum = buffer.getInt(CHECKSUM_OFFSET);
+
+    final ByteBuffer content = buffer.duplicate();
+    content.position(PAGE_OFFSET_TO_CHECKSUM_FROM);
+    content.limit(pageSize);
+
+    final CRC32 crc32 = new CRC32();
+    crc32.update(content);
+
+    return (int) crc32.getValue() != storedChecksum;
+  }
+
+  /**
+   * Writes pages collected in {@link #doubleWriteChunks} into the double write log and then into the data files. Log is truncated
+   * first if it exceeds the maximum size.
+   */
+  private void flushDoubleWriteChunks() throws IOException, InterruptedException {
+    if (doubleWriteChunks.isEmpty()) {
+      return;
+    }
+
+    if (doubleWriteLog.size() >= doubleWriteLogMaxSize) {
+      truncateDoubleWriteLog();
+    }
+
+    final int[] fileIds = new int[doubleWritePages];
+    final long[] pageIndexes = new long[doubleWritePages];
+    final ByteBuffer[] pages = new ByteBuffer[doubleWritePages];
+
+    int n = 0;
+    for (final List<OQuarto<Long, ByteBuffer, OPointer, OCachePointer>> chunk : doubleWriteChunks) {
+      for (final OQuarto<Long, ByteBuffer, OPointer, OCachePointer> quarto : chunk) {
+        fileIds[n] = internalFileId(quarto.four.getFileId());
+        pageIndexes[n] = quarto.four.getPageIndex();
+        pages[n] = quarto.two;
+        n++;
+      }
+    }
+
+    doubleWriteLog.write(fileIds, pageIndexes, pages);
+
+    for (final List<OQuarto<Long, ByteBuffer, OPointer, OCachePointer>> chunk : doubleWriteChunks) {
+      final ByteBuffer[] buffers = new ByteBuffer[chunk.size()];
+      final OPointer[] directPointers = new OPointer[chunk.size()];
+
+      for (int i = 0; i < buffers.length; i++) {
+        buffers[i] = chunk.get(i).two;
+        directPointers[i] = chunk.get(i).three;
+      }
+
+      doubleWriteFiles.add(internalFileId(chunk.get(0).four.getFileId()));
+      writePagesChunk(chunk, buffers, directPointers);
+    }
+
+    doubleWriteChunks.clear();
+    doubleWritePages = 0;
+  }
+
+  /**
+   * Syncs data files which pages were written since the last truncation of the double write log and truncates the log.
+   */
+  private void truncateDoubleWriteLog() throws IOException, InterruptedException {
+    if (doubleWriteLog.size() == 0) {
+      return;
+    }
+
+    for (final int intId : doubleWriteFiles) {
+      final OClosableEntry<Long, OFileClassic> entry = files.acquire(composeFileId(id, intId));
+      if (entry != null) {
+        try {
+          entry.get().synch();
+        } finally {
+          files.release(entry);
+        }
+      }
+    }
+
+    doubleWriteFiles.clear();
+    doubleWriteLog.truncate();
+  }
+
+  private void truncateDoubleWriteLogInFlushThread() {
+    if (doubleWriteLogMaxSize <= 0) {
+      return;
+    }
+
+    final Future<Void> future = commitExecutor.submit(new TruncateDoubleWriteLogTask());
+    try {
+      future.get();
+    } catch (final InterruptedException e) {
+      throw OException.wrapException(new OInterruptedException("Truncation of double write log was interrupted"), e);
+    } catch (final Exception e) {
+      throw OException.wrapException(new OWriteCacheException("Truncation of double write log was abnormally terminated"), e);
+    }
+  }
+
   private static void openFile(final OFileClassic fileClassic) {
     if (fileClassic.exists()) {
       if (!fileClassic.isOpen()) {
@@ -1926,6 +2518,7 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
 
           if (fileClassic.exists()) {
             fileClassic.open();
+            loadCompressedPageMap(nameIdEntry.getValue(), fileClassic);
             files.add(externalId, fileClassic);
           } else {
             nameIdMap.put(nameIdEntry.getKey(), -fileId);
@@ -2000,6 +2593,7 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
 
           if (fileClassic.exists()) {
             fileClassic.open();
+            loadCompressedPageMap(nameIdEntry.getValue(), fileClassic);
             files.add(externalId, fileClassic);
           } else {
             final Integer fileId = nameIdMap.get(nameIdEntry.getKey());
@@ -2136,6 +2730,8 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
     fileId = composeFileId(id, intId);
 
     removeCachedPages(intId);
+    //log may contain pages of deleted file, they should not be restored into the file which may be created with the same id
+    truncateDoubleWriteLogInFlushThread();
 
     final OFileClassic fileClassic = files.remove(fileId);
 
@@ -2148,11 +2744,20 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
       }
     }
 
+    final OCompressedPageMap compressedPageMap = compressedPageMaps.remove(intId);
+    if (compressedPageMap != null) {
+      compressedPageMap.delete();
+    }
+
     return name;
   }
 
   private void removeCachedPages(final int fileId) {
-    final Future<Void> future = commitExecutor.submit(new RemoveFilePagesTask(fileId));
+    removeCachedPages(fileId, 0);
+  }
+
+  private void removeCachedPages(final int fileId, final long fromPageIndex) {
+    final Future<Void> future = commitExecutor.submit(new RemoveFilePagesTask(fileId, fromPageIndex));
     try {
       future.get();
     } catch (final InterruptedException e) {
@@ -2174,10 +2779,10 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
           throw new IllegalArgumentException("File with id " + intId + " not found in WOW Cache");
         }
 
-        final long firstPageStartPosition = startPageIndex * pageSize;
-        final long firstPageEndPosition = firstPageStartPosition + pageSize;
+        final OCompressedPageMap compressedPageMap = compressedPageMaps.get(intId);
+        final long filledUpTo = filledUpTo(intId, fileClassic);
 
-        if (fileClassic.getFileSize() >= firstPageEndPosition) {
+        if (filledUpTo > startPageIndex) {
           long startTs = 0;
           int pagesRead = 0;
 
@@ -2190,7 +2795,7 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
               final OPointer pointer = bufferPool.acquireDirect(false);
               final ByteBuffer buffer = pointer.getNativeByteBuffer();
               assert buffer.position() == 0;
-              fileClassic.read(firstPageStartPosition, buffer, false);
+              readPage(fileClassic, compressedPageMap, startPageIndex, buffer, false);
 
               if (verifyChecksums && (checksumMode == OChecksumMode.StoreAndVerify || checksumMode == OChecksumMode.StoreAndThrow
                   || checksumMode == OChecksumMode.StoreAndSwitchReadOnlyMode)) {
@@ -2204,7 +2809,7 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
               return new OCachePointer[] { dataPointer };
             }
 
-            final long maxPageCount = (fileClassic.getFileSize() - firstPageStartPosition) / pageSize;
+            final long maxPageCount = filledUpTo - startPageIndex;
             final int realPageCount = Math.min((int) maxPageCount, pageCount);
 
             final OPointer[] pointers = new OPointer[realPageCount];
@@ -2215,7 +2820,13 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
               buffers[i] = pointer.getNativeByteBuffer();
             }
 
-            fileClassic.read(firstPageStartPosition, buffers, false);
+            if (compressedPageMap == null) {
+              fileClassic.read(startPageIndex * pageSize, buffers, false);
+            } else {
+              for (int i = 0; i < buffers.length; i++) {
+                compressedPageMap.readPage(fileClassic, startPageIndex + i, buffers[i]);
+              }
+            }
 
             if (verifyChecksums && (checksumMode == OChecksumMode.StoreAndVerify || checksumMode == OChecksumMode.StoreAndThrow
                 || checksumMode == OChecksumMode.StoreAndSwitchReadOnlyMode)) {
@@ -2364,7 +2975,13 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
 
       addMagicAndChecksum(buffer);
       buffer.position(0);
-      fileClassic.write(pageIndex * pageSize, buffer);
+
+      final OCompressedPageMap compressedPageMap = compressedPageMaps.get(fileId);
+      if (compressedPageMap == null) {
+        fileClassic.write(pageIndex * pageSize, buffer);
+      } else {
+        compressedPageMap.writePage(fileClassic, pageIndex, buffer);
+      }
     } finally {
       files.release(entry);
     }
@@ -3034,6 +3651,8 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
       throw new IllegalStateException("Chunk is not empty !");
     }
 
+    flushDoubleWriteChunks();
+
     if (copiedPages != flushedPages) {
       throw new IllegalStateException("Copied pages (" + copiedPages + " ) != flushed pages (" + flushedPages + ")");
     }
@@ -3091,6 +3710,46 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
       directPointers[i] = quarto.three;
     }
 
+    final int flushedPages = chunk.size();
+
+    if (doubleWriteLog != null) {
+      //pages are kept in write cache till they are written to the data files
+      doubleWriteChunks.add(new ArrayList<>(chunk));
+      doubleWritePages += flushedPages;
+      chunk.clear();
+
+      if (doubleWritePages >= chunkSize) {
+        flushDoubleWriteChunks();
+      }
+    } else {
+      writePagesChunk(chunk, buffers, directPointers);
+      chunk.clear();
+    }
+
+    if (printCacheStatistics) {
+      final long endTs = System.nanoTime();
+
+      flushedPagesSum += flushedPages;
+      flushedPagesTime += endTs - flushTs;
+
+      chunkSizeSum += flushedPages;
+      chunkSizeCountSum++;
+      chunkSizeTimeSum += endTs - flushTs;
+
+      if (wasWaitingForWAL) {
+        walFlushCount++;
+        walFlushTime += walTs - startTs;
+      }
+    }
+
+    return flushedPages;
+  }
+
+  /**
+   * Writes pages of the chunk into the data file and removes them from write cache if they were not changed after the copy.
+   */
+  private void writePagesChunk(final List<OQuarto<Long, ByteBuffer, OPointer, OCachePointer>> chunk, final ByteBuffer[] buffers,
+      final OPointer[] directPointers) throws InterruptedException, IOException {
     final OQuarto<Long, ByteBuffer, OPointer, OCachePointer> firstChunk = chunk.get(0);
 
     final OCachePointer firstCachePointer = firstChunk.four;
@@ -3100,7 +3759,15 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
     final OClosableEntry<Long, OFileClassic> fileEntry = files.acquire(firstFileId);
     try {
       final OFileClassic file = fileEntry.get();
-      file.write(firstPageIndex * pageSize, buffers);
+
+      final OCompressedPageMap compressedPageMap = compressedPageMaps.get(internalFileId(firstFileId));
+      if (compressedPageMap == null) {
+        file.write(firstPageIndex * pageSize, buffers);
+      } else {
+        for (int i = 0; i < buffers.length; i++) {
+          compressedPageMap.writePage(file, firstPageIndex + i, buffers[i]);
+        }
+      }
     } finally {
       files.release(fileEntry);
     }
@@ -3136,27 +3803,6 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
         lock.unlock();
       }
     }
-
-    final int flushedPages = chunk.size();
-    chunk.clear();
-
-    if (printCacheStatistics) {
-      final long endTs = System.nanoTime();
-
-      flushedPagesSum += flushedPages;
-      flushedPagesTime += endTs - flushTs;
-
-      chunkSizeSum += flushedPages;
-      chunkSizeCountSum++;
-      chunkSizeTimeSum += endTs - flushTs;
-
-      if (wasWaitingForWAL) {
-        walFlushCount++;
-        walFlushTime += walTs - startTs;
-      }
-    }
-
-    return flushedPages;
   }
 
   private int flushExclusiveWriteCache(final CountDownLatch latch, long pagesToFlush) throws InterruptedException, IOException {
@@ -3282,6 +3928,14 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
       throw new IllegalStateException("Chunk is not empty !");
     }
 
+    if (doubleWritePages > 0) {
+      flushDoubleWriteChunks();
+
+      if (latch != null && exclusiveWriteCacheSize.get() <= exclusiveWriteCacheMaxSize) {
+        latch.countDown();
+      }
+    }
+
     if (copiedPages != flushedPages) {
       throw new IllegalStateException("Copied pages (" + copiedPages + " ) != flushed pages (" + flushedPages + ")");
     }
@@ -3305,6 +3959,84 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
         return null;
       }
 
+      if (doubleWriteLog != null) {
+        flushPagesUsingDoubleWriteLog();
+      } else {
+        flushPages();
+      }
+
+      for (final int iFileId : fileIdSet) {
+        final OCompressedPageMap compressedPageMap = compressedPageMaps.get(iFileId);
+        if (!callFsync && compressedPageMap == null) {
+          continue;
+        }
+
+        final long finalId = composeFileId(id, iFileId);
+        final OClosableEntry<Long, OFileClassic> entry = files.acquire(finalId);
+        if (entry != null) {
+          try {
+            if (compressedPageMap != null) {
+              compressedPageMap.flush(entry.get(), callFsync);
+            } else {
+              entry.get().synch();
+            }
+          } finally {
+            files.release(entry);
+          }
+        }
+      }
+
+      return null;
+    }
+
+    private void flushPagesUsingDoubleWriteLog() throws InterruptedException, IOException {
+      final ArrayList<OQuarto<Long, ByteBuffer, OPointer, OCachePointer>> chunk = new ArrayList<>(1);
+
+      for (final Map.Entry<PageKey, OCachePointer> entry : writeCachePages.entrySet()) {
+        final PageKey pageKey = entry.getKey();
+        if (!fileIdSet.contains(pageKey.fileId)) {
+          continue;
+        }
+
+        final OCachePointer pagePointer = entry.getValue();
+        OLogSequenceNumber endLSN = null;
+
+        final Lock groupLock = lockManager.acquireExclusiveLock(pageKey);
+        try {
+          if (!pagePointer.tryAcquireSharedLock()) {
+            continue;
+          }
+
+          try {
+            final ByteBuffer buffer = pagePointer.getBufferDuplicate();
+
+            final OPointer directPointer = bufferPool.acquireDirect(false);
+            final ByteBuffer copy = directPointer.getNativeByteBuffer();
+
+            assert buffer != null;
+            buffer.position(0);
+            copy.put(buffer);
+            copy.position(0);
+
+            endLSN = pagePointer.getEndLSN();
+            chunk.add(new OQuarto<>(pagePointer.getVersion(), copy, directPointer, pagePointer));
+
+            removeFromDirtyPages(pageKey);
+          } finally {
+            pagePointer.releaseSharedLock();
+          }
+        } finally {
+          groupLock.unlock();
+        }
+
+        //page is removed from write cache once it is written to the data file
+        flushPagesChunk(chunk, endLSN);
+      }
+
+      flushDoubleWriteChunks();
+    }
+
+    private void flushPages() throws InterruptedException, IOException {
       final Iterator<Map.Entry<PageKey, OCachePointer>> entryIterator = writeCachePages.
           entrySet().iterator();
 
@@ -3352,19 +4084,26 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
           writeCacheSize.decrementAndGet();
         }
       }
+    }
+  }
 
-      if (callFsync) {
-        for (final int iFileId : fileIdSet) {
-          final long finalId = composeFileId(id, iFileId);
-          final OClosableEntry<Long, OFileClassic> entry = files.acquire(finalId);
-          if (entry != null) {
-            try {
-              entry.get().synch();
-            } finally {
-              files.release(entry);
-            }
-          }
-        }
+  private final class TruncateDoubleWriteLogTask implements Callable<Void> {
+    @Override
+    public Void call() throws Exception {
+      if (doubleWriteLog != null) {
+        truncateDoubleWriteLog();
+      }
+
+      return null;
+    }
+  }
+
+  private final class DeleteDoubleWriteLogTask implements Callable<Void> {
+    @Override
+    public Void call() throws Exception {
+      if (doubleWriteLog != null) {
+        doubleWriteLog.delete();
+        doubleWriteLog = null;
       }
 
       return null;
@@ -3372,10 +4111,12 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
   }
 
   private final class RemoveFilePagesTask implements Callable<Void> {
-    private final int fileId;
+    private final int  fileId;
+    private final long fromPageIndex;
 
-    private RemoveFilePagesTask(final int fileId) {
+    private RemoveFilePagesTask(final int fileId, final long fromPageIndex) {
       this.fileId = fileId;
+      this.fromPageIndex = fromPageIndex;
     }
 
     @Override
@@ -3385,7 +4126,7 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
         final Map.Entry<PageKey, OCachePointer> entry = entryIterator.next();
         final PageKey pageKey = entry.getKey();
 
-        if (pageKey.fileId == fileId) {
+        if (pageKey.fileId == fileId && pageKey.pageIndex >= fromPageIndex) {
           final OCachePointer pagePointer = entry.getValue();
           final Lock groupLock = lockManager.acquireExclusiveLock(pageKey);
           try {
@@ -3411,6 +4152,40 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
     }
   }
 
+  /**
+   * Run of consecutive pages inside of batch of pages which are loaded from the disk.
+   *
+   * @see #load(long, long[], boolean)
+   */
+  private static final class PagesRun {
+    private final int  startPosition;
+    private final long startPageIndex;
+    private       int  pageCount = 1;
+
+    private PagesRun(final int startPosition, final long startPageIndex) {
+      this.startPosition = startPosition;
+      this.startPageIndex = startPageIndex;
+    }
+  }
+
+  private static final class ReadThreadFactory implements ThreadFactory {
+    private final AtomicInteger counter = new AtomicInteger();
+
+    private ReadThreadFactory() {
+    }
+
+    @Override
+    public final Thread newThread(@Nonnull final Runnable r) {
+      final Thread thread = new Thread(OStorageAbstract.storageThreadGroup, r);
+
+      thread.setDaemon(true);
+      thread.setName("OrientDB Write Cache Read Task " + counter.incrementAndGet());
+      thread.setUncaughtExceptionHandler(new OUncaughtExceptionHandler());
+
+      return thread;
+    }
+  }
+
   private static final class FlushThreadFactory implements ThreadFactory {
 
     private FlushThreadFactory() {
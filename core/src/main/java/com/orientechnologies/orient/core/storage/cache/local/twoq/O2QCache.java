@@ -47,6 +47,7 @@ import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -293,6 +294,64 @@ public final class O2QCache implements OReadCache {
     return doLoad(fileId, pageIndex, checkPinnedPages, writeCache, pageCount, verifyChecksums);
   }
 
+  @Override
+  public final void prefetch(long fileId, final long[] pageIndexes, final OWriteCache writeCache) throws IOException {
+    if (pageIndexes.length == 0) {
+      return;
+    }
+
+    fileId = OAbstractWriteCache.checkFileIdCompatibility(writeCache.getId(), fileId);
+    boolean removeColdPages = false;
+
+    cacheLock.acquireReadLock();
+    try {
+      final Lock fileLock = fileLockManager.acquireSharedLock(fileId);
+      try {
+        final PageKey[] pageKeys = new PageKey[pageIndexes.length];
+        for (int i = 0; i < pageKeys.length; i++) {
+          pageKeys[i] = new PageKey(fileId, pageIndexes[i]);
+        }
+
+        final Lock[] pageLocks = pageLockManager.acquireExclusiveLocksInBatch(pageKeys);
+        try {
+          //pages which are already cached are not loaded again
+          final long[] absentPages = new long[pageIndexes.length];
+          int absentPagesCount = 0;
+
+          for (final long pageIndex : pageIndexes) {
+            if (!pinnedPages.containsKey(new PinnedPage(fileId, pageIndex)) && am.get(fileId, pageIndex) == null
+                && a1in.get(fileId, pageIndex) == null) {
+              absentPages[absentPagesCount++] = pageIndex;
+            }
+          }
+
+          if (absentPagesCount > 0) {
+            final OCachePointer[] dataPointers = writeCache
+                .load(fileId, Arrays.copyOf(absentPages, absentPagesCount), false);
+
+            for (final OCachePointer dataPointer : dataPointers) {
+              if (dataPointer != null) {
+                removeColdPages = processFetchedPage(removeColdPages, dataPointer);
+              }
+            }
+          }
+        } finally {
+          for (final Lock pageLock : pageLocks) {
+            pageLock.unlock();
+          }
+        }
+      } finally {
+        fileLock.unlock();
+      }
+    } finally {
+      cacheLock.releaseReadLock();
+    }
+
+    if (removeColdPages) {
+      removeColdestPagesIfNeeded(writeCache);
+    }
+  }
+
   @Override
   public final void releaseFromRead(final OCacheEntry cacheEntry, final OWriteCache writeCache) {
     doRelease(cacheEntry);
@@ -380,6 +439,7 @@ public final class O2QCache implements OReadCache {
    *
    * @throws IllegalStateException In case of new size of disk cache is too small to hold existing pinned pages.
    */
+  @Override
   public void changeMaximumAmountOfMemory(final long readCacheMaxMemory) throws IllegalStateException {
     MemoryData memoryData;
     MemoryData newMemoryData;
@@ -584,6 +644,36 @@ public final class O2QCache implements OReadCache {
     }
   }
 
+  @Override
+  public final void shrinkFile(long fileId, final long pagesCount, final OWriteCache writeCache) throws IOException {
+    final Lock fileLock;
+    fileId = OAbstractWriteCache.checkFileIdCompatibility(writeCache.getId(), fileId);
+
+    cacheLock.acquireReadLock();
+    try {
+      fileLock = fileLockManager.acquireExclusiveLock(fileId);
+      try {
+        writeCache.shrinkFile(fileId, pagesCount);
+
+        final Set<Long> pageEntries = filePages.get(fileId);
+        if (pageEntries != null) {
+          final Iterator<Long> pageIterator = pageEntries.iterator();
+          while (pageIterator.hasNext()) {
+            final long pageIndex = pageIterator.next();
+            if (pageIndex >= pagesCount) {
+              removePage(fileId, pageIndex);
+              pageIterator.remove();
+            }
+          }
+        }
+      } finally {
+        fileLock.unlock();
+      }
+    } finally {
+      cacheLock.releaseReadLock();
+    }
+  }
+
   private void clearFile(final long fileId) {
     final Set<Long> pageEntries = filePages.get(fileId);
     if (pageEntries == null || pageEntries.isEmpty()) {
@@ -592,46 +682,50 @@ public final class O2QCache implements OReadCache {
     }
 
     for (final Long pageIndex : pageEntries) {
-      OCacheEntry cacheEntry = get(fileId, pageIndex);
+      removePage(fileId, pageIndex);
+    }
 
-      if (cacheEntry == null) {
-        cacheEntry = pinnedPages.get(new PinnedPage(fileId, pageIndex));
-      }
+    assert get(fileId, 0) == null;
 
-      if (cacheEntry != null) {
-        if (cacheEntry.getUsagesCount() == 0) {
-          cacheEntry = remove(fileId, pageIndex);
+    pageEntries.clear();
+  }
 
-          if (cacheEntry == null) {
-            MemoryData memoryData = memoryDataContainer.get();
-            cacheEntry = pinnedPages.remove(new PinnedPage(fileId, pageIndex));
+  private void removePage(final long fileId, final long pageIndex) {
+    OCacheEntry cacheEntry = get(fileId, pageIndex);
 
-            MemoryData newMemoryData = new MemoryData(memoryData.maxSize, memoryData.pinnedPages - 1);
+    if (cacheEntry == null) {
+      cacheEntry = pinnedPages.get(new PinnedPage(fileId, pageIndex));
+    }
 
-            while (!memoryDataContainer.compareAndSet(memoryData, newMemoryData)) {
-              memoryData = memoryDataContainer.get();
-              newMemoryData = new MemoryData(memoryData.maxSize, memoryData.pinnedPages - 1);
-            }
-          }
+    if (cacheEntry != null) {
+      if (cacheEntry.getUsagesCount() == 0) {
+        cacheEntry = remove(fileId, pageIndex);
+
+        if (cacheEntry == null) {
+          MemoryData memoryData = memoryDataContainer.get();
+          cacheEntry = pinnedPages.remove(new PinnedPage(fileId, pageIndex));
+
+          MemoryData newMemoryData = new MemoryData(memoryData.maxSize, memoryData.pinnedPages - 1);
 
-          final OCachePointer cachePointer = cacheEntry.getCachePointer();
-          if (cachePointer != null) {
-            cachePointer.decrementReadersReferrer();
-            cacheEntry.clearCachePointer();
+          while (!memoryDataContainer.compareAndSet(memoryData, newMemoryData)) {
+            memoryData = memoryDataContainer.get();
+            newMemoryData = new MemoryData(memoryData.maxSize, memoryData.pinnedPages - 1);
           }
+        }
 
-        } else {
-          throw new OStorageException(
-              "Page with index " + pageIndex + " for file with id " + fileId + " cannot be freed because it is used.");
+        final OCachePointer cachePointer = cacheEntry.getCachePointer();
+        if (cachePointer != null) {
+          cachePointer.decrementReadersReferrer();
+          cacheEntry.clearCachePointer();
         }
+
       } else {
-        throw new OStorageException("Page with index " + pageIndex + " was  not found in cache for file with id " + fileId);
+        throw new OStorageException(
+            "Page with index " + pageIndex + " for file with id " + fileId + " cannot be freed because it is used.");
       }
+    } else {
+      throw new OStorageException("Page with index " + pageIndex + " was  not found in cache for file with id " + fileId);
     }
-
-    assert get(fileId, 0) == null;
-
-    pageEntries.clear();
   }
 
   @Override
@@ -0,0 +1,123 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.storage.cache.local.wtinylfu;
+
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Container of {@link OCacheEntry} inside of {@link OWTinyLFUCache}.
+ * <p>
+ * Node keeps amount of users of the page and lifecycle state of the page in the single atomic counter. Non negative values of
+ * counter mean amount of threads which use the page, {@link #FROZEN} means that page is going to be evicted from the cache and can
+ * not be acquired anymore, {@link #DEAD} means that page is already removed from the cache.
+ * <p>
+ * Links to the siblings and queue marker are accessed only under eviction lock of the cache.
+ */
+final class CacheNode {
+  private static final int FROZEN = -1;
+  private static final int DEAD   = -2;
+
+  static final byte NONE      = 0;
+  static final byte EDEN      = 1;
+  static final byte PROBATION = 2;
+  static final byte PROTECTED = 3;
+
+  private final PageKey       key;
+  private final OCacheEntry   entry;
+  private final AtomicInteger state = new AtomicInteger();
+
+  private volatile boolean pinned;
+
+  CacheNode prev;
+  CacheNode next;
+  byte      queue = NONE;
+
+  CacheNode(final PageKey key, final OCacheEntry entry) {
+    this.key = key;
+    this.entry = entry;
+  }
+
+  PageKey getKey() {
+    return key;
+  }
+
+  OCacheEntry getEntry() {
+    return entry;
+  }
+
+  boolean isPinned() {
+    return pinned;
+  }
+
+  void pin() {
+    pinned = true;
+  }
+
+  /**
+   * Marks page as used by current thread.
+   *
+   * @return <code>false</code> if page is evicted or going to be evicted from cache and can not be used.
+   */
+  boolean acquire() {
+    while (true) {
+      final int usages = state.get();
+      if (usages < 0) {
+        return false;
+      }
+
+      if (state.compareAndSet(usages, usages + 1)) {
+        entry.incrementUsages();
+        return true;
+      }
+    }
+  }
+
+  void release() {
+    entry.decrementUsages();
+    final int usages = state.decrementAndGet();
+    assert usages >= 0;
+  }
+
+  /**
+   * Prevents page from being acquired by other threads if page is not used at the moment.
+   *
+   * @return <code>true</code> if page is not used and can be removed from the cache.
+   */
+  boolean freeze() {
+    return state.compareAndSet(0, FROZEN);
+  }
+
+  void makeDead() {
+    final boolean result = state.compareAndSet(FROZEN, DEAD);
+    assert result;
+  }
+
+  boolean isDead() {
+    return state.get() == DEAD;
+  }
+
+  @Override
+  public String toString() {
+    return "CacheNode{" + "key=" + key + ", state=" + state.get() + ", pinned=" + pinned + ", queue=" + queue + '}';
+  }
+}
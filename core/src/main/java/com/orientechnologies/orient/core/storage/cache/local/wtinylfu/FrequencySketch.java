@@ -0,0 +1,136 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.storage.cache.local.wtinylfu;
+
+/**
+ * Count-min sketch which is used to estimate popularity of pages in {@link WTinyLFUPolicy}.
+ * <p>
+ * Each counter is 4 bits long, so 16 counters are packed into single <code>long</code> value. Every item is mapped to the four
+ * counters in four different table cells. Once amount of increments reaches sample size all counters are divided by two so
+ * popularity of the pages ages over time.
+ * <p>
+ * This class is not thread safe and is accessed only under eviction lock of {@link OWTinyLFUCache}.
+ */
+final class FrequencySketch {
+  private static final long[] SEEDS = new long[] { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL,
+      0xcbf29ce484222325L };
+
+  private static final long RESET_MASK = 0x7777777777777777L;
+  private static final long ONE_MASK   = 0x1111111111111111L;
+
+  private long[] table;
+  private int    tableMask;
+  private int    sampleSize;
+  private int    size;
+
+  FrequencySketch(final int maxSize) {
+    ensureCapacity(maxSize);
+  }
+
+  /**
+   * Resizes sketch if needed to hold statistic for given amount of pages. All gathered statistic is lost during resize.
+   *
+   * @param maxSize Maximum amount of pages in the cache.
+   */
+  void ensureCapacity(final int maxSize) {
+    final int capacity = Math.max(ceilingPowerOfTwo(maxSize), 8);
+    if (table != null && table.length == capacity) {
+      return;
+    }
+
+    table = new long[capacity];
+    tableMask = capacity - 1;
+    sampleSize = maxSize > Integer.MAX_VALUE / 10 ? Integer.MAX_VALUE : Math.max(10 * maxSize, 10);
+    size = 0;
+  }
+
+  void increment(final int hashCode) {
+    final int hash = spread(hashCode);
+    final int start = (hash & 3) << 2;
+
+    boolean added = false;
+    for (int i = 0; i < 4; i++) {
+      final int index = indexOf(hash, i);
+      added |= incrementAt(index, start + i);
+    }
+
+    if (added && ++size == sampleSize) {
+      reset();
+    }
+  }
+
+  int frequency(final int hashCode) {
+    final int hash = spread(hashCode);
+    final int start = (hash & 3) << 2;
+
+    int frequency = Integer.MAX_VALUE;
+    for (int i = 0; i < 4; i++) {
+      final int index = indexOf(hash, i);
+      final int offset = (start + i) << 2;
+      final int count = (int) ((table[index] >>> offset) & 0xfL);
+      frequency = Math.min(frequency, count);
+    }
+
+    return frequency;
+  }
+
+  private boolean incrementAt(final int index, final int counter) {
+    final int offset = counter << 2;
+    final long mask = 0xfL << offset;
+
+    if ((table[index] & mask) != mask) {
+      table[index] += 1L << offset;
+      return true;
+    }
+
+    return false;
+  }
+
+  private void reset() {
+    int count = 0;
+    for (int i = 0; i < table.length; i++) {
+      count += Long.bitCount(table[i] & ONE_MASK);
+      table[i] = (table[i] >>> 1) & RESET_MASK;
+    }
+
+    size = (size >>> 1) - (count >>> 2);
+  }
+
+  private int indexOf(final int item, final int i) {
+    long hash = (item + SEEDS[i]) * SEEDS[i];
+    hash += (hash >>> 32);
+    return ((int) hash) & tableMask;
+  }
+
+  private static int spread(int x) {
+    x = ((x >>> 16) ^ x) * 0x45d9f3b;
+    x = ((x >>> 16) ^ x) * 0x45d9f3b;
+    return (x >>> 16) ^ x;
+  }
+
+  private static int ceilingPowerOfTwo(final int value) {
+    if (value >= 1 << 30) {
+      return 1 << 30;
+    }
+
+    return 1 << (32 - Integer.numberOfLeadingZeros(Math.max(value, 1) - 1));
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.storage.cache.local.wtinylfu;
+
+/**
+ * Intrusive LRU list of {@link CacheNode}s. Head of the list is least recently used node, tail of the list is most recently used
+ * node. This class is not thread safe and is accessed only under eviction lock of {@link OWTinyLFUCache}.
+ */
+final class NodeList {
+  private final byte queue;
+
+  private CacheNode head;
+  private CacheNode tail;
+  private int       size;
+
+  NodeList(final byte queue) {
+    this.queue = queue;
+  }
+
+  int size() {
+    return size;
+  }
+
+  CacheNode getLRU() {
+    return head;
+  }
+
+  CacheNode getMRU() {
+    return tail;
+  }
+
+  boolean contains(final CacheNode node) {
+    return node.queue == queue;
+  }
+
+  void putToMRU(final CacheNode node) {
+    if (node.queue == queue) {
+      if (tail == node) {
+        return;
+      }
+
+      unlink(node);
+    }
+
+    assert node.queue == CacheNode.NONE;
+
+    node.prev = tail;
+    node.next = null;
+
+    if (tail == null) {
+      head = node;
+    } else {
+      tail.next = node;
+    }
+
+    tail = node;
+    node.queue = queue;
+    size++;
+  }
+
+  CacheNode removeLRU() {
+    final CacheNode node = head;
+    if (node != null) {
+      unlink(node);
+    }
+
+    return node;
+  }
+
+  void remove(final CacheNode node) {
+    assert node.queue == queue;
+    unlink(node);
+  }
+
+  void clear() {
+    CacheNode node = head;
+    while (node != null) {
+      final CacheNode next = node.next;
+
+      node.prev = null;
+      node.next = null;
+      node.queue = CacheNode.NONE;
+
+      node = next;
+    }
+
+    head = null;
+    tail = null;
+    size = 0;
+  }
+
+  private void unlink(final CacheNode node) {
+    final CacheNode prev = node.prev;
+    final CacheNode next = node.next;
+
+    if (prev == null) {
+      head = next;
+    } else {
+      prev.next = next;
+    }
+
+    if (next == null) {
+      tail = prev;
+    } else {
+      next.prev = prev;
+    }
+
+    node.prev = null;
+    node.next = null;
+    node.queue = CacheNode.NONE;
+
+    size--;
+  }
+}
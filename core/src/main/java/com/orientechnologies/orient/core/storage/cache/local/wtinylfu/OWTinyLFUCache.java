@@ -0,0 +1,761 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.storage.cache.local.wtinylfu;
+
+import com.orientechnologies.common.concur.lock.OInterruptedException;
+import com.orientechnologies.common.concur.lock.OPartitionedLockManager;
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.common.types.OModifiableBoolean;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.exception.OStorageException;
+import com.orientechnologies.orient.core.storage.cache.OAbstractWriteCache;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntryImpl;
+import com.orientechnologies.orient.core.storage.cache.OCachePointer;
+import com.orientechnologies.orient.core.storage.cache.OReadCache;
+import com.orientechnologies.orient.core.storage.cache.OWriteCache;
+import com.orientechnologies.orient.core.storage.cache.local.twoq.O2QCache;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OLogSequenceNumber;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TimerTask;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Read cache which uses W-TinyLFU eviction policy (see {@link WTinyLFUPolicy}) instead of 2Q policy used in {@link O2QCache}.
+ * <p>
+ * In contrary to {@link O2QCache} pages are looked up in {@link ConcurrentHashMap} without acquiring of any cache wide lock. State
+ * of eviction policy is changed only under single eviction lock, but threads do not wait on this lock in case of cache hit. Instead
+ * accesses to the pages are recorded into the striped lossy {@link ReadBuffer} and additions of new pages are recorded into the
+ * write queue. Both buffers are drained by the thread which acquired eviction lock, so changes of eviction policy are batched and
+ * amortized between many page loads.
+ * <p>
+ * Frequency based admission of {@link WTinyLFUPolicy} makes this cache resistant to the full scans of big clusters, pages which are
+ * read only once can not push frequently used pages out of the cache.
+ * <p>
+ * Pinned pages are stored in the same map as other pages but are excluded from the eviction policy.
+ *
+ * @see OGlobalConfiguration#DISK_CACHE_READ_CACHE_TYPE
+ */
+public final class OWTinyLFUCache implements OReadCache {
+  /**
+   * Maximum amount of times when we will show message that limit of pinned pages was exhausted.
+   */
+  private static final int MAX_AMOUNT_OF_WARNINGS_PINNED_PAGES = 10;
+
+  /**
+   * Maximum percent of pinned pages which may be contained in this cache.
+   */
+  private static final int MAX_PERCENT_OF_PINED_PAGES = 50;
+
+  private final int pageSize;
+
+  /**
+   * Maximum percent of pinned pages which may be hold in this cache.
+   *
+   * @see com.orientechnologies.orient.core.config.OGlobalConfiguration#DISK_CACHE_PINNED_PAGES
+   */
+  private final int percentOfPinnedPages;
+
+  /**
+   * Counts how much time we warned user that limit of amount of pinned pages is reached.
+   */
+  private final AtomicInteger pinnedPagesWarningCounter = new AtomicInteger();
+
+  private final ConcurrentMap<PageKey, CacheNode> data = new ConcurrentHashMap<>();
+
+  /**
+   * Amount of pages which are managed by eviction policy including pages which are not added to the policy queues yet.
+   */
+  private final AtomicInteger cacheSize = new AtomicInteger();
+
+  /**
+   * Amount of pinned pages which are not managed by eviction policy.
+   */
+  private final AtomicInteger pinnedPagesCount = new AtomicInteger();
+
+  private volatile int maxSize;
+
+  private final ReentrantLock                    evictionLock = new ReentrantLock();
+  private final WTinyLFUPolicy                   policy;
+  private final ReadBuffer                       readBuffer   = new ReadBuffer();
+  private final ConcurrentLinkedQueue<CacheNode> writeBuffer  = new ConcurrentLinkedQueue<>();
+
+  private final OPartitionedLockManager<Object>  fileLockManager = new OPartitionedLockManager<>(true);
+  private final OPartitionedLockManager<PageKey> pageLockManager = new OPartitionedLockManager<>();
+
+  private final LongAdder cacheRequests = new LongAdder();
+  private final LongAdder cacheHits     = new LongAdder();
+
+  /**
+   * @param readCacheMaxMemory   Maximum amount of direct memory which can allocated by disk cache in bytes.
+   * @param pageSize             Cache page size in bytes.
+   * @param checkMinSize         If this flat is set size of cache may be {@link O2QCache#MIN_CACHE_SIZE} or bigger.
+   * @param percentOfPinnedPages Maximum percent of pinned pages which may be hold by this cache.
+   *
+   * @see #MAX_PERCENT_OF_PINED_PAGES
+   */
+  public OWTinyLFUCache(final long readCacheMaxMemory, final int pageSize, final boolean checkMinSize,
+      final int percentOfPinnedPages, final boolean printCacheStatistics, final int cacheStatisticsInterval) {
+    if (percentOfPinnedPages > MAX_PERCENT_OF_PINED_PAGES) {
+      throw new IllegalArgumentException(
+          "Percent of pinned pages cannot be more than " + percentOfPinnedPages + " but passed value is " + percentOfPinnedPages);
+    }
+
+    this.percentOfPinnedPages = percentOfPinnedPages;
+    this.pageSize = pageSize;
+
+    int normalizedSize = normalizeMemory(readCacheMaxMemory, pageSize);
+    if (checkMinSize && normalizedSize < O2QCache.MIN_CACHE_SIZE) {
+      normalizedSize = O2QCache.MIN_CACHE_SIZE;
+    }
+
+    this.maxSize = normalizedSize;
+    this.policy = new WTinyLFUPolicy(data, cacheSize, normalizedSize);
+
+    if (printCacheStatistics) {
+      Orient.instance().scheduleTask(new TimerTask() {
+        @Override
+        public void run() {
+          final long cacheRequests = OWTinyLFUCache.this.cacheRequests.sum();
+          final long cacheHits = OWTinyLFUCache.this.cacheHits.sum();
+
+          OLogManager.instance().infoNoDb(this, "Read cache stat: cache hits %d percents, cache size is %d percent",
+              cacheRequests > 0 ? 100 * cacheHits / cacheRequests : -1,
+              100 * (cacheSize.get() + pinnedPagesCount.get()) / maxSize);
+
+          OWTinyLFUCache.this.cacheRequests.add(-cacheRequests);
+          OWTinyLFUCache.this.cacheHits.add(-cacheHits);
+        }
+      }, cacheStatisticsInterval * 1_000L, cacheStatisticsInterval * 1_000L);
+    }
+  }
+
+  boolean contains(final long fileId, final long pageIndex) {
+    final CacheNode node = data.get(new PageKey(fileId, pageIndex));
+    return node != null && !node.isDead();
+  }
+
+  boolean inPinnedPages(final long fileId, final long pageIndex) {
+    final CacheNode node = data.get(new PageKey(fileId, pageIndex));
+    return node != null && !node.isDead() && node.isPinned();
+  }
+
+  @Override
+  public long addFile(final String fileName, final OWriteCache writeCache) throws IOException {
+    return writeCache.addFile(fileName);
+  }
+
+  @Override
+  public long addFile(final String fileName, long fileId, final OWriteCache writeCache) throws IOException {
+    fileId = OAbstractWriteCache.checkFileIdCompatibility(writeCache.getId(), fileId);
+    return writeCache.addFile(fileName, fileId);
+  }
+
+  @Override
+  public OCacheEntry loadForWrite(final long fileId, final long pageIndex, final boolean checkPinnedPages,
+      final OWriteCache writeCache, final int pageCount, final boolean verifyChecksums, final OLogSequenceNumber startLSN)
+      throws IOException {
+    final OCacheEntry cacheEntry = doLoad(fileId, pageIndex, writeCache, pageCount, verifyChecksums);
+
+    if (cacheEntry != null) {
+      cacheEntry.acquireExclusiveLock();
+      writeCache.updateDirtyPagesTable(cacheEntry.getCachePointer(), startLSN);
+    }
+
+    return cacheEntry;
+  }
+
+  @Override
+  public OCacheEntry loadForRead(final long fileId, final long pageIndex, final boolean checkPinnedPages,
+      final OWriteCache writeCache, final int pageCount, final boolean verifyChecksums) throws IOException {
+    return doLoad(fileId, pageIndex, writeCache, pageCount, verifyChecksums);
+  }
+
+  @Override
+  public void prefetch(long fileId, final long[] pageIndexes, final OWriteCache writeCache) throws IOException {
+    if (pageIndexes.length == 0) {
+      return;
+    }
+
+    fileId = OAbstractWriteCache.checkFileIdCompatibility(writeCache.getId(), fileId);
+    final List<CacheNode> prefetchedNodes = new ArrayList<>(pageIndexes.length);
+
+    final Lock fileLock = fileLockManager.acquireSharedLock(fileId);
+    try {
+      final PageKey[] pageKeys = new PageKey[pageIndexes.length];
+      for (int i = 0; i < pageKeys.length; i++) {
+        pageKeys[i] = new PageKey(fileId, pageIndexes[i]);
+      }
+
+      final Lock[] pageLocks = pageLockManager.acquireExclusiveLocksInBatch(pageKeys);
+      try {
+        //pages which are already cached are not loaded again
+        final long[] absentPages = new long[pageIndexes.length];
+        int absentPagesCount = 0;
+
+        for (final PageKey pageKey : pageKeys) {
+          final CacheNode node = data.get(pageKey);
+          if (node == null || node.isDead()) {
+            absentPages[absentPagesCount++] = pageKey.getPageIndex();
+          }
+        }
+
+        if (absentPagesCount > 0) {
+          final OCachePointer[] pointers = writeCache.load(fileId, Arrays.copyOf(absentPages, absentPagesCount), false);
+
+          for (final OCachePointer pointer : pointers) {
+            if (pointer != null) {
+              final CacheNode node = addPrefetchedNode(pointer);
+              if (node != null) {
+                prefetchedNodes.add(node);
+              }
+            }
+          }
+        }
+      } finally {
+        for (final Lock pageLock : pageLocks) {
+          pageLock.unlock();
+        }
+      }
+    } finally {
+      fileLock.unlock();
+    }
+
+    for (final CacheNode node : prefetchedNodes) {
+      afterAdd(node, writeCache);
+    }
+  }
+
+  @Override
+  public void releaseFromRead(final OCacheEntry cacheEntry, final OWriteCache writeCache) {
+    final CacheNode node = data.get(new PageKey(cacheEntry.getFileId(), cacheEntry.getPageIndex()));
+    assert node != null;
+
+    node.release();
+  }
+
+  @Override
+  public void releaseFromWrite(final OCacheEntry cacheEntry, final OWriteCache writeCache) {
+    final OCachePointer cachePointer = cacheEntry.getCachePointer();
+    assert cachePointer != null;
+
+    final CacheNode node = data.get(new PageKey(cacheEntry.getFileId(), cacheEntry.getPageIndex()));
+    assert node != null;
+
+    //page has to be stored inside of write cache till we release it, otherwise it may be evicted and its pointer may be released
+    //before write cache will increment amount of its referrers
+    writeCache.store(cacheEntry.getFileId(), cacheEntry.getPageIndex(), cachePointer);
+    node.release();
+
+    //see O2QCache#releaseFromWrite for explanation why exclusive lock is released only after page is stored inside of write cache
+    cachePointer.releaseExclusiveLock();
+  }
+
+  @Override
+  public void pinPage(final OCacheEntry cacheEntry, final OWriteCache writeCache) {
+    if ((100 * (pinnedPagesCount.get() + 1)) / maxSize > percentOfPinnedPages) {
+      if (pinnedPagesWarningCounter.get() < MAX_AMOUNT_OF_WARNINGS_PINNED_PAGES) {
+
+        final long warnings = pinnedPagesWarningCounter.getAndIncrement();
+        if (warnings < MAX_AMOUNT_OF_WARNINGS_PINNED_PAGES) {
+          OLogManager.instance().warn(this, "Maximum amount of pinned pages is reached, given page " + cacheEntry
+              + " will not be marked as pinned which may lead to performance degradation. You may consider to increase the percent of pinned pages "
+              + "by changing the property '" + OGlobalConfiguration.DISK_CACHE_PINNED_PAGES.getKey() + "'");
+        }
+      }
+
+      return;
+    }
+
+    final CacheNode node = data.get(new PageKey(cacheEntry.getFileId(), cacheEntry.getPageIndex()));
+    assert node != null;
+
+    evictionLock.lock();
+    try {
+      drainBuffers();
+
+      if (!node.isPinned()) {
+        policy.onRemove(node);
+        node.pin();
+
+        cacheSize.decrementAndGet();
+        pinnedPagesCount.incrementAndGet();
+
+        policy.setMaxSize(maxSize - pinnedPagesCount.get());
+      }
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  @Override
+  public OCacheEntry allocateNewPage(long fileId, final OWriteCache writeCache, final boolean verifyChecksums,
+      final OLogSequenceNumber startLSN) throws IOException {
+    fileId = OAbstractWriteCache.checkFileIdCompatibility(writeCache.getId(), fileId);
+
+    final OModifiableBoolean cacheHit = new OModifiableBoolean(false);
+    final CacheNode node;
+
+    final Lock fileLock = fileLockManager.acquireExclusiveLock(fileId);
+    try {
+      final long filledUpTo = writeCache.getFilledUpTo(fileId);
+      assert filledUpTo >= 0;
+
+      final PageKey pageKey = new PageKey(fileId, filledUpTo);
+      final Lock pageLock = pageLockManager.acquireExclusiveLock(pageKey);
+      try {
+        final OCachePointer[] pointers = writeCache.load(fileId, filledUpTo, 1, true, cacheHit, verifyChecksums);
+        assert pointers.length == 1;
+
+        node = addNode(pageKey, pointers[0]);
+      } finally {
+        pageLock.unlock();
+      }
+    } finally {
+      fileLock.unlock();
+    }
+
+    afterAdd(node, writeCache);
+
+    final OCacheEntry cacheEntry = node.getEntry();
+    cacheEntry.acquireExclusiveLock();
+    writeCache.updateDirtyPagesTable(cacheEntry.getCachePointer(), startLSN);
+
+    assert cacheHit.getValue();
+
+    cacheRequests.increment();
+    cacheHits.increment();
+
+    return cacheEntry;
+  }
+
+  private OCacheEntry doLoad(long fileId, final long pageIndex, final OWriteCache writeCache, final int pageCount,
+      final boolean verifyChecksums) throws IOException {
+    if (pageCount < 1) {
+      throw new IllegalArgumentException(
+          "Amount of pages to load from cache should be not less than 1 but passed value is " + pageCount);
+    }
+
+    fileId = OAbstractWriteCache.checkFileIdCompatibility(writeCache.getId(), fileId);
+    final PageKey pageKey = new PageKey(fileId, pageIndex);
+
+    cacheRequests.increment();
+
+    final CacheNode cachedNode = data.get(pageKey);
+    if (cachedNode != null && cachedNode.acquire()) {
+      cacheHits.increment();
+      afterRead(cachedNode);
+
+      return cachedNode.getEntry();
+    }
+
+    final OModifiableBoolean cacheHit = new OModifiableBoolean(false);
+    CacheNode node;
+    final boolean added;
+    CacheNode[] prefetchedNodes = null;
+
+    final Lock fileLock = fileLockManager.acquireSharedLock(fileId);
+    try {
+      final PageKey[] pageKeys = new PageKey[pageCount];
+      pageKeys[0] = pageKey;
+      for (int i = 1; i < pageKeys.length; i++) {
+        pageKeys[i] = new PageKey(fileId, pageIndex + i);
+      }
+
+      final Lock[] pageLocks = pageLockManager.acquireExclusiveLocksInBatch(pageKeys);
+      try {
+        //page could be loaded by other thread while we waited for the lock
+        node = data.get(pageKey);
+        if (node != null && node.acquire()) {
+          cacheHit.setValue(true);
+          added = false;
+        } else {
+          final OCachePointer[] pointers = writeCache.load(fileId, pageIndex, pageCount, false, cacheHit, verifyChecksums);
+          if (pointers.length == 0) {
+            return null;
+          }
+
+          node = addNode(pageKey, pointers[0]);
+          added = true;
+
+          if (pointers.length > 1) {
+            prefetchedNodes = new CacheNode[pointers.length - 1];
+
+            for (int i = 1; i < pointers.length; i++) {
+              prefetchedNodes[i - 1] = addPrefetchedNode(pointers[i]);
+            }
+          }
+        }
+      } finally {
+        for (final Lock pageLock : pageLocks) {
+          pageLock.unlock();
+        }
+      }
+    } finally {
+      fileLock.unlock();
+    }
+
+    if (cacheHit.getValue()) {
+      cacheHits.increment();
+    }
+
+    if (!added) {
+      afterRead(node);
+      return node.getEntry();
+    }
+
+    try {
+      if (prefetchedNodes != null) {
+        for (final CacheNode prefetchedNode : prefetchedNodes) {
+          if (prefetchedNode != null) {
+            afterAdd(prefetchedNode, writeCache);
+          }
+        }
+      }
+
+      afterAdd(node, writeCache);
+    } catch (final RuntimeException e) {
+      node.release();
+      throw e;
+    }
+
+    return node.getEntry();
+  }
+
+  /**
+   * Creates node for the page which was requested by the user. Page lock should be acquired before call of this method.
+   */
+  private CacheNode addNode(final PageKey pageKey, final OCachePointer pointer) {
+    final CacheNode node = new CacheNode(pageKey, new OCacheEntryImpl(pageKey.getFileId(), pageKey.getPageIndex(), pointer));
+    final boolean acquired = node.acquire();
+    assert acquired;
+
+    //node may be present in map if it is frozen or dead, in such case it is just replaced by new node
+    data.put(pageKey, node);
+    cacheSize.incrementAndGet();
+
+    return node;
+  }
+
+  /**
+   * Creates node for the page which was loaded together with requested page. Page lock should be acquired before call of this
+   * method.
+   *
+   * @return Created node or <code>null</code> if page is already present in cache.
+   */
+  private CacheNode addPrefetchedNode(final OCachePointer pointer) {
+    final PageKey pageKey = new PageKey(pointer.getFileId(), pointer.getPageIndex());
+
+    final CacheNode present = data.get(pageKey);
+    if (present != null && !present.isDead()) {
+      pointer.decrementReadersReferrer();
+      return null;
+    }
+
+    final CacheNode node = new CacheNode(pageKey, new OCacheEntryImpl(pageKey.getFileId(), pageKey.getPageIndex(), pointer));
+    data.put(pageKey, node);
+    cacheSize.incrementAndGet();
+
+    return node;
+  }
+
+  private void afterRead(final CacheNode node) {
+    final int result = readBuffer.offer(node);
+    if (result == ReadBuffer.FULL) {
+      tryToDrainBuffers();
+    }
+  }
+
+  private void afterAdd(final CacheNode node, final OWriteCache writeCache) {
+    writeBuffer.offer(node);
+
+    if (cacheSize.get() > policy.getMaxSize()) {
+      try {
+        writeCache.checkCacheOverflow();
+      } catch (final InterruptedException e) {
+        throw OException.wrapException(new OInterruptedException("Check of write cache overflow was interrupted"), e);
+      }
+
+      //cache is overloaded, we have to wait till pages will be evicted
+      evictionLock.lock();
+      try {
+        drainBuffers();
+      } finally {
+        evictionLock.unlock();
+      }
+    } else {
+      tryToDrainBuffers();
+    }
+  }
+
+  private void tryToDrainBuffers() {
+    if (evictionLock.tryLock()) {
+      try {
+        drainBuffers();
+      } finally {
+        evictionLock.unlock();
+      }
+    }
+  }
+
+  /**
+   * Applies recorded events to the eviction policy and evicts pages if needed. Should be called under eviction lock.
+   */
+  private void drainBuffers() {
+    assert evictionLock.isHeldByCurrentThread();
+
+    CacheNode node;
+    while ((node = writeBuffer.poll()) != null) {
+      policy.onAdd(node);
+    }
+
+    readBuffer.drainTo(policy::onAccess);
+
+    policy.evict();
+  }
+
+  @Override
+  public long getUsedMemory() {
+    return ((long) (cacheSize.get() + pinnedPagesCount.get())) * pageSize;
+  }
+
+  /**
+   * Changes amount of memory which may be used by given cache.
+   *
+   * @param readCacheMaxMemory New maximum size of cache in bytes.
+   *
+   * @throws IllegalStateException In case of new size of disk cache is too small to hold existing pinned pages.
+   */
+  @Override
+  public void changeMaximumAmountOfMemory(final long readCacheMaxMemory) throws IllegalStateException {
+    final int newMemorySize = normalizeMemory(readCacheMaxMemory, pageSize);
+
+    evictionLock.lock();
+    try {
+      if (newMemorySize == maxSize) {
+        return;
+      }
+
+      if ((100 * pinnedPagesCount.get() / newMemorySize) > percentOfPinnedPages) {
+        throw new IllegalStateException("Cannot decrease amount of memory used by disk cache "
+            + "because limit of pinned pages will be more than allowed limit " + percentOfPinnedPages);
+      }
+
+      final int oldMemorySize = maxSize;
+      maxSize = newMemorySize;
+      policy.setMaxSize(newMemorySize - pinnedPagesCount.get());
+
+      drainBuffers();
+
+      OLogManager.instance()
+          .info(this, "Disk cache size was changed from " + oldMemorySize + " pages to " + newMemorySize + " pages");
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  @Override
+  public void clear() {
+    evictionLock.lock();
+    try {
+      drainBuffers();
+
+      for (final CacheNode node : data.values()) {
+        removeNode(node);
+      }
+
+      policy.clear();
+      policy.setMaxSize(maxSize);
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  @Override
+  public void truncateFile(long fileId, final OWriteCache writeCache) throws IOException {
+    fileId = OAbstractWriteCache.checkFileIdCompatibility(writeCache.getId(), fileId);
+
+    final Lock fileLock = fileLockManager.acquireExclusiveLock(fileId);
+    try {
+      writeCache.truncateFile(fileId);
+      clearFile(fileId);
+    } finally {
+      fileLock.unlock();
+    }
+  }
+
+  @Override
+  public void shrinkFile(long fileId, final long pagesCount, final OWriteCache writeCache) throws IOException {
+    fileId = OAbstractWriteCache.checkFileIdCompatibility(writeCache.getId(), fileId);
+
+    final Lock fileLock = fileLockManager.acquireExclusiveLock(fileId);
+    try {
+      writeCache.shrinkFile(fileId, pagesCount);
+      clearFile(fileId, pagesCount);
+    } finally {
+      fileLock.unlock();
+    }
+  }
+
+  @Override
+  public void closeFile(long fileId, final boolean flush, final OWriteCache writeCache) {
+    fileId = OAbstractWriteCache.checkFileIdCompatibility(writeCache.getId(), fileId);
+
+    final Lock fileLock = fileLockManager.acquireExclusiveLock(fileId);
+    try {
+      writeCache.close(fileId, flush);
+      clearFile(fileId);
+    } finally {
+      fileLock.unlock();
+    }
+  }
+
+  @Override
+  public void deleteFile(long fileId, final OWriteCache writeCache) throws IOException {
+    fileId = OAbstractWriteCache.checkFileIdCompatibility(writeCache.getId(), fileId);
+
+    final Lock fileLock = fileLockManager.acquireExclusiveLock(fileId);
+    try {
+      clearFile(fileId);
+      writeCache.deleteFile(fileId);
+    } finally {
+      fileLock.unlock();
+    }
+  }
+
+  @Override
+  public void deleteStorage(final OWriteCache writeCache) throws IOException {
+    final long[] filesToClear = writeCache.delete();
+    for (final long fileId : filesToClear) {
+      clearFile(fileId);
+    }
+
+    final Path rootDirectory = writeCache.getRootDirectory();
+    final Path stateFile = rootDirectory.resolve(O2QCache.CACHE_STATE_FILE);
+
+    if (Files.exists(stateFile)) {
+      Files.delete(stateFile);
+    }
+  }
+
+  @Override
+  public void closeStorage(final OWriteCache writeCache) throws IOException {
+    if (writeCache == null) {
+      return;
+    }
+
+    final long[] filesToClear = writeCache.close();
+    for (final long fileId : filesToClear) {
+      clearFile(fileId);
+    }
+  }
+
+  /**
+   * State of W-TinyLFU cache is not persisted between storage open/close cycles, so this method does nothing.
+   */
+  @Override
+  public void loadCacheState(final OWriteCache writeCache) {
+  }
+
+  /**
+   * State of W-TinyLFU cache is not persisted between storage open/close cycles, so this method does nothing.
+   */
+  @Override
+  public void storeCacheState(final OWriteCache writeCache) {
+  }
+
+  private void clearFile(final long fileId) {
+    clearFile(fileId, 0);
+  }
+
+  private void clearFile(final long fileId, final long fromPageIndex) {
+    evictionLock.lock();
+    try {
+      drainBuffers();
+
+      for (final CacheNode node : data.values()) {
+        final PageKey pageKey = node.getKey();
+        if (pageKey.getFileId() == fileId && pageKey.getPageIndex() >= fromPageIndex) {
+          removeNode(node);
+        }
+      }
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  /**
+   * Removes page from the cache. Should be called under eviction lock.
+   */
+  private void removeNode(final CacheNode node) {
+    if (node.isDead()) {
+      return;
+    }
+
+    final PageKey pageKey = node.getKey();
+    if (!node.freeze()) {
+      throw new OStorageException(
+          "Page with index " + pageKey.getPageIndex() + " for file with id " + pageKey.getFileId() + " cannot be freed because it is used.");
+    }
+
+    policy.onRemove(node);
+    data.remove(pageKey, node);
+
+    if (node.isPinned()) {
+      pinnedPagesCount.decrementAndGet();
+      policy.setMaxSize(maxSize - pinnedPagesCount.get());
+    } else {
+      cacheSize.decrementAndGet();
+    }
+
+    final OCacheEntry entry = node.getEntry();
+    final OCachePointer cachePointer = entry.getCachePointer();
+    if (cachePointer != null) {
+      cachePointer.decrementReadersReferrer();
+      entry.clearCachePointer();
+    }
+
+    node.makeDead();
+  }
+
+  private static int normalizeMemory(final long maxSize, final int pageSize) {
+    final long tmpMaxSize = maxSize / pageSize;
+    if (tmpMaxSize >= Integer.MAX_VALUE) {
+      return Integer.MAX_VALUE;
+    } else {
+      return (int) tmpMaxSize;
+    }
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.storage.cache.local.wtinylfu;
+
+/**
+ * Key of the page inside of {@link OWTinyLFUCache}.
+ */
+final class PageKey implements Comparable<PageKey> {
+  private final long fileId;
+  private final long pageIndex;
+
+  PageKey(final long fileId, final long pageIndex) {
+    this.fileId = fileId;
+    this.pageIndex = pageIndex;
+  }
+
+  long getFileId() {
+    return fileId;
+  }
+
+  long getPageIndex() {
+    return pageIndex;
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+
+    final PageKey pageKey = (PageKey) o;
+
+    if (fileId != pageKey.fileId) {
+      return false;
+    }
+    return pageIndex == pageKey.pageIndex;
+  }
+
+  @Override
+  public int hashCode() {
+    int result = (int) (fileId ^ (fileId >>> 32));
+    result = 31 * result + (int) (pageIndex ^ (pageIndex >>> 32));
+    return result;
+  }
+
+  @Override
+  public int compareTo(final PageKey other) {
+    if (fileId > other.fileId) {
+      return 1;
+    }
+    if (fileId < other.fileId) {
+      return -1;
+    }
+
+    return Long.compare(pageIndex, other.pageIndex);
+  }
+
+  @Override
+  public String toString() {
+    return "PageKey{" + "fileId=" + fileId + ", pageIndex=" + pageIndex + '}';
+  }
+}
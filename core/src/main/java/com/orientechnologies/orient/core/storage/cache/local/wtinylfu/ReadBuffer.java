@@ -0,0 +1,120 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.storage.cache.local.wtinylfu;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Striped lossy buffer which records accesses to the cache pages. Threads record accesses into one of the stripes chosen by thread
+ * id, so different threads rarely compete for the same stripe. If stripe is full or there is contention on it, access record is
+ * dropped, which is acceptable because access statistic is used only as a hint for eviction policy.
+ * <p>
+ * Records are written concurrently but drained only under eviction lock of {@link OWTinyLFUCache}.
+ */
+final class ReadBuffer {
+  static final int SUCCESS = 0;
+  static final int FULL    = 1;
+  static final int FAILED  = 2;
+
+  private static final int BUFFER_SIZE = 16;
+  private static final int BUFFER_MASK = BUFFER_SIZE - 1;
+
+  private final Stripe[] stripes;
+  private final int      stripesMask;
+
+  ReadBuffer() {
+    final int processors = Runtime.getRuntime().availableProcessors();
+    final int stripesCount = Integer.highestOneBit(Math.max(processors, 1) * 4 - 1) << 1;
+
+    stripes = new Stripe[stripesCount];
+    for (int i = 0; i < stripes.length; i++) {
+      stripes[i] = new Stripe();
+    }
+
+    stripesMask = stripesCount - 1;
+  }
+
+  /**
+   * Records access to the page.
+   *
+   * @return {@link #SUCCESS} if record was added, {@link #FULL} if record was added or dropped but buffer should be drained,
+   * {@link #FAILED} if record was dropped because of contention.
+   */
+  int offer(final CacheNode node) {
+    final long threadId = Thread.currentThread().getId();
+    final int index = (int) (threadId ^ (threadId >>> 32)) * 0x9E3779B9 >>> 16;
+
+    return stripes[index & stripesMask].offer(node);
+  }
+
+  void drainTo(final Consumer<CacheNode> consumer) {
+    for (final Stripe stripe : stripes) {
+      stripe.drainTo(consumer);
+    }
+  }
+
+  private static final class Stripe {
+    private final AtomicReferenceArray<CacheNode> buffer = new AtomicReferenceArray<>(BUFFER_SIZE);
+
+    private final    AtomicLong writeCounter = new AtomicLong();
+    private volatile long       readCounter;
+
+    private int offer(final CacheNode node) {
+      final long head = readCounter;
+      final long tail = writeCounter.get();
+
+      final long size = tail - head;
+      if (size >= BUFFER_SIZE) {
+        return FULL;
+      }
+
+      if (writeCounter.compareAndSet(tail, tail + 1)) {
+        buffer.lazySet((int) (tail & BUFFER_MASK), node);
+        return size + 1 >= BUFFER_SIZE ? FULL : SUCCESS;
+      }
+
+      return FAILED;
+    }
+
+    private void drainTo(final Consumer<CacheNode> consumer) {
+      long head = readCounter;
+      final long tail = writeCounter.get();
+
+      while (head < tail) {
+        final int index = (int) (head & BUFFER_MASK);
+        final CacheNode node = buffer.get(index);
+        if (node == null) {
+          //record is reserved but not published yet
+          break;
+        }
+
+        buffer.lazySet(index, null);
+        consumer.accept(node);
+
+        head++;
+      }
+
+      readCounter = head;
+    }
+  }
+}
@@ -0,0 +1,239 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.storage.cache.local.wtinylfu;
+
+import com.orientechnologies.orient.core.exception.OAllCacheEntriesAreUsedException;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.cache.OCachePointer;
+
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Implementation of W-TinyLFU eviction policy.
+ * <p>
+ * All pages are split between three LRU queues:
+ * <ol>
+ * <li>Eden queue, which contains 1% of all pages and accepts all newly loaded pages.</li>
+ * <li>Probation queue, which contains pages evicted from eden queue and pages which are not accessed for a long time.</li>
+ * <li>Protected queue, which contains 80% of main space and keeps pages which were accessed at least once being in probation
+ * queue.</li>
+ * </ol>
+ * Once page is evicted from eden queue it competes with least recently used page of probation queue and page with lower frequency
+ * of accesses estimated by {@link FrequencySketch} is removed from the cache. Because pages which are read only once during scan
+ * of big cluster have the lowest possible frequency they can not push out of cache pages which are accessed frequently.
+ * <p>
+ * This class is not thread safe and is accessed only under eviction lock of {@link OWTinyLFUCache}.
+ */
+final class WTinyLFUPolicy {
+  private static final int EDEN_PERCENT      = 1;
+  private static final int PROTECTED_PERCENT = 80;
+
+  private final NodeList eden      = new NodeList(CacheNode.EDEN);
+  private final NodeList probation = new NodeList(CacheNode.PROBATION);
+  private final NodeList protection = new NodeList(CacheNode.PROTECTED);
+
+  private final ConcurrentMap<PageKey, CacheNode> data;
+  private final AtomicInteger                     cacheSize;
+  private final FrequencySketch                   sketch;
+
+  private int maxSize;
+  private int maxEdenSize;
+  private int maxProtectedSize;
+
+  WTinyLFUPolicy(final ConcurrentMap<PageKey, CacheNode> data, final AtomicInteger cacheSize, final int maxSize) {
+    this.data = data;
+    this.cacheSize = cacheSize;
+    this.sketch = new FrequencySketch(maxSize);
+
+    setMaxSize(maxSize);
+  }
+
+  void setMaxSize(final int maxSize) {
+    this.maxSize = Math.max(maxSize, 1);
+
+    maxEdenSize = Math.max(1, (int) ((long) this.maxSize * EDEN_PERCENT / 100));
+    maxProtectedSize = (int) ((long) (this.maxSize - maxEdenSize) * PROTECTED_PERCENT / 100);
+
+    sketch.ensureCapacity(this.maxSize);
+  }
+
+  int getMaxSize() {
+    return maxSize;
+  }
+
+  int size() {
+    return eden.size() + probation.size() + protection.size();
+  }
+
+  void onAdd(final CacheNode node) {
+    if (node.isDead() || node.isPinned()) {
+      return;
+    }
+
+    sketch.increment(node.getKey().hashCode());
+    eden.putToMRU(node);
+
+    if (eden.size() > maxEdenSize) {
+      final CacheNode candidate = eden.removeLRU();
+      probation.putToMRU(candidate);
+    }
+  }
+
+  void onAccess(final CacheNode node) {
+    if (node.isDead() || node.queue == CacheNode.NONE) {
+      return;
+    }
+
+    sketch.increment(node.getKey().hashCode());
+
+    switch (node.queue) {
+    case CacheNode.EDEN:
+      eden.putToMRU(node);
+      break;
+    case CacheNode.PROBATION:
+      probation.remove(node);
+      protection.putToMRU(node);
+
+      while (protection.size() > maxProtectedSize) {
+        final CacheNode demoted = protection.removeLRU();
+        probation.putToMRU(demoted);
+      }
+      break;
+    case CacheNode.PROTECTED:
+      protection.putToMRU(node);
+      break;
+    default:
+      throw new IllegalStateException("Invalid queue " + node.queue + " of page " + node.getKey());
+    }
+  }
+
+  /**
+   * Removes node from the policy queues, node itself is not removed from the cache.
+   */
+  void onRemove(final CacheNode node) {
+    switch (node.queue) {
+    case CacheNode.NONE:
+      break;
+    case CacheNode.EDEN:
+      eden.remove(node);
+      break;
+    case CacheNode.PROBATION:
+      probation.remove(node);
+      break;
+    case CacheNode.PROTECTED:
+      protection.remove(node);
+      break;
+    default:
+      throw new IllegalStateException("Invalid queue " + node.queue + " of page " + node.getKey());
+    }
+  }
+
+  /**
+   * Evicts pages from the cache till amount of pages in queues will not exceed maximum size of the cache.
+   *
+   * @throws OAllCacheEntriesAreUsedException if all pages in cache are used and can not be evicted.
+   */
+  void evict() {
+    int attempts = 0;
+
+    while (size() > maxSize) {
+      if (probation.size() == 0) {
+        if (protection.size() > 0) {
+          probation.putToMRU(protection.removeLRU());
+        } else {
+          probation.putToMRU(eden.removeLRU());
+        }
+      }
+
+      final CacheNode victim = probation.getLRU();
+      final CacheNode candidate = probation.getMRU();
+
+      if (victim == candidate) {
+        if (tryToEvict(victim)) {
+          attempts = 0;
+          continue;
+        }
+      } else {
+        final CacheNode loser;
+        final CacheNode winner;
+
+        if (sketch.frequency(candidate.getKey().hashCode()) > sketch.frequency(victim.getKey().hashCode())) {
+          loser = victim;
+          winner = candidate;
+        } else {
+          loser = candidate;
+          winner = victim;
+        }
+
+        if (tryToEvict(loser) || tryToEvict(winner)) {
+          attempts = 0;
+          continue;
+        }
+      }
+
+      //both pages are in use, move them to the end of queue and try to evict others
+      probation.putToMRU(victim);
+
+      attempts++;
+      if (attempts > size()) {
+        throw new OAllCacheEntriesAreUsedException(
+            "All pages in the read cache are used, cache size is " + size() + " pages, maximum size is " + maxSize + " pages");
+      }
+
+      if (probation.getLRU() == victim && protection.size() + eden.size() > 0) {
+        //all pages in probation queue are used, refill it from other queues
+        if (protection.size() > 0) {
+          probation.putToMRU(protection.removeLRU());
+        } else {
+          probation.putToMRU(eden.removeLRU());
+        }
+      }
+    }
+  }
+
+  void clear() {
+    eden.clear();
+    probation.clear();
+    protection.clear();
+  }
+
+  private boolean tryToEvict(final CacheNode node) {
+    if (!node.freeze()) {
+      return false;
+    }
+
+    onRemove(node);
+    data.remove(node.getKey(), node);
+    cacheSize.decrementAndGet();
+
+    final OCacheEntry entry = node.getEntry();
+    final OCachePointer cachePointer = entry.getCachePointer();
+    if (cachePointer != null) {
+      cachePointer.decrementReadersReferrer();
+      entry.clearCachePointer();
+    }
+
+    node.makeDead();
+
+    return true;
+  }
+}
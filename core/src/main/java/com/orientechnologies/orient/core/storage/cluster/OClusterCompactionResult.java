@@ -0,0 +1,35 @@
+package com.orientechnologies.orient.core.storage.cluster;
+
+/**
+ * Result of online compaction of cluster.
+ *
+ * @see OPaginatedCluster#compact(int, long)
+ */
+public final class OClusterCompactionResult {
+  private final long relocatedRecords;
+  private final long releasedPages;
+
+  public OClusterCompactionResult(final long relocatedRecords, final long releasedPages) {
+    this.relocatedRecords = relocatedRecords;
+    this.releasedPages = releasedPages;
+  }
+
+  /**
+   * @return Amount of records content of which was moved to other pages of cluster.
+   */
+  public long getRelocatedRecords() {
+    return relocatedRecords;
+  }
+
+  /**
+   * @return Amount of pages which were removed from the end of cluster file.
+   */
+  public long getReleasedPages() {
+    return releasedPages;
+  }
+
+  @Override
+  public String toString() {
+    return "OClusterCompactionResult{" + "relocatedRecords=" + relocatedRecords + ", releasedPages=" + releasedPages + '}';
+  }
+}
@@ -34,4 +34,15 @@ public abstract class OPaginatedCluster extends ODurableComponent implements OCl
   public abstract void registerInStorageConfig(OStorageConfigurationImpl root);
 
   public abstract long getFileId();
+
+  /**
+   * Moves content of records from sparse pages located at the end of cluster file into free space of pages located at its
+   * beginning and removes pages which became empty from the end of the file. Compaction is performed online, records are
+   * processed in batches and each batch is relocated inside of separate atomic operation. Cluster positions of records are not
+   * changed, so RIDs of records stay the same.
+   *
+   * @param batchSize  Maximum amount of records processed inside of single atomic operation.
+   * @param batchPause Pause (in ms) between batches, used to limit impact of compaction on concurrent operations.
+   */
+  public abstract OClusterCompactionResult compact(int batchSize, long batchPause) throws IOException;
 }
@@ -43,6 +43,7 @@ import com.orientechnologies.orient.core.storage.OPhysicalPosition;
 import com.orientechnologies.orient.core.storage.ORawBuffer;
 import com.orientechnologies.orient.core.storage.OStorage;
 import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.cluster.OClusterCompactionResult;
 import com.orientechnologies.orient.core.storage.cluster.OClusterPage;
 import com.orientechnologies.orient.core.storage.cluster.OClusterPageDebug;
 import com.orientechnologies.orient.core.storage.cluster.OClusterPositionMapBucket;
@@ -1433,6 +1434,17 @@ public final class OPaginatedClusterV0 extends OPaginatedCluster {
     return fileId;
   }
 
+  /**
+   * Free lists used by this version of cluster do not allow to find free space at the beginning of the cluster file, so records
+   * can not be moved towards its beginning. Cluster has to be exported and imported back to release unused space.
+   */
+  @Override
+  public OClusterCompactionResult compact(final int batchSize, final long batchPause) {
+    throw new OPaginatedClusterException(
+        "Online compaction is not supported by clusters of binary version " + BINARY_VERSION + ", cluster '" + getName()
+            + "' has to be exported and imported back to release unused space", this);
+  }
+
   @Override
   public void synch() {
     atomicOperationsManager.acquireReadLock(this);
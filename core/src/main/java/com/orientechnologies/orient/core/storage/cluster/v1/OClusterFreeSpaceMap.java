@@ -0,0 +1,219 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.storage.cluster.v1;
+
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.cluster.OClusterPage;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperation;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.base.ODurableComponent;
+
+import java.io.IOException;
+
+/**
+ * Free space map of cluster. Map keeps amount of free space available in each page of cluster, amount of free space is normalized
+ * to single unsigned byte, so map occupies about single byte per page of cluster.
+ * <p>
+ * Map consist of two levels. Each page of the second level (pages starting from 1) contains segment tree built on top of free
+ * space values of {@link OFreeSpaceMapPage#CELLS_PER_PAGE} consecutive pages of cluster. Page of the first level (page with index
+ * 0) contains segment tree built on top of maximum values of pages of the second level. So to find page which has enough space
+ * to store record only two pages of the map have to be read whatever size of the cluster is.
+ * <p>
+ * Lookup always returns page with the smallest index which has enough free space, which keeps data compacted at the beginning of
+ * the cluster file.
+ *
+ * @see OFreeSpaceMapPage
+ */
+public final class OClusterFreeSpaceMap extends ODurableComponent {
+  public static final String DEF_EXTENSION = ".fsm";
+
+  private static final int  CELLS_PER_PAGE = OFreeSpaceMapPage.CELLS_PER_PAGE;
+  private static final int  UNIT_SIZE      = Math.max(1, OClusterPage.PAGE_SIZE / 256);
+  private static final int  MAX_VALUE      = 0xFF;
+  private static final long MAX_PAGES      = (long) CELLS_PER_PAGE * CELLS_PER_PAGE;
+
+  private long fileId;
+
+  OClusterFreeSpaceMap(final OAbstractPaginatedStorage storage, final String name, final String lockName) {
+    super(storage, name, DEF_EXTENSION, lockName);
+  }
+
+  public void create(final OAtomicOperation atomicOperation) throws IOException {
+    fileId = addFile(atomicOperation, getFullName());
+    initPages(atomicOperation);
+  }
+
+  public void open(final OAtomicOperation atomicOperation) throws IOException {
+    fileId = openFile(atomicOperation, getFullName());
+  }
+
+  boolean exists(final OAtomicOperation atomicOperation) {
+    return isFileExists(atomicOperation, getFullName());
+  }
+
+  public void flush() {
+    writeCache.flush(fileId);
+  }
+
+  public void close(final boolean flush) {
+    readCache.closeFile(fileId, flush, writeCache);
+  }
+
+  /**
+   * Marks all pages of cluster as pages without free space.
+   */
+  public void truncate(final OAtomicOperation atomicOperation) throws IOException {
+    initPages(atomicOperation);
+  }
+
+  public void delete(final OAtomicOperation atomicOperation) throws IOException {
+    deleteFile(atomicOperation, fileId);
+  }
+
+  void rename(final String newName) throws IOException {
+    writeCache.renameFile(fileId, newName + getExtension());
+    setName(newName);
+  }
+
+  /**
+   * Finds page which has at least <code>requiredSize</code> bytes of free space. Record of maximum size may be stored only in the
+   * page without records.
+   *
+   * @return Index of the first page of cluster which has enough free space or <code>-1</code> if such page does not exist.
+   */
+  public long findFreePage(final int requiredSize, final OAtomicOperation atomicOperation) throws IOException {
+    if (requiredSize > OClusterPage.MAX_RECORD_SIZE) {
+      return -1;
+    }
+
+    final int requiredValue;
+    if (requiredSize > (MAX_VALUE - 1) * UNIT_SIZE) {
+      requiredValue = MAX_VALUE;
+    } else {
+      requiredValue = Math.max(1, (requiredSize + UNIT_SIZE - 1) / UNIT_SIZE);
+    }
+
+    final int secondLevelPage;
+    final OCacheEntry firstLevelEntry = loadPageForRead(atomicOperation, fileId, 0, true);
+    try {
+      final OFreeSpaceMapPage page = new OFreeSpaceMapPage(firstLevelEntry, false);
+      secondLevelPage = page.findCell(requiredValue);
+    } finally {
+      releasePageFromRead(atomicOperation, firstLevelEntry);
+    }
+
+    if (secondLevelPage < 0) {
+      return -1;
+    }
+
+    final OCacheEntry secondLevelEntry = loadPageForRead(atomicOperation, fileId, secondLevelPage + 1, false);
+    try {
+      final OFreeSpaceMapPage page = new OFreeSpaceMapPage(secondLevelEntry, false);
+      final int cellIndex = page.findCell(requiredValue);
+      assert cellIndex >= 0;
+
+      return (long) secondLevelPage * CELLS_PER_PAGE + cellIndex;
+    } finally {
+      releasePageFromRead(atomicOperation, secondLevelEntry);
+    }
+  }
+
+  /**
+   * Updates amount of free space available in the page of cluster.
+   *
+   * @param pageIndex Index of page of cluster.
+   * @param freeSpace Maximum size of record which can be stored in the page.
+   */
+  public void updatePageFreeSpace(final long pageIndex, final int freeSpace, final OAtomicOperation atomicOperation)
+      throws IOException {
+    if (pageIndex >= MAX_PAGES) {
+      return;
+    }
+
+    // maximum value is reserved for the pages which can store record of any size, otherwise pages without records could not be
+    // distinguished from the pages which are almost empty
+    final int value;
+    if (freeSpace >= OClusterPage.MAX_RECORD_SIZE) {
+      value = MAX_VALUE;
+    } else {
+      value = Math.min(MAX_VALUE - 1, Math.max(0, freeSpace) / UNIT_SIZE);
+    }
+    final int secondLevelPage = (int) (pageIndex / CELLS_PER_PAGE);
+
+    final long filledUpTo = getFilledUpTo(atomicOperation, fileId);
+    if (secondLevelPage + 1 >= filledUpTo) {
+      if (value == 0) {
+        return;
+      }
+
+      for (long i = filledUpTo; i <= secondLevelPage + 1; i++) {
+        final OCacheEntry cacheEntry = addPage(atomicOperation, fileId);
+        try {
+          new OFreeSpaceMapPage(cacheEntry, true);
+        } finally {
+          releasePageFromWrite(atomicOperation, cacheEntry);
+        }
+      }
+    }
+
+    final int maxValue;
+    final OCacheEntry secondLevelEntry = loadPageForWrite(atomicOperation, fileId, secondLevelPage + 1, false);
+    try {
+      final OFreeSpaceMapPage page = new OFreeSpaceMapPage(secondLevelEntry, false);
+      if (!page.updateValue((int) (pageIndex % CELLS_PER_PAGE), value)) {
+        return;
+      }
+
+      maxValue = page.getMaxValue();
+    } finally {
+      releasePageFromWrite(atomicOperation, secondLevelEntry);
+    }
+
+    final OCacheEntry firstLevelEntry = loadPageForWrite(atomicOperation, fileId, 0, true);
+    try {
+      final OFreeSpaceMapPage page = new OFreeSpaceMapPage(firstLevelEntry, false);
+      page.updateValue(secondLevelPage, maxValue);
+    } finally {
+      releasePageFromWrite(atomicOperation, firstLevelEntry);
+    }
+  }
+
+  private void initPages(final OAtomicOperation atomicOperation) throws IOException {
+    final long filledUpTo = getFilledUpTo(atomicOperation, fileId);
+
+    if (filledUpTo == 0) {
+      final OCacheEntry cacheEntry = addPage(atomicOperation, fileId);
+      try {
+        new OFreeSpaceMapPage(cacheEntry, true);
+      } finally {
+        releasePageFromWrite(atomicOperation, cacheEntry);
+      }
+    } else {
+      for (long pageIndex = 0; pageIndex < filledUpTo; pageIndex++) {
+        final OCacheEntry cacheEntry = loadPageForWrite(atomicOperation, fileId, pageIndex, false);
+        try {
+          new OFreeSpaceMapPage(cacheEntry, true);
+        } finally {
+          releasePageFromWrite(atomicOperation, cacheEntry);
+        }
+      }
+    }
+  }
+}
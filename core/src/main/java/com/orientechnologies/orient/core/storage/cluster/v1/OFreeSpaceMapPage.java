@@ -0,0 +1,114 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.storage.cluster.v1;
+
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.base.ODurablePage;
+
+/**
+ * Page of free space map. Page contains segment tree of unsigned byte values stored in the array in "heap" order, root of the
+ * tree is stored at index 1, children of node <code>i</code> are stored at indexes <code>2 * i</code> and <code>2 * i + 1</code>
+ * and leaves are stored at indexes from <code>CELLS_PER_PAGE</code> till <code>2 * CELLS_PER_PAGE - 1</code>. Each node contains
+ * maximum value of its children, so page with requested amount of free space may be found in logarithmic time.
+ *
+ * @see OClusterFreeSpaceMap
+ */
+final class OFreeSpaceMapPage extends ODurablePage {
+  static final int CELLS_PER_PAGE = Integer.highestOneBit((MAX_PAGE_SIZE_BYTES - NEXT_FREE_POSITION) / 2);
+
+  private static final int TREE_OFFSET = NEXT_FREE_POSITION;
+
+  OFreeSpaceMapPage(final OCacheEntry cacheEntry, final boolean newPage) {
+    super(cacheEntry);
+
+    if (newPage) {
+      setBinaryValue(TREE_OFFSET, new byte[2 * CELLS_PER_PAGE]);
+    }
+  }
+
+  /**
+   * @return Maximum value stored in the page.
+   */
+  int getMaxValue() {
+    return getNodeValue(1);
+  }
+
+  int getValue(final int cellIndex) {
+    return getNodeValue(CELLS_PER_PAGE + cellIndex);
+  }
+
+  /**
+   * Updates value of the cell and all its parents.
+   *
+   * @return <code>true</code> if maximum value of the page was changed.
+   */
+  boolean updateValue(final int cellIndex, final int value) {
+    assert value >= 0 && value <= 0xFF;
+
+    int nodeIndex = CELLS_PER_PAGE + cellIndex;
+    if (getNodeValue(nodeIndex) == value) {
+      return false;
+    }
+
+    setNodeValue(nodeIndex, value);
+
+    while (nodeIndex > 1) {
+      final int siblingIndex = nodeIndex ^ 1;
+      final int parentValue = Math.max(getNodeValue(nodeIndex), getNodeValue(siblingIndex));
+
+      nodeIndex = nodeIndex >>> 1;
+      if (getNodeValue(nodeIndex) == parentValue) {
+        return false;
+      }
+
+      setNodeValue(nodeIndex, parentValue);
+    }
+
+    return true;
+  }
+
+  /**
+   * @return Index of the first cell which value is not less than passed in value or <code>-1</code> if such cell does not exist.
+   */
+  int findCell(final int value) {
+    if (getNodeValue(1) < value) {
+      return -1;
+    }
+
+    int nodeIndex = 1;
+    while (nodeIndex < CELLS_PER_PAGE) {
+      nodeIndex = nodeIndex << 1;
+
+      if (getNodeValue(nodeIndex) < value) {
+        nodeIndex++;
+      }
+    }
+
+    return nodeIndex - CELLS_PER_PAGE;
+  }
+
+  private int getNodeValue(final int nodeIndex) {
+    return getByteValue(TREE_OFFSET + nodeIndex) & 0xFF;
+  }
+
+  private void setNodeValue(final int nodeIndex, final int value) {
+    setByteValue(TREE_OFFSET + nodeIndex, (byte) value);
+  }
+}
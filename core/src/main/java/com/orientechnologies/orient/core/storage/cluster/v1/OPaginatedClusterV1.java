@@ -15,6 +15,7 @@
  */
 package com.orientechnologies.orient.core.storage.cluster.v1;
 
+import com.orientechnologies.common.concur.lock.OInterruptedException;
 import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.common.io.OFileUtils;
 import com.orientechnologies.common.serialization.types.OByteSerializer;
@@ -41,6 +42,7 @@ import com.orientechnologies.orient.core.storage.OPhysicalPosition;
 import com.orientechnologies.orient.core.storage.ORawBuffer;
 import com.orientechnologies.orient.core.storage.OStorage;
 import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.cluster.OClusterCompactionResult;
 import com.orientechnologies.orient.core.storage.cluster.OClusterPage;
 import com.orientechnologies.orient.core.storage.cluster.OClusterPageDebug;
 import com.orientechnologies.orient.core.storage.cluster.OClusterPositionMapBucket;
@@ -52,6 +54,7 @@ import com.orientechnologies.orient.core.storage.impl.local.OClusterBrowsePage;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.ORecordOperationMetadata;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperation;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperationsManager;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.base.OSequentialReadAhead;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import java.io.File;
@@ -77,17 +80,18 @@ public final class OPaginatedClusterV1 extends OPaginatedCluster {
   private final static int FREE_LIST_SIZE           = DISK_PAGE_SIZE - LOWEST_FREELIST_BOUNDARY;
   private static final int PAGE_INDEX_OFFSET        = 16;
   private static final int RECORD_POSITION_MASK     = 0xFFFF;
-  private static final int ONE_KB                   = 1024;
 
   private volatile OCompression                          compression;
   private volatile OEncryption                           encryption;
   private final    boolean                               systemCluster;
   private          OClusterPositionMapV1                 clusterPositionMap;
+  private          OClusterFreeSpaceMap                  freeSpaceMap;
   private          OAbstractPaginatedStorage             storageLocal;
   private volatile int                                   id;
   private          long                                  fileId;
   private          OStoragePaginatedClusterConfiguration config;
   private          ORecordConflictStrategy               recordConflictStrategy;
+  private final    OSequentialReadAhead                  readAhead;
 
   private static final class AddEntryResult {
     private final long pageIndex;
@@ -104,14 +108,22 @@ public final class OPaginatedClusterV1 extends OPaginatedCluster {
     }
   }
 
+  private static final class RelocateRecordResult {
+    private final boolean relocated;
+    private final int     recordsSizeDiff;
+
+    private RelocateRecordResult(final boolean relocated, final int recordsSizeDiff) {
+      this.relocated = relocated;
+      this.recordsSizeDiff = recordsSizeDiff;
+    }
+  }
+
   private static final class FindFreePageResult {
     private final long    pageIndex;
-    private final int     freePageIndex;
     private final boolean allocateNewPage;
 
-    private FindFreePageResult(final long pageIndex, final int freePageIndex, final boolean allocateNewPage) {
+    private FindFreePageResult(final long pageIndex, final boolean allocateNewPage) {
       this.pageIndex = pageIndex;
-      this.freePageIndex = freePageIndex;
       this.allocateNewPage = allocateNewPage;
     }
   }
@@ -120,6 +132,7 @@ public final class OPaginatedClusterV1 extends OPaginatedCluster {
     super(storage, name, ".pcl", name + ".pcl");
 
     systemCluster = OMetadataInternal.SYSTEM_CLUSTER.contains(name);
+    readAhead = new OSequentialReadAhead(readCache, writeCache, OGlobalConfiguration.QUERY_SCAN_READ_AHEAD.getValueAsInteger());
   }
 
   @Override
@@ -186,6 +199,7 @@ public final class OPaginatedClusterV1 extends OPaginatedCluster {
         initCusterState(atomicOperation);
 
         clusterPositionMap.create(atomicOperation);
+        freeSpaceMap.create(atomicOperation);
       } finally {
         releaseExclusiveLock();
       }
@@ -204,14 +218,26 @@ public final class OPaginatedClusterV1 extends OPaginatedCluster {
 
   @Override
   public void open() throws IOException {
+    final boolean freeSpaceMapExists;
+
     acquireExclusiveLock();
     try {
       final OAtomicOperation atomicOperation = OAtomicOperationsManager.getCurrentOperation();
       fileId = openFile(atomicOperation, getFullName());
       clusterPositionMap.open(atomicOperation);
+
+      freeSpaceMapExists = freeSpaceMap.exists(atomicOperation);
+      if (freeSpaceMapExists) {
+        freeSpaceMap.open(atomicOperation);
+      }
     } finally {
       releaseExclusiveLock();
     }
+
+    if (!freeSpaceMapExists) {
+      // cluster was created by the version which tracked free space using free lists
+      buildFreeSpaceMap(true);
+    }
   }
 
   public void replaceFile(final File file) throws IOException {
@@ -236,6 +262,8 @@ public final class OPaginatedClusterV1 extends OPaginatedCluster {
     } finally {
       releaseExclusiveLock();
     }
+
+    buildFreeSpaceMap(false);
   }
 
   public void replaceClusterMapFile(final File file) throws IOException {
@@ -275,6 +303,7 @@ public final class OPaginatedClusterV1 extends OPaginatedCluster {
 
       readCache.closeFile(fileId, flush, writeCache);
       clusterPositionMap.close(flush);
+      freeSpaceMap.close(flush);
     } finally {
       releaseExclusiveLock();
     }
@@ -291,6 +320,7 @@ public final class OPaginatedClusterV1 extends OPaginatedCluster {
         deleteFile(atomicOperation, fileId);
 
         clusterPositionMap.delete(atomicOperation);
+        freeSpaceMap.delete(atomicOperation);
       } finally {
         releaseExclusiveLock();
       }
@@ -637,6 +667,8 @@ public final class OPaginatedClusterV1 extends OPaginatedCluster {
       }
     }
 
+    readAhead.onPageRead(fileId, pageIndex);
+
     int recordVersion;
     final OCacheEntry cacheEntry = loadPageForRead(atomicOperation, fileId, pageIndex, false, pageCount);
     try {
@@ -733,10 +765,9 @@ public final class OPaginatedClusterV1 extends OPaginatedCluster {
         do {
           boolean cacheEntryReleased = false;
           OCacheEntry cacheEntry = loadPageForWrite(atomicOperation, fileId, pageIndex, false);
-          int initialFreePageIndex;
+          final int maxRecordSize;
           try {
             OClusterPage localPage = new OClusterPage(cacheEntry, false);
-            initialFreePageIndex = calculateFreePageIndex(localPage);
 
             if (localPage.isDeleted(recordPosition)) {
               if (removedContentSize == 0) {
@@ -762,13 +793,14 @@ public final class OPaginatedClusterV1 extends OPaginatedCluster {
 
             removedContentSize += localPage.getFreeSpace() - initialFreeSpace;
             nextPagePointer = OLongSerializer.INSTANCE.deserializeNative(content, content.length - OLongSerializer.LONG_SIZE);
+            maxRecordSize = localPage.getMaxRecordSize();
           } finally {
             if (!cacheEntryReleased) {
               releasePageFromWrite(atomicOperation, cacheEntry);
             }
           }
 
-          updateFreePagesIndex(initialFreePageIndex, pageIndex, atomicOperation);
+          freeSpaceMap.updatePageFreeSpace(pageIndex, maxRecordSize, atomicOperation);
 
           pageIndex = getPageIndex(nextPagePointer);
           recordPosition = getRecordPosition(nextPagePointer);
@@ -901,13 +933,10 @@ public final class OPaginatedClusterV1 extends OPaginatedCluster {
             }
           }
 
-          int freePageIndex = -1;
-
           final boolean isNew;
           if (nextPageIndex < 0) {
             final FindFreePageResult findFreePageResult = findFreePage(entrySize, atomicOperation);
             nextPageIndex = findFreePageResult.pageIndex;
-            freePageIndex = findFreePageResult.freePageIndex;
             isNew = findFreePageResult.allocateNewPage;
           } else {
             isNew = false;
@@ -938,16 +967,11 @@ public final class OPaginatedClusterV1 extends OPaginatedCluster {
             cacheEntry = loadPageForWrite(atomicOperation, fileId, nextPageIndex, false);
           }
 
+          final int maxRecordSize;
           try {
             final OClusterPage localPage = new OClusterPage(cacheEntry, isNew);
             final int pageFreeSpace = localPage.getFreeSpace();
 
-            if (freePageIndex < 0) {
-              freePageIndex = calculateFreePageIndex(localPage);
-            } else {
-              assert isNew || freePageIndex == calculateFreePageIndex(localPage);
-            }
-
             if (nextRecordPosition >= 0) {
               if (localPage.isDeleted(nextRecordPosition)) {
                 throw new OPaginatedClusterException("Record with rid " + new ORecordId(id, clusterPosition) + " was deleted",
@@ -969,8 +993,8 @@ public final class OPaginatedClusterV1 extends OPaginatedCluster {
                   if (updatedEntryPosition < 0) {
                     localPage.dumpToLog();
                     throw new IllegalStateException("Page " + cacheEntry.getPageIndex()
-                        + " does not have enough free space to add record content, freePageIndex=" + freePageIndex
-                        + ", updateEntry.length=" + updateEntry.length + ", content.length=" + content.length);
+                        + " does not have enough free space to add record content, updateEntry.length=" + updateEntry.length
+                        + ", content.length=" + content.length);
                   }
                 } else {
                   updatedEntryPosition = -1;
@@ -992,8 +1016,8 @@ public final class OPaginatedClusterV1 extends OPaginatedCluster {
               if (updatedEntryPosition < 0) {
                 localPage.dumpToLog();
                 throw new IllegalStateException(
-                    "Page " + cacheEntry.getPageIndex() + " does not have enough free space to add record content, freePageIndex="
-                        + freePageIndex + ", updateEntry.length=" + updateEntry.length + ", content.length=" + content.length);
+                    "Page " + cacheEntry.getPageIndex() + " does not have enough free space to add record content, updateEntry.length="
+                        + updateEntry.length + ", content.length=" + content.length);
               }
 
               nextPageIndex = -1;
@@ -1001,12 +1025,12 @@ public final class OPaginatedClusterV1 extends OPaginatedCluster {
             }
 
             sizeDiff += pageFreeSpace - localPage.getFreeSpace();
-
+            maxRecordSize = localPage.getMaxRecordSize();
           } finally {
             releasePageFromWrite(atomicOperation, cacheEntry);
           }
 
-          updateFreePagesIndex(freePageIndex, cacheEntry.getPageIndex(), atomicOperation);
+          freeSpaceMap.updatePageFreeSpace(cacheEntry.getPageIndex(), maxRecordSize, atomicOperation);
 
           if (updatedEntryPosition >= 0) {
             if (from == 0) {
@@ -1039,24 +1063,24 @@ public final class OPaginatedClusterV1 extends OPaginatedCluster {
           nextPageIndex = getPageIndex(nextEntryPointer);
           nextRecordPosition = getRecordPosition(nextEntryPointer);
 
-          final int freePagesIndex;
           final int freeSpace;
+          final int maxRecordSize;
 
           final OCacheEntry cacheEntry = loadPageForWrite(atomicOperation, fileId, nextPageIndex, false);
           try {
             final OClusterPage localPage = new OClusterPage(cacheEntry, false);
             freeSpace = localPage.getFreeSpace();
-            freePagesIndex = calculateFreePageIndex(localPage);
 
             nextEntryPointer = localPage.getRecordLongValue(nextRecordPosition, -OLongSerializer.LONG_SIZE);
             localPage.deleteRecord(nextRecordPosition);
 
             sizeDiff += freeSpace - localPage.getFreeSpace();
+            maxRecordSize = localPage.getMaxRecordSize();
           } finally {
             releasePageFromWrite(atomicOperation, cacheEntry);
           }
 
-          updateFreePagesIndex(freePagesIndex, nextPageIndex, atomicOperation);
+          freeSpaceMap.updatePageFreeSpace(nextPageIndex, maxRecordSize, atomicOperation);
         }
 
         assert newPageIndex >= 0;
@@ -1228,6 +1252,7 @@ public final class OPaginatedClusterV1 extends OPaginatedCluster {
       acquireExclusiveLock();
       try {
         clusterPositionMap.truncate(atomicOperation);
+        freeSpaceMap.truncate(atomicOperation);
 
         initCusterState(atomicOperation);
       } finally {
@@ -1420,6 +1445,292 @@ public final class OPaginatedClusterV1 extends OPaginatedCluster {
     return fileId;
   }
 
+  @Override
+  public OClusterCompactionResult compact(final int batchSize, final long batchPause) throws IOException {
+    if (batchSize <= 0) {
+      throw new IllegalArgumentException("Size of batch of relocated records should be positive");
+    }
+
+    if (OAtomicOperationsManager.getCurrentOperation() != null) {
+      throw new OPaginatedClusterException("Compaction of cluster can not be performed inside of active atomic operation", this);
+    }
+
+    long relocatedRecords = 0;
+    long lastPosition = -1;
+    boolean hasNext = true;
+
+    while (hasNext) {
+      int processedRecords = 0;
+
+      boolean rollback = false;
+      final OAtomicOperation atomicOperation = startAtomicOperation(false);
+      try {
+        acquireExclusiveLock();
+        try {
+          long recordsSizeDiff = 0;
+
+          long[] positions = clusterPositionMap.higherPositions(lastPosition, atomicOperation);
+          int positionIndex = 0;
+
+          while (processedRecords < batchSize) {
+            if (positionIndex >= positions.length) {
+              if (positions.length == 0) {
+                hasNext = false;
+                break;
+              }
+
+              positions = clusterPositionMap.higherPositions(lastPosition, atomicOperation);
+              positionIndex = 0;
+              continue;
+            }
+
+            lastPosition = positions[positionIndex];
+            positionIndex++;
+            processedRecords++;
+
+            final RelocateRecordResult relocateRecordResult = relocateRecord(lastPosition, atomicOperation);
+            if (relocateRecordResult.relocated) {
+              relocatedRecords++;
+              recordsSizeDiff += relocateRecordResult.recordsSizeDiff;
+            }
+          }
+
+          if (recordsSizeDiff != 0) {
+            updateClusterState(0, recordsSizeDiff, atomicOperation);
+          }
+        } finally {
+          releaseExclusiveLock();
+        }
+      } catch (final Exception e) {
+        rollback = true;
+        throw e;
+      } finally {
+        endAtomicOperation(rollback);
+      }
+
+      if (hasNext && batchPause > 0) {
+        try {
+          Thread.sleep(batchPause);
+        } catch (final InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw OException.wrapException(new OInterruptedException("Compaction of cluster '" + getName() + "' was interrupted"), e);
+        }
+      }
+    }
+
+    final long releasedPages = releaseEmptyPages();
+    return new OClusterCompactionResult(relocatedRecords, releasedPages);
+  }
+
+  /**
+   * Moves each part of record into the page which has the smallest index among pages which have enough free space to store this
+   * part. Parts of record are linked by pointers stored inside of them, so only pointer to the first part which is stored in
+   * cluster position map and pointers of previous parts of moved parts are updated.
+   */
+  private RelocateRecordResult relocateRecord(final long clusterPosition, final OAtomicOperation atomicOperation)
+      throws IOException {
+    final OClusterPositionMapBucket.PositionEntry positionEntry = clusterPositionMap.get(clusterPosition, 1, atomicOperation);
+    if (positionEntry == null) {
+      return new RelocateRecordResult(false, 0);
+    }
+
+    long pageIndex = positionEntry.getPageIndex();
+    int recordPosition = positionEntry.getRecordPosition();
+
+    long prevPageIndex = -1;
+    int prevRecordPosition = -1;
+
+    boolean relocated = false;
+    int recordsSizeDiff = 0;
+
+    long nextPagePointer;
+    do {
+      final byte[] entryContent;
+      final int recordVersion;
+
+      final OCacheEntry cacheEntry = loadPageForRead(atomicOperation, fileId, pageIndex, false);
+      try {
+        final OClusterPage localPage = new OClusterPage(cacheEntry, false);
+        if (localPage.isDeleted(recordPosition)) {
+          throw new OPaginatedClusterException("Content of record " + new ORecordId(id, clusterPosition) + " was broken", this);
+        }
+
+        entryContent = localPage.getRecordBinaryValue(recordPosition, 0, localPage.getRecordSize(recordPosition));
+        recordVersion = localPage.getRecordVersion(recordPosition);
+      } finally {
+        releasePageFromRead(atomicOperation, cacheEntry);
+      }
+
+      nextPagePointer = OLongSerializer.INSTANCE.deserializeNative(entryContent, entryContent.length - OLongSerializer.LONG_SIZE);
+
+      final long newPageIndex = freeSpaceMap.findFreePage(entryContent.length, atomicOperation);
+      if (newPageIndex > STATE_ENTRY_INDEX && newPageIndex < pageIndex) {
+        final int newRecordPosition;
+        final int newPageMaxRecordSize;
+
+        final OCacheEntry newCacheEntry = loadPageForWrite(atomicOperation, fileId, newPageIndex, false);
+        try {
+          final OClusterPage newPage = new OClusterPage(newCacheEntry, false);
+          final int initialFreeSpace = newPage.getFreeSpace();
+
+          newRecordPosition = newPage.appendRecord(recordVersion, entryContent);
+          if (newRecordPosition < 0) {
+            newPage.dumpToLog();
+            throw new IllegalStateException(
+                "Page " + newPageIndex + " does not have enough free space to add record content, entryContent.length="
+                    + entryContent.length);
+          }
+
+          recordsSizeDiff += initialFreeSpace - newPage.getFreeSpace();
+          newPageMaxRecordSize = newPage.getMaxRecordSize();
+        } finally {
+          releasePageFromWrite(atomicOperation, newCacheEntry);
+        }
+
+        freeSpaceMap.updatePageFreeSpace(newPageIndex, newPageMaxRecordSize, atomicOperation);
+
+        final int oldPageMaxRecordSize;
+        final OCacheEntry oldCacheEntry = loadPageForWrite(atomicOperation, fileId, pageIndex, false);
+        try {
+          OClusterPage oldPage = new OClusterPage(oldCacheEntry, false);
+          final int initialFreeSpace = oldPage.getFreeSpace();
+
+          oldPage.deleteRecord(recordPosition);
+          // slots of deleted records are kept inside of page, so page without records is cleared to make whole page available
+          // for the parts of records which are moved next
+          if (oldPage.getRecordsCount() == 0) {
+            oldPage = new OClusterPage(oldCacheEntry, true);
+          }
+
+          recordsSizeDiff -= oldPage.getFreeSpace() - initialFreeSpace;
+          oldPageMaxRecordSize = oldPage.getMaxRecordSize();
+        } finally {
+          releasePageFromWrite(atomicOperation, oldCacheEntry);
+        }
+
+        freeSpaceMap.updatePageFreeSpace(pageIndex, oldPageMaxRecordSize, atomicOperation);
+
+        if (prevPageIndex >= 0) {
+          final OCacheEntry prevCacheEntry = loadPageForWrite(atomicOperation, fileId, prevPageIndex, false);
+          try {
+            final OClusterPage prevPage = new OClusterPage(prevCacheEntry, false);
+            prevPage.setRecordLongValue(prevRecordPosition, -OLongSerializer.LONG_SIZE,
+                createPagePointer(newPageIndex, newRecordPosition));
+          } finally {
+            releasePageFromWrite(atomicOperation, prevCacheEntry);
+          }
+        } else {
+          clusterPositionMap.update(clusterPosition, new OClusterPositionMapBucket.PositionEntry(newPageIndex, newRecordPosition),
+              atomicOperation);
+        }
+
+        pageIndex = newPageIndex;
+        recordPosition = newRecordPosition;
+        relocated = true;
+      }
+
+      prevPageIndex = pageIndex;
+      prevRecordPosition = recordPosition;
+
+      pageIndex = getPageIndex(nextPagePointer);
+      recordPosition = getRecordPosition(nextPagePointer);
+    } while (nextPagePointer >= 0);
+
+    return new RelocateRecordResult(relocated, recordsSizeDiff);
+  }
+
+  /**
+   * Removes empty pages from the end of the cluster. At first size of cluster is decreased inside of atomic operation, so pages are
+   * logically removed from cluster, then pages are removed from the disk cache and cluster file is truncated.
+   *
+   * @return Amount of removed pages.
+   */
+  private long releaseEmptyPages() throws IOException {
+    final long releasedPages;
+
+    boolean rollback = false;
+    final OAtomicOperation atomicOperation = startAtomicOperation(false);
+    try {
+      acquireExclusiveLock();
+      try {
+        final OCacheEntry stateCacheEntry = loadPageForWrite(atomicOperation, fileId, STATE_ENTRY_INDEX, false);
+        try {
+          final OPaginatedClusterStateV1 clusterState = new OPaginatedClusterStateV1(stateCacheEntry);
+          final int fileSize = clusterState.getFileSize();
+
+          int newFileSize = fileSize;
+          while (newFileSize > 0) {
+            final boolean isEmpty;
+            final OCacheEntry cacheEntry = loadPageForRead(atomicOperation, fileId, newFileSize, false);
+            try {
+              final OClusterPage localPage = new OClusterPage(cacheEntry, false);
+              isEmpty = localPage.getRecordsCount() == 0;
+            } finally {
+              releasePageFromRead(atomicOperation, cacheEntry);
+            }
+
+            if (!isEmpty) {
+              break;
+            }
+
+            newFileSize--;
+          }
+
+          for (long pageIndex = newFileSize + 1; pageIndex <= fileSize; pageIndex++) {
+            freeSpaceMap.updatePageFreeSpace(pageIndex, 0, atomicOperation);
+          }
+
+          if (newFileSize < fileSize) {
+            clusterState.setFileSize(newFileSize);
+          }
+        } finally {
+          releasePageFromWrite(atomicOperation, stateCacheEntry);
+        }
+      } finally {
+        releaseExclusiveLock();
+      }
+    } catch (final Exception e) {
+      rollback = true;
+      throw e;
+    } finally {
+      endAtomicOperation(rollback);
+    }
+
+    // pages are removed from the file only if they are not used by any atomic operation, which is guaranteed by lock of
+    // the component which is held till the end of atomic operation
+    rollback = false;
+    final OAtomicOperation shrinkOperation = startAtomicOperation(false);
+    try {
+      acquireExclusiveLock();
+      try {
+        final int fileSize;
+        final OCacheEntry stateCacheEntry = loadPageForRead(shrinkOperation, fileId, STATE_ENTRY_INDEX, false);
+        try {
+          fileSize = new OPaginatedClusterStateV1(stateCacheEntry).getFileSize();
+        } finally {
+          releasePageFromRead(shrinkOperation, stateCacheEntry);
+        }
+
+        final long filledUpTo = writeCache.getFilledUpTo(fileId);
+        if (filledUpTo > fileSize + 1) {
+          readCache.shrinkFile(fileId, fileSize + 1, writeCache);
+          releasedPages = filledUpTo - (fileSize + 1);
+        } else {
+          releasedPages = 0;
+        }
+      } finally {
+        releaseExclusiveLock();
+      }
+    } catch (final Exception e) {
+      rollback = true;
+      throw e;
+    } finally {
+      endAtomicOperation(rollback);
+    }
+
+    return releasedPages;
+  }
+
   @Override
   public void synch() {
     atomicOperationsManager.acquireReadLock(this);
@@ -1428,6 +1739,7 @@ public final class OPaginatedClusterV1 extends OPaginatedCluster {
       try {
         writeCache.flush(fileId);
         clusterPositionMap.flush();
+        freeSpaceMap.flush();
       } finally {
         releaseSharedLock();
       }
@@ -1566,6 +1878,7 @@ public final class OPaginatedClusterV1 extends OPaginatedCluster {
     this.id = config.getId();
 
     clusterPositionMap = new OClusterPositionMapV1(storage, getName(), getFullName());
+    freeSpaceMap = new OClusterFreeSpaceMap(storage, getName(), getFullName());
   }
 
   private void setEncryptionInternal(final String iMethod, final String iKey) {
@@ -1614,6 +1927,7 @@ public final class OPaginatedClusterV1 extends OPaginatedCluster {
 
     writeCache.renameFile(fileId, newName + getExtension());
     clusterPositionMap.rename(newName);
+    freeSpaceMap.rename(newName);
 
     config.name = newName;
     storageLocal.renameCluster(getName(), newName);
@@ -1713,7 +2027,6 @@ public final class OPaginatedClusterV1 extends OPaginatedCluster {
       throws IOException {
     final FindFreePageResult findFreePageResult = findFreePage(entryContent.length, atomicOperation);
 
-    final int freePageIndex = findFreePageResult.freePageIndex;
     final long pageIndex = findFreePageResult.pageIndex;
 
     final boolean newPage = findFreePageResult.allocateNewPage;
@@ -1745,10 +2058,11 @@ public final class OPaginatedClusterV1 extends OPaginatedCluster {
     int recordSizesDiff;
     int position;
     final int finalVersion;
+    final int maxRecordSize;
 
     try {
       final OClusterPage localPage = new OClusterPage(cacheEntry, newPage);
-      assert newPage || freePageIndex == calculateFreePageIndex(localPage);
+      assert newPage || localPage.getMaxRecordSize() >= entryContent.length;
 
       final int initialFreeSpace = localPage.getFreeSpace();
 
@@ -1757,175 +2071,94 @@ public final class OPaginatedClusterV1 extends OPaginatedCluster {
       if (position < 0) {
         localPage.dumpToLog();
         throw new IllegalStateException(
-            "Page " + cacheEntry.getPageIndex() + " does not have enough free space to add record content, freePageIndex="
-                + freePageIndex + ", entryContent.length=" + entryContent.length);
+            "Page " + cacheEntry.getPageIndex() + " does not have enough free space to add record content, entryContent.length="
+                + entryContent.length);
       }
 
       finalVersion = localPage.getRecordVersion(position);
 
       final int freeSpace = localPage.getFreeSpace();
       recordSizesDiff = initialFreeSpace - freeSpace;
+      maxRecordSize = localPage.getMaxRecordSize();
     } finally {
       releasePageFromWrite(atomicOperation, cacheEntry);
     }
 
-    updateFreePagesIndex(freePageIndex, pageIndex, atomicOperation);
+    freeSpaceMap.updatePageFreeSpace(pageIndex, maxRecordSize, atomicOperation);
 
     return new AddEntryResult(pageIndex, position, finalVersion, recordSizesDiff);
   }
 
   private FindFreePageResult findFreePage(final int contentSize, final OAtomicOperation atomicOperation) throws IOException {
-    int freePageIndex = contentSize / ONE_KB;
-    freePageIndex -= PAGINATED_STORAGE_LOWEST_FREELIST_BOUNDARY.getValueAsInteger();
-    if (freePageIndex < 0) {
-      freePageIndex = 0;
+    final long pageIndex = freeSpaceMap.findFreePage(contentSize, atomicOperation);
+    if (pageIndex >= 0) {
+      return new FindFreePageResult(pageIndex, false);
     }
 
-    long pageIndex;
-
-    final OCacheEntry pinnedStateEntry = loadPageForRead(atomicOperation, fileId, STATE_ENTRY_INDEX, true);
+    final int fileSize;
+    final OCacheEntry stateCacheEntry = loadPageForRead(atomicOperation, fileId, STATE_ENTRY_INDEX, false);
     try {
-      final OPaginatedClusterStateV1 freePageLists = new OPaginatedClusterStateV1(pinnedStateEntry);
-      do {
-        pageIndex = freePageLists.getFreeListPage(freePageIndex);
-        freePageIndex++;
-      } while (pageIndex < 0 && freePageIndex < FREE_LIST_SIZE);
-
+      final OPaginatedClusterStateV1 clusterState = new OPaginatedClusterStateV1(stateCacheEntry);
+      fileSize = clusterState.getFileSize();
     } finally {
-      releasePageFromRead(atomicOperation, pinnedStateEntry);
-    }
-
-    final boolean allocateNewPage;
-
-    if (pageIndex < 0) {
-      final int fileSize;
-
-      final OCacheEntry stateCacheEntry = loadPageForRead(atomicOperation, fileId, STATE_ENTRY_INDEX, false);
-      try {
-        final OPaginatedClusterStateV1 clusterState = new OPaginatedClusterStateV1(stateCacheEntry);
-        fileSize = clusterState.getFileSize();
-      } finally {
-        releasePageFromRead(atomicOperation, stateCacheEntry);
-      }
-
-      allocateNewPage = true;
-      pageIndex = fileSize + 1;
-    } else {
-      allocateNewPage = false;
-      freePageIndex--;
+      releasePageFromRead(atomicOperation, stateCacheEntry);
     }
 
-    return new FindFreePageResult(pageIndex, freePageIndex, allocateNewPage);
+    return new FindFreePageResult(fileSize + 1, true);
   }
 
-  private void updateFreePagesIndex(final int prevFreePageIndex, final long pageIndex, final OAtomicOperation atomicOperation)
-      throws IOException {
-    final OCacheEntry cacheEntry = loadPageForWrite(atomicOperation, fileId, pageIndex, false);
-
+  /**
+   * Fills free space map using content of cluster pages. Free lists which were used by the previous versions of cluster to track
+   * free space are cleared, so pages of cluster are not linked in free lists anymore.
+   */
+  private void buildFreeSpaceMap(final boolean createMap) throws IOException {
+    boolean rollback = false;
+    final OAtomicOperation atomicOperation = startAtomicOperation(false);
     try {
-      final OClusterPage localPage = new OClusterPage(cacheEntry, false);
-      final int newFreePageIndex = calculateFreePageIndex(localPage);
-
-      if (prevFreePageIndex == newFreePageIndex) {
-        return;
-      }
-
-      final long nextPageIndex = localPage.getNextPage();
-      final long prevPageIndex = localPage.getPrevPage();
-
-      if (prevPageIndex >= 0) {
-        final OCacheEntry prevPageCacheEntry = loadPageForWrite(atomicOperation, fileId, prevPageIndex, false);
-        try {
-          final OClusterPage prevPage = new OClusterPage(prevPageCacheEntry, false);
-          assert calculateFreePageIndex(prevPage) == prevFreePageIndex;
-          prevPage.setNextPage(nextPageIndex);
-        } finally {
-          releasePageFromWrite(atomicOperation, prevPageCacheEntry);
+      acquireExclusiveLock();
+      try {
+        if (createMap) {
+          freeSpaceMap.create(atomicOperation);
+        } else {
+          freeSpaceMap.truncate(atomicOperation);
         }
-      }
 
-      if (nextPageIndex >= 0) {
-        final OCacheEntry nextPageCacheEntry = loadPageForWrite(atomicOperation, fileId, nextPageIndex, false);
+        final int fileSize;
+        final OCacheEntry stateCacheEntry = loadPageForWrite(atomicOperation, fileId, STATE_ENTRY_INDEX, false);
         try {
-          final OClusterPage nextPage = new OClusterPage(nextPageCacheEntry, false);
-          if (calculateFreePageIndex(nextPage) != prevFreePageIndex) {
-            calculateFreePageIndex(nextPage);
-          }
-
-          assert calculateFreePageIndex(nextPage) == prevFreePageIndex;
-          nextPage.setPrevPage(prevPageIndex);
-
-        } finally {
-          releasePageFromWrite(atomicOperation, nextPageCacheEntry);
-        }
-      }
-
-      localPage.setNextPage(-1);
-      localPage.setPrevPage(-1);
-
-      if (prevFreePageIndex < 0 && newFreePageIndex < 0) {
-        return;
-      }
-
-      if (prevFreePageIndex >= 0 && prevFreePageIndex < FREE_LIST_SIZE) {
-        if (prevPageIndex < 0) {
-          updateFreePagesList(prevFreePageIndex, nextPageIndex, atomicOperation);
-        }
-      }
+          final OPaginatedClusterStateV1 clusterState = new OPaginatedClusterStateV1(stateCacheEntry);
+          fileSize = clusterState.getFileSize();
 
-      if (newFreePageIndex >= 0) {
-        long oldFreePage;
-        final OCacheEntry pinnedStateEntry = loadPageForRead(atomicOperation, fileId, STATE_ENTRY_INDEX, true);
-        try {
-          final OPaginatedClusterStateV1 clusterFreeList = new OPaginatedClusterStateV1(pinnedStateEntry);
-          oldFreePage = clusterFreeList.getFreeListPage(newFreePageIndex);
+          for (int i = 0; i < FREE_LIST_SIZE; i++) {
+            if (clusterState.getFreeListPage(i) >= 0) {
+              clusterState.setFreeListPage(i, -1);
+            }
+          }
         } finally {
-          releasePageFromRead(atomicOperation, pinnedStateEntry);
+          releasePageFromWrite(atomicOperation, stateCacheEntry);
         }
 
-        if (oldFreePage >= 0) {
-          final OCacheEntry oldFreePageCacheEntry = loadPageForWrite(atomicOperation, fileId, oldFreePage, false);
+        for (long pageIndex = 1; pageIndex <= fileSize; pageIndex++) {
+          final int maxRecordSize;
+          final OCacheEntry cacheEntry = loadPageForRead(atomicOperation, fileId, pageIndex, false);
           try {
-            final OClusterPage oldFreeLocalPage = new OClusterPage(oldFreePageCacheEntry, false);
-            assert calculateFreePageIndex(oldFreeLocalPage) == newFreePageIndex;
-
-            oldFreeLocalPage.setPrevPage(pageIndex);
+            final OClusterPage localPage = new OClusterPage(cacheEntry, false);
+            maxRecordSize = localPage.getMaxRecordSize();
           } finally {
-            releasePageFromWrite(atomicOperation, oldFreePageCacheEntry);
+            releasePageFromRead(atomicOperation, cacheEntry);
           }
 
-          localPage.setNextPage(oldFreePage);
-          localPage.setPrevPage(-1);
+          freeSpaceMap.updatePageFreeSpace(pageIndex, maxRecordSize, atomicOperation);
         }
-
-        updateFreePagesList(newFreePageIndex, pageIndex, atomicOperation);
+      } finally {
+        releaseExclusiveLock();
       }
+    } catch (final Exception e) {
+      rollback = true;
+      throw e;
     } finally {
-      releasePageFromWrite(atomicOperation, cacheEntry);
-    }
-  }
-
-  private void updateFreePagesList(final int freeListIndex, final long pageIndex, final OAtomicOperation atomicOperation)
-      throws IOException {
-    final OCacheEntry pinnedStateEntry = loadPageForWrite(atomicOperation, fileId, STATE_ENTRY_INDEX, true);
-    try {
-      final OPaginatedClusterStateV1 paginatedClusterState = new OPaginatedClusterStateV1(pinnedStateEntry);
-      paginatedClusterState.setFreeListPage(freeListIndex, (int) pageIndex);
-    } finally {
-      releasePageFromWrite(atomicOperation, pinnedStateEntry);
-    }
-  }
-
-  private static int calculateFreePageIndex(final OClusterPage localPage) {
-    int newFreePageIndex;
-    if (localPage.isEmpty()) {
-      newFreePageIndex = FREE_LIST_SIZE - 1;
-    } else {
-      newFreePageIndex = (localPage.getMaxRecordSize() - (ONE_KB - 1)) / ONE_KB;
-
-      newFreePageIndex -= LOWEST_FREELIST_BOUNDARY;
+      endAtomicOperation(rollback);
     }
-    return newFreePageIndex;
   }
 
   private void initCusterState(final OAtomicOperation atomicOperation) throws IOException {
@@ -22,11 +22,14 @@ package com.orientechnologies.orient.core.storage.disk;
 
 import com.orientechnologies.common.collection.closabledictionary.OClosableLinkedContainer;
 import com.orientechnologies.common.directmemory.OByteBufferPool;
+import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.common.io.OFileUtils;
 import com.orientechnologies.common.io.OIOUtils;
 import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.common.parser.OSystemVariableResolver;
 import com.orientechnologies.common.thread.OThreadPoolExecutorWithLogging;
+import com.orientechnologies.common.types.OModifiableBoolean;
+import com.orientechnologies.common.util.OCallable;
 import com.orientechnologies.orient.core.command.OCommandOutputListener;
 import com.orientechnologies.orient.core.compression.impl.OZIPCompressionUtil;
 import com.orientechnologies.orient.core.config.OContextConfiguration;
@@ -36,18 +39,31 @@ import com.orientechnologies.orient.core.exception.OStorageException;
 import com.orientechnologies.orient.core.metadata.schema.OType;
 import com.orientechnologies.orient.core.serialization.serializer.binary.OBinarySerializerFactory;
 import com.orientechnologies.orient.core.storage.OChecksumMode;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.cache.OCachePointer;
 import com.orientechnologies.orient.core.storage.cache.OReadCache;
 import com.orientechnologies.orient.core.storage.cache.local.OWOWCache;
 import com.orientechnologies.orient.core.storage.cache.local.twoq.O2QCache;
 import com.orientechnologies.orient.core.storage.cluster.OClusterPositionMap;
+import com.orientechnologies.orient.core.storage.cluster.v1.OClusterFreeSpaceMap;
 import com.orientechnologies.orient.core.storage.fs.OFileClassic;
 import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
 import com.orientechnologies.orient.core.storage.impl.local.OStorageConfigurationSegment;
 import com.orientechnologies.orient.core.storage.impl.local.OStorageVariableParser;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.OPaginatedStorageDirtyFlag;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.base.ODurablePage;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OAtomicUnitEndRecord;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OFileCreatedWALRecord;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OFileDeletedWALRecord;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OLogSequenceNumber;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OOperationUnitId;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OOperationUnitRecord;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OUpdatePageRecord;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OWALRecord;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OWriteAheadLog;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.cas.OCASDiskWriteAheadLog;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.cas.OEmptyWALRecord;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.cas.OWriteableWALRecord;
 import com.orientechnologies.orient.core.storage.index.engine.OHashTableIndexEngine;
 import com.orientechnologies.orient.core.storage.index.engine.OSBTreeIndexEngine;
 import com.orientechnologies.orient.core.storage.ridbag.sbtree.OIndexRIDContainer;
@@ -55,26 +71,44 @@ import com.orientechnologies.orient.core.storage.ridbag.sbtree.OSBTreeCollection
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Date;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 import java.util.zip.ZipOutputStream;
 
 /**
@@ -87,12 +121,20 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
       ".oet", ".fl", OCASDiskWriteAheadLog.WAL_SEGMENT_EXTENSION, OCASDiskWriteAheadLog.MASTER_RECORD_EXTENSION,
       OHashTableIndexEngine.BUCKET_FILE_EXTENSION, OHashTableIndexEngine.METADATA_FILE_EXTENSION,
       OHashTableIndexEngine.TREE_FILE_EXTENSION, OHashTableIndexEngine.NULL_BUCKET_FILE_EXTENSION,
-      OClusterPositionMap.DEF_EXTENSION, OSBTreeIndexEngine.DATA_FILE_EXTENSION, OIndexRIDContainer.INDEX_FILE_EXTENSION,
-      OSBTreeCollectionManagerShared.DEFAULT_EXTENSION, OSBTreeIndexEngine.NULL_BUCKET_FILE_EXTENSION,
-      O2QCache.CACHE_STATISTIC_FILE_EXTENSION };
+      OClusterPositionMap.DEF_EXTENSION, OClusterFreeSpaceMap.DEF_EXTENSION, OSBTreeIndexEngine.DATA_FILE_EXTENSION,
+      OIndexRIDContainer.INDEX_FILE_EXTENSION, OSBTreeCollectionManagerShared.DEFAULT_EXTENSION, OSBTreeIndexEngine.NULL_BUCKET_FILE_EXTENSION,
+      O2QCache.CACHE_STATISTIC_FILE_EXTENSION, OWOWCache.COMPRESSED_PAGE_MAP_EXTENSION,
+      OWOWCache.DOUBLE_WRITE_LOG_EXTENSION };
 
   private static final int ONE_KB = 1024;
 
+  private static final String  IBU_EXTENSION           = ".ibu";
+  private static final String  IBU_METADATA_ENTRY      = "incremental_backup.metadata";
+  private static final String  IBU_CONFIGURATION_ENTRY = "database.ocf";
+  private static final String  IBU_PAGES_ENTRY_PREFIX  = "pages/";
+  private static final int     IBU_PAGES_BATCH_SIZE    = 64;
+  private static final Pattern WAL_SEGMENT_PATTERN     = Pattern.compile("^.*\\.(\\d+)\\" + OCASDiskWriteAheadLog.WAL_SEGMENT_EXTENSION + "$");
+
   private static final OThreadPoolExecutorWithLogging segmentAdderExecutor;
 
   static {
@@ -233,7 +275,8 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
               zos.setLevel(compressionLevel);
 
               final List<String> names = OZIPCompressionUtil.compressDirectory(getStoragePath().toString(), zos,
-                  new String[] { ".fl", O2QCache.CACHE_STATISTIC_FILE_EXTENSION, ".lock" }, iOutput);
+                  new String[] { ".fl", O2QCache.CACHE_STATISTIC_FILE_EXTENSION, ".lock", OWOWCache.DOUBLE_WRITE_LOG_EXTENSION },
+                  iOutput);
               OPaginatedStorageDirtyFlag.addFileToArchive(zos, "dirty.fl");
               names.add("dirty.fl");
               return names;
@@ -324,6 +367,540 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
     }
   }
 
+  /**
+   * Makes incremental backup of the storage into the given directory. If directory does not contain backups of this storage, all
+   * pages of the storage are copied, otherwise only pages which were changed after previous backup (in other words pages LSN of
+   * which is bigger than end LSN of previous backup) are copied.
+   * <p>
+   * Writes are allowed during backup, pages are copied in "fuzzy" mode and WAL which is written during backup is copied into the
+   * backup too, so state of pages is fixed during restore by replaying this WAL.
+   */
+  @Override
+  public String incrementalBackup(final String backupDirectory, final OCallable<Void, Void> started) {
+    try {
+      final File directory = new File(backupDirectory);
+      if (!directory.exists()) {
+        if (!directory.mkdirs()) {
+          throw new OStorageException(
+              "Can not create directory " + directory.getAbsolutePath() + " for incremental backup of storage " + name);
+        }
+      } else if (!directory.isDirectory()) {
+        throw new OStorageException(
+            "Path " + directory.getAbsolutePath() + " passed for incremental backup of storage " + name + " is not a directory");
+      }
+
+      final boolean writeAllowed = isWriteAllowedDuringIncrementalBackup();
+      if (!writeAllowed) {
+        freeze(false);
+      }
+
+      try {
+        stateLock.acquireReadLock();
+        try {
+          checkOpenness();
+
+          if (writeAheadLog == null) {
+            throw new OStorageException(
+                "Incremental backup of storage " + name + " is impossible because write ahead log is switched off");
+          }
+
+          return doIncrementalBackup(directory, started);
+        } finally {
+          stateLock.releaseReadLock();
+        }
+      } finally {
+        if (!writeAllowed) {
+          release();
+        }
+      }
+    } catch (IOException e) {
+      throw OException.wrapException(new OStorageException("Error during incremental backup of storage " + name), e);
+    } catch (RuntimeException e) {
+      throw logAndPrepareForRethrow(e);
+    } catch (Error e) {
+      throw logAndPrepareForRethrow(e);
+    } catch (Throwable t) {
+      throw logAndPrepareForRethrow(t);
+    }
+  }
+
+  /**
+   * Restores content of the storage from chain of incremental backups contained in the given directory. First backup in the chain
+   * has to be full one, each of following backups is applied on top of the previous one.
+   */
+  @Override
+  public void restoreFromIncrementalBackup(final String filePath) {
+    try {
+      final File directory = new File(filePath);
+      final File[] backupFiles = fetchIncrementalBackupFiles(directory);
+
+      if (backupFiles.length == 0) {
+        throw new OStorageException("Directory " + directory.getAbsolutePath() + " does not contain incremental backup files");
+      }
+
+      final IncrementalBackupMetadata[] backupsMetadata = new IncrementalBackupMetadata[backupFiles.length];
+      for (int i = 0; i < backupFiles.length; i++) {
+        final IncrementalBackupMetadata metadata = readIncrementalBackupMetadata(backupFiles[i]);
+
+        if (i == 0) {
+          if (metadata.prevLsn != null) {
+            throw new OStorageException("First incremental backup file " + backupFiles[i] + " does not contain full backup");
+          }
+        } else {
+          final IncrementalBackupMetadata prevMetadata = backupsMetadata[i - 1];
+          if (!metadata.storageName.equals(prevMetadata.storageName) || !prevMetadata.endLsn.equals(metadata.prevLsn)) {
+            throw new OStorageException(
+                "Incremental backup file " + backupFiles[i] + " does not continue backup " + backupFiles[i - 1]);
+          }
+        }
+
+        backupsMetadata[i] = metadata;
+      }
+
+      stateLock.acquireWriteLock();
+      try {
+        checkOpenness();
+
+        if (backupsMetadata[0].pageSize != writeCache.pageSize()) {
+          throw new OStorageException(
+              "Page size of backup " + backupsMetadata[0].pageSize + " differs from page size of storage " + writeCache.pageSize());
+        }
+
+        closeClusters(false);
+        closeIndexes(false);
+        sbTreeCollectionManager.close();
+
+        //pages are restored without logging, so LSNs of new changes should be bigger than LSNs of restored pages
+        writeAheadLog.moveLsnAfter(backupsMetadata[backupsMetadata.length - 1].endLsn);
+
+        for (int i = 0; i < backupFiles.length; i++) {
+          OLogManager.instance().info(this, "Restore of storage %s from incremental backup %s", name, backupFiles[i]);
+
+          try (ZipFile zipFile = new ZipFile(backupFiles[i])) {
+            restorePagesFromIncrementalBackup(zipFile, backupsMetadata[i]);
+            restoreWALFromIncrementalBackup(zipFile);
+          }
+        }
+
+        writeCache.flush();
+      } finally {
+        stateLock.releaseWriteLock();
+      }
+
+      close(true, false);
+
+      try (ZipFile zipFile = new ZipFile(backupFiles[backupFiles.length - 1])) {
+        final ZipEntry configurationEntry = zipFile.getEntry(IBU_CONFIGURATION_ENTRY);
+        try (InputStream inputStream = zipFile.getInputStream(configurationEntry)) {
+          ((OStorageConfigurationSegment) configuration).replaceWith(inputStream);
+        }
+      }
+
+      open(null, null, new OContextConfiguration());
+    } catch (IOException e) {
+      throw OException.wrapException(new OStorageException("Error during restore of storage " + name + " from incremental backup"),
+          e);
+    } catch (RuntimeException e) {
+      throw logAndPrepareForRethrow(e);
+    } catch (Error e) {
+      throw logAndPrepareForRethrow(e);
+    } catch (Throwable t) {
+      throw logAndPrepareForRethrow(t);
+    }
+  }
+
+  private String doIncrementalBackup(final File directory, final OCallable<Void, Void> started) throws IOException {
+    final File[] backupFiles = fetchIncrementalBackupFiles(directory);
+
+    final OLogSequenceNumber prevLsn;
+    final long backupIndex;
+
+    if (backupFiles.length == 0) {
+      prevLsn = null;
+      backupIndex = 0;
+    } else {
+      final File lastBackupFile = backupFiles[backupFiles.length - 1];
+      final IncrementalBackupMetadata lastMetadata = readIncrementalBackupMetadata(lastBackupFile);
+
+      if (!lastMetadata.storageName.equals(name)) {
+        throw new OStorageException(
+            "Directory " + directory.getAbsolutePath() + " contains incremental backup of storage " + lastMetadata.storageName
+                + " and can not be used for backup of storage " + name);
+      }
+
+      prevLsn = lastMetadata.endLsn;
+      backupIndex = extractIncrementalBackupIndex(lastBackupFile.getName()) + 1;
+    }
+
+    final String fileName = new SimpleDateFormat("yyyy-MM-dd-HH-mm-ss").format(new Date()) + "_" + backupIndex + IBU_EXTENSION;
+    final File backupFile = new File(directory, fileName);
+    final File tempBackupFile = new File(directory, fileName + ".tmp");
+
+    //all changes logged before start LSN are already applied to the pages, so they are present in copied pages
+    final OLogSequenceNumber startLsn;
+    final long freezeId = getAtomicOperationsManager().freezeAtomicOperations(null, null);
+    try {
+      startLsn = writeAheadLog.end();
+      writeAheadLog.addCutTillLimit(startLsn);
+    } finally {
+      getAtomicOperationsManager().releaseAtomicOperations(freezeId);
+    }
+
+    try {
+      if (started != null) {
+        started.call(null);
+      }
+
+      try (FileOutputStream fileOutputStream = new FileOutputStream(tempBackupFile)) {
+        try (ZipOutputStream zipOutputStream = new ZipOutputStream(new BufferedOutputStream(fileOutputStream))) {
+          final DataOutputStream dataOutputStream = new DataOutputStream(zipOutputStream);
+
+          final Map<String, Long> files = writeCache.files();
+          final List<IncrementalBackupFile> backupFilesList = new ArrayList<>(files.size());
+
+          for (final Map.Entry<String, Long> entry : files.entrySet()) {
+            final long fileId = entry.getValue();
+            final long filledUpTo = writeCache.getFilledUpTo(fileId);
+
+            backupFilesList.add(new IncrementalBackupFile(entry.getKey(), writeCache.internalFileId(fileId), filledUpTo));
+            backupChangedPages(zipOutputStream, dataOutputStream, entry.getKey(), fileId, filledUpTo, prevLsn);
+          }
+
+          zipOutputStream.putNextEntry(new ZipEntry(IBU_CONFIGURATION_ENTRY));
+          ((OStorageConfigurationSegment) configuration).copyTo(zipOutputStream);
+          zipOutputStream.closeEntry();
+
+          final OLogSequenceNumber endLsn = copyWALToIncrementalBackup(zipOutputStream, startLsn.getSegment());
+
+          zipOutputStream.putNextEntry(new ZipEntry(IBU_METADATA_ENTRY));
+          new IncrementalBackupMetadata(name, writeCache.pageSize(), prevLsn, startLsn, endLsn, backupFilesList)
+              .toStream(dataOutputStream);
+          dataOutputStream.flush();
+          zipOutputStream.closeEntry();
+        }
+      }
+    } catch (IOException | RuntimeException e) {
+      Files.deleteIfExists(tempBackupFile.toPath());
+      throw e;
+    } finally {
+      writeAheadLog.removeCutTillLimit(startLsn);
+    }
+
+    Files.move(tempBackupFile.toPath(), backupFile.toPath(), StandardCopyOption.ATOMIC_MOVE);
+
+    OLogManager.instance().info(this, "Incremental backup of storage %s is written into %s", name, backupFile);
+
+    return fileName;
+  }
+
+  /**
+   * Copies pages LSN of which is bigger than LSN of previous backup. Pages are read directly from write cache, so read cache is not
+   * polluted by pages which are read only once.
+   */
+  private void backupChangedPages(final ZipOutputStream zipOutputStream, final DataOutputStream dataOutputStream,
+      final String fileName, final long fileId, final long filledUpTo, final OLogSequenceNumber prevLsn) throws IOException {
+    final int pageSize = writeCache.pageSize();
+    final byte[] data = new byte[pageSize];
+    final OModifiableBoolean cacheHit = new OModifiableBoolean();
+
+    boolean entryIsAdded = false;
+    long pageIndex = 0;
+
+    while (pageIndex < filledUpTo) {
+      //file was deleted during backup, deletion will be restored from WAL
+      if (!writeCache.exists(fileId)) {
+        break;
+      }
+
+      final int pageCount = (int) Math.min(IBU_PAGES_BATCH_SIZE, filledUpTo - pageIndex);
+      final OCachePointer[] pointers = writeCache.load(fileId, pageIndex, pageCount, false, cacheHit, false);
+      if (pointers.length == 0) {
+        break;
+      }
+
+      for (final OCachePointer pointer : pointers) {
+        try {
+          final boolean changed;
+
+          pointer.acquireSharedLock();
+          try {
+            final ByteBuffer buffer = pointer.getBufferDuplicate();
+            assert buffer != null;
+
+            final OLogSequenceNumber pageLsn = ODurablePage.getLogSequenceNumberFromPage(buffer);
+            changed = prevLsn == null || pageLsn.compareTo(prevLsn) > 0;
+
+            if (changed) {
+              ODurablePage.getPageData(buffer, data, 0, pageSize);
+            }
+          } finally {
+            pointer.releaseSharedLock();
+          }
+
+          if (changed) {
+            if (!entryIsAdded) {
+              zipOutputStream.putNextEntry(new ZipEntry(IBU_PAGES_ENTRY_PREFIX + fileName));
+              entryIsAdded = true;
+            }
+
+            dataOutputStream.writeLong(pointer.getPageIndex());
+            dataOutputStream.write(data);
+          }
+        } finally {
+          pointer.decrementReadersReferrer();
+        }
+      }
+
+      pageIndex += pointers.length;
+    }
+
+    if (entryIsAdded) {
+      dataOutputStream.flush();
+      zipOutputStream.closeEntry();
+    }
+  }
+
+  private void restorePagesFromIncrementalBackup(final ZipFile zipFile, final IncrementalBackupMetadata metadata)
+      throws IOException {
+    final Map<String, IncrementalBackupFile> backupFiles = new HashMap<>(metadata.files.size());
+    for (final IncrementalBackupFile backupFile : metadata.files) {
+      backupFiles.put(backupFile.name, backupFile);
+    }
+
+    //remove files which were deleted after previous backup or recreated with different id,
+    //in case of full backup all files are recreated
+    for (final Map.Entry<String, Long> entry : writeCache.files().entrySet()) {
+      final IncrementalBackupFile backupFile = backupFiles.get(entry.getKey());
+
+      if (metadata.prevLsn == null || backupFile == null || backupFile.id != writeCache.internalFileId(entry.getValue())) {
+        readCache.deleteFile(entry.getValue(), writeCache);
+      }
+    }
+
+    final int pageSize = writeCache.pageSize();
+    final byte[] data = new byte[pageSize];
+
+    for (final IncrementalBackupFile backupFile : metadata.files) {
+      final long fileId;
+      boolean truncated = false;
+
+      if (writeCache.exists(backupFile.name)) {
+        fileId = writeCache.fileIdByName(backupFile.name);
+
+        if (writeCache.getFilledUpTo(fileId) > backupFile.pages) {
+          readCache.truncateFile(fileId, writeCache);
+          truncated = true;
+        }
+      } else {
+        fileId = readCache.addFile(backupFile.name, writeCache.externalFileId(backupFile.id), writeCache);
+      }
+
+      long restoredPages = 0;
+
+      final ZipEntry pagesEntry = zipFile.getEntry(IBU_PAGES_ENTRY_PREFIX + backupFile.name);
+      if (pagesEntry != null) {
+        try (DataInputStream dataInputStream = new DataInputStream(new BufferedInputStream(zipFile.getInputStream(pagesEntry)))) {
+          while (true) {
+            final long pageIndex;
+            try {
+              pageIndex = dataInputStream.readLong();
+            } catch (EOFException ignore) {
+              break;
+            }
+
+            dataInputStream.readFully(data);
+
+            OCacheEntry cacheEntry = readCache.loadForWrite(fileId, pageIndex, true, writeCache, 1, false, null);
+            if (cacheEntry == null) {
+              do {
+                if (cacheEntry != null) {
+                  readCache.releaseFromWrite(cacheEntry, writeCache);
+                }
+
+                cacheEntry = readCache.allocateNewPage(fileId, writeCache, false, null);
+              } while (cacheEntry.getPageIndex() != pageIndex);
+            }
+
+            try {
+              final ByteBuffer buffer = cacheEntry.getCachePointer().getBufferDuplicate();
+              assert buffer != null;
+
+              buffer.position(0);
+              buffer.put(data);
+            } finally {
+              readCache.releaseFromWrite(cacheEntry, writeCache);
+            }
+
+            restoredPages++;
+          }
+        }
+      }
+
+      if (truncated && restoredPages < backupFile.pages) {
+        throw new OStorageException("File " + backupFile.name + " was truncated after previous backup but backup " + zipFile.getName()
+            + " does not contain all pages of this file");
+      }
+
+      //pages which were allocated but never changed
+      while (writeCache.getFilledUpTo(fileId) < backupFile.pages) {
+        final OCacheEntry cacheEntry = readCache.allocateNewPage(fileId, writeCache, false, null);
+        readCache.releaseFromWrite(cacheEntry, writeCache);
+      }
+    }
+  }
+
+  private void restoreWALFromIncrementalBackup(final ZipFile zipFile) throws IOException {
+    final File walDirectory = createWalTempDirectory();
+    try {
+      boolean walIsPresent = false;
+
+      final Enumeration<? extends ZipEntry> entries = zipFile.entries();
+      while (entries.hasMoreElements()) {
+        final ZipEntry entry = entries.nextElement();
+        final Matcher matcher = WAL_SEGMENT_PATTERN.matcher(entry.getName());
+
+        if (matcher.matches()) {
+          //WAL segments are renamed, because name of backed up storage may differ from the current one
+          try (InputStream inputStream = zipFile.getInputStream(entry)) {
+            addFileToDirectory(name + "." + matcher.group(1) + OCASDiskWriteAheadLog.WAL_SEGMENT_EXTENSION, inputStream,
+                walDirectory);
+          }
+
+          walIsPresent = true;
+        }
+      }
+
+      if (walIsPresent) {
+        final OWriteAheadLog restoreLog = createWalFromIBUFiles(walDirectory);
+        try {
+          replayIncrementalBackupWAL(restoreLog);
+        } finally {
+          restoreLog.delete();
+        }
+      }
+    } finally {
+      OFileUtils.deleteRecursively(walDirectory);
+    }
+  }
+
+  /**
+   * Replays operations stored in WAL of incremental backup. In contrary to the usual data restore after crash, change is applied
+   * only if LSN of the page is smaller than LSN of the change, because pages may be copied into the backup after they were changed.
+   */
+  private void replayIncrementalBackupWAL(final OWriteAheadLog restoreLog) throws IOException {
+    final OLogSequenceNumber begin = restoreLog.begin();
+    if (begin == null) {
+      return;
+    }
+
+    final Map<OOperationUnitId, List<OWALRecord>> operationUnits = new HashMap<>(1024);
+
+    List<OWriteableWALRecord> records = restoreLog.read(begin, 1_000);
+    while (!records.isEmpty()) {
+      for (final OWriteableWALRecord walRecord : records) {
+        if (walRecord instanceof OAtomicUnitEndRecord) {
+          final List<OWALRecord> atomicUnit = operationUnits.remove(((OAtomicUnitEndRecord) walRecord).getOperationUnitId());
+
+          //operations which were started before the backup contain only part of the records
+          if (atomicUnit != null) {
+            restoreIncrementalBackupAtomicUnit(atomicUnit);
+          }
+        } else if (walRecord instanceof OOperationUnitRecord) {
+          final OOperationUnitRecord operationUnitRecord = (OOperationUnitRecord) walRecord;
+          operationUnits.computeIfAbsent(operationUnitRecord.getOperationUnitId(), (id) -> new ArrayList<>()).add(walRecord);
+        }
+      }
+
+      records = restoreLog.next(records.get(records.size() - 1).getLsn(), 1_000);
+    }
+  }
+
+  private void restoreIncrementalBackupAtomicUnit(final List<OWALRecord> atomicUnit) throws IOException {
+    for (final OWALRecord walRecord : atomicUnit) {
+      if (walRecord instanceof OFileDeletedWALRecord) {
+        final OFileDeletedWALRecord fileDeletedWALRecord = (OFileDeletedWALRecord) walRecord;
+        if (writeCache.exists(fileDeletedWALRecord.getFileId())) {
+          readCache.deleteFile(fileDeletedWALRecord.getFileId(), writeCache);
+        }
+      } else if (walRecord instanceof OFileCreatedWALRecord) {
+        final OFileCreatedWALRecord fileCreatedWALRecord = (OFileCreatedWALRecord) walRecord;
+        if (!writeCache.exists(fileCreatedWALRecord.getFileName())) {
+          readCache.addFile(fileCreatedWALRecord.getFileName(), fileCreatedWALRecord.getFileId(), writeCache);
+        }
+      } else if (walRecord instanceof OUpdatePageRecord) {
+        final OUpdatePageRecord updatePageRecord = (OUpdatePageRecord) walRecord;
+
+        //file is deleted in one of the next operations or it was deleted before its pages were copied
+        if (!writeCache.exists(updatePageRecord.getFileId())) {
+          continue;
+        }
+
+        final long fileId = writeCache.externalFileId(writeCache.internalFileId(updatePageRecord.getFileId()));
+        final long pageIndex = updatePageRecord.getPageIndex();
+
+        OCacheEntry cacheEntry = readCache.loadForWrite(fileId, pageIndex, true, writeCache, 1, false, null);
+        if (cacheEntry == null) {
+          do {
+            if (cacheEntry != null) {
+              readCache.releaseFromWrite(cacheEntry, writeCache);
+            }
+
+            cacheEntry = readCache.allocateNewPage(fileId, writeCache, false, null);
+          } while (cacheEntry.getPageIndex() != pageIndex);
+        }
+
+        try {
+          final ByteBuffer buffer = cacheEntry.getCachePointer().getBufferDuplicate();
+          assert buffer != null;
+
+          final OLogSequenceNumber pageLsn = ODurablePage.getLogSequenceNumberFromPage(buffer);
+          if (pageLsn.compareTo(updatePageRecord.getLsn()) < 0) {
+            final ODurablePage durablePage = new ODurablePage(cacheEntry);
+            durablePage.restoreChanges(updatePageRecord.getChanges());
+            durablePage.setLsn(updatePageRecord.getLsn());
+          }
+        } finally {
+          readCache.releaseFromWrite(cacheEntry, writeCache);
+        }
+      }
+    }
+  }
+
+  private static File[] fetchIncrementalBackupFiles(final File directory) {
+    final File[] files = directory.listFiles((dir, fileName) -> fileName.endsWith(IBU_EXTENSION));
+    if (files == null) {
+      return new File[0];
+    }
+
+    Arrays.sort(files, Comparator.comparingLong(file -> extractIncrementalBackupIndex(file.getName())));
+    return files;
+  }
+
+  private static long extractIncrementalBackupIndex(final String fileName) {
+    final int indexStart = fileName.lastIndexOf('_') + 1;
+    final int indexEnd = fileName.length() - IBU_EXTENSION.length();
+
+    try {
+      return Long.parseLong(fileName.substring(indexStart, indexEnd));
+    } catch (NumberFormatException e) {
+      throw OException.wrapException(new OStorageException("Invalid name of incremental backup file " + fileName), e);
+    }
+  }
+
+  private static IncrementalBackupMetadata readIncrementalBackupMetadata(final File backupFile) throws IOException {
+    try (ZipFile zipFile = new ZipFile(backupFile)) {
+      final ZipEntry metadataEntry = zipFile.getEntry(IBU_METADATA_ENTRY);
+      if (metadataEntry == null) {
+        throw new OStorageException("Incremental backup file " + backupFile + " is broken, metadata is absent");
+      }
+
+      try (DataInputStream dataInputStream = new DataInputStream(
+          new BufferedInputStream(zipFile.getInputStream(metadataEntry)))) {
+        return IncrementalBackupMetadata.fromStream(dataInputStream);
+      }
+    }
+  }
+
   @Override
   protected OLogSequenceNumber copyWALToIncrementalBackup(ZipOutputStream zipOutputStream, long startSegment) throws IOException {
 
@@ -334,6 +911,9 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
     try {
       lastLSN = writeAheadLog.end();
       writeAheadLog.appendNewSegment();
+      //segment is listed as non active only if records of the next segment are written to the disk
+      writeAheadLog.log(new OEmptyWALRecord());
+      writeAheadLog.flush();
       nonActiveSegments = writeAheadLog.nonActiveSegments(startSegment);
     } finally {
       getAtomicOperationsManager().releaseAtomicOperations(freezeId);
@@ -570,7 +1150,8 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
           getConfiguration().getContextConfiguration()
               .getValueAsBoolean(OGlobalConfiguration.STORAGE_PRINT_WAL_PERFORMANCE_STATISTICS),
           getConfiguration().getContextConfiguration()
-              .getValueAsInteger(OGlobalConfiguration.STORAGE_PRINT_WAL_PERFORMANCE_INTERVAL));
+              .getValueAsInteger(OGlobalConfiguration.STORAGE_PRINT_WAL_PERFORMANCE_INTERVAL),
+          getConfiguration().getContextConfiguration().getValueAsInteger(OGlobalConfiguration.WAL_GROUP_COMMIT_MAX_DELAY));
 
       diskWriteAheadLog.addLowDiskSpaceListener(this);
       writeAheadLog = diskWriteAheadLog;
@@ -612,6 +1193,22 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
     final boolean fileRemovalLogging = contextConfiguration
         .getValueAsBoolean(OGlobalConfiguration.DISK_CACHE_PRINT_FILE_REMOVE_STATISTICS);
 
+    final Set<String> compressedFiles = new HashSet<>();
+    for (final String compressedFile : contextConfiguration.getValueAsString(OGlobalConfiguration.DISK_CACHE_PAGE_COMPRESSION)
+        .split(",")) {
+      if (!compressedFile.trim().isEmpty()) {
+        compressedFiles.add(compressedFile.trim().toLowerCase(Locale.ENGLISH));
+      }
+    }
+
+    final long doubleWriteLogMaxSize;
+    if (contextConfiguration.getValueAsBoolean(OGlobalConfiguration.DISK_CACHE_DOUBLE_WRITE_LOG)) {
+      doubleWriteLogMaxSize =
+          contextConfiguration.getValueAsInteger(OGlobalConfiguration.DISK_CACHE_DOUBLE_WRITE_LOG_MAX_SIZE) * 1024L * 1024;
+    } else {
+      doubleWriteLogMaxSize = -1;
+    }
+
     final OBinarySerializerFactory binarySerializerFactory = getComponentsFactory().binarySerializerFactory;
     final OWOWCache wowCache = new OWOWCache(pageSize, OByteBufferPool.instance(contextConfiguration), writeAheadLog,
         contextConfiguration.getValueAsInteger(OGlobalConfiguration.DISK_WRITE_CACHE_PAGE_FLUSH_INTERVAL),
@@ -619,7 +1216,7 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
         getName(), binarySerializerFactory.getObjectSerializer(OType.STRING), files, getId(),
         contextConfiguration.getValueAsEnum(OGlobalConfiguration.STORAGE_CHECKSUM_MODE, OChecksumMode.class),
         contextConfiguration.getValueAsBoolean(OGlobalConfiguration.STORAGE_CALL_FSYNC), printCacheStatistics,
-        statisticsPrintInterval);
+        statisticsPrintInterval, compressedFiles, doubleWriteLogMaxSize);
 
     wowCache.addLowDiskSpaceListener(this);
     wowCache.loadRegisteredFiles();
@@ -644,6 +1241,91 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
     }
   }
 
+  /**
+   * Metadata of single incremental backup file, it is written as the last entry of backup.
+   */
+  private static final class IncrementalBackupMetadata {
+    private static final int VERSION = 1;
+
+    private final String                      storageName;
+    private final int                         pageSize;
+    private final OLogSequenceNumber          prevLsn;
+    private final OLogSequenceNumber          startLsn;
+    private final OLogSequenceNumber          endLsn;
+    private final List<IncrementalBackupFile> files;
+
+    private IncrementalBackupMetadata(final String storageName, final int pageSize, final OLogSequenceNumber prevLsn,
+        final OLogSequenceNumber startLsn, final OLogSequenceNumber endLsn, final List<IncrementalBackupFile> files) {
+      this.storageName = storageName;
+      this.pageSize = pageSize;
+      this.prevLsn = prevLsn;
+      this.startLsn = startLsn;
+      this.endLsn = endLsn;
+      this.files = files;
+    }
+
+    private void toStream(final DataOutput out) throws IOException {
+      out.writeInt(VERSION);
+      out.writeUTF(storageName);
+      out.writeInt(pageSize);
+
+      out.writeBoolean(prevLsn != null);
+      if (prevLsn != null) {
+        prevLsn.toStream(out);
+      }
+
+      startLsn.toStream(out);
+      endLsn.toStream(out);
+
+      out.writeInt(files.size());
+      for (final IncrementalBackupFile file : files) {
+        out.writeUTF(file.name);
+        out.writeInt(file.id);
+        out.writeLong(file.pages);
+      }
+    }
+
+    private static IncrementalBackupMetadata fromStream(final DataInput in) throws IOException {
+      final int version = in.readInt();
+      if (version != VERSION) {
+        throw new OStorageException("Unsupported version of incremental backup " + version);
+      }
+
+      final String storageName = in.readUTF();
+      final int pageSize = in.readInt();
+
+      final OLogSequenceNumber prevLsn;
+      if (in.readBoolean()) {
+        prevLsn = new OLogSequenceNumber(in);
+      } else {
+        prevLsn = null;
+      }
+
+      final OLogSequenceNumber startLsn = new OLogSequenceNumber(in);
+      final OLogSequenceNumber endLsn = new OLogSequenceNumber(in);
+
+      final int filesCount = in.readInt();
+      final List<IncrementalBackupFile> files = new ArrayList<>(filesCount);
+      for (int i = 0; i < filesCount; i++) {
+        files.add(new IncrementalBackupFile(in.readUTF(), in.readInt(), in.readLong()));
+      }
+
+      return new IncrementalBackupMetadata(storageName, pageSize, prevLsn, startLsn, endLsn, files);
+    }
+  }
+
+  private static final class IncrementalBackupFile {
+    private final String name;
+    private final int    id;
+    private final long   pages;
+
+    private IncrementalBackupFile(final String name, final int id, final long pages) {
+      this.name = name;
+      this.id = id;
+      this.pages = pages;
+    }
+  }
+
   private final class SegmentAdder implements Callable<Void> {
     private final long                  segment;
     private final OCASDiskWriteAheadLog wal;
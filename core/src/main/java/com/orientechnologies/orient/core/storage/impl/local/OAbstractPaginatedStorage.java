@@ -93,6 +93,7 @@ import com.orientechnologies.orient.core.index.OIndexManager;
 import com.orientechnologies.orient.core.index.OIndexes;
 import com.orientechnologies.orient.core.index.ORuntimeKeyIndexDefinition;
 import com.orientechnologies.orient.core.index.engine.OBaseIndexEngine;
+import com.orientechnologies.orient.core.index.engine.OIndexBulkLoader;
 import com.orientechnologies.orient.core.index.engine.OIndexEngine;
 import com.orientechnologies.orient.core.index.engine.OMultiValueIndexEngine;
 import com.orientechnologies.orient.core.index.engine.OSingleValueIndexEngine;
@@ -124,6 +125,7 @@ import com.orientechnologies.orient.core.storage.cache.OPageDataVerificationErro
 import com.orientechnologies.orient.core.storage.cache.OReadCache;
 import com.orientechnologies.orient.core.storage.cache.OWriteCache;
 import com.orientechnologies.orient.core.storage.cache.local.OBackgroundExceptionListener;
+import com.orientechnologies.orient.core.storage.cluster.OClusterCompactionResult;
 import com.orientechnologies.orient.core.storage.cluster.OOfflineCluster;
 import com.orientechnologies.orient.core.storage.cluster.OPaginatedCluster;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.ORecordOperationMetadata;
@@ -179,6 +181,7 @@ import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -1032,6 +1035,50 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     }
   }
 
+  /**
+   * Performs online compaction of cluster, releasing space which is not used after removal of records. Batch size and pause
+   * between batches are defined by {@link OGlobalConfiguration#STORAGE_CLUSTER_COMPACTION_BATCH_SIZE} and {@link
+   * OGlobalConfiguration#STORAGE_CLUSTER_COMPACTION_PAUSE} settings.
+   *
+   * @see OPaginatedCluster#compact(int, long)
+   */
+  public final OClusterCompactionResult compactCluster(final int clusterId) {
+    try {
+      checkOpenness();
+      checkLowDiskSpaceRequestsAndReadOnlyConditions();
+
+      stateLock.acquireReadLock();
+      try {
+        checkOpenness();
+
+        final OCluster cluster = doGetAndCheckCluster(clusterId);
+        if (!(cluster instanceof OPaginatedCluster)) {
+          throw new OStorageException("Cluster '" + cluster.getName() + "' does not support online compaction");
+        }
+
+        final OContextConfiguration contextConfiguration = configuration.getContextConfiguration();
+        final OClusterCompactionResult result = ((OPaginatedCluster) cluster)
+            .compact(contextConfiguration.getValueAsInteger(OGlobalConfiguration.STORAGE_CLUSTER_COMPACTION_BATCH_SIZE),
+                contextConfiguration.getValueAsInteger(OGlobalConfiguration.STORAGE_CLUSTER_COMPACTION_PAUSE));
+
+        OLogManager.instance().info(this, "Compaction of cluster '%s' of storage '%s' is completed, %d records were relocated and "
+            + "%d pages were released", cluster.getName(), name, result.getRelocatedRecords(), result.getReleasedPages());
+
+        return result;
+      } catch (final IOException ioe) {
+        throw OException.wrapException(new OStorageException("Error during compaction of cluster with id " + clusterId), ioe);
+      } finally {
+        stateLock.releaseReadLock();
+      }
+    } catch (final RuntimeException ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (final Error ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (final Throwable t) {
+      throw logAndPrepareForRethrow(t);
+    }
+  }
+
   public OLogSequenceNumber getLSN() {
     try {
       if (writeAheadLog == null) {
@@ -2077,6 +2124,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
       }
 
       final List<ORecordOperation> result = new ArrayList<>(8);
+      OLogSequenceNumber commitLSN = null;
       stateLock.acquireReadLock();
       try {
         if (modificationLock) {
@@ -2182,7 +2230,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
             if (rollback) {
               rollback(transaction);
             } else {
-              endStorageTx(transaction, recordOperations);
+              commitLSN = endStorageTx(transaction, recordOperations);
             }
 
             this.transaction.set(null);
@@ -2215,6 +2263,9 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
         }
       }
 
+      //sync is performed after all locks are released, so concurrent transactions may join the same WAL sync
+      syncWALOnCommit(commitLSN);
+
       if (OLogManager.instance().isDebugEnabled()) {
         OLogManager.instance()
             .debug(this, "%d Committed transaction %d on database '%s' (result=%s)", Thread.currentThread().getId(),
@@ -2719,6 +2770,56 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     return engine.get(key);
   }
 
+  /**
+   * Fetches values of several keys of the same index at once. Index engines which support batch lookup traverse index only once
+   * for all keys, values of other engines are fetched key by key.
+   *
+   * @return Values in the same order as passed in keys, {@code null} is returned for absent keys.
+   */
+  public List<Object> getIndexValues(int indexId, final List<Object> keys) throws OInvalidIndexEngineIdException {
+    indexId = extractInternalId(indexId);
+
+    try {
+      if (transaction.get() != null) {
+        return doGetIndexValues(indexId, keys);
+      }
+
+      checkOpenness();
+
+      stateLock.acquireReadLock();
+      try {
+        checkOpenness();
+        return doGetIndexValues(indexId, keys);
+      } finally {
+        stateLock.releaseReadLock();
+      }
+    } catch (final OInvalidIndexEngineIdException ie) {
+      throw logAndPrepareForRethrow(ie);
+    } catch (final RuntimeException ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (final Error ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (final Throwable t) {
+      throw logAndPrepareForRethrow(t);
+    }
+  }
+
+  private List<Object> doGetIndexValues(final int indexId, final List<Object> keys) throws OInvalidIndexEngineIdException {
+    checkIndexId(indexId);
+
+    final OBaseIndexEngine engine = indexEngines.get(indexId);
+    if (engine instanceof OSingleValueIndexEngine) {
+      return new ArrayList<>(((OSingleValueIndexEngine) engine).getAll(keys));
+    }
+
+    final List<Object> values = new ArrayList<>(keys.size());
+    for (final Object key : keys) {
+      values.add(engine.get(key));
+    }
+
+    return values;
+  }
+
   public OBaseIndexEngine getIndexEngine(int indexId) throws OInvalidIndexEngineIdException {
     indexId = extractInternalId(indexId);
 
@@ -3063,6 +3164,66 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     }
   }
 
+  /**
+   * Creates loader which builds content of empty index from the whole set of entries at once instead of insertion of entries
+   * one by one. Bulk loading is controlled by {@link OGlobalConfiguration#INDEX_BULK_LOAD} setting.
+   *
+   * @param validator Validator which is applied to the entries with the same key, may be {@code null}.
+   *
+   * @return Bulk loader or {@code null} if index does not support bulk loading or it is not empty.
+   */
+  public OIndexBulkLoader createIndexBulkLoader(int indexId, final OBaseIndexEngine.Validator<Object, ORID> validator)
+      throws OInvalidIndexEngineIdException {
+    final int engineAPIVersion = extractEngineAPIVersion(indexId);
+    indexId = extractInternalId(indexId);
+
+    if (engineAPIVersion != 1) {
+      return null;
+    }
+
+    try {
+      checkOpenness();
+
+      stateLock.acquireReadLock();
+      try {
+        checkOpenness();
+        checkIndexId(indexId);
+
+        final OContextConfiguration contextConfiguration = configuration.getContextConfiguration();
+        if (!contextConfiguration.getValueAsBoolean(OGlobalConfiguration.INDEX_BULK_LOAD)) {
+          return null;
+        }
+
+        final OBaseIndexEngine engine = indexEngines.get(indexId);
+        if (!(engine instanceof OSingleValueIndexEngine)) {
+          return null;
+        }
+
+        final long sortBufferSize =
+            contextConfiguration.getValueAsLong(OGlobalConfiguration.INDEX_BULK_LOAD_SORT_BUFFER_SIZE) * 1024 * 1024;
+        final int fillFactor = contextConfiguration.getValueAsInteger(OGlobalConfiguration.INDEX_BULK_LOAD_FILL_FACTOR);
+
+        final OIndexBulkLoader bulkLoader = ((OSingleValueIndexEngine) engine)
+            .createBulkLoader(validator, sortBufferSize, fillFactor, Paths.get(Orient.getTempPath()));
+        if (bulkLoader == null) {
+          return null;
+        }
+
+        return new StorageIndexBulkLoader(bulkLoader);
+      } finally {
+        stateLock.releaseReadLock();
+      }
+    } catch (final OInvalidIndexEngineIdException ie) {
+      throw logAndPrepareForRethrow(ie);
+    } catch (final RuntimeException ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (final Error ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (final Throwable t) {
+      throw logAndPrepareForRethrow(t);
+    }
+  }
+
   public Object getIndexFirstKey(int indexId) throws OInvalidIndexEngineIdException {
     indexId = extractInternalId(indexId);
 
@@ -3403,6 +3564,54 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     return engine.size(transformer);
   }
 
+  /**
+   * Estimates amount of entries of index in the range of keys without iteration over the range.
+   *
+   * @return Estimated amount of entries or {@code -1} if index engine can not estimate it.
+   *
+   * @see OV1IndexEngine#estimateRangeSize(Object, boolean, Object, boolean)
+   */
+  public long estimateIndexRangeSize(int indexId, final Object rangeFrom, final boolean fromInclusive, final Object rangeTo,
+      final boolean toInclusive) throws OInvalidIndexEngineIdException {
+    indexId = extractInternalId(indexId);
+
+    try {
+      if (transaction.get() != null) {
+        return doEstimateIndexRangeSize(indexId, rangeFrom, fromInclusive, rangeTo, toInclusive);
+      }
+
+      checkOpenness();
+
+      stateLock.acquireReadLock();
+      try {
+        checkOpenness();
+        return doEstimateIndexRangeSize(indexId, rangeFrom, fromInclusive, rangeTo, toInclusive);
+      } finally {
+        stateLock.releaseReadLock();
+      }
+    } catch (final OInvalidIndexEngineIdException ie) {
+      throw logAndPrepareForRethrow(ie);
+    } catch (final RuntimeException ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (final Error ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (final Throwable t) {
+      throw logAndPrepareForRethrow(t);
+    }
+  }
+
+  private long doEstimateIndexRangeSize(final int indexId, final Object rangeFrom, final boolean fromInclusive,
+      final Object rangeTo, final boolean toInclusive) throws OInvalidIndexEngineIdException {
+    checkIndexId(indexId);
+
+    final OBaseIndexEngine engine = indexEngines.get(indexId);
+    if (engine instanceof OV1IndexEngine) {
+      return ((OV1IndexEngine) engine).estimateRangeSize(rangeFrom, fromInclusive, rangeTo, toInclusive);
+    }
+
+    return -1;
+  }
+
   public boolean hasIndexRangeQuerySupport(int indexId) throws OInvalidIndexEngineIdException {
     indexId = extractInternalId(indexId);
 
@@ -4551,13 +4760,24 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     }
   }
 
-  private void endStorageTx(final OTransactionInternal txi, final Collection<ORecordOperation> recordOperations)
+  private OLogSequenceNumber endStorageTx(final OTransactionInternal txi, final Collection<ORecordOperation> recordOperations)
       throws IOException {
-    atomicOperationsManager.endAtomicOperation(false);
+    final OLogSequenceNumber lsn = atomicOperationsManager.endAtomicOperation(false);
     assert OAtomicOperationsManager.getCurrentOperation() == null;
 
     OTransactionAbstract.updateCacheFromEntries(txi.getDatabase(), recordOperations, true);
     txCommit.incrementAndGet();
+
+    return lsn;
+  }
+
+  private void syncWALOnCommit(final OLogSequenceNumber commitLSN) {
+    final OWriteAheadLog wal = writeAheadLog;
+
+    if (commitLSN != null && wal != null && getConfiguration().getContextConfiguration()
+        .getValueAsBoolean(OGlobalConfiguration.WAL_SYNC_ON_COMMIT)) {
+      wal.flushTill(commitLSN);
+    }
   }
 
   private void startStorageTx(final OTransactionInternal clientTx) throws IOException {
@@ -5491,6 +5711,10 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     final int reportBatchSize = OGlobalConfiguration.WAL_REPORT_AFTER_OPERATIONS_DURING_RESTORE.getValueAsInteger();
     final Map<OOperationUnitId, List<OWALRecord>> operationUnits = new HashMap<>(1024);
 
+    final int restoreThreads = OGlobalConfiguration.WAL_RESTORE_THREADS.getValueAsInteger();
+    final OParallelPageRestore pageRestore =
+        restoreThreads > 1 ? new OParallelPageRestore(name, restoreThreads, this::restorePageChanges) : null;
+
     long lastReportTime = 0;
 
     try {
@@ -5506,7 +5730,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
             // in case of data restore from fuzzy checkpoint part of operations may be already flushed to the disk
             if (atomicUnit != null) {
               atomicUnit.add(walRecord);
-              restoreAtomicUnit(atomicUnit, atLeastOnePageUpdate);
+              restoreAtomicUnit(atomicUnit, atLeastOnePageUpdate, pageRestore);
             }
 
           } else if (walRecord instanceof OAtomicUnitStartRecord) {
@@ -5555,6 +5779,13 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
 
         records = writeAheadLog.next(records.get(records.size() - 1).getLsn(), 1_000);
       }
+
+      if (pageRestore != null) {
+        pageRestore.await();
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw OException.wrapException(new OStorageException("Data restore of storage " + name + " was interrupted"), e);
     } catch (final OWALPageBrokenException e) {
       OLogManager.instance()
           .errorNoDb(this, "Data restore was paused because broken WAL page was found. The rest of changes will be rolled back.",
@@ -5565,6 +5796,16 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
               + " Please report issue about this exception to bug tracker and provide WAL files which are backed up in 'wal_backup' directory.",
           e);
       backUpWAL(e);
+    } finally {
+      if (pageRestore != null) {
+        try {
+          pageRestore.shutdown();
+        } catch (final InterruptedException e) {
+          Thread.currentThread().interrupt();
+          //noinspection ThrowFromFinallyBlock
+          throw OException.wrapException(new OStorageException("Data restore of storage " + name + " was interrupted"), e);
+        }
+      }
     }
 
     if (atLeastOnePageUpdate.getValue()) {
@@ -5650,15 +5891,38 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
   @SuppressWarnings("WeakerAccess")
   protected final void restoreAtomicUnit(final List<OWALRecord> atomicUnit, final OModifiableBoolean atLeastOnePageUpdate)
       throws IOException {
+    try {
+      restoreAtomicUnit(atomicUnit, atLeastOnePageUpdate, null);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw OException.wrapException(new OStorageException("Data restore of storage " + name + " was interrupted"), e);
+    }
+  }
+
+  /**
+   * @param pageRestore If not <code>null</code> page changes are applied in parallel and this method may return before changes are
+   *                    applied, otherwise they are applied in current thread.
+   */
+  private void restoreAtomicUnit(final List<OWALRecord> atomicUnit, final OModifiableBoolean atLeastOnePageUpdate,
+      final OParallelPageRestore pageRestore) throws IOException, InterruptedException {
     assert atomicUnit.get(atomicUnit.size() - 1) instanceof OAtomicUnitEndRecord;
 
     for (final OWALRecord walRecord : atomicUnit) {
       if (walRecord instanceof OFileDeletedWALRecord) {
+        //file operations are applied only when all changes of the pages logged before them are applied
+        if (pageRestore != null) {
+          pageRestore.await();
+        }
+
         final OFileDeletedWALRecord fileDeletedWALRecord = (OFileDeletedWALRecord) walRecord;
         if (writeCache.exists(fileDeletedWALRecord.getFileId())) {
           readCache.deleteFile(fileDeletedWALRecord.getFileId(), writeCache);
         }
       } else if (walRecord instanceof OFileCreatedWALRecord) {
+        if (pageRestore != null) {
+          pageRestore.await();
+        }
+
         final OFileCreatedWALRecord fileCreatedCreatedWALRecord = (OFileCreatedWALRecord) walRecord;
 
         if (!writeCache.exists(fileCreatedCreatedWALRecord.getFileName())) {
@@ -5680,26 +5944,12 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
           }
         }
 
-        final long pageIndex = updatePageRecord.getPageIndex();
         fileId = writeCache.externalFileId(writeCache.internalFileId(fileId));
 
-        OCacheEntry cacheEntry = readCache.loadForWrite(fileId, pageIndex, true, writeCache, 1, false, null);
-        if (cacheEntry == null) {
-          do {
-            if (cacheEntry != null) {
-              readCache.releaseFromWrite(cacheEntry, writeCache);
-            }
-
-            cacheEntry = readCache.allocateNewPage(fileId, writeCache, false, null);
-          } while (cacheEntry.getPageIndex() != pageIndex);
-        }
-
-        try {
-          final ODurablePage durablePage = new ODurablePage(cacheEntry);
-          durablePage.restoreChanges(updatePageRecord.getChanges());
-          durablePage.setLsn(updatePageRecord.getLsn());
-        } finally {
-          readCache.releaseFromWrite(cacheEntry, writeCache);
+        if (pageRestore == null) {
+          restorePageChanges(fileId, updatePageRecord);
+        } else {
+          pageRestore.submit(fileId, updatePageRecord);
         }
 
         atLeastOnePageUpdate.setValue(true);
@@ -5718,6 +5968,33 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     }
   }
 
+  private void restorePageChanges(final long fileId, final OUpdatePageRecord updatePageRecord) throws IOException {
+    final long pageIndex = updatePageRecord.getPageIndex();
+
+    OCacheEntry cacheEntry = readCache.loadForWrite(fileId, pageIndex, true, writeCache, 1, false, null);
+    while (cacheEntry == null) {
+      //pages may be allocated concurrently during parallel restore, so we stop once file is long enough
+      final OCacheEntry allocatedEntry = readCache.allocateNewPage(fileId, writeCache, false, null);
+      if (allocatedEntry.getPageIndex() == pageIndex) {
+        cacheEntry = allocatedEntry;
+      } else {
+        readCache.releaseFromWrite(allocatedEntry, writeCache);
+
+        if (allocatedEntry.getPageIndex() > pageIndex) {
+          cacheEntry = readCache.loadForWrite(fileId, pageIndex, true, writeCache, 1, false, null);
+        }
+      }
+    }
+
+    try {
+      final ODurablePage durablePage = new ODurablePage(cacheEntry);
+      durablePage.restoreChanges(updatePageRecord.getChanges());
+      durablePage.setLsn(updatePageRecord.getLsn());
+    } finally {
+      readCache.releaseFromWrite(cacheEntry, writeCache);
+    }
+  }
+
   /**
    * Method which is called before any data modification operation to check alarm conditions such as: <ol> <li>Low disk space</li>
    * <li>Exception during data flush in background threads</li> <li>Broken files</li> </ol>
@@ -5929,6 +6206,27 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     Orient.instance().getProfiler()
         .registerHookValue("db." + this.name + ".txRollback", "Number of rolled back transactions", OProfiler.METRIC_TYPE.COUNTER,
             new AtomicLongOProfilerHookValue(txRollback), "db.*.txRollback");
+
+    Orient.instance().getProfiler()
+        .registerHookValue("db." + this.name + ".walGroupCommits", "Number of WAL syncs performed by group commit",
+            OProfiler.METRIC_TYPE.COUNTER, () -> {
+              final OWriteAheadLog wal = writeAheadLog;
+              return wal instanceof OCASDiskWriteAheadLog ? ((OCASDiskWriteAheadLog) wal).getGroupCommitsCount() : 0L;
+            }, "db.*.walGroupCommits");
+
+    Orient.instance().getProfiler()
+        .registerHookValue("db." + this.name + ".walGroupCommitBatchSize", "Average number of commits which share the same WAL sync",
+            OProfiler.METRIC_TYPE.STAT, () -> {
+              final OWriteAheadLog wal = writeAheadLog;
+              return wal instanceof OCASDiskWriteAheadLog ? ((OCASDiskWriteAheadLog) wal).getGroupCommitAverageBatchSize() : 0.0;
+            }, "db.*.walGroupCommitBatchSize");
+
+    Orient.instance().getProfiler()
+        .registerHookValue("db." + this.name + ".walCommitWaitTime", "Average time of waiting for WAL sync on commit (in us.)",
+            OProfiler.METRIC_TYPE.STAT, () -> {
+              final OWriteAheadLog wal = writeAheadLog;
+              return wal instanceof OCASDiskWriteAheadLog ? ((OCASDiskWriteAheadLog) wal).getCommitAverageWaitTime() : 0L;
+            }, "db.*.walCommitWaitTime");
   }
 
   protected final RuntimeException logAndPrepareForRethrow(final RuntimeException runtimeException) {
@@ -6305,6 +6603,51 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     }
   }
 
+  /**
+   * Wraps bulk loader of index engine, so the index is built under the storage lock.
+   */
+  private final class StorageIndexBulkLoader implements OIndexBulkLoader {
+    private final OIndexBulkLoader delegate;
+
+    private StorageIndexBulkLoader(final OIndexBulkLoader delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public void add(final Object key, final ORID value) {
+      delegate.add(key, value);
+    }
+
+    @Override
+    public long load() {
+      try {
+        checkOpenness();
+
+        stateLock.acquireReadLock();
+        try {
+          checkOpenness();
+          checkLowDiskSpaceRequestsAndReadOnlyConditions();
+
+          makeStorageDirty();
+          return delegate.load();
+        } finally {
+          stateLock.releaseReadLock();
+        }
+      } catch (final RuntimeException ee) {
+        throw logAndPrepareForRethrow(ee);
+      } catch (final Error ee) {
+        throw logAndPrepareForRethrow(ee);
+      } catch (final Throwable t) {
+        throw logAndPrepareForRethrow(t);
+      }
+    }
+
+    @Override
+    public void close() {
+      delegate.close();
+    }
+  }
+
   private static final class ORIDOLockManager extends OComparableLockManager<ORID> {
     ORIDOLockManager() {
       super(true, -1);
@@ -0,0 +1,184 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.storage.impl.local;
+
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.thread.OThreadPoolExecutorWithLogging;
+import com.orientechnologies.common.util.OUncaughtExceptionHandler;
+import com.orientechnologies.orient.core.exception.OStorageException;
+import com.orientechnologies.orient.core.storage.OStorageAbstract;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OUpdatePageRecord;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies page changes restored from WAL in several threads. Changes are partitioned by file id and page index and each partition
+ * is served by its own single threaded executor, so changes of the same page are applied in the same order as they were submitted
+ * which is the order of LSNs. Operations which change files but not pages should be performed only after {@link #await()} is
+ * called, so all previously submitted changes are applied.
+ * <p>
+ * Changes are submitted only for completed atomic operations, so atomic operations boundaries are preserved as well as during
+ * single threaded restore.
+ */
+final class OParallelPageRestore {
+  private static final int BATCH_SIZE          = 256;
+  private static final int MAX_BATCHES_IN_WORK = 64;
+
+  private final OThreadPoolExecutorWithLogging[] executors;
+  private final List<PageChange>[]               batches;
+  private final List<Future<Void>>               futures = new ArrayList<>();
+  private final Semaphore                        batchesInWork;
+  private final PageRestorer                     pageRestorer;
+
+  @SuppressWarnings("unchecked")
+  OParallelPageRestore(final String storageName, final int threads, final PageRestorer pageRestorer) {
+    this.pageRestorer = pageRestorer;
+
+    executors = new OThreadPoolExecutorWithLogging[threads];
+    batches = new List[threads];
+    batchesInWork = new Semaphore(MAX_BATCHES_IN_WORK * threads);
+
+    for (int i = 0; i < threads; i++) {
+      final int threadIndex = i;
+      executors[i] = new OThreadPoolExecutorWithLogging(1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), r -> {
+        final Thread thread = new Thread(OStorageAbstract.storageThreadGroup, r);
+        thread.setDaemon(true);
+        thread.setName("OrientDB WAL restore " + storageName + " #" + threadIndex);
+        thread.setUncaughtExceptionHandler(new OUncaughtExceptionHandler());
+        return thread;
+      });
+
+      batches[i] = new ArrayList<>(BATCH_SIZE);
+    }
+  }
+
+  /**
+   * Schedules application of changes to the page. Changes of the page are applied in the same order as this method is called.
+   *
+   * @param fileId Id of file which is used by the caches.
+   */
+  void submit(final long fileId, final OUpdatePageRecord updatePageRecord) throws InterruptedException {
+    final int partition = partition(fileId, updatePageRecord.getPageIndex());
+
+    final List<PageChange> batch = batches[partition];
+    batch.add(new PageChange(fileId, updatePageRecord));
+
+    if (batch.size() >= BATCH_SIZE) {
+      submitBatch(partition);
+    }
+  }
+
+  /**
+   * Waits till all submitted changes are applied.
+   *
+   * @throws OStorageException if changes of one of pages can not be applied.
+   */
+  void await() throws InterruptedException {
+    for (int i = 0; i < batches.length; i++) {
+      if (!batches[i].isEmpty()) {
+        submitBatch(i);
+      }
+    }
+
+    try {
+      for (final Future<Void> future : futures) {
+        future.get();
+      }
+    } catch (final ExecutionException e) {
+      throw OException.wrapException(new OStorageException("Error during restore of page changes from WAL"), e.getCause());
+    } finally {
+      futures.clear();
+    }
+  }
+
+  /**
+   * Stops restore threads. Changes which are already submitted are applied before threads are stopped, so restore which is
+   * interrupted by the error keeps all atomic operations which precede it.
+   */
+  void shutdown() throws InterruptedException {
+    for (final OThreadPoolExecutorWithLogging executor : executors) {
+      executor.shutdown();
+    }
+
+    for (final OThreadPoolExecutorWithLogging executor : executors) {
+      if (!executor.awaitTermination(1, TimeUnit.HOURS)) {
+        throw new OStorageException("Restore of page changes from WAL can not be completed in reasonable time");
+      }
+    }
+  }
+
+  private void submitBatch(final int partition) throws InterruptedException {
+    final List<PageChange> batch = batches[partition];
+    batches[partition] = new ArrayList<>(BATCH_SIZE);
+
+    batchesInWork.acquire();
+    futures.add(executors[partition].submit(() -> {
+      try {
+        for (final PageChange pageChange : batch) {
+          pageRestorer.restorePage(pageChange.fileId, pageChange.updatePageRecord);
+        }
+      } finally {
+        batchesInWork.release();
+      }
+
+      return null;
+    }));
+
+    //remove futures of already applied batches to limit memory consumption
+    if (futures.size() >= MAX_BATCHES_IN_WORK * executors.length) {
+      futures.removeIf(future -> future.isDone() && !isFailed(future));
+    }
+  }
+
+  private static boolean isFailed(final Future<Void> future) {
+    try {
+      future.get();
+      return false;
+    } catch (final InterruptedException | ExecutionException e) {
+      return true;
+    }
+  }
+
+  private int partition(final long fileId, final long pageIndex) {
+    final long hash = (fileId * 31 + pageIndex) * 0x9E3779B97F4A7C15L;
+    return (int) ((hash >>> 32) % executors.length);
+  }
+
+  interface PageRestorer {
+    void restorePage(long fileId, OUpdatePageRecord updatePageRecord) throws IOException;
+  }
+
+  private static final class PageChange {
+    private final long              fileId;
+    private final OUpdatePageRecord updatePageRecord;
+
+    private PageChange(final long fileId, final OUpdatePageRecord updatePageRecord) {
+      this.fileId = fileId;
+      this.updatePageRecord = updatePageRecord;
+    }
+  }
+}
@@ -34,6 +34,8 @@ import com.orientechnologies.orient.core.storage.fs.OFileClassic;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
@@ -207,6 +209,37 @@ public class OStorageConfigurationSegment extends OStorageConfigurationImpl {
     }
   }
 
+  /**
+   * Copies content of primary configuration file into the passed in stream. Used during incremental backup.
+   *
+   * @param stream Stream to which content of configuration file will be written.
+   */
+  public void copyTo(final OutputStream stream) throws IOException {
+    lock.acquireReadLock();
+    try {
+      Files.copy(storagePath.resolve(NAME), stream);
+    } finally {
+      lock.releaseReadLock();
+    }
+  }
+
+  /**
+   * Replaces configuration files by the content of passed in stream. Used during restore from incremental backup. Configuration
+   * which is already loaded is not changed, so storage has to be reopened to apply the new one.
+   *
+   * @param stream Stream which contains content of configuration file created by {@link #copyTo(OutputStream)}.
+   */
+  public void replaceWith(final InputStream stream) throws IOException {
+    lock.acquireWriteLock();
+    try {
+      clearConfigurationFiles();
+
+      Files.copy(stream, storagePath.resolve(NAME));
+    } finally {
+      lock.releaseWriteLock();
+    }
+  }
+
   private void writeConfigFile(byte[] buffer, ByteBuffer byteBuffer, FileChannel channel) throws IOException {
     final ByteBuffer versionBuffer = ByteBuffer.allocate(1);
     versionBuffer.put(FORMAT_VERSION);
@@ -0,0 +1,156 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.storage.impl.local.paginated.base;
+
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.common.thread.OThreadPoolExecutorWithLogging;
+import com.orientechnologies.common.util.OUncaughtExceptionHandler;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.storage.OStorageAbstract;
+import com.orientechnologies.orient.core.storage.cache.OReadCache;
+import com.orientechnologies.orient.core.storage.cache.OWriteCache;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Detects sequential access to the pages of the file and loads pages which follow the last accessed page into the disk cache in
+ * background, so sequential scan of the file does not wait for the disk on each page.
+ * <p>
+ * Access is treated as sequential once several pages are accessed in ascending order without gaps bigger than read-ahead window.
+ * Next portion of pages is requested once distance between the last accessed page and the last prefetched page becomes less than
+ * half of read-ahead window. Pages are loaded by {@link OReadCache#prefetch(long, long[], OWriteCache)}, so prefetched pages do
+ * not change state of pages which are already cached and are placed in the part of the cache reserved for the pages which were
+ * accessed only once, so scan does not evict frequently used pages from the cache.
+ *
+ * @see OGlobalConfiguration#QUERY_SCAN_READ_AHEAD
+ */
+public final class OSequentialReadAhead {
+  /**
+   * Amount of pages which should be accessed in ascending order before access is treated as sequential.
+   */
+  private static final int SEQUENTIAL_PAGES_THRESHOLD = 4;
+
+  private static final ThreadPoolExecutor readAheadExecutor;
+
+  static {
+    final int threads = Math.max(1, OGlobalConfiguration.DISK_CACHE_READ_THREADS.getValueAsInteger());
+
+    //if executor can not keep up with the scans read-ahead requests are dropped and pages are loaded by scan itself
+    readAheadExecutor = new OThreadPoolExecutorWithLogging(threads, threads, 60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(256),
+        new ReadAheadThreadFactory(), new ThreadPoolExecutor.DiscardPolicy());
+    readAheadExecutor.allowCoreThreadTimeOut(true);
+  }
+
+  private final OReadCache  readCache;
+  private final OWriteCache writeCache;
+  private final int         window;
+
+  private volatile long lastPage = -1;
+
+  private long fileId          = -1;
+  private int  sequentialPages;
+  private long readAheadTill   = -1;
+
+  /**
+   * @param window Amount of pages which are loaded ahead of the last accessed page, 0 disables read-ahead.
+   */
+  public OSequentialReadAhead(final OReadCache readCache, final OWriteCache writeCache, final int window) {
+    this.readCache = readCache;
+    this.writeCache = writeCache;
+    this.window = window;
+  }
+
+  /**
+   * Notifies read-ahead that page of file is accessed. Method is cheap if the same page is accessed several times in a row.
+   */
+  public void onPageRead(final long fileId, final long pageIndex) {
+    if (window <= 0 || lastPage == pageIndex) {
+      return;
+    }
+
+    final long fromPage;
+    final long toPage;
+
+    synchronized (this) {
+      if (this.fileId == fileId && pageIndex > lastPage && pageIndex - lastPage <= window) {
+        sequentialPages++;
+      } else {
+        this.fileId = fileId;
+
+        sequentialPages = 0;
+        readAheadTill = -1;
+      }
+
+      lastPage = pageIndex;
+
+      if (sequentialPages < SEQUENTIAL_PAGES_THRESHOLD || readAheadTill - pageIndex > window / 2) {
+        return;
+      }
+
+      fromPage = Math.max(pageIndex + 1, readAheadTill + 1);
+      toPage = pageIndex + window;
+
+      readAheadTill = toPage;
+    }
+
+    readAheadExecutor.execute(() -> readAhead(fileId, fromPage, toPage));
+  }
+
+  private void readAhead(final long fileId, final long fromPage, final long toPage) {
+    try {
+      final long filledUpTo = writeCache.getFilledUpTo(fileId);
+      final long lastPage = Math.min(toPage, filledUpTo - 1);
+
+      if (lastPage < fromPage) {
+        return;
+      }
+
+      final long[] pages = new long[(int) (lastPage - fromPage + 1)];
+      for (int i = 0; i < pages.length; i++) {
+        pages[i] = fromPage + i;
+      }
+
+      readCache.prefetch(fileId, pages, writeCache);
+    } catch (final Exception e) {
+      //file may be closed or deleted during the scan, pages will be loaded by scan itself if they are needed
+      OLogManager.instance().debug(this, "Read-ahead of pages of file %d was failed", e, fileId);
+    }
+  }
+
+  private static final class ReadAheadThreadFactory implements ThreadFactory {
+    private final AtomicInteger counter = new AtomicInteger();
+
+    @Override
+    public Thread newThread(@Nonnull final Runnable r) {
+      final Thread thread = new Thread(OStorageAbstract.storageThreadGroup, r);
+
+      thread.setDaemon(true);
+      thread.setName("OrientDB Read-Ahead Task " + counter.incrementAndGet());
+      thread.setUncaughtExceptionHandler(new OUncaughtExceptionHandler());
+
+      return thread;
+    }
+  }
+}
@@ -57,6 +57,14 @@ public interface OWriteAheadLog {
 
   void flush();
 
+  /**
+   * Waits till all records up to the given LSN are written and synced with the disk. Concurrent calls of this method may be
+   * served by the single sync of the log.
+   *
+   * @param lsn LSN of the last record which should be synced, usually LSN of the end record of atomic operation.
+   */
+  void flushTill(OLogSequenceNumber lsn);
+
   OLogSequenceNumber logAtomicOperationStartRecord(boolean isRollbackSupported, OOperationUnitId unitId) throws IOException;
 
   OLogSequenceNumber logAtomicOperationEndRecord(OOperationUnitId operationUnitId, boolean rollback, OLogSequenceNumber startLsn,
@@ -15,6 +15,7 @@ import com.orientechnologies.common.types.OModifiableLong;
 import com.orientechnologies.common.util.OPair;
 import com.orientechnologies.common.util.OUncaughtExceptionHandler;
 import com.orientechnologies.orient.core.exception.OStorageException;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.storage.OStorageAbstract;
 import com.orientechnologies.orient.core.storage.impl.local.OCheckpointRequestListener;
 import com.orientechnologies.orient.core.storage.impl.local.OLowDiskSpaceInformation;
@@ -69,6 +70,7 @@ import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
@@ -214,12 +216,50 @@ public final class OCASDiskWriteAheadLog implements OWriteAheadLog {
 
   private volatile boolean stopWrite = false;
 
+  /**
+   * Maximum interval in nanoseconds during which group commit waits for the concurrent committers to join the batch.
+   */
+  private final long groupCommitMaxDelay;
+
+  private final GroupCommitTask groupCommitTask      = new GroupCommitTask();
+  private final AtomicBoolean   groupCommitScheduled = new AtomicBoolean();
+
+  private final AtomicLong    commitRequests    = new AtomicLong();
+  private final AtomicInteger committersWaiting = new AtomicInteger();
+
+  //accessed only by the commit thread
+  private long servedCommitRequests = 0;
+
+  //moving averages which are used to choose interval of group commit batching
+  private volatile double groupCommitBatchSize = 1;
+  private volatile long   avgFSyncTime         = 0;
+
+  private final LongAdder groupCommitsCount    = new LongAdder();
+  private final LongAdder groupCommitsBatchSum = new LongAdder();
+  private final LongAdder commitWaitTime       = new LongAdder();
+  private final LongAdder commitWaitCount      = new LongAdder();
+
   public OCASDiskWriteAheadLog(final String storageName, final Path storagePath, final Path walPath, final int maxPagesCacheSize,
       final int bufferSize, long segmentsInterval, final long maxSegmentSize, final int commitDelay, final boolean filterWALFiles,
       final Locale locale, final long walSizeHardLimit, final long freeSpaceLimit, final int fsyncInterval, boolean allowDirectIO,
       boolean callFsync, boolean printPerformanceStatistic, int statisticPrintInterval) throws IOException {
+    this(storageName, storagePath, walPath, maxPagesCacheSize, bufferSize, segmentsInterval, maxSegmentSize, commitDelay,
+        filterWALFiles, locale, walSizeHardLimit, freeSpaceLimit, fsyncInterval, allowDirectIO, callFsync, printPerformanceStatistic,
+        statisticPrintInterval, OGlobalConfiguration.WAL_GROUP_COMMIT_MAX_DELAY.getValueAsInteger());
+  }
+
+  /**
+   * @param groupCommitMaxDelay Maximum interval in microseconds during which commit waits for the concurrent commits to share the
+   *                            same fsync of WAL, see {@link #flushTill(OLogSequenceNumber)}.
+   */
+  public OCASDiskWriteAheadLog(final String storageName, final Path storagePath, final Path walPath, final int maxPagesCacheSize,
+      final int bufferSize, long segmentsInterval, final long maxSegmentSize, final int commitDelay, final boolean filterWALFiles,
+      final Locale locale, final long walSizeHardLimit, final long freeSpaceLimit, final int fsyncInterval, boolean allowDirectIO,
+      boolean callFsync, boolean printPerformanceStatistic, int statisticPrintInterval, int groupCommitMaxDelay)
+      throws IOException {
 
     this.bufferSize = bufferSize * 1024 * 1024;
+    this.groupCommitMaxDelay = groupCommitMaxDelay * 1_000L;
     this.segmentsInterval = segmentsInterval;
     this.callFsync = callFsync;
     this.printPerformanceStatistic = printPerformanceStatistic;
@@ -1366,6 +1406,85 @@ public final class OCASDiskWriteAheadLog implements OWriteAheadLog {
     waitTillWriteWillBeFinished();
   }
 
+  /**
+   * Group commit. Waits till all records up to the passed in LSN are written and synced with the disk. Concurrent callers share
+   * the same fsync. If there are no other committers, records are synced immediately, otherwise fsync is postponed till expected
+   * amount of committers joins the batch but not longer than half of average fsync time and {@link #groupCommitMaxDelay}. Expected
+   * size of the batch is the moving average of sizes of previous batches.
+   */
+  @Override
+  public void flushTill(final OLogSequenceNumber lsn) {
+    final OLogSequenceNumber localFlushedLSN = flushedLSN;
+    if (localFlushedLSN != null && localFlushedLSN.compareTo(lsn) >= 0) {
+      return;
+    }
+
+    final long startTs = System.nanoTime();
+
+    final CountDownLatch latch = new CountDownLatch(1);
+    addEventAt(lsn, latch::countDown);
+
+    committersWaiting.incrementAndGet();
+    commitRequests.incrementAndGet();
+    try {
+      scheduleGroupCommit();
+
+      while (!latch.await(commitDelay, TimeUnit.MILLISECONDS)) {
+        if (stopWrite) {
+          throw new OStorageException("WAL of storage " + storageName + " is closed, commit can not be completed");
+        }
+
+        scheduleGroupCommit();
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw OException.wrapException(new OStorageException("WAL sync for storage " + storageName + " was interrupted"), e);
+    } finally {
+      committersWaiting.decrementAndGet();
+    }
+
+    commitWaitTime.add(System.nanoTime() - startTs);
+    commitWaitCount.increment();
+  }
+
+  private void scheduleGroupCommit() {
+    if (!groupCommitScheduled.compareAndSet(false, true)) {
+      //already scheduled task will serve this request
+      return;
+    }
+
+    final double expectedBatchSize = groupCommitBatchSize;
+    if (expectedBatchSize < 2 || committersWaiting.get() >= expectedBatchSize) {
+      commitExecutor.execute(groupCommitTask);
+    } else {
+      final long delay = Math.min(groupCommitMaxDelay, avgFSyncTime / 2);
+      commitExecutor.schedule(groupCommitTask, delay, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  /**
+   * @return Amount of WAL syncs performed by group commit.
+   */
+  public long getGroupCommitsCount() {
+    return groupCommitsCount.sum();
+  }
+
+  /**
+   * @return Average amount of commits which shared the same WAL sync.
+   */
+  public double getGroupCommitAverageBatchSize() {
+    final long count = groupCommitsCount.sum();
+    return count > 0 ? (double) groupCommitsBatchSum.sum() / count : 0;
+  }
+
+  /**
+   * @return Average interval in microseconds during which commit waited for WAL sync.
+   */
+  public long getCommitAverageWaitTime() {
+    final long count = commitWaitCount.sum();
+    return count > 0 ? commitWaitTime.sum() / count / 1_000 : 0;
+  }
+
   public void close() throws IOException {
     close(true);
   }
@@ -1994,10 +2113,7 @@ public final class OCASDiskWriteAheadLog implements OWriteAheadLog {
 
             writeFuture = writeExecutor.submit((Callable<?>) () -> {
               try {
-                long startTs = 0;
-                if (printPerformanceStatistic) {
-                  startTs = System.nanoTime();
-                }
+                final long startTs = System.nanoTime();
 
                 final int cqSize = fileCloseQueueSize.get();
                 if (cqSize > 0) {
@@ -2035,8 +2151,12 @@ public final class OCASDiskWriteAheadLog implements OWriteAheadLog {
 
                 fireEventsFor(flushedLSN);
 
+                final long endTs = System.nanoTime();
+                //only write thread updates average
+                //noinspection NonAtomicOperationOnVolatileField
+                avgFSyncTime = (3 * avgFSyncTime + (endTs - startTs)) / 4;
+
                 if (printPerformanceStatistic) {
-                  final long endTs = System.nanoTime();
                   //noinspection NonAtomicOperationOnVolatileField
                   fsyncTime += (endTs - startTs);
                   //noinspection NonAtomicOperationOnVolatileField
@@ -2209,10 +2329,12 @@ public final class OCASDiskWriteAheadLog implements OWriteAheadLog {
         final long threadsWaitingSum = OCASDiskWriteAheadLog.this.threadsWaitingSum.sum();
 
         OLogManager.instance().infoNoDb(this, "WAL stat:%s: %d KB was written, write speed is %d KB/s. FSync count %d. "
-                + "Avg. fsync time %d ms. %d times threads were waiting for WAL. Avg wait interval %d ms.", storageName,
-            bytesWritten / 1024, writtenTime > 0 ? 1_000_000_000L * bytesWritten / writtenTime / 1024 : -1, fsyncCount,
+                + "Avg. fsync time %d ms. %d times threads were waiting for WAL. Avg wait interval %d ms. "
+                + "Group commits count %d, avg. batch size %.2f, avg. commit wait %d us.", storageName, bytesWritten / 1024,
+            writtenTime > 0 ? 1_000_000_000L * bytesWritten / writtenTime / 1024 : -1, fsyncCount,
             fsyncCount > 0 ? fsyncTime / fsyncCount / 1_000_000 : -1, threadsWaitingCount,
-            threadsWaitingCount > 0 ? threadsWaitingSum / threadsWaitingCount / 1_000_000 : -1);
+            threadsWaitingCount > 0 ? threadsWaitingSum / threadsWaitingCount / 1_000_000 : -1, getGroupCommitsCount(),
+            getGroupCommitAverageBatchSize(), getCommitAverageWaitTime());
 
         OCASDiskWriteAheadLog.this.bytesWrittenSum -= bytesWritten;
         OCASDiskWriteAheadLog.this.bytesWrittenTime -= writtenTime;
@@ -2230,6 +2352,39 @@ public final class OCASDiskWriteAheadLog implements OWriteAheadLog {
 
   }
 
+  /**
+   * Writes and syncs all records logged by the threads waiting in {@link #flushTill(OLogSequenceNumber)}. Threads which request
+   * commit after the task is started schedule next task.
+   */
+  private final class GroupCommitTask implements Runnable {
+    @Override
+    public void run() {
+      groupCommitScheduled.set(false);
+
+      if (stopWrite) {
+        return;
+      }
+
+      //all requests which are made before this point are related to already logged records
+      final long requests = commitRequests.get();
+      final long batchSize = requests - servedCommitRequests;
+      if (batchSize == 0) {
+        return;
+      }
+
+      servedCommitRequests = requests;
+
+      new RecordsWriter(true, true, false).run();
+
+      groupCommitsCount.increment();
+      groupCommitsBatchSum.add(batchSize);
+
+      //only commit thread updates average
+      //noinspection NonAtomicOperationOnVolatileField
+      groupCommitBatchSize = 0.75 * groupCommitBatchSize + 0.25 * batchSize;
+    }
+  }
+
   private static final class WrittenUpTo {
     private final OLogSequenceNumber lsn;
     private final long               position;
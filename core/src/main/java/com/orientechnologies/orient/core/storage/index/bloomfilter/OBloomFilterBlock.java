@@ -0,0 +1,50 @@
+package com.orientechnologies.orient.core.storage.index.bloomfilter;
+
+import com.orientechnologies.common.serialization.types.OIntegerSerializer;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.base.ODurablePage;
+
+/**
+ * Block of Bloom filter, each block occupies single page. Block has following layout:
+ * <ol>
+ * <li>Amount of keys added to the block.</li>
+ * <li>Bit set of the block.</li>
+ * </ol>
+ */
+final class OBloomFilterBlock extends ODurablePage {
+  private static final int INSERTIONS_OFFSET = NEXT_FREE_POSITION;
+  private static final int BITS_OFFSET       = INSERTIONS_OFFSET + OIntegerSerializer.INT_SIZE;
+
+  static final int BITS_COUNT = (MAX_PAGE_SIZE_BYTES - BITS_OFFSET) * 8;
+
+  OBloomFilterBlock(final OCacheEntry cacheEntry) {
+    super(cacheEntry);
+  }
+
+  void clear() {
+    setIntValue(INSERTIONS_OFFSET, 0);
+    setBinaryValue(BITS_OFFSET, new byte[MAX_PAGE_SIZE_BYTES - BITS_OFFSET]);
+  }
+
+  int getInsertions() {
+    return getIntValue(INSERTIONS_OFFSET);
+  }
+
+  void setInsertions(final int insertions) {
+    setIntValue(INSERTIONS_OFFSET, insertions);
+  }
+
+  boolean isBitSet(final int bit) {
+    return (getByteValue(BITS_OFFSET + (bit >>> 3)) & (1 << (bit & 7))) != 0;
+  }
+
+  void setBit(final int bit) {
+    final int offset = BITS_OFFSET + (bit >>> 3);
+    final byte value = getByteValue(offset);
+    final byte newValue = (byte) (value | (1 << (bit & 7)));
+
+    if (newValue != value) {
+      setByteValue(offset, newValue);
+    }
+  }
+}
@@ -0,0 +1,43 @@
+package com.orientechnologies.orient.core.storage.index.bloomfilter;
+
+import com.orientechnologies.common.serialization.types.OIntegerSerializer;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.base.ODurablePage;
+
+/**
+ * First page of Bloom filter file which contains geometry of the filter. Geometry is defined during creation of the filter and is
+ * never changed after that.
+ */
+final class OBloomFilterEntryPoint extends ODurablePage {
+  private static final int BLOCKS_COUNT_OFFSET   = NEXT_FREE_POSITION;
+  private static final int HASH_FUNCTIONS_OFFSET = BLOCKS_COUNT_OFFSET + OIntegerSerializer.INT_SIZE;
+  private static final int BLOCK_CAPACITY_OFFSET = HASH_FUNCTIONS_OFFSET + OIntegerSerializer.INT_SIZE;
+
+  OBloomFilterEntryPoint(final OCacheEntry cacheEntry) {
+    super(cacheEntry);
+  }
+
+  void setBlocksCount(final int blocksCount) {
+    setIntValue(BLOCKS_COUNT_OFFSET, blocksCount);
+  }
+
+  int getBlocksCount() {
+    return getIntValue(BLOCKS_COUNT_OFFSET);
+  }
+
+  void setHashFunctions(final int hashFunctions) {
+    setIntValue(HASH_FUNCTIONS_OFFSET, hashFunctions);
+  }
+
+  int getHashFunctions() {
+    return getIntValue(HASH_FUNCTIONS_OFFSET);
+  }
+
+  void setBlockCapacity(final int blockCapacity) {
+    setIntValue(BLOCK_CAPACITY_OFFSET, blockCapacity);
+  }
+
+  int getBlockCapacity() {
+    return getIntValue(BLOCK_CAPACITY_OFFSET);
+  }
+}
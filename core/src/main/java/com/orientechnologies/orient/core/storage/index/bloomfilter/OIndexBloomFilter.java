@@ -0,0 +1,216 @@
+package com.orientechnologies.orient.core.storage.index.bloomfilter;
+
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperation;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.base.ODurableComponent;
+
+import java.io.IOException;
+
+/**
+ * Persistent Bloom filter which is used by index to skip lookups of keys which are absent in the index. Filter is split into
+ * blocks and each block occupies single page, so check or addition of key requires access to the single page only. Block is chosen
+ * by hash code of the key and bits inside of block are chosen by hash functions derived from the same hash code.
+ * <p>
+ * Keys can not be removed from Bloom filter, so bits of keys removed from index stay set till the filter is cleared. Each block
+ * tracks amount of keys added to it, once this amount exceeds capacity of block, block is considered as saturated and checks of all
+ * keys of this block return positive result.
+ * <p>
+ * Filter is part of index and does not use own locks, all methods should be called under the lock of index and changes are made
+ * inside of atomic operation of index.
+ */
+public final class OIndexBloomFilter extends ODurableComponent {
+  public static final String DEF_EXTENSION = ".bfl";
+
+  private static final int ENTRY_POINT_INDEX = 0;
+
+  private long fileId;
+  private int  blocksCount;
+  private int  hashFunctions;
+  private int  blockCapacity;
+
+  public OIndexBloomFilter(final OAbstractPaginatedStorage storage, final String name, final String lockName) {
+    super(storage, name, DEF_EXTENSION, lockName);
+  }
+
+  /**
+   * Creates filter which keeps false positive rate defined by amount of bits per key till amount of added keys does not exceed
+   * passed in capacity.
+   *
+   * @param capacity   Expected amount of keys.
+   * @param bitsPerKey Amount of bits allocated for each key.
+   */
+  public void create(final long capacity, final int bitsPerKey, final OAtomicOperation atomicOperation) throws IOException {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Capacity of Bloom filter should be positive but was " + capacity);
+    }
+
+    if (bitsPerKey <= 0) {
+      throw new IllegalArgumentException("Amount of bits per key of Bloom filter should be positive but was " + bitsPerKey);
+    }
+
+    blockCapacity = Math.max(1, OBloomFilterBlock.BITS_COUNT / bitsPerKey);
+    blocksCount = (int) Math.min(Integer.MAX_VALUE - 1, (capacity + blockCapacity - 1) / blockCapacity);
+    hashFunctions = Math.max(1, (int) Math.round(bitsPerKey * Math.log(2)));
+
+    fileId = addFile(atomicOperation, getFullName());
+
+    final OCacheEntry entryPointCacheEntry = addPage(atomicOperation, fileId);
+    try {
+      final OBloomFilterEntryPoint entryPoint = new OBloomFilterEntryPoint(entryPointCacheEntry);
+      entryPoint.setBlocksCount(blocksCount);
+      entryPoint.setHashFunctions(hashFunctions);
+      entryPoint.setBlockCapacity(blockCapacity);
+    } finally {
+      releasePageFromWrite(atomicOperation, entryPointCacheEntry);
+    }
+
+    for (int i = 0; i < blocksCount; i++) {
+      final OCacheEntry blockCacheEntry = addPage(atomicOperation, fileId);
+      try {
+        final OBloomFilterBlock block = new OBloomFilterBlock(blockCacheEntry);
+        block.clear();
+      } finally {
+        releasePageFromWrite(atomicOperation, blockCacheEntry);
+      }
+    }
+  }
+
+  public boolean exists(final OAtomicOperation atomicOperation) {
+    return isFileExists(atomicOperation, getFullName());
+  }
+
+  public void open(final OAtomicOperation atomicOperation) throws IOException {
+    fileId = openFile(atomicOperation, getFullName());
+
+    final OCacheEntry entryPointCacheEntry = loadPageForRead(atomicOperation, fileId, ENTRY_POINT_INDEX, false);
+    try {
+      final OBloomFilterEntryPoint entryPoint = new OBloomFilterEntryPoint(entryPointCacheEntry);
+      blocksCount = entryPoint.getBlocksCount();
+      hashFunctions = entryPoint.getHashFunctions();
+      blockCapacity = entryPoint.getBlockCapacity();
+    } finally {
+      releasePageFromRead(atomicOperation, entryPointCacheEntry);
+    }
+  }
+
+  public void close() {
+    readCache.closeFile(fileId, true, writeCache);
+  }
+
+  public void delete(final OAtomicOperation atomicOperation) throws IOException {
+    deleteFile(atomicOperation, fileId);
+  }
+
+  public void deleteWithoutOpen(final OAtomicOperation atomicOperation) throws IOException {
+    if (isFileExists(atomicOperation, getFullName())) {
+      fileId = openFile(atomicOperation, getFullName());
+      deleteFile(atomicOperation, fileId);
+    }
+  }
+
+  /**
+   * Removes all keys from the filter, geometry of the filter is not changed.
+   */
+  public void clear(final OAtomicOperation atomicOperation) throws IOException {
+    for (int i = 0; i < blocksCount; i++) {
+      final OCacheEntry blockCacheEntry = loadPageForWrite(atomicOperation, fileId, i + 1, false);
+      try {
+        final OBloomFilterBlock block = new OBloomFilterBlock(blockCacheEntry);
+        block.clear();
+      } finally {
+        releasePageFromWrite(atomicOperation, blockCacheEntry);
+      }
+    }
+  }
+
+  /**
+   * @param hashCode 64-bit hash code of the key.
+   *
+   * @return {@code false} if key is definitely absent, {@code true} if key may be present.
+   */
+  public boolean mightContain(final long hashCode, final OAtomicOperation atomicOperation) throws IOException {
+    final OCacheEntry blockCacheEntry = loadPageForRead(atomicOperation, fileId, blockIndex(hashCode), false);
+    try {
+      final OBloomFilterBlock block = new OBloomFilterBlock(blockCacheEntry);
+      if (block.getInsertions() > blockCapacity) {
+        return true;
+      }
+
+      final long bitsHashCode = mix(hashCode);
+      final int firstHashCode = (int) bitsHashCode;
+      final int secondHashCode = (int) (bitsHashCode >>> 32);
+
+      for (int i = 0; i < hashFunctions; i++) {
+        if (!block.isBitSet(bit(firstHashCode, secondHashCode, i))) {
+          return false;
+        }
+      }
+
+      return true;
+    } finally {
+      releasePageFromRead(atomicOperation, blockCacheEntry);
+    }
+  }
+
+  /**
+   * @param hashCode 64-bit hash code of the key.
+   */
+  public void add(final long hashCode, final OAtomicOperation atomicOperation) throws IOException {
+    final OCacheEntry blockCacheEntry = loadPageForWrite(atomicOperation, fileId, blockIndex(hashCode), false);
+    try {
+      final OBloomFilterBlock block = new OBloomFilterBlock(blockCacheEntry);
+      final int insertions = block.getInsertions();
+
+      // block is saturated, its bits are not used any more
+      if (insertions > blockCapacity) {
+        return;
+      }
+
+      block.setInsertions(insertions + 1);
+      if (insertions == blockCapacity) {
+        return;
+      }
+
+      final long bitsHashCode = mix(hashCode);
+      final int firstHashCode = (int) bitsHashCode;
+      final int secondHashCode = (int) (bitsHashCode >>> 32);
+
+      for (int i = 0; i < hashFunctions; i++) {
+        block.setBit(bit(firstHashCode, secondHashCode, i));
+      }
+    } finally {
+      releasePageFromWrite(atomicOperation, blockCacheEntry);
+    }
+  }
+
+  private int blockIndex(final long hashCode) {
+    return 1 + (int) Long.remainderUnsigned(hashCode, blocksCount);
+  }
+
+  /**
+   * Calculates index of bit of i-th hash function using combination of two hash codes as described in "Less Hashing, Same
+   * Performance: Building a Better Bloom Filter" by Adam Kirsch and Michael Mitzenmacher.
+   */
+  private static int bit(final int firstHashCode, final int secondHashCode, final int i) {
+    int hashCode = firstHashCode + i * secondHashCode;
+    if (hashCode < 0) {
+      hashCode = ~hashCode;
+    }
+
+    return hashCode % OBloomFilterBlock.BITS_COUNT;
+  }
+
+  /**
+   * Final mix of MurmurHash3, used to make bits inside of block independent from bits used to choose block.
+   */
+  private static long mix(long hashCode) {
+    hashCode ^= hashCode >>> 33;
+    hashCode *= 0xff51afd7ed558ccdL;
+    hashCode ^= hashCode >>> 33;
+    hashCode *= 0xc4ceb9fe1a85ec53L;
+    hashCode ^= hashCode >>> 33;
+
+    return hashCode;
+  }
+}
@@ -0,0 +1,470 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.storage.index.sbtree;
+
+import com.orientechnologies.common.comparator.ODefaultComparator;
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.common.serialization.types.OBinarySerializer;
+import com.orientechnologies.common.util.ORawPair;
+import com.orientechnologies.orient.core.encryption.OEncryption;
+import com.orientechnologies.orient.core.exception.OStorageException;
+import com.orientechnologies.orient.core.exception.OTooBigIndexKeyException;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sorts (key, RID) pairs which are used to build index bottom-up. Pairs are accumulated in memory till their estimated size
+ * exceeds the limit of sort buffer, then buffer is sorted and written to the temporary file as sorted run. Once all pairs are
+ * added, sorted runs are merged and returned in ascending order of keys. Pairs with equal keys are returned in the order in
+ * which they were added by the same thread.
+ * <p>
+ * Pairs may be added by several threads at the same time. Each thread accumulates pairs in its own buffer and spills it as a
+ * separate sorted run, so threads do not contend while buffers are sorted and written, limit of sort buffer is shared by all
+ * threads. Relative order of pairs with equal keys added by different threads is not defined.
+ * <p>
+ * Keys are serialized using the key serializer of the index, if index is encrypted keys are encrypted before they are written
+ * to the temporary files. Temporary files are removed once sorter is closed.
+ */
+public final class OIndexEntrySorter<K> implements AutoCloseable {
+  /**
+   * Approximate amount of memory consumed by single buffered pair besides the serialized key: pair and RID instances and
+   * reference inside of buffer.
+   */
+  private static final int ENTRY_OVERHEAD    = 64;
+  private static final int RUN_BUFFER_SIZE   = 8 * 1024;
+  private static final int SPILL_BUFFER_SIZE = 64 * 1024;
+  private static final int MAX_RUNS_TO_MERGE = 512;
+
+  private final Comparator<? super K>         comparator      = ODefaultComparator.INSTANCE;
+  private final Comparator<ORawPair<K, ORID>> entryComparator = (first, second) -> comparator
+      .compare(first.getFirst(), second.getFirst());
+  private final Comparator<Run<K>>            runComparator   = (first, second) -> {
+    final int cmp = comparator.compare(first.current.getFirst(), second.current.getFirst());
+    if (cmp != 0) {
+      return cmp;
+    }
+
+    return Integer.compare(first.order, second.order);
+  };
+
+  private final String               name;
+  private final OBinarySerializer<K> keySerializer;
+  private final OType[]              keyTypes;
+  private final OEncryption          encryption;
+  private final int                  maxKeySize;
+  private final long                 bufferSize;
+  private final Path                 directory;
+
+  private final List<Buffer<K>>        buffers      = new ArrayList<>();
+  private final ThreadLocal<Buffer<K>> threadBuffer = ThreadLocal.withInitial(this::registerBuffer);
+  private final List<Path>             runs         = new ArrayList<>();
+  private final List<Run<K>>           openedRuns   = new ArrayList<>();
+
+  private final AtomicLong bufferedBytes = new AtomicLong();
+  private final AtomicLong size          = new AtomicLong();
+
+  private volatile boolean sorted;
+
+  /**
+   * @param name          Name of index, used in exception messages and as prefix of temporary files.
+   * @param keySerializer Serializer of keys of index.
+   * @param keyTypes      Types of keys of index.
+   * @param encryption    Encryption of index or {@code null} if index is not encrypted.
+   * @param maxKeySize    Maximum allowed size of serialized key in bytes.
+   * @param bufferSize    Maximum amount of memory in bytes which is used to keep pairs before they are spilled to the disk.
+   * @param directory     Directory where temporary files are created.
+   */
+  public OIndexEntrySorter(final String name, final OBinarySerializer<K> keySerializer, final OType[] keyTypes,
+      final OEncryption encryption, final int maxKeySize, final long bufferSize, final Path directory) {
+    this.name = name;
+    this.keySerializer = keySerializer;
+    this.keyTypes = keyTypes;
+    this.encryption = encryption;
+    this.maxKeySize = maxKeySize;
+    this.bufferSize = bufferSize;
+    this.directory = directory;
+  }
+
+  /**
+   * Adds pair to the sorter. Key is preprocessed by key serializer, so it is kept in the same form in which it is stored inside
+   * of index. May be called by several threads at the same time.
+   *
+   * @throws OTooBigIndexKeyException if size of serialized key exceeds the limit of size of keys.
+   */
+  public void add(K key, final ORID value) throws IOException {
+    if (sorted) {
+      throw new IllegalStateException("Entries of sorter '" + name + "' are already sorted");
+    }
+
+    key = keySerializer.preprocess(key, (Object[]) keyTypes);
+    final int keySize = keySerializer.getObjectSize(key, (Object[]) keyTypes);
+    if (keySize > maxKeySize) {
+      throw new OTooBigIndexKeyException(
+          "Key size is more than allowed, operation was canceled. Current key size " + keySize + ", allowed  " + maxKeySize, name);
+    }
+
+    final Buffer<K> buffer = threadBuffer.get();
+    buffer.entries.add(new ORawPair<>(key, value));
+    buffer.bytes += keySize + ENTRY_OVERHEAD;
+    size.incrementAndGet();
+
+    if (bufferedBytes.addAndGet(keySize + ENTRY_OVERHEAD) >= bufferSize) {
+      spill(buffer);
+    }
+  }
+
+  /**
+   * @return Amount of pairs added to the sorter.
+   */
+  public long size() {
+    return size.get();
+  }
+
+  /**
+   * Returns all added pairs sorted by key. This method may be called only once, no pairs may be added after it was called. All
+   * threads which add pairs should complete before this method is called.
+   */
+  public Iterator<ORawPair<K, ORID>> sortedEntries() throws IOException {
+    if (sorted) {
+      throw new IllegalStateException("Entries of sorter '" + name + "' are already sorted");
+    }
+    sorted = true;
+
+    final List<Buffer<K>> memoryBuffers = new ArrayList<>();
+    synchronized (buffers) {
+      for (final Buffer<K> buffer : buffers) {
+        if (!buffer.entries.isEmpty()) {
+          buffer.entries.sort(entryComparator);
+          memoryBuffers.add(buffer);
+        }
+      }
+    }
+
+    if (runs.isEmpty() && memoryBuffers.size() <= 1) {
+      if (memoryBuffers.isEmpty()) {
+        return Collections.emptyIterator();
+      }
+
+      return memoryBuffers.get(0).entries.iterator();
+    }
+
+    while (runs.size() + memoryBuffers.size() > MAX_RUNS_TO_MERGE) {
+      mergeRuns();
+    }
+
+    final PriorityQueue<Run<K>> queue = new PriorityQueue<>(runs.size() + memoryBuffers.size(), runComparator);
+
+    int order = 0;
+    for (final Path run : runs) {
+      final FileRun<K> fileRun = new FileRun<>(this, run, order++);
+      openedRuns.add(fileRun);
+
+      if (fileRun.next()) {
+        queue.add(fileRun);
+      } else {
+        fileRun.close();
+      }
+    }
+
+    for (final Buffer<K> buffer : memoryBuffers) {
+      final MemoryRun<K> memoryRun = new MemoryRun<>(buffer.entries.iterator(), order++);
+      if (memoryRun.next()) {
+        queue.add(memoryRun);
+      }
+    }
+
+    return new MergeIterator<>(queue);
+  }
+
+  /**
+   * Removes temporary files created by sorter.
+   */
+  @Override
+  public void close() {
+    synchronized (buffers) {
+      // buffers of worker threads stay referenced by their thread locals till the threads are finished, so entries are released
+      // explicitly
+      for (final Buffer<K> buffer : buffers) {
+        buffer.entries.clear();
+      }
+
+      buffers.clear();
+    }
+    threadBuffer.remove();
+
+    for (final Run<K> run : openedRuns) {
+      try {
+        run.close();
+      } catch (final IOException e) {
+        OLogManager.instance().error(this, "Can not close temporary file of index '%s'", e, name);
+      }
+    }
+
+    openedRuns.clear();
+
+    for (final Path run : runs) {
+      try {
+        Files.deleteIfExists(run);
+      } catch (final IOException e) {
+        OLogManager.instance().error(this, "Can not delete temporary file '%s' of index '%s'", e, run, name);
+      }
+    }
+
+    synchronized (runs) {
+      runs.clear();
+    }
+  }
+
+  private Buffer<K> registerBuffer() {
+    final Buffer<K> buffer = new Buffer<>();
+    synchronized (buffers) {
+      buffers.add(buffer);
+    }
+
+    return buffer;
+  }
+
+  /**
+   * Writes buffer of the current thread to the temporary file as sorted run.
+   */
+  private void spill(final Buffer<K> buffer) throws IOException {
+    buffer.entries.sort(entryComparator);
+
+    Files.createDirectories(directory);
+    final Path run = Files.createTempFile(directory, name + "-", ".srt");
+    synchronized (runs) {
+      runs.add(run);
+    }
+
+    try (final DataOutputStream output = new DataOutputStream(
+        new BufferedOutputStream(Files.newOutputStream(run), SPILL_BUFFER_SIZE))) {
+      for (final ORawPair<K, ORID> entry : buffer.entries) {
+        writeEntry(output, entry);
+      }
+    }
+
+    buffer.entries.clear();
+    bufferedBytes.addAndGet(-buffer.bytes);
+    buffer.bytes = 0;
+  }
+
+  /**
+   * Merges the oldest runs into the single run, so amount of files opened at the same time during the final merge is limited.
+   */
+  private void mergeRuns() throws IOException {
+    final List<Path> runsToMerge = new ArrayList<>(runs.subList(0, MAX_RUNS_TO_MERGE));
+
+    final PriorityQueue<Run<K>> queue = new PriorityQueue<>(runsToMerge.size(), runComparator);
+
+    final Path mergedRun = Files.createTempFile(directory, name + "-", ".srt");
+    try {
+      int order = 0;
+      for (final Path run : runsToMerge) {
+        final FileRun<K> fileRun = new FileRun<>(this, run, order++);
+        if (fileRun.next()) {
+          queue.add(fileRun);
+        } else {
+          fileRun.close();
+        }
+      }
+
+      try (final DataOutputStream output = new DataOutputStream(
+          new BufferedOutputStream(Files.newOutputStream(mergedRun), SPILL_BUFFER_SIZE))) {
+        final MergeIterator<K> mergeIterator = new MergeIterator<>(queue);
+        while (mergeIterator.hasNext()) {
+          writeEntry(output, mergeIterator.next());
+        }
+      }
+    } catch (final IOException | RuntimeException e) {
+      for (final Run<K> run : queue) {
+        run.close();
+      }
+
+      Files.deleteIfExists(mergedRun);
+      throw e;
+    }
+
+    for (final Path run : runsToMerge) {
+      Files.deleteIfExists(run);
+    }
+
+    runs.subList(0, MAX_RUNS_TO_MERGE).clear();
+    runs.add(0, mergedRun);
+  }
+
+  private void writeEntry(final DataOutputStream output, final ORawPair<K, ORID> entry) throws IOException {
+    byte[] rawKey = keySerializer.serializeNativeAsWhole(entry.getFirst(), (Object[]) keyTypes);
+    if (encryption != null) {
+      rawKey = encryption.encrypt(rawKey);
+    }
+
+    output.writeInt(rawKey.length);
+    output.write(rawKey);
+
+    final ORID value = entry.getSecond();
+    output.writeShort(value.getClusterId());
+    output.writeLong(value.getClusterPosition());
+  }
+
+  private ORawPair<K, ORID> readEntry(final DataInputStream input) throws IOException {
+    final int keyLength;
+    try {
+      keyLength = input.readInt();
+    } catch (final EOFException ignore) {
+      return null;
+    }
+
+    byte[] rawKey = new byte[keyLength];
+    input.readFully(rawKey);
+
+    if (encryption != null) {
+      rawKey = encryption.decrypt(rawKey);
+    }
+
+    final K key = keySerializer.deserializeNativeObject(rawKey, 0);
+    final int clusterId = input.readShort();
+    final long clusterPosition = input.readLong();
+
+    return new ORawPair<>(key, new ORecordId(clusterId, clusterPosition));
+  }
+
+  /**
+   * Pairs added by single thread which are not spilled to the disk yet.
+   */
+  private static final class Buffer<K> {
+    private final List<ORawPair<K, ORID>> entries = new ArrayList<>();
+
+    private long bytes;
+  }
+
+  private abstract static class Run<K> {
+    private final int order;
+
+    ORawPair<K, ORID> current;
+
+    Run(final int order) {
+      this.order = order;
+    }
+
+    abstract boolean next() throws IOException;
+
+    abstract void close() throws IOException;
+  }
+
+  private static final class MemoryRun<K> extends Run<K> {
+    private final Iterator<ORawPair<K, ORID>> iterator;
+
+    private MemoryRun(final Iterator<ORawPair<K, ORID>> iterator, final int order) {
+      super(order);
+      this.iterator = iterator;
+    }
+
+    @Override
+    boolean next() {
+      if (iterator.hasNext()) {
+        current = iterator.next();
+        return true;
+      }
+
+      current = null;
+      return false;
+    }
+
+    @Override
+    void close() {
+    }
+  }
+
+  private static final class FileRun<K> extends Run<K> {
+    private final OIndexEntrySorter<K> sorter;
+    private final DataInputStream      input;
+
+    private FileRun(final OIndexEntrySorter<K> sorter, final Path file, final int order) throws IOException {
+      super(order);
+      this.sorter = sorter;
+      this.input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), RUN_BUFFER_SIZE));
+    }
+
+    @Override
+    boolean next() throws IOException {
+      current = sorter.readEntry(input);
+      return current != null;
+    }
+
+    @Override
+    void close() throws IOException {
+      input.close();
+    }
+  }
+
+  private static final class MergeIterator<K> implements Iterator<ORawPair<K, ORID>> {
+    private final PriorityQueue<Run<K>> queue;
+
+    private MergeIterator(final PriorityQueue<Run<K>> queue) {
+      this.queue = queue;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return !queue.isEmpty();
+    }
+
+    @Override
+    public ORawPair<K, ORID> next() {
+      final Run<K> run = queue.poll();
+      if (run == null) {
+        throw new NoSuchElementException();
+      }
+
+      final ORawPair<K, ORID> result = run.current;
+      try {
+        if (run.next()) {
+          queue.add(run);
+        } else {
+          run.close();
+        }
+      } catch (final IOException e) {
+        throw OException.wrapException(new OStorageException("Error during reading of sorted entries of index"), e);
+      }
+
+      return result;
+    }
+  }
+}
@@ -1528,6 +1528,125 @@ public class OSBTree<K, V> extends ODurableComponent {
     K next(int prefetchSize);
   }
 
+  /**
+   * Loads into the disk cache by single batch leaf pages which are going to be visited by range cursor after the given leaf page.
+   * Leaf pages are taken from the parent page of the given leaf page, pages which are located outside of the cursor range are not
+   * loaded.
+   *
+   * @param leafKey   Key which is contained in the leaf page, it is used to find parent of the leaf page.
+   * @param leafIndex Index of the leaf page.
+   * @param limitKey  Last key of the cursor range or <code>null</code> if range is not limited.
+   * @param forward   Direction of the cursor.
+   * @param readAhead Maximum amount of pages to load.
+   *
+   * @return Indexes of the loaded pages in order in which they are going to be visited by cursor.
+   */
+  private long[] readAheadLeaves(final K leafKey, final long leafIndex, final K limitKey, final boolean forward,
+      final int readAhead, final OAtomicOperation atomicOperation) throws IOException {
+    final BucketSearchResult searchResult = findBucket(leafKey, atomicOperation);
+    final ArrayList<Long> path = searchResult.path;
+
+    if (path.size() < 2 || searchResult.getLastPathItem() != leafIndex) {
+      return new long[0];
+    }
+
+    final long[] pages = new long[readAhead];
+    int pagesCount = 0;
+
+    final OCacheEntry parentEntry = loadPageForRead(atomicOperation, fileId, path.get(path.size() - 2), false);
+    try {
+      final OSBTreeBucket<K, V> parent = new OSBTreeBucket<>(parentEntry, keySerializer, keyTypes, valueSerializer, encryption);
+      //child with index 0 is the left child of the first entry, child with index i > 0 is the right child of entry i - 1
+      final int childrenCount = parent.size() + 1;
+
+      int childIndex = -1;
+      for (int i = 0; i < childrenCount; i++) {
+        if (childPage(parent, i) == leafIndex) {
+          childIndex = i;
+          break;
+        }
+      }
+
+      if (childIndex < 0) {
+        return new long[0];
+      }
+
+      childIndex += forward ? 1 : -1;
+      while (pagesCount < readAhead && childIndex >= 0 && childIndex < childrenCount) {
+        if (limitKey != null) {
+          //keys of the child are bigger or equal to the key of entry i - 1 and less than the key of entry i
+          if (forward && comparator.compare(parent.getKey(childIndex - 1), limitKey) > 0) {
+            break;
+          }
+
+          if (!forward && comparator.compare(parent.getKey(childIndex), limitKey) < 0) {
+            break;
+          }
+        }
+
+        pages[pagesCount++] = childPage(parent, childIndex);
+        childIndex += forward ? 1 : -1;
+      }
+    } finally {
+      releasePageFromRead(atomicOperation, parentEntry);
+    }
+
+    final long[] result = Arrays.copyOf(pages, pagesCount);
+    if (pagesCount > 0) {
+      final long[] sortedPages = result.clone();
+      Arrays.sort(sortedPages);
+
+      readCache.prefetch(fileId, sortedPages, writeCache);
+    }
+
+    return result;
+  }
+
+  private static long childPage(final OSBTreeBucket<?, ?> parent, final int childIndex) {
+    if (childIndex == 0) {
+      return parent.getLeftChild(0);
+    }
+
+    return parent.getRightChild(childIndex - 1);
+  }
+
+  /**
+   * Tracks leaf pages visited by range cursor and loads next batch of leaf pages once cursor reaches the last page of previously
+   * loaded batch.
+   *
+   * @see OGlobalConfiguration#INDEX_CURSOR_READ_AHEAD
+   */
+  private final class LeafReadAhead {
+    private final K       limitKey;
+    private final boolean forward;
+    private final int     readAhead = OGlobalConfiguration.INDEX_CURSOR_READ_AHEAD.getValueAsInteger();
+
+    private long[] pages;
+
+    private LeafReadAhead(final K limitKey, final boolean forward) {
+      this.limitKey = limitKey;
+      this.forward = forward;
+    }
+
+    private void onLeafPage(final long pageIndex, final OSBTreeBucket<K, V> bucket, final OAtomicOperation atomicOperation)
+        throws IOException {
+      if (readAhead <= 0 || bucket.size() == 0) {
+        return;
+      }
+
+      if (pages != null) {
+        for (int i = 0; i < pages.length - 1; i++) {
+          if (pages[i] == pageIndex) {
+            return;
+          }
+        }
+      }
+
+      final K leafKey = forward ? bucket.getKey(0) : bucket.getKey(bucket.size() - 1);
+      pages = readAheadLeaves(leafKey, pageIndex, limitKey, forward, readAhead, atomicOperation);
+    }
+  }
+
   private static class BucketSearchResult {
     private final int             itemIndex;
     private final ArrayList<Long> path;
@@ -1647,6 +1766,7 @@ public class OSBTree<K, V> extends ODurableComponent {
     private final List<Map.Entry<K, V>>     dataCache         = new ArrayList<>();
     @SuppressWarnings("unchecked")
     private       Iterator<Map.Entry<K, V>> dataCacheIterator = OEmptyMapEntryIterator.INSTANCE;
+    private final LeafReadAhead             readAhead;
 
     private OSBTreeCursorForward(final K fromKey, final K toKey, final boolean fromKeyInclusive, final boolean toKeyInclusive) {
       this.fromKey = fromKey;
@@ -1657,6 +1777,8 @@ public class OSBTree<K, V> extends ODurableComponent {
       if (fromKey == null) {
         this.fromKeyInclusive = true;
       }
+
+      readAhead = new LeafReadAhead(toKey, true);
     }
 
     public Map.Entry<K, V> next(int prefetchSize) {
@@ -1711,6 +1833,9 @@ public class OSBTree<K, V> extends ODurableComponent {
             itemIndex = -bucketSearchResult.itemIndex - 1;
           }
 
+          //read-ahead is started only when range occupies more than one leaf page
+          boolean siblingPage = false;
+
           while (dataCache.size() < prefetchSize) {
             if (pageIndex == -1) {
               break;
@@ -1721,9 +1846,15 @@ public class OSBTree<K, V> extends ODurableComponent {
               final OSBTreeBucket<K, V> bucket = new OSBTreeBucket<>(cacheEntry, keySerializer, keyTypes, valueSerializer,
                   encryption);
 
+              if (siblingPage) {
+                readAhead.onLeafPage(pageIndex, bucket, atomicOperation);
+                siblingPage = false;
+              }
+
               if (itemIndex >= bucket.size()) {
                 pageIndex = bucket.getRightSibling();
                 itemIndex = 0;
+                siblingPage = true;
                 continue;
               }
 
@@ -1781,6 +1912,7 @@ public class OSBTree<K, V> extends ODurableComponent {
     private final List<Map.Entry<K, V>>     dataCache         = new ArrayList<>();
     @SuppressWarnings("unchecked")
     private       Iterator<Map.Entry<K, V>> dataCacheIterator = OEmptyMapEntryIterator.INSTANCE;
+    private final LeafReadAhead             readAhead;
 
     private OSBTreeCursorBackward(final K fromKey, final K toKey, final boolean fromKeyInclusive, final boolean toKeyInclusive) {
       this.fromKey = fromKey;
@@ -1792,6 +1924,7 @@ public class OSBTree<K, V> extends ODurableComponent {
         this.toKeyInclusive = true;
       }
 
+      readAhead = new LeafReadAhead(fromKey, false);
     }
 
     public Map.Entry<K, V> next(int prefetchSize) {
@@ -1841,6 +1974,9 @@ public class OSBTree<K, V> extends ODurableComponent {
             itemIndex = -bucketSearchResult.itemIndex - 2;
           }
 
+          //read-ahead is started only when range occupies more than one leaf page
+          boolean siblingPage = false;
+
           while (dataCache.size() < prefetchSize) {
             if (pageIndex == -1) {
               break;
@@ -1851,6 +1987,11 @@ public class OSBTree<K, V> extends ODurableComponent {
               final OSBTreeBucket<K, V> bucket = new OSBTreeBucket<>(cacheEntry, keySerializer, keyTypes, valueSerializer,
                   encryption);
 
+              if (siblingPage) {
+                readAhead.onLeafPage(pageIndex, bucket, atomicOperation);
+                siblingPage = false;
+              }
+
               if (itemIndex >= bucket.size()) {
                 itemIndex = bucket.size() - 1;
               }
@@ -1858,6 +1999,7 @@ public class OSBTree<K, V> extends ODurableComponent {
               if (itemIndex < 0) {
                 pageIndex = bucket.getLeftSibling();
                 itemIndex = Integer.MAX_VALUE;
+                siblingPage = true;
                 continue;
               }
 
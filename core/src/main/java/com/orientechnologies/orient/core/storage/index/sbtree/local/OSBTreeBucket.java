@@ -265,6 +265,26 @@ public class OSBTreeBucket<K, V> extends ODurablePage {
     }
   }
 
+  /**
+   * @return Index of the left child page of the entry of non-leaf bucket, key of the entry is not deserialized.
+   */
+  long getLeftChild(final int entryIndex) {
+    assert !isLeaf;
+
+    final int entryPosition = getIntValue(entryIndex * OIntegerSerializer.INT_SIZE + POSITIONS_ARRAY_OFFSET);
+    return getLongValue(entryPosition);
+  }
+
+  /**
+   * @return Index of the right child page of the entry of non-leaf bucket, key of the entry is not deserialized.
+   */
+  long getRightChild(final int entryIndex) {
+    assert !isLeaf;
+
+    final int entryPosition = getIntValue(entryIndex * OIntegerSerializer.INT_SIZE + POSITIONS_ARRAY_OFFSET);
+    return getLongValue(entryPosition + OLongSerializer.LONG_SIZE);
+  }
+
   byte[] getRawEntry(final int entryIndex) {
     int entryPosition = getIntValue(entryIndex * OIntegerSerializer.INT_SIZE + POSITIONS_ARRAY_OFFSET);
     final int startEntryPosition = entryPosition;
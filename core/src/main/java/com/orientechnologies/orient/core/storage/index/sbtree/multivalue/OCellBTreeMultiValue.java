@@ -1108,6 +1108,135 @@ public final class OCellBTreeMultiValue<K> extends ODurableComponent {
     }
   }
 
+  /**
+   * Estimates amount of entries with keys inside of the passed in range without iteration over the range. Tree is descended from
+   * the root to the leaf for both boundaries and position of each boundary is approximated by positions of the chosen children on
+   * every level, assuming that all subtrees of the same level contain the same amount of entries. So estimation costs O(log n)
+   * page reads whatever is the size of the range.
+   *
+   * @param keyFrom Lower boundary of the range, {@code null} means that range starts from the first key of the tree.
+   * @param keyTo   Upper boundary of the range, {@code null} means that range ends by the last key of the tree.
+   *
+   * @return Estimated amount of entries in the range, entries with {@code null} keys are not taken into account.
+   */
+  public long estimateEntriesBetween(K keyFrom, final boolean fromInclusive, K keyTo, final boolean toInclusive) {
+    atomicOperationsManager.acquireReadLock(this);
+    try {
+      acquireSharedLock();
+      try {
+        final OAtomicOperation atomicOperation = OAtomicOperationsManager.getCurrentOperation();
+
+        final long treeSize;
+        final OCacheEntry entryPointCacheEntry = loadPageForRead(atomicOperation, fileId, ENTRY_POINT_INDEX, false);
+        try {
+          final OEntryPoint<K> entryPoint = new OEntryPoint<>(entryPointCacheEntry, false);
+          treeSize = entryPoint.getTreeSize();
+        } finally {
+          releasePageFromRead(atomicOperation, entryPointCacheEntry);
+        }
+
+        if (treeSize == 0) {
+          return 0;
+        }
+
+        final double positionFrom;
+        if (keyFrom == null) {
+          positionFrom = 0;
+        } else {
+          keyFrom = keySerializer.preprocess(keyFrom, (Object[]) keyTypes);
+          keyFrom = enhanceFromCompositeKeyBetweenAsc(keyFrom, fromInclusive);
+          positionFrom = keyPosition(keyFrom, !fromInclusive, atomicOperation);
+        }
+
+        final double positionTo;
+        if (keyTo == null) {
+          positionTo = 1;
+        } else {
+          keyTo = keySerializer.preprocess(keyTo, (Object[]) keyTypes);
+          keyTo = enhanceToCompositeKeyBetweenAsc(keyTo, toInclusive);
+          positionTo = keyPosition(keyTo, toInclusive, atomicOperation);
+        }
+
+        if (positionTo <= positionFrom) {
+          return 0;
+        }
+
+        return Math.max(1, Math.round((positionTo - positionFrom) * treeSize));
+      } finally {
+        releaseSharedLock();
+      }
+    } catch (final IOException e) {
+      throw OException.wrapException(
+          new OCellBTreeMultiValueException("Error during estimation of amount of entries in range of sbtree [" + getName() + "]", this), e);
+    } finally {
+      atomicOperationsManager.releaseReadLock(this);
+    }
+  }
+
+  /**
+   * @param includeKey Whether entry of the key itself, if it is present in the tree, is placed before the returned position.
+   *
+   * @return Approximate fraction of entries of the tree which are placed before the key, in range [0, 1].
+   */
+  private double keyPosition(final K key, final boolean includeKey, final OAtomicOperation atomicOperation) throws IOException {
+    long pageIndex = ROOT_INDEX;
+
+    double position = 0;
+    double scale = 1;
+
+    int depth = 0;
+    while (true) {
+      depth++;
+      if (depth > MAX_PATH_LENGTH) {
+        throw new OCellBTreeMultiValueException(
+            "We reached max level of depth of SBTree but still found nothing, seems like tree is in corrupted state. You should rebuild index related to given query.",
+            this);
+      }
+
+      final OCacheEntry bucketEntry = loadPageForRead(atomicOperation, fileId, pageIndex, false);
+      try {
+        final Bucket<K> keyBucket = new Bucket<>(bucketEntry, keySerializer, encryption);
+        final int size = keyBucket.size();
+        final int index = keyBucket.find(key);
+
+        if (keyBucket.isLeaf()) {
+          if (size == 0) {
+            return position;
+          }
+
+          final int entriesBefore;
+          if (index >= 0) {
+            entriesBefore = includeKey ? index + 1 : index;
+          } else {
+            entriesBefore = -index - 1;
+          }
+
+          return position + scale * entriesBefore / size;
+        }
+
+        final int childIndex;
+        if (index >= 0) {
+          pageIndex = keyBucket.getRight(index);
+          childIndex = index + 1;
+        } else {
+          final int insertionIndex = -index - 1;
+          if (insertionIndex >= size) {
+            pageIndex = keyBucket.getRight(insertionIndex - 1);
+          } else {
+            pageIndex = keyBucket.getLeft(insertionIndex);
+          }
+          childIndex = insertionIndex;
+        }
+
+        // NON LEAF Bucket<K> OF N KEYS HAS N + 1 CHILDREN
+        scale /= size + 1;
+        position += childIndex * scale;
+      } finally {
+        releasePageFromRead(atomicOperation, bucketEntry);
+      }
+    }
+  }
+
   /**
    * Acquires exclusive lock in the active atomic operation running on the current thread for this SB-tree.
    */
@@ -22,10 +22,12 @@ package com.orientechnologies.orient.core.storage.index.sbtree.singlevalue;
 
 import com.orientechnologies.common.comparator.ODefaultComparator;
 import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.hash.OMurmurHash3;
 import com.orientechnologies.common.serialization.types.OBinarySerializer;
 import com.orientechnologies.common.serialization.types.OIntegerSerializer;
 import com.orientechnologies.common.serialization.types.OLongSerializer;
 import com.orientechnologies.common.serialization.types.OShortSerializer;
+import com.orientechnologies.common.util.ORawPair;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.encryption.OEncryption;
 import com.orientechnologies.orient.core.encryption.OEncryptionFactory;
@@ -45,9 +47,12 @@ import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedSt
 import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperation;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperationsManager;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.base.ODurableComponent;
+import com.orientechnologies.orient.core.storage.index.bloomfilter.OIndexBloomFilter;
+import com.orientechnologies.orient.core.storage.index.sbtree.OIndexEntrySorter;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
@@ -99,6 +104,7 @@ public final class OCellBTreeSingleValue<K> extends ODurableComponent {
   private       OBinarySerializer<K> keySerializer;
   private       OType[]              keyTypes;
   private       OEncryption          encryption;
+  private       OIndexBloomFilter    bloomFilter;
 
   public OCellBTreeSingleValue(final String name, final String dataFileExtension, final String nullFileExtension,
       final OAbstractPaginatedStorage storage) {
@@ -113,6 +119,18 @@ public final class OCellBTreeSingleValue<K> extends ODurableComponent {
 
   public void create(final OBinarySerializer<K> keySerializer, final OType[] keyTypes, final int keySize,
       final OEncryption encryption) throws IOException {
+    create(keySerializer, keyTypes, keySize, encryption, 0, 0);
+  }
+
+  /**
+   * Creates tree together with Bloom filter which is used to skip lookups of absent keys. Bloom filter is not created if tree
+   * keys are encrypted, because content of the filter is not encrypted.
+   *
+   * @param bloomFilterCapacity   Expected amount of keys in the tree, Bloom filter is not created if this value is not positive.
+   * @param bloomFilterBitsPerKey Amount of bits of Bloom filter allocated for each key.
+   */
+  public void create(final OBinarySerializer<K> keySerializer, final OType[] keyTypes, final int keySize,
+      final OEncryption encryption, final long bloomFilterCapacity, final int bloomFilterBitsPerKey) throws IOException {
     assert keySerializer != null;
     boolean rollback = false;
     final OAtomicOperation atomicOperation = startAtomicOperation(false);
@@ -158,6 +176,12 @@ public final class OCellBTreeSingleValue<K> extends ODurableComponent {
           releasePageFromWrite(atomicOperation, nullCacheEntry);
         }
 
+        if (bloomFilterCapacity > 0 && encryption == null) {
+          bloomFilter = new OIndexBloomFilter(storage, getName(), getFullName());
+          bloomFilter.create(bloomFilterCapacity, bloomFilterBitsPerKey, atomicOperation);
+        } else {
+          bloomFilter = null;
+        }
       } finally {
         releaseExclusiveLock();
       }
@@ -179,6 +203,10 @@ public final class OCellBTreeSingleValue<K> extends ODurableComponent {
         if (key != null) {
           key = keySerializer.preprocess(key, (Object[]) keyTypes);
 
+          if (bloomFilter != null && !bloomFilter.mightContain(keyHashCode(key, keySerializer, keyTypes), atomicOperation)) {
+            return null;
+          }
+
           final BucketSearchResult bucketSearchResult = findBucket(key, atomicOperation);
           if (bucketSearchResult.itemIndex < 0) {
             return null;
@@ -213,6 +241,123 @@ public final class OCellBTreeSingleValue<K> extends ODurableComponent {
     }
   }
 
+  /**
+   * Fetches values of several keys in single pass over the tree. Keys are processed in ascending order and tree is traversed from
+   * the root only if key is located on the right of the last key of leaf page which contains previous key, so adjacent keys are
+   * read from the same pinned page under single acquisition of the tree lock.
+   *
+   * @param keys Keys to search, may contain {@code null}.
+   *
+   * @return Values in the same order as passed in keys, {@code null} is returned for absent keys.
+   */
+  public List<ORID> getAll(final List<K> keys) {
+    final int keysCount = keys.size();
+    final ORID[] values = new ORID[keysCount];
+
+    atomicOperationsManager.acquireReadLock(this);
+    try {
+      acquireSharedLock();
+      try {
+        final OAtomicOperation atomicOperation = OAtomicOperationsManager.getCurrentOperation();
+
+        final List<K> preprocessedKeys = new ArrayList<>(keysCount);
+        final List<Integer> order = new ArrayList<>(keysCount);
+        boolean containsNullKey = false;
+
+        for (int i = 0; i < keysCount; i++) {
+          final K key = keys.get(i);
+          if (key == null) {
+            containsNullKey = true;
+            preprocessedKeys.add(null);
+          } else {
+            final K preprocessedKey = keySerializer.preprocess(key, (Object[]) keyTypes);
+            preprocessedKeys.add(preprocessedKey);
+
+            if (bloomFilter == null || bloomFilter
+                .mightContain(keyHashCode(preprocessedKey, keySerializer, keyTypes), atomicOperation)) {
+              order.add(i);
+            }
+          }
+        }
+
+        order.sort((first, second) -> comparator.compare(preprocessedKeys.get(first), preprocessedKeys.get(second)));
+
+        if (containsNullKey) {
+          final ORID nullValue;
+          final OCacheEntry nullBucketCacheEntry = loadPageForRead(atomicOperation, nullBucketFileId, 0, false);
+          try {
+            final ONullBucket nullBucket = new ONullBucket(nullBucketCacheEntry, false);
+            nullValue = nullBucket.getValue();
+          } finally {
+            releasePageFromRead(atomicOperation, nullBucketCacheEntry);
+          }
+
+          for (int i = 0; i < keysCount; i++) {
+            if (keys.get(i) == null) {
+              values[i] = nullValue;
+            }
+          }
+        }
+
+        OCacheEntry leafCacheEntry = null;
+        try {
+          OSBTreeBucketSingleValue<K> leaf = null;
+          K leafLastKey = null;
+
+          for (final int index : order) {
+            final K key = preprocessedKeys.get(index);
+
+            if (leaf != null && comparator.compare(key, leafLastKey) <= 0) {
+              final int itemIndex = leaf.find(key);
+              if (itemIndex >= 0) {
+                values[index] = leaf.getValue(itemIndex);
+              }
+
+              continue;
+            }
+
+            if (leafCacheEntry != null) {
+              releasePageFromRead(atomicOperation, leafCacheEntry);
+              leafCacheEntry = null;
+              leaf = null;
+            }
+
+            final BucketSearchResult bucketSearchResult = findBucket(key, atomicOperation);
+            final OCacheEntry cacheEntry = loadPageForRead(atomicOperation, fileId, bucketSearchResult.pageIndex, false);
+            final OSBTreeBucketSingleValue<K> bucket = new OSBTreeBucketSingleValue<>(cacheEntry, keySerializer, keyTypes,
+                encryption);
+
+            if (bucketSearchResult.itemIndex >= 0) {
+              values[index] = bucket.getValue(bucketSearchResult.itemIndex);
+            }
+
+            final int bucketSize = bucket.size();
+            if (bucketSize > 0) {
+              leafCacheEntry = cacheEntry;
+              leaf = bucket;
+              leafLastKey = bucket.getKey(bucketSize - 1);
+            } else {
+              releasePageFromRead(atomicOperation, cacheEntry);
+            }
+          }
+        } finally {
+          if (leafCacheEntry != null) {
+            releasePageFromRead(atomicOperation, leafCacheEntry);
+          }
+        }
+
+        return Arrays.asList(values);
+      } finally {
+        releaseSharedLock();
+      }
+    } catch (final IOException e) {
+      throw OException
+          .wrapException(new OCellBTreeSingleValueException("Error during retrieving  of sbtree with name " + getName(), this), e);
+    } finally {
+      atomicOperationsManager.releaseReadLock(this);
+    }
+  }
+
   public void put(final K key, final ORID value) throws IOException {
     update(key, value, null);
   }
@@ -277,20 +422,8 @@ public final class OCellBTreeSingleValue<K> extends ODurableComponent {
             }
           }
 
-          final byte[] serializedValue = new byte[OShortSerializer.SHORT_SIZE + OLongSerializer.LONG_SIZE];
-          OShortSerializer.INSTANCE.serializeNative((short) value.getClusterId(), serializedValue, 0);
-          OLongSerializer.INSTANCE.serializeNative(value.getClusterPosition(), serializedValue, OShortSerializer.SHORT_SIZE);
-
-          final byte[] rawKey;
-          if (encryption == null) {
-            rawKey = serializedKey;
-          } else {
-            final byte[] encryptedKey = encryption.encrypt(serializedKey);
-
-            rawKey = new byte[OIntegerSerializer.INT_SIZE + encryptedKey.length];
-            OIntegerSerializer.INSTANCE.serializeNative(encryptedKey.length, rawKey, 0);
-            System.arraycopy(encryptedKey, 0, rawKey, OIntegerSerializer.INT_SIZE, encryptedKey.length);
-          }
+          final byte[] serializedValue = serializeValue(value);
+          final byte[] rawKey = encryptKey(serializedKey);
 
           int insertionIndex;
           final int sizeDiff;
@@ -332,6 +465,10 @@ public final class OCellBTreeSingleValue<K> extends ODurableComponent {
 
           if (sizeDiff != 0) {
             updateSize(sizeDiff, atomicOperation);
+
+            if (bloomFilter != null) {
+              bloomFilter.add(keyHashCode(serializedKey), atomicOperation);
+            }
           }
 
         } else {
@@ -375,11 +512,116 @@ public final class OCellBTreeSingleValue<K> extends ODurableComponent {
     }
   }
 
+  /**
+   * Creates sorter which is used to order entries before they are passed to the {@link #bulkLoad(Iterator, ORID,
+   * OBaseIndexEngine.Validator, int)} method. Keys added to the sorter are preprocessed and checked against the limit of key
+   * size the same way as during the put operation.
+   *
+   * @param bufferSize Maximum amount of memory in bytes which is used by sorter before entries are spilled to the disk.
+   * @param directory  Directory where sorted runs of entries are stored.
+   */
+  public OIndexEntrySorter<K> createEntrySorter(final long bufferSize, final Path directory) {
+    acquireSharedLock();
+    try {
+      return new OIndexEntrySorter<>(getName(), keySerializer, keyTypes, encryption, MAX_KEY_SIZE, bufferSize, directory);
+    } finally {
+      releaseSharedLock();
+    }
+  }
+
+  /**
+   * Builds content of empty tree from entries sorted by key. Instead of insertion of entries one by one, leaf buckets are filled
+   * sequentially up to the given fill factor and non-leaf buckets are built bottom-up from the first keys of buckets of the lower
+   * level, so pages are never split and whole tree is created inside of single atomic operation. Entries with the same key are
+   * resolved by validator the same way as if they were put into the tree one by one.
+   *
+   * @param sortedEntries Entries sorted by key in ascending order, keys should be preprocessed by key serializer.
+   * @param nullValue     Value associated with {@code null} key or {@code null} if there is no such value.
+   * @param validator     Validator which is called for each entry, may be {@code null}.
+   * @param fillFactor    Percentage of space of bucket which is filled by entries, the rest of space is left for subsequent
+   *                      updates of tree.
+   *
+   * @return Amount of entries added to the tree including entry with {@code null} key, the same amount is returned by {@link
+   * #size()} once entries are loaded.
+   */
+  public long bulkLoad(final Iterator<ORawPair<K, ORID>> sortedEntries, final ORID nullValue,
+      final OBaseIndexEngine.Validator<K, ORID> validator, final int fillFactor) throws IOException {
+    if (fillFactor <= 0 || fillFactor > 100) {
+      throw new IllegalArgumentException("Fill factor should be in range (0, 100] but was " + fillFactor);
+    }
+
+    boolean rollback = false;
+    final OAtomicOperation atomicOperation = startAtomicOperation(true);
+    try {
+      acquireExclusiveLock();
+      try {
+        final BulkLoader bulkLoader = new BulkLoader(atomicOperation, fillFactor);
+        long entriesCount = bulkLoader.load(sortedEntries, validator);
+
+        if (nullValue != null) {
+          final OCacheEntry nullCacheEntry = loadPageForWrite(atomicOperation, nullBucketFileId, 0, false);
+          try {
+            final ONullBucket nullBucket = new ONullBucket(nullCacheEntry, false);
+            nullBucket.setValue(nullValue);
+          } finally {
+            releasePageFromWrite(atomicOperation, nullCacheEntry);
+          }
+
+          entriesCount++;
+        }
+
+        final OCacheEntry entryPointCacheEntry = loadPageForWrite(atomicOperation, fileId, ENTRY_POINT_INDEX, false);
+        try {
+          final OEntryPoint<K> entryPoint = new OEntryPoint<>(entryPointCacheEntry, false);
+          entryPoint.setTreeSize(entriesCount);
+          entryPoint.setPagesSize((int) bulkLoader.lastPageIndex);
+        } finally {
+          releasePageFromWrite(atomicOperation, entryPointCacheEntry);
+        }
+
+        return entriesCount;
+      } finally {
+        releaseExclusiveLock();
+      }
+    } catch (final Exception e) {
+      rollback = true;
+      throw e;
+    } finally {
+      endAtomicOperation(rollback);
+    }
+  }
+
+  private byte[] encryptKey(final byte[] serializedKey) {
+    if (encryption == null) {
+      return serializedKey;
+    }
+
+    final byte[] encryptedKey = encryption.encrypt(serializedKey);
+
+    final byte[] rawKey = new byte[OIntegerSerializer.INT_SIZE + encryptedKey.length];
+    OIntegerSerializer.INSTANCE.serializeNative(encryptedKey.length, rawKey, 0);
+    System.arraycopy(encryptedKey, 0, rawKey, OIntegerSerializer.INT_SIZE, encryptedKey.length);
+
+    return rawKey;
+  }
+
+  private static byte[] serializeValue(final ORID value) {
+    final byte[] serializedValue = new byte[OShortSerializer.SHORT_SIZE + OLongSerializer.LONG_SIZE];
+    OShortSerializer.INSTANCE.serializeNative((short) value.getClusterId(), serializedValue, 0);
+    OLongSerializer.INSTANCE.serializeNative(value.getClusterPosition(), serializedValue, OShortSerializer.SHORT_SIZE);
+
+    return serializedValue;
+  }
+
   public void close() {
     acquireExclusiveLock();
     try {
       readCache.closeFile(fileId, true, writeCache);
       readCache.closeFile(nullBucketFileId, true, writeCache);
+
+      if (bloomFilter != null) {
+        bloomFilter.close();
+      }
     } finally {
       releaseExclusiveLock();
     }
@@ -416,6 +658,10 @@ public final class OCellBTreeSingleValue<K> extends ODurableComponent {
         } finally {
           releasePageFromWrite(atomicOperation, cacheEntry);
         }
+
+        if (bloomFilter != null) {
+          bloomFilter.clear(atomicOperation);
+        }
       } finally {
         releaseExclusiveLock();
       }
@@ -436,6 +682,10 @@ public final class OCellBTreeSingleValue<K> extends ODurableComponent {
       try {
         deleteFile(atomicOperation, fileId);
         deleteFile(atomicOperation, nullBucketFileId);
+
+        if (bloomFilter != null) {
+          bloomFilter.delete(atomicOperation);
+        }
       } finally {
         releaseExclusiveLock();
       }
@@ -463,6 +713,8 @@ public final class OCellBTreeSingleValue<K> extends ODurableComponent {
           final long nullFileId = openFile(atomicOperation, getName() + nullFileExtension);
           deleteFile(atomicOperation, nullFileId);
         }
+
+        new OIndexBloomFilter(storage, getName(), getFullName()).deleteWithoutOpen(atomicOperation);
       } finally {
         releaseExclusiveLock();
       }
@@ -505,6 +757,14 @@ public final class OCellBTreeSingleValue<K> extends ODurableComponent {
 
       //noinspection unchecked
       this.keySerializer = (OBinarySerializer<K>) OBinarySerializerFactory.getInstance().getObjectSerializer(keySerializerId);
+
+      final OIndexBloomFilter bloomFilter = new OIndexBloomFilter(storage, name, getFullName());
+      if (bloomFilter.exists(atomicOperation)) {
+        bloomFilter.open(atomicOperation);
+        this.bloomFilter = bloomFilter;
+      } else {
+        this.bloomFilter = null;
+      }
     } catch (final IOException e) {
       throw OException.wrapException(new OCellBTreeSingleValueException("Exception during loading of sbtree " + name, this), e);
     } finally {
@@ -548,6 +808,10 @@ public final class OCellBTreeSingleValue<K> extends ODurableComponent {
         if (key != null) {
           key = keySerializer.preprocess(key, (Object[]) keyTypes);
 
+          if (bloomFilter != null && !bloomFilter.mightContain(keyHashCode(key, keySerializer, keyTypes), atomicOperation)) {
+            return null;
+          }
+
           final BucketSearchResult bucketSearchResult = findBucket(key, atomicOperation);
           if (bucketSearchResult.itemIndex < 0) {
             return null;
@@ -753,6 +1017,136 @@ public final class OCellBTreeSingleValue<K> extends ODurableComponent {
     }
   }
 
+  /**
+   * Estimates amount of entries with keys inside of the passed in range without iteration over the range. Tree is descended from
+   * the root to the leaf for both boundaries and position of each boundary is approximated by positions of the chosen children on
+   * every level, assuming that all subtrees of the same level contain the same amount of entries. So estimation costs O(log n)
+   * page reads whatever is the size of the range.
+   *
+   * @param keyFrom Lower boundary of the range, {@code null} means that range starts from the first key of the tree.
+   * @param keyTo   Upper boundary of the range, {@code null} means that range ends by the last key of the tree.
+   *
+   * @return Estimated amount of entries in the range, entries with {@code null} keys are not taken into account.
+   */
+  public long estimateEntriesBetween(K keyFrom, final boolean fromInclusive, K keyTo, final boolean toInclusive) {
+    atomicOperationsManager.acquireReadLock(this);
+    try {
+      acquireSharedLock();
+      try {
+        final OAtomicOperation atomicOperation = OAtomicOperationsManager.getCurrentOperation();
+
+        final long treeSize;
+        final OCacheEntry entryPointCacheEntry = loadPageForRead(atomicOperation, fileId, ENTRY_POINT_INDEX, false);
+        try {
+          final OEntryPoint<K> entryPoint = new OEntryPoint<>(entryPointCacheEntry, false);
+          treeSize = entryPoint.getTreeSize();
+        } finally {
+          releasePageFromRead(atomicOperation, entryPointCacheEntry);
+        }
+
+        if (treeSize == 0) {
+          return 0;
+        }
+
+        final double positionFrom;
+        if (keyFrom == null) {
+          positionFrom = 0;
+        } else {
+          keyFrom = keySerializer.preprocess(keyFrom, (Object[]) keyTypes);
+          keyFrom = enhanceFromCompositeKeyBetweenAsc(keyFrom, fromInclusive);
+          positionFrom = keyPosition(keyFrom, !fromInclusive, atomicOperation);
+        }
+
+        final double positionTo;
+        if (keyTo == null) {
+          positionTo = 1;
+        } else {
+          keyTo = keySerializer.preprocess(keyTo, (Object[]) keyTypes);
+          keyTo = enhanceToCompositeKeyBetweenAsc(keyTo, toInclusive);
+          positionTo = keyPosition(keyTo, toInclusive, atomicOperation);
+        }
+
+        if (positionTo <= positionFrom) {
+          return 0;
+        }
+
+        return Math.max(1, Math.round((positionTo - positionFrom) * treeSize));
+      } finally {
+        releaseSharedLock();
+      }
+    } catch (final IOException e) {
+      throw OException.wrapException(
+          new OCellBTreeSingleValueException("Error during estimation of amount of entries in range of sbtree [" + getName() + "]", this), e);
+    } finally {
+      atomicOperationsManager.releaseReadLock(this);
+    }
+  }
+
+  /**
+   * @param includeKey Whether entry of the key itself, if it is present in the tree, is placed before the returned position.
+   *
+   * @return Approximate fraction of entries of the tree which are placed before the key, in range [0, 1].
+   */
+  private double keyPosition(final K key, final boolean includeKey, final OAtomicOperation atomicOperation) throws IOException {
+    long pageIndex = ROOT_INDEX;
+
+    double position = 0;
+    double scale = 1;
+
+    int depth = 0;
+    while (true) {
+      depth++;
+      if (depth > MAX_PATH_LENGTH) {
+        throw new OCellBTreeSingleValueException(
+            "We reached max level of depth of SBTree but still found nothing, seems like tree is in corrupted state. You should rebuild index related to given query.",
+            this);
+      }
+
+      final OCacheEntry bucketEntry = loadPageForRead(atomicOperation, fileId, pageIndex, false);
+      try {
+        final OSBTreeBucketSingleValue<K> keyBucket = new OSBTreeBucketSingleValue<>(bucketEntry, keySerializer, keyTypes,
+            encryption);
+        final int size = keyBucket.size();
+        final int index = keyBucket.find(key);
+
+        if (keyBucket.isLeaf()) {
+          if (size == 0) {
+            return position;
+          }
+
+          final int entriesBefore;
+          if (index >= 0) {
+            entriesBefore = includeKey ? index + 1 : index;
+          } else {
+            entriesBefore = -index - 1;
+          }
+
+          return position + scale * entriesBefore / size;
+        }
+
+        final int childIndex;
+        if (index >= 0) {
+          pageIndex = keyBucket.getRight(index);
+          childIndex = index + 1;
+        } else {
+          final int insertionIndex = -index - 1;
+          if (insertionIndex >= size) {
+            pageIndex = keyBucket.getRight(insertionIndex - 1);
+          } else {
+            pageIndex = keyBucket.getLeft(insertionIndex);
+          }
+          childIndex = insertionIndex;
+        }
+
+        // NON LEAF OSBTreeBucketSingleValue<K> OF N KEYS HAS N + 1 CHILDREN
+        scale /= size + 1;
+        position += childIndex * scale;
+      } finally {
+        releasePageFromRead(atomicOperation, bucketEntry);
+      }
+    }
+  }
+
   /**
    * Acquires exclusive lock in the active atomic operation running on the current thread for this SB-tree.
    */
@@ -760,6 +1154,31 @@ public final class OCellBTreeSingleValue<K> extends ODurableComponent {
     atomicOperationsManager.acquireExclusiveLockTillOperationComplete(this);
   }
 
+  /**
+   * Calculates hash code of the key over its serialized form, so keys which are equal from the point of view of the tree but
+   * passed as instances of different classes, like {@link Integer} and {@link Long}, have the same hash code. Key should not be
+   * {@code null}.
+   */
+  public long keyHashCode(final K key) {
+    return keyHashCode(keySerializer.preprocess(key, (Object[]) keyTypes), keySerializer, keyTypes);
+  }
+
+  private static <K> long keyHashCode(final K preprocessedKey, final OBinarySerializer<K> keySerializer, final OType[] keyTypes) {
+    return keyHashCode(keySerializer.serializeNativeAsWhole(preprocessedKey, (Object[]) keyTypes));
+  }
+
+  private static long keyHashCode(final byte[] serializedKey) {
+    return OMurmurHash3.murmurHash3_x64_64(serializedKey, 0);
+  }
+
+  /**
+   * @return {@code true} if key is composite key which contains less items than keys of the tree, such keys are used in
+   * partial search and may match several keys of the tree.
+   */
+  public boolean isPartialKey(final K key) {
+    return key instanceof OCompositeKey && ((OCompositeKey) key).getKeys().size() < keySize;
+  }
+
   private void updateSize(final long diffSize, final OAtomicOperation atomicOperation) throws IOException {
     final OCacheEntry entryPointCacheEntry = loadPageForWrite(atomicOperation, fileId, ENTRY_POINT_INDEX, false);
     try {
@@ -1050,7 +1469,12 @@ public final class OCellBTreeSingleValue<K> extends ODurableComponent {
     final int bucketSize = bucketToSplit.size();
 
     final int indexToSplit = bucketSize >>> 1;
-    final K separationKey = bucketToSplit.getKey(indexToSplit);
+    final K separationKey;
+    if (splitLeaf && indexToSplit > 0) {
+      separationKey = shortestSeparationKey(bucketToSplit.getKey(indexToSplit - 1), bucketToSplit.getKey(indexToSplit));
+    } else {
+      separationKey = bucketToSplit.getKey(indexToSplit);
+    }
     final List<byte[]> rightEntries = new ArrayList<>(indexToSplit);
 
     final int startRightIndex = splitLeaf ? indexToSplit : indexToSplit + 1;
@@ -1068,6 +1492,54 @@ public final class OCellBTreeSingleValue<K> extends ODurableComponent {
     }
   }
 
+  /**
+   * Suffix truncation of separation keys. Separation key of leaf buckets should be bigger than the last key of the left bucket
+   * and should not be bigger than the first key of the right bucket, so instead of the first key of the right bucket the
+   * shortest key which satisfies this condition is used. Composite keys are truncated to the smallest amount of fields, truncated
+   * key is treated as smaller than all keys which start from its fields (see {@link OSBTreeBucketSingleValue#find(Object)}),
+   * string keys are truncated to the shortest prefix.
+   */
+  @SuppressWarnings("unchecked")
+  private K shortestSeparationKey(final K leftKey, final K rightKey) {
+    if (leftKey instanceof OCompositeKey && rightKey instanceof OCompositeKey) {
+      final List<Object> keys = ((OCompositeKey) rightKey).getKeys();
+
+      for (int i = 1; i < keys.size(); i++) {
+        final K separationKey = (K) new OCompositeKey(keys.subList(0, i));
+        if (comparator.compare(leftKey, separationKey) < 0) {
+          return separationKey;
+        }
+      }
+
+      return rightKey;
+    }
+
+    if (leftKey instanceof String && rightKey instanceof String) {
+      final String left = (String) leftKey;
+      final String right = (String) rightKey;
+
+      int length = 0;
+      while (length < left.length() && length < right.length() && left.charAt(length) == right.charAt(length)) {
+        length++;
+      }
+
+      // include the first distinct character, surrogate pairs are not split
+      length++;
+      if (length < right.length() && Character.isHighSurrogate(right.charAt(length - 1))) {
+        length++;
+      }
+
+      if (length < right.length()) {
+        final K separationKey = (K) right.substring(0, length);
+        if (comparator.compare(leftKey, separationKey) < 0) {
+          return separationKey;
+        }
+      }
+    }
+
+    return rightKey;
+  }
+
   private UpdateBucketSearchResult splitNonRootBucket(final List<Long> path, final List<Integer> itemPointers, final int keyIndex,
       final long pageIndex, final OSBTreeBucketSingleValue<K> bucketToSplit, final boolean splitLeaf, final int indexToSplit,
       final K separationKey, final List<byte[]> rightEntries, final OAtomicOperation atomicOperation) throws IOException {
@@ -1441,6 +1913,383 @@ public final class OCellBTreeSingleValue<K> extends ODurableComponent {
     }
   }
 
+  /**
+   * Builds tree bottom-up from the sorted entries. Each level of tree has single bucket which is filled at the moment, once
+   * this bucket is full it is closed and the first key of the bucket is added to the parent level as separator together with
+   * index of the page of bucket. The first bucket of the highest level is always placed on the root page, when this bucket is
+   * closed its content is moved to the newly allocated page and root page is reused by the first bucket of the new level.
+   */
+  private final class BulkLoader {
+    private final OAtomicOperation     atomicOperation;
+    private final List<BulkLoadLevel> levels = new ArrayList<>(8);
+    private final int                  reservedSpace;
+
+    private long    lastPageIndex;
+    private boolean rootIsFree;
+
+    private BulkLoader(final OAtomicOperation atomicOperation, final int fillFactor) throws IOException {
+      this.atomicOperation = atomicOperation;
+
+      final OCacheEntry rootCacheEntry = loadPageForRead(atomicOperation, fileId, ROOT_INDEX, false);
+      try {
+        final OSBTreeBucketSingleValue<K> rootBucket = new OSBTreeBucketSingleValue<>(rootCacheEntry, keySerializer, keyTypes,
+            encryption);
+        if (!rootBucket.isLeaf() || !rootBucket.isEmpty()) {
+          throw new OCellBTreeSingleValueException("Bulk loading is allowed only for empty sbtree " + getName(),
+              OCellBTreeSingleValue.this);
+        }
+
+        reservedSpace = (int) ((long) rootBucket.getFreeSpace() * (100 - fillFactor) / 100);
+      } finally {
+        releasePageFromRead(atomicOperation, rootCacheEntry);
+      }
+
+      final OCacheEntry nullCacheEntry = loadPageForRead(atomicOperation, nullBucketFileId, 0, false);
+      try {
+        final ONullBucket nullBucket = new ONullBucket(nullCacheEntry, false);
+        if (nullBucket.getValue() != null) {
+          throw new OCellBTreeSingleValueException("Bulk loading is allowed only for empty sbtree " + getName(),
+              OCellBTreeSingleValue.this);
+        }
+      } finally {
+        releasePageFromRead(atomicOperation, nullCacheEntry);
+      }
+
+      final OCacheEntry entryPointCacheEntry = loadPageForRead(atomicOperation, fileId, ENTRY_POINT_INDEX, false);
+      try {
+        final OEntryPoint<K> entryPoint = new OEntryPoint<>(entryPointCacheEntry, false);
+        lastPageIndex = entryPoint.getPagesSize();
+      } finally {
+        releasePageFromRead(atomicOperation, entryPointCacheEntry);
+      }
+
+      rootIsFree = true;
+    }
+
+    private long load(final Iterator<ORawPair<K, ORID>> sortedEntries, final OBaseIndexEngine.Validator<K, ORID> validator)
+        throws IOException {
+      long entriesCount = 0;
+
+      try {
+        K pendingKey = null;
+        ORID pendingValue = null;
+        K previousKey = null;
+
+        while (sortedEntries.hasNext()) {
+          final ORawPair<K, ORID> entry = sortedEntries.next();
+          final K key = entry.getFirst();
+          ORID value = entry.getSecond();
+
+          if (previousKey != null) {
+            final int cmp = comparator.compare(previousKey, key);
+            if (cmp > 0) {
+              throw new OCellBTreeSingleValueException(
+                  "Entries passed to the bulk load of sbtree " + getName() + " are not sorted by key", OCellBTreeSingleValue.this);
+            }
+
+            if (cmp == 0 && pendingKey != null) {
+              if (validator != null) {
+                final Object result = validator.validate(key, pendingValue, value);
+                if (result == OBaseIndexEngine.Validator.IGNORE) {
+                  continue;
+                }
+
+                value = (ORID) result;
+              }
+
+              pendingValue = value;
+              continue;
+            }
+          }
+
+          previousKey = key;
+
+          if (pendingKey != null) {
+            addLeafEntry(encryptKey(keySerializer.serializeNativeAsWhole(pendingKey, (Object[]) keyTypes)),
+                serializeValue(pendingValue));
+            entriesCount++;
+
+            pendingKey = null;
+            pendingValue = null;
+          }
+
+          if (validator != null) {
+            final Object result = validator.validate(key, null, value);
+            if (result == OBaseIndexEngine.Validator.IGNORE) {
+              continue;
+            }
+
+            value = (ORID) result;
+          }
+
+          pendingKey = key;
+          pendingValue = value;
+        }
+
+        if (pendingKey != null) {
+          addLeafEntry(encryptKey(keySerializer.serializeNativeAsWhole(pendingKey, (Object[]) keyTypes)),
+              serializeValue(pendingValue));
+          entriesCount++;
+        }
+
+        finish();
+      } finally {
+        for (final BulkLoadLevel level : levels) {
+          if (level.cacheEntry != null) {
+            releasePageFromWrite(atomicOperation, level.cacheEntry);
+            level.cacheEntry = null;
+            level.bucket = null;
+          }
+        }
+      }
+
+      return entriesCount;
+    }
+
+    private void addLeafEntry(final byte[] rawKey, final byte[] rawValue) throws IOException {
+      // Bloom filter is not created for trees with encrypted keys, so raw key is always serialized key here
+      if (bloomFilter != null) {
+        bloomFilter.add(keyHashCode(rawKey), atomicOperation);
+      }
+
+      final BulkLoadLevel level = getLevel(0);
+
+      if (level.bucket == null) {
+        openBucket(level, rawKey);
+      } else if (!hasReservedSpace(level, rawKey.length + rawValue.length)) {
+        switchLeafBucket(level, rawKey);
+      }
+
+      if (!level.bucket.addLeafEntry(level.bucket.size(), rawKey, rawValue)) {
+        if (level.bucket.isEmpty()) {
+          throw new OCellBTreeSingleValueException("Entry can not be placed inside of empty bucket of sbtree " + getName(),
+              OCellBTreeSingleValue.this);
+        }
+
+        switchLeafBucket(level, rawKey);
+
+        if (!level.bucket.addLeafEntry(0, rawKey, rawValue)) {
+          throw new OCellBTreeSingleValueException("Entry can not be placed inside of empty bucket of sbtree " + getName(),
+              OCellBTreeSingleValue.this);
+        }
+      }
+    }
+
+    private void switchLeafBucket(final BulkLoadLevel level, final byte[] firstKey) throws IOException {
+      final OCacheEntry closedCacheEntry = closeBucket(0, level);
+      try {
+        final OSBTreeBucketSingleValue<K> closedBucket = new OSBTreeBucketSingleValue<>(closedCacheEntry, keySerializer, keyTypes,
+            encryption);
+
+        openBucket(level, firstKey);
+
+        level.bucket.setLeftSibling(closedCacheEntry.getPageIndex());
+        closedBucket.setRightSibling(level.cacheEntry.getPageIndex());
+      } finally {
+        releasePageFromWrite(atomicOperation, closedCacheEntry);
+      }
+    }
+
+    private void addChild(final int levelIndex, final long childPageIndex, final byte[] childFirstKey) throws IOException {
+      final BulkLoadLevel level = getLevel(levelIndex);
+
+      if (level.bucket == null) {
+        openBucket(level, childFirstKey);
+        level.lastChild = (int) childPageIndex;
+        return;
+      }
+
+      final int entrySize = childFirstKey.length + 2 * OIntegerSerializer.INT_SIZE;
+      final int size = level.bucket.size();
+      final boolean bucketIsFull = size > 1 ? !hasReservedSpace(level, entrySize) : !hasFreeSpace(level, entrySize);
+
+      if (bucketIsFull || !level.bucket.addNonLeafEntry(size, childFirstKey, level.lastChild, (int) childPageIndex)) {
+        if (size < 2) {
+          throw new OCellBTreeSingleValueException("Non-leaf bucket of sbtree " + getName() + " can not hold two entries",
+              OCellBTreeSingleValue.this);
+        }
+
+        releasePageFromWrite(atomicOperation, closeBucket(levelIndex, level));
+
+        openBucket(level, childFirstKey);
+      }
+
+      level.lastChild = (int) childPageIndex;
+    }
+
+    /**
+     * Checks whether entry can be added to the bucket without violation of the fill factor. Keys of bucket are compressed once
+     * bucket is filled up, to fit more entries into the bucket.
+     */
+    private boolean hasReservedSpace(final BulkLoadLevel level, final int entrySize) {
+      if (level.bucket.getFreeSpace() - entrySize - OIntegerSerializer.INT_SIZE >= reservedSpace) {
+        return true;
+      }
+
+      if (level.keysCompressed) {
+        return false;
+      }
+
+      level.keysCompressed = true;
+      return level.bucket.compressKeys() && level.bucket.getFreeSpace() - entrySize - OIntegerSerializer.INT_SIZE >= reservedSpace;
+    }
+
+    private boolean hasFreeSpace(final BulkLoadLevel level, final int entrySize) {
+      return level.bucket.getFreeSpace() - entrySize - OIntegerSerializer.INT_SIZE >= 0;
+    }
+
+    /**
+     * Closes the current bucket of the level and adds it to the parent level. Bucket is moved out of the root page if needed.
+     *
+     * @return Cache entry of closed bucket, which should be released by caller.
+     */
+    private OCacheEntry closeBucket(final int levelIndex, final BulkLoadLevel level) throws IOException {
+      if (level.cacheEntry.getPageIndex() == ROOT_INDEX) {
+        final OSBTreeBucketSingleValue<K> rootBucket = level.bucket;
+        final int size = rootBucket.size();
+
+        final List<byte[]> rawEntries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+          rawEntries.add(rootBucket.getRawEntry(i));
+        }
+
+        final OCacheEntry cacheEntry = allocatePage();
+        final OSBTreeBucketSingleValue<K> bucket = new OSBTreeBucketSingleValue<>(cacheEntry, level.leaf, keySerializer, keyTypes,
+            encryption);
+        bucket.addAll(rawEntries);
+
+        releasePageFromWrite(atomicOperation, level.cacheEntry);
+        rootIsFree = true;
+
+        level.cacheEntry = cacheEntry;
+        level.bucket = bucket;
+      }
+
+      final OCacheEntry closedCacheEntry = level.cacheEntry;
+      final byte[] closedFirstKey = level.firstKey;
+
+      level.closedPageIndex = closedCacheEntry.getPageIndex();
+      level.cacheEntry = null;
+      level.bucket = null;
+      level.firstKey = null;
+
+      try {
+        addChild(levelIndex + 1, closedCacheEntry.getPageIndex(), closedFirstKey);
+      } catch (final IOException | RuntimeException e) {
+        releasePageFromWrite(atomicOperation, closedCacheEntry);
+        throw e;
+      }
+
+      return closedCacheEntry;
+    }
+
+    private void finish() throws IOException {
+      for (int i = 0; i < levels.size(); i++) {
+        final BulkLoadLevel level = levels.get(i);
+
+        if (i == levels.size() - 1) {
+          // the single bucket of the highest level is the root of the tree
+          assert level.cacheEntry.getPageIndex() == ROOT_INDEX;
+          break;
+        }
+
+        if (!level.leaf && level.bucket.isEmpty()) {
+          borrowLastEntry(level);
+        }
+
+        releasePageFromWrite(atomicOperation, closeBucket(i, level));
+      }
+    }
+
+    /**
+     * Non-leaf bucket which contains single child and no entries is not allowed, so the last child of the previous bucket of
+     * the same level is moved to such bucket.
+     */
+    private void borrowLastEntry(final BulkLoadLevel level) throws IOException {
+      assert level.closedPageIndex >= 0;
+
+      final OCacheEntry cacheEntry = loadPageForWrite(atomicOperation, fileId, level.closedPageIndex, false);
+      try {
+        final OSBTreeBucketSingleValue<K> bucket = new OSBTreeBucketSingleValue<>(cacheEntry, keySerializer, keyTypes, encryption);
+        final int size = bucket.size();
+        assert size > 1;
+
+        final byte[] rawEntry = bucket.getRawEntry(size - 1);
+        bucket.shrink(size - 1);
+
+        final int rightChild = OIntegerSerializer.INSTANCE.deserializeNative(rawEntry, OIntegerSerializer.INT_SIZE);
+        final byte[] separationKey = Arrays.copyOfRange(rawEntry, 2 * OIntegerSerializer.INT_SIZE, rawEntry.length);
+
+        final boolean added = level.bucket.addNonLeafEntry(0, level.firstKey, rightChild, level.lastChild);
+        assert added;
+
+        level.firstKey = separationKey;
+      } finally {
+        releasePageFromWrite(atomicOperation, cacheEntry);
+      }
+    }
+
+    private void openBucket(final BulkLoadLevel level, final byte[] firstKey) throws IOException {
+      final OCacheEntry cacheEntry;
+      if (rootIsFree) {
+        cacheEntry = loadPageForWrite(atomicOperation, fileId, ROOT_INDEX, false);
+        rootIsFree = false;
+      } else {
+        cacheEntry = allocatePage();
+      }
+
+      level.cacheEntry = cacheEntry;
+      level.bucket = new OSBTreeBucketSingleValue<>(cacheEntry, level.leaf, keySerializer, keyTypes, encryption);
+      level.firstKey = firstKey;
+      level.keysCompressed = false;
+    }
+
+    private OCacheEntry allocatePage() throws IOException {
+      lastPageIndex++;
+
+      if (lastPageIndex < getFilledUpTo(atomicOperation, fileId)) {
+        return loadPageForWrite(atomicOperation, fileId, lastPageIndex, false);
+      }
+
+      final OCacheEntry cacheEntry = addPage(atomicOperation, fileId);
+      assert cacheEntry.getPageIndex() == lastPageIndex;
+
+      return cacheEntry;
+    }
+
+    private BulkLoadLevel getLevel(final int levelIndex) {
+      if (levelIndex == levels.size()) {
+        if (levelIndex >= MAX_PATH_LENGTH) {
+          throw new OCellBTreeSingleValueException("Depth of sbtree " + getName() + " exceeds allowed limit during bulk load",
+              OCellBTreeSingleValue.this);
+        }
+
+        levels.add(new BulkLoadLevel(levelIndex == 0));
+      }
+
+      return levels.get(levelIndex);
+    }
+  }
+
+  private final class BulkLoadLevel {
+    private final boolean leaf;
+
+    private OCacheEntry                 cacheEntry;
+    private OSBTreeBucketSingleValue<K> bucket;
+
+    /**
+     * Serialized smallest key of the subtree of the current bucket.
+     */
+    private byte[]  firstKey;
+    private int     lastChild       = -1;
+    private long    closedPageIndex = -1;
+    private boolean keysCompressed;
+
+    private BulkLoadLevel(final boolean leaf) {
+      this.leaf = leaf;
+    }
+  }
+
   private static final class UpdateBucketSearchResult {
     private final List<Integer>   insertionIndexes;
     private final ArrayList<Long> path;
@@ -26,9 +26,11 @@ import com.orientechnologies.common.serialization.types.OByteSerializer;
 import com.orientechnologies.common.serialization.types.OIntegerSerializer;
 import com.orientechnologies.common.serialization.types.OLongSerializer;
 import com.orientechnologies.common.serialization.types.OShortSerializer;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.encryption.OEncryption;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.index.OCompositeKey;
 import com.orientechnologies.orient.core.metadata.schema.OType;
 import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.base.ODurablePage;
@@ -40,20 +42,45 @@ import java.util.List;
 import java.util.Objects;
 
 /**
+ * Bucket of {@link OCellBTreeSingleValue}. Keys of bucket may be stored in one of two formats, format of page is defined by
+ * flags stored together with the leaf flag:
+ * <ol>
+ * <li>Plain format, where each key is stored fully serialized.</li>
+ * <li>Key prefix compression format, where bytes which are shared by all keys of page (apart of first bytes which usually
+ * contain size of key) are stored only once at the end of page and each entry contains only length and the rest of bytes of
+ * the key.</li>
+ * </ol>
+ * Buckets created before introduction of the second format are read as is, and are converted into compressed format when there
+ * is not enough free space to add new entry into them, or when they are rebuilt during split of bucket.
+ *
  * @author Andrey Lomakin (a.lomakin-at-orientdb.com)
  * @since 8/7/13
  */
 final class OSBTreeBucketSingleValue<K> extends ODurablePage {
+  private static final boolean KEY_PREFIX_COMPRESSION = OGlobalConfiguration.SBTREE_KEY_PREFIX_COMPRESSION.getValueAsBoolean();
+
+  /**
+   * Maximum amount of first bytes of key which are excluded from the shared prefix of keys.
+   */
+  private static final int MAX_KEY_PREFIX_SKIP = 8;
+
+  private static final byte LEAF_FLAG                   = 1;
+  private static final byte KEY_PREFIX_COMPRESSION_FLAG = 2;
+
   private static final int RID_SIZE = OShortSerializer.SHORT_SIZE + OLongSerializer.LONG_SIZE;
 
   private static final int FREE_POINTER_OFFSET  = NEXT_FREE_POSITION;
   private static final int SIZE_OFFSET          = FREE_POINTER_OFFSET + OIntegerSerializer.INT_SIZE;
-  private static final int IS_LEAF_OFFSET       = SIZE_OFFSET + OIntegerSerializer.INT_SIZE;
-  private static final int LEFT_SIBLING_OFFSET  = IS_LEAF_OFFSET + OByteSerializer.BYTE_SIZE;
+  private static final int FLAGS_OFFSET         = SIZE_OFFSET + OIntegerSerializer.INT_SIZE;
+  private static final int LEFT_SIBLING_OFFSET  = FLAGS_OFFSET + OByteSerializer.BYTE_SIZE;
   private static final int RIGHT_SIBLING_OFFSET = LEFT_SIBLING_OFFSET + OLongSerializer.LONG_SIZE;
 
   private static final int POSITIONS_ARRAY_OFFSET = RIGHT_SIBLING_OFFSET + OLongSerializer.LONG_SIZE;
 
+  private static final int KEY_PREFIX_SKIP_OFFSET            = RIGHT_SIBLING_OFFSET + OLongSerializer.LONG_SIZE;
+  private static final int KEY_PREFIX_LENGTH_OFFSET          = KEY_PREFIX_SKIP_OFFSET + OIntegerSerializer.INT_SIZE;
+  private static final int COMPRESSED_POSITIONS_ARRAY_OFFSET = KEY_PREFIX_LENGTH_OFFSET + OIntegerSerializer.INT_SIZE;
+
   private final boolean isLeaf;
 
   private final OBinarySerializer<K> keySerializer;
@@ -64,6 +91,9 @@ final class OSBTreeBucketSingleValue<K> extends ODurablePage {
 
   private final OEncryption encryption;
 
+  private boolean compressed;
+  private int     positionsArrayOffset;
+
   @SuppressFBWarnings("EI_EXPOSE_REP2")
   OSBTreeBucketSingleValue(final OCacheEntry cacheEntry, final boolean isLeaf, final OBinarySerializer<K> keySerializer,
       final OType[] keyTypes, final OEncryption encryption) {
@@ -74,10 +104,13 @@ final class OSBTreeBucketSingleValue<K> extends ODurablePage {
     this.keyTypes = keyTypes;
     this.encryption = encryption;
 
+    this.compressed = false;
+    this.positionsArrayOffset = POSITIONS_ARRAY_OFFSET;
+
     setIntValue(FREE_POINTER_OFFSET, MAX_PAGE_SIZE_BYTES);
     setIntValue(SIZE_OFFSET, 0);
 
-    setByteValue(IS_LEAF_OFFSET, (byte) (isLeaf ? 1 : 0));
+    setByteValue(FLAGS_OFFSET, isLeaf ? LEAF_FLAG : 0);
     setLongValue(LEFT_SIBLING_OFFSET, -1);
     setLongValue(RIGHT_SIBLING_OFFSET, -1);
   }
@@ -89,7 +122,11 @@ final class OSBTreeBucketSingleValue<K> extends ODurablePage {
     this.keyTypes = keyTypes;
     this.encryption = encryption;
 
-    this.isLeaf = getByteValue(IS_LEAF_OFFSET) > 0;
+    final byte flags = getByteValue(FLAGS_OFFSET);
+
+    this.isLeaf = (flags & LEAF_FLAG) != 0;
+    this.compressed = (flags & KEY_PREFIX_COMPRESSION_FLAG) != 0;
+    this.positionsArrayOffset = compressed ? COMPRESSED_POSITIONS_ARRAY_OFFSET : POSITIONS_ARRAY_OFFSET;
     this.keySerializer = keySerializer;
   }
 
@@ -104,7 +141,12 @@ final class OSBTreeBucketSingleValue<K> extends ODurablePage {
     while (low <= high) {
       final int mid = (low + high) >>> 1;
       final K midVal = getKey(mid);
-      final int cmp = comparator.compare(midVal, key);
+      int cmp = comparator.compare(midVal, key);
+
+      if (cmp == 0 && !isLeaf && isTruncatedKey(midVal, key)) {
+        // truncated separation key is less than all keys which start from it
+        cmp = -1;
+      }
 
       if (cmp < 0) {
         low = mid + 1;
@@ -118,17 +160,21 @@ final class OSBTreeBucketSingleValue<K> extends ODurablePage {
     return -(low + 1); // key not found.
   }
 
+  /**
+   * Separation keys of non-leaf buckets may contain only part of the fields of composite key, see {@link
+   * OCellBTreeSingleValue}.
+   */
+  private static boolean isTruncatedKey(final Object separationKey, final Object key) {
+    return separationKey instanceof OCompositeKey && key instanceof OCompositeKey
+        && ((OCompositeKey) separationKey).getKeys().size() < ((OCompositeKey) key).getKeys().size();
+  }
+
   public void remove(final int entryIndex, final byte[] oldRawKey) {
-    final int entryPosition = getIntValue(POSITIONS_ARRAY_OFFSET + entryIndex * OIntegerSerializer.INT_SIZE);
+    final int entryPosition = getIntValue(positionsArrayOffset + entryIndex * OIntegerSerializer.INT_SIZE);
     final int keySize;
 
-    if (oldRawKey == null) {
-      if (encryption == null) {
-        keySize = getObjectSizeInDirectMemory(keySerializer, entryPosition);
-      } else {
-        final int encryptionSize = getIntValue(entryPosition);
-        keySize = OIntegerSerializer.INT_SIZE + encryptionSize;
-      }
+    if (oldRawKey == null || compressed) {
+      keySize = getKeySize(entryPosition);
     } else {
       keySize = oldRawKey.length;
     }
@@ -142,8 +188,8 @@ final class OSBTreeBucketSingleValue<K> extends ODurablePage {
 
     int size = getIntValue(SIZE_OFFSET);
     if (entryIndex < size - 1) {
-      moveData(POSITIONS_ARRAY_OFFSET + (entryIndex + 1) * OIntegerSerializer.INT_SIZE,
-          POSITIONS_ARRAY_OFFSET + entryIndex * OIntegerSerializer.INT_SIZE, (size - entryIndex - 1) * OIntegerSerializer.INT_SIZE);
+      moveData(positionsArrayOffset + (entryIndex + 1) * OIntegerSerializer.INT_SIZE,
+          positionsArrayOffset + entryIndex * OIntegerSerializer.INT_SIZE, (size - entryIndex - 1) * OIntegerSerializer.INT_SIZE);
     }
 
     size--;
@@ -156,7 +202,7 @@ final class OSBTreeBucketSingleValue<K> extends ODurablePage {
 
     setIntValue(FREE_POINTER_OFFSET, freePointer + entrySize);
 
-    int currentPositionOffset = POSITIONS_ARRAY_OFFSET;
+    int currentPositionOffset = positionsArrayOffset;
 
     for (int i = 0; i < size; i++) {
       final int currentEntryPosition = getIntValue(currentPositionOffset);
@@ -172,25 +218,11 @@ final class OSBTreeBucketSingleValue<K> extends ODurablePage {
   }
 
   public SBTreeEntry<K> getEntry(final int entryIndex) {
-    int entryPosition = getIntValue(entryIndex * OIntegerSerializer.INT_SIZE + POSITIONS_ARRAY_OFFSET);
+    int entryPosition = getIntValue(entryIndex * OIntegerSerializer.INT_SIZE + positionsArrayOffset);
 
     if (isLeaf) {
-      final K key;
-      if (encryption == null) {
-        key = deserializeFromDirectMemory(keySerializer, entryPosition);
-
-        entryPosition += getObjectSizeInDirectMemory(keySerializer, entryPosition);
-      } else {
-        final int encryptionSize = getIntValue(entryPosition);
-        entryPosition += OIntegerSerializer.INT_SIZE;
-
-        final byte[] encryptedKey = getBinaryValue(entryPosition, encryptionSize);
-        entryPosition += encryptedKey.length;
-
-        final byte[] serializedKey = encryption.decrypt(encryptedKey);
-
-        key = keySerializer.deserializeNativeObject(serializedKey, 0);
-      }
+      final K key = readKey(entryPosition);
+      entryPosition += getKeySize(entryPosition);
 
       final int clusterId = getShortValue(entryPosition);
       final long clusterPosition = getLongValue(entryPosition + OShortSerializer.SHORT_SIZE);
@@ -203,20 +235,7 @@ final class OSBTreeBucketSingleValue<K> extends ODurablePage {
       final int rightChild = getIntValue(entryPosition);
       entryPosition += OIntegerSerializer.INT_SIZE;
 
-      final K key;
-
-      if (encryption == null) {
-        key = deserializeFromDirectMemory(keySerializer, entryPosition);
-      } else {
-        final int encryptionSize = getIntValue(entryPosition);
-        entryPosition += OIntegerSerializer.INT_SIZE;
-
-        final byte[] encryptedKey = getBinaryValue(entryPosition, encryptionSize);
-
-        final byte[] serializedKey = encryption.decrypt(encryptedKey);
-
-        key = keySerializer.deserializeNativeObject(serializedKey, 0);
-      }
+      final K key = readKey(entryPosition);
 
       return new SBTreeEntry<>(leftChild, rightChild, key, null);
     }
@@ -225,7 +244,7 @@ final class OSBTreeBucketSingleValue<K> extends ODurablePage {
   int getLeft(final int entryIndex) {
     assert !isLeaf;
 
-    final int entryPosition = getIntValue(entryIndex * OIntegerSerializer.INT_SIZE + POSITIONS_ARRAY_OFFSET);
+    final int entryPosition = getIntValue(entryIndex * OIntegerSerializer.INT_SIZE + positionsArrayOffset);
 
     return getIntValue(entryPosition);
   }
@@ -233,37 +252,47 @@ final class OSBTreeBucketSingleValue<K> extends ODurablePage {
   int getRight(final int entryIndex) {
     assert !isLeaf;
 
-    final int entryPosition = getIntValue(entryIndex * OIntegerSerializer.INT_SIZE + POSITIONS_ARRAY_OFFSET);
+    final int entryPosition = getIntValue(entryIndex * OIntegerSerializer.INT_SIZE + positionsArrayOffset);
 
     return getIntValue(entryPosition + OIntegerSerializer.INT_SIZE);
   }
 
+  /**
+   * Returns entry in the format which does not depend on format of page: leaf entries consist of raw key and serialized RID,
+   * non-leaf entries consist of indexes of left and right children and raw key.
+   */
   byte[] getRawEntry(final int entryIndex) {
-    int entryPosition = getIntValue(entryIndex * OIntegerSerializer.INT_SIZE + POSITIONS_ARRAY_OFFSET);
-    final int startEntryPosition = entryPosition;
+    final int entryPosition = getIntValue(entryIndex * OIntegerSerializer.INT_SIZE + positionsArrayOffset);
 
     if (isLeaf) {
-      final int keySize;
-      if (encryption == null) {
-        keySize = getObjectSizeInDirectMemory(keySerializer, entryPosition);
-      } else {
-        final int encryptedSize = getIntValue(entryPosition);
-        keySize = OIntegerSerializer.INT_SIZE + encryptedSize;
+      final int keySize = getKeySize(entryPosition);
+
+      if (!compressed) {
+        return getBinaryValue(entryPosition, keySize + RID_SIZE);
       }
 
-      return getBinaryValue(startEntryPosition, keySize + RID_SIZE);
+      final byte[] rawKey = readRawKey(entryPosition);
+      final byte[] rawEntry = new byte[rawKey.length + RID_SIZE];
+
+      System.arraycopy(rawKey, 0, rawEntry, 0, rawKey.length);
+      System.arraycopy(getBinaryValue(entryPosition + keySize, RID_SIZE), 0, rawEntry, rawKey.length, RID_SIZE);
+
+      return rawEntry;
     } else {
-      entryPosition += 2 * OIntegerSerializer.INT_SIZE;
+      final int keyPosition = entryPosition + 2 * OIntegerSerializer.INT_SIZE;
 
-      final int keySize;
-      if (encryption == null) {
-        keySize = getObjectSizeInDirectMemory(keySerializer, entryPosition);
-      } else {
-        final int encryptedSize = getIntValue(entryPosition);
-        keySize = OIntegerSerializer.INT_SIZE + encryptedSize;
+      if (!compressed) {
+        return getBinaryValue(entryPosition, getKeySize(keyPosition) + 2 * OIntegerSerializer.INT_SIZE);
       }
 
-      return getBinaryValue(startEntryPosition, keySize + 2 * OIntegerSerializer.INT_SIZE);
+      final byte[] rawKey = readRawKey(keyPosition);
+      final byte[] rawEntry = new byte[rawKey.length + 2 * OIntegerSerializer.INT_SIZE];
+
+      System.arraycopy(getBinaryValue(entryPosition, 2 * OIntegerSerializer.INT_SIZE), 0, rawEntry, 0,
+          2 * OIntegerSerializer.INT_SIZE);
+      System.arraycopy(rawKey, 0, rawEntry, 2 * OIntegerSerializer.INT_SIZE, rawKey.length);
+
+      return rawEntry;
     }
   }
 
@@ -277,15 +306,10 @@ final class OSBTreeBucketSingleValue<K> extends ODurablePage {
   public ORID getValue(final int entryIndex) {
     assert isLeaf;
 
-    int entryPosition = getIntValue(entryIndex * OIntegerSerializer.INT_SIZE + POSITIONS_ARRAY_OFFSET);
+    int entryPosition = getIntValue(entryIndex * OIntegerSerializer.INT_SIZE + positionsArrayOffset);
 
     // skip key
-    if (encryption == null) {
-      entryPosition += getObjectSizeInDirectMemory(keySerializer, entryPosition);
-    } else {
-      final int encryptedSize = getIntValue(entryPosition);
-      entryPosition += OIntegerSerializer.INT_SIZE + encryptedSize;
-    }
+    entryPosition += getKeySize(entryPosition);
 
     final int clusterId = getShortValue(entryPosition);
     final long clusterPosition = getLongValue(entryPosition + OShortSerializer.SHORT_SIZE);
@@ -296,48 +320,43 @@ final class OSBTreeBucketSingleValue<K> extends ODurablePage {
   byte[] getRawValue(final int entryIndex) {
     assert isLeaf;
 
-    int entryPosition = getIntValue(entryIndex * OIntegerSerializer.INT_SIZE + POSITIONS_ARRAY_OFFSET);
+    int entryPosition = getIntValue(entryIndex * OIntegerSerializer.INT_SIZE + positionsArrayOffset);
 
     // skip key
-    if (encryption == null) {
-      entryPosition += getObjectSizeInDirectMemory(keySerializer, entryPosition);
-    } else {
-      final int encryptedSize = getIntValue(entryPosition);
-      entryPosition += OIntegerSerializer.INT_SIZE + encryptedSize;
-    }
+    entryPosition += getKeySize(entryPosition);
 
     return getBinaryValue(entryPosition, RID_SIZE);
   }
 
   public K getKey(final int index) {
-    int entryPosition = getIntValue(index * OIntegerSerializer.INT_SIZE + POSITIONS_ARRAY_OFFSET);
+    int entryPosition = getIntValue(index * OIntegerSerializer.INT_SIZE + positionsArrayOffset);
 
     if (!isLeaf) {
       entryPosition += 2 * OIntegerSerializer.INT_SIZE;
     }
 
-    if (encryption == null) {
-      return deserializeFromDirectMemory(keySerializer, entryPosition);
-    } else {
-      final int encryptedSize = getIntValue(entryPosition);
-      entryPosition += OIntegerSerializer.INT_SIZE;
-
-      final byte[] encryptedKey = getBinaryValue(entryPosition, encryptedSize);
-      final byte[] serializedKey = encryption.decrypt(encryptedKey);
-      return keySerializer.deserializeNativeObject(serializedKey, 0);
-    }
+    return readKey(entryPosition);
   }
 
   public boolean isLeaf() {
     return isLeaf;
   }
 
-  public void addAll(final List<byte[]> rawEntries) {
-    for (int i = 0; i < rawEntries.size(); i++) {
-      appendRawEntry(i, rawEntries.get(i));
-    }
+  /**
+   * @return {@code true} if keys of bucket are stored using key prefix compression.
+   */
+  boolean isCompressed() {
+    return compressed;
+  }
 
-    setIntValue(SIZE_OFFSET, rawEntries.size());
+  /**
+   * Adds entries into the empty bucket, the most compact format of page is chosen for the given entries.
+   *
+   * @param rawEntries Entries in the format returned by {@link #getRawEntry(int)}
+   */
+  public void addAll(final List<byte[]> rawEntries) {
+    final boolean added = writeEntries(rawEntries, isCompressionAllowed());
+    assert added;
   }
 
   public void shrink(final int newSize) {
@@ -347,146 +366,397 @@ final class OSBTreeBucketSingleValue<K> extends ODurablePage {
       rawEntries.add(getRawEntry(i));
     }
 
-    setIntValue(FREE_POINTER_OFFSET, MAX_PAGE_SIZE_BYTES);
+    final boolean written = writeEntries(rawEntries, isCompressionAllowed());
+    assert written;
+  }
 
-    int index = 0;
-    for (final byte[] entry : rawEntries) {
-      appendRawEntry(index, entry);
-      index++;
+  /**
+   * Recalculates the prefix shared by the keys of bucket and stores keys in the most compact format.
+   *
+   * @return {@code true} if amount of free space of bucket was increased.
+   */
+  boolean compressKeys() {
+    if (!isCompressionAllowed()) {
+      return false;
     }
 
-    setIntValue(SIZE_OFFSET, newSize);
+    final int freeSpace = getFreeSpace();
+    final int size = size();
+
+    final List<byte[]> rawEntries = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      rawEntries.add(getRawEntry(i));
+    }
+
+    final boolean written = writeEntries(rawEntries, true);
+    assert written;
+
+    return getFreeSpace() > freeSpace;
   }
 
   boolean addLeafEntry(final int index, final byte[] serializedKey, final byte[] serializedValue) {
-    final int entrySize = serializedKey.length + serializedValue.length;
-
     assert isLeaf;
-    final int size = getIntValue(SIZE_OFFSET);
 
-    int freePointer = getIntValue(FREE_POINTER_OFFSET);
-    if (freePointer - entrySize < (size + 1) * OIntegerSerializer.INT_SIZE + POSITIONS_ARRAY_OFFSET) {
-      return false;
+    final byte[] rawEntry = new byte[serializedKey.length + serializedValue.length];
+    System.arraycopy(serializedKey, 0, rawEntry, 0, serializedKey.length);
+    System.arraycopy(serializedValue, 0, rawEntry, serializedKey.length, serializedValue.length);
+
+    return addRawEntry(index, rawEntry);
+  }
+
+  boolean addNonLeafEntry(final int index, final byte[] serializedKey, final int leftChild, final int rightChild) {
+    assert !isLeaf;
+
+    final byte[] rawEntry = new byte[serializedKey.length + 2 * OIntegerSerializer.INT_SIZE];
+    OIntegerSerializer.INSTANCE.serializeNative(leftChild, rawEntry, 0);
+    OIntegerSerializer.INSTANCE.serializeNative(rightChild, rawEntry, OIntegerSerializer.INT_SIZE);
+    System.arraycopy(serializedKey, 0, rawEntry, 2 * OIntegerSerializer.INT_SIZE, serializedKey.length);
+
+    return addRawEntry(index, rawEntry);
+  }
+
+  /**
+   * @return Amount of bytes which are not occupied by entries and by array of their positions.
+   */
+  int getFreeSpace() {
+    return getIntValue(FREE_POINTER_OFFSET) - getIntValue(SIZE_OFFSET) * OIntegerSerializer.INT_SIZE - positionsArrayOffset;
+  }
+
+  public boolean addEntry(final int index, final SBTreeEntry<K> treeEntry, final boolean updateNeighbors) {
+    final byte[] serializedKey = keySerializer.serializeNativeAsWhole(treeEntry.key, (Object[]) keyTypes);
+    final byte[] rawKey;
+
+    if (encryption == null) {
+      rawKey = serializedKey;
+    } else {
+      final byte[] encryptedKey = encryption.encrypt(serializedKey);
+
+      rawKey = new byte[OIntegerSerializer.INT_SIZE + encryptedKey.length];
+      OIntegerSerializer.INSTANCE.serializeNative(encryptedKey.length, rawKey, 0);
+      System.arraycopy(encryptedKey, 0, rawKey, OIntegerSerializer.INT_SIZE, encryptedKey.length);
     }
 
-    if (index <= size - 1) {
-      moveData(POSITIONS_ARRAY_OFFSET + index * OIntegerSerializer.INT_SIZE,
-          POSITIONS_ARRAY_OFFSET + (index + 1) * OIntegerSerializer.INT_SIZE, (size - index) * OIntegerSerializer.INT_SIZE);
+    if (isLeaf) {
+      final byte[] serializedValue = new byte[RID_SIZE];
+      OShortSerializer.INSTANCE.serializeNative((short) treeEntry.value.getClusterId(), serializedValue, 0);
+      OLongSerializer.INSTANCE.serializeNative(treeEntry.value.getClusterPosition(), serializedValue, OShortSerializer.SHORT_SIZE);
+
+      return addLeafEntry(index, rawKey, serializedValue);
     }
 
-    freePointer -= entrySize;
+    if (!addNonLeafEntry(index, rawKey, treeEntry.leftChild, treeEntry.rightChild)) {
+      return false;
+    }
 
-    setIntValue(FREE_POINTER_OFFSET, freePointer);
-    setIntValue(POSITIONS_ARRAY_OFFSET + index * OIntegerSerializer.INT_SIZE, freePointer);
-    setIntValue(SIZE_OFFSET, size + 1);
+    final int size = size();
 
-    setBinaryValue(freePointer, serializedKey);
-    setBinaryValue(freePointer + serializedKey.length, serializedValue);
+    if (updateNeighbors && size > 1) {
+      if (index < size - 1) {
+        final int nextEntryPosition = getIntValue(positionsArrayOffset + (index + 1) * OIntegerSerializer.INT_SIZE);
+        setIntValue(nextEntryPosition, treeEntry.rightChild);
+      }
+
+      if (index > 0) {
+        final int prevEntryPosition = getIntValue(positionsArrayOffset + (index - 1) * OIntegerSerializer.INT_SIZE);
+        setIntValue(prevEntryPosition + OIntegerSerializer.INT_SIZE, treeEntry.leftChild);
+      }
+    }
 
     return true;
   }
 
-  private void appendRawEntry(final int index, final byte[] rawEntry) {
-    int freePointer = getIntValue(FREE_POINTER_OFFSET);
-    freePointer -= rawEntry.length;
-
-    setIntValue(FREE_POINTER_OFFSET, freePointer);
-    setIntValue(POSITIONS_ARRAY_OFFSET + index * OIntegerSerializer.INT_SIZE, freePointer);
+  void updateValue(final int index, final byte[] value) {
+    int entryPosition = getIntValue(index * OIntegerSerializer.INT_SIZE + positionsArrayOffset);
+    entryPosition += getKeySize(entryPosition);
 
-    setBinaryValue(freePointer, rawEntry);
+    setBinaryValue(entryPosition, value);
   }
 
-  public boolean addEntry(final int index, final SBTreeEntry<K> treeEntry, final boolean updateNeighbors) {
-    final byte[] serializedKey = keySerializer.serializeNativeAsWhole(treeEntry.key, (Object[]) keyTypes);
-    final int keySize;
-    byte[] encryptedKey = null;
+  /**
+   * Adds entry to the bucket. If key of entry does not contain prefix shared by keys of the page, or if there is no free space
+   * for the entry, page is rebuilt with the new value of shared prefix.
+   *
+   * @return {@code false} if there is not enough space for the entry, in such case content of page is not changed.
+   */
+  private boolean addRawEntry(final int index, final byte[] rawEntry) {
+    if (!compressed || hasKeyPrefix(rawEntry)) {
+      final byte[] entry = compressed ? compressEntry(rawEntry) : rawEntry;
 
-    if (encryption == null) {
-      keySize = keySerializer.getObjectSize(treeEntry.key, (Object[]) keyTypes);
-    } else {
-      encryptedKey = encryption.encrypt(serializedKey);
-      keySize = encryptedKey.length + OIntegerSerializer.INT_SIZE;
+      if (insertEntry(index, entry)) {
+        return true;
+      }
+
+      if (!isCompressionAllowed()) {
+        return false;
+      }
     }
 
-    int entrySize = keySize;
+    final int size = size();
+    final List<byte[]> rawEntries = new ArrayList<>(size + 1);
 
-    if (isLeaf) {
-      entrySize += RID_SIZE;
-    } else {
-      entrySize += 2 * OIntegerSerializer.INT_SIZE;
+    for (int i = 0; i < size; i++) {
+      rawEntries.add(getRawEntry(i));
     }
+    rawEntries.add(index, rawEntry);
+
+    return writeEntries(rawEntries, isCompressionAllowed());
+  }
+
+  private boolean insertEntry(final int index, final byte[] entry) {
+    final int size = getIntValue(SIZE_OFFSET);
 
-    int size = size();
     int freePointer = getIntValue(FREE_POINTER_OFFSET);
-    if (freePointer - entrySize < (size + 1) * OIntegerSerializer.INT_SIZE + POSITIONS_ARRAY_OFFSET) {
+    if (freePointer - entry.length < (size + 1) * OIntegerSerializer.INT_SIZE + positionsArrayOffset) {
       return false;
     }
 
     if (index <= size - 1) {
-      moveData(POSITIONS_ARRAY_OFFSET + index * OIntegerSerializer.INT_SIZE,
-          POSITIONS_ARRAY_OFFSET + (index + 1) * OIntegerSerializer.INT_SIZE, (size - index) * OIntegerSerializer.INT_SIZE);
+      moveData(positionsArrayOffset + index * OIntegerSerializer.INT_SIZE,
+          positionsArrayOffset + (index + 1) * OIntegerSerializer.INT_SIZE, (size - index) * OIntegerSerializer.INT_SIZE);
     }
 
-    freePointer -= entrySize;
+    freePointer -= entry.length;
 
     setIntValue(FREE_POINTER_OFFSET, freePointer);
-    setIntValue(POSITIONS_ARRAY_OFFSET + index * OIntegerSerializer.INT_SIZE, freePointer);
+    setIntValue(positionsArrayOffset + index * OIntegerSerializer.INT_SIZE, freePointer);
     setIntValue(SIZE_OFFSET, size + 1);
 
-    if (isLeaf) {
-      if (encryption == null) {
-        freePointer += setBinaryValue(freePointer, serializedKey);
-      } else {
-        setIntValue(freePointer, encryptedKey.length);
-        freePointer += OIntegerSerializer.INT_SIZE;
+    setBinaryValue(freePointer, entry);
 
-        freePointer += setBinaryValue(freePointer, encryptedKey);
-      }
+    return true;
+  }
 
-      freePointer += setShortValue(freePointer, (short) treeEntry.value.getClusterId());
-      setLongValue(freePointer, treeEntry.value.getClusterPosition());
-    } else {
-      freePointer += setIntValue(freePointer, treeEntry.leftChild);
-      freePointer += setIntValue(freePointer, treeEntry.rightChild);
+  /**
+   * Replaces content of page by the given entries. If key prefix compression is allowed, the prefix which gives the maximum
+   * savings of space is calculated and keys are compressed if they occupy less space than uncompressed keys.
+   *
+   * @return {@code false} if entries can not fit into the page, in such case content of page is not changed.
+   */
+  private boolean writeEntries(final List<byte[]> rawEntries, final boolean allowCompression) {
+    final int size = rawEntries.size();
 
-      if (encryption == null) {
-        setBinaryValue(freePointer, serializedKey);
-      } else {
-        setIntValue(freePointer, encryptedKey.length);
-        freePointer += OIntegerSerializer.INT_SIZE;
+    int rawEntriesSize = 0;
+    for (final byte[] rawEntry : rawEntries) {
+      rawEntriesSize += rawEntry.length;
+    }
 
-        setBinaryValue(freePointer, encryptedKey);
-      }
+    int prefixSkip = 0;
+    int prefixLength = 0;
+
+    if (allowCompression && size > 1) {
+      int maxSavings = 0;
 
-      size++;
+      for (int skip = 0; skip <= MAX_KEY_PREFIX_SKIP; skip++) {
+        final int length = sharedPrefixLength(rawEntries, skip);
+        final int savings = (size - 1) * length - size * OShortSerializer.SHORT_SIZE - (COMPRESSED_POSITIONS_ARRAY_OFFSET
+            - POSITIONS_ARRAY_OFFSET);
 
-      if (updateNeighbors && size > 1) {
-        if (index < size - 1) {
-          final int nextEntryPosition = getIntValue(POSITIONS_ARRAY_OFFSET + (index + 1) * OIntegerSerializer.INT_SIZE);
-          setIntValue(nextEntryPosition, treeEntry.rightChild);
+        if (savings > maxSavings) {
+          maxSavings = savings;
+          prefixSkip = skip;
+          prefixLength = length;
         }
+      }
+    }
+
+    final boolean compress = prefixLength > 0;
+    final int entriesOffset = compress ? COMPRESSED_POSITIONS_ARRAY_OFFSET : POSITIONS_ARRAY_OFFSET;
+    final int entriesSize = compress ?
+        rawEntriesSize - size * (prefixLength - OShortSerializer.SHORT_SIZE) + prefixLength :
+        rawEntriesSize;
+
+    if (entriesOffset + size * OIntegerSerializer.INT_SIZE + entriesSize > MAX_PAGE_SIZE_BYTES) {
+      return false;
+    }
+
+    int freePointer = MAX_PAGE_SIZE_BYTES;
+    byte flags = isLeaf ? LEAF_FLAG : 0;
+
+    if (compress) {
+      final byte[] firstEntry = rawEntries.get(0);
+      final byte[] prefix = new byte[prefixLength];
+      System.arraycopy(firstEntry, keyOffset() + prefixSkip, prefix, 0, prefixLength);
+
+      freePointer -= prefixLength;
+      setBinaryValue(freePointer, prefix);
+
+      setIntValue(KEY_PREFIX_SKIP_OFFSET, prefixSkip);
+      setIntValue(KEY_PREFIX_LENGTH_OFFSET, prefixLength);
+
+      flags |= KEY_PREFIX_COMPRESSION_FLAG;
+    }
+
+    setByteValue(FLAGS_OFFSET, flags);
+
+    this.compressed = compress;
+    this.positionsArrayOffset = entriesOffset;
+
+    for (int i = 0; i < size; i++) {
+      final byte[] entry = compress ? compressEntry(rawEntries.get(i)) : rawEntries.get(i);
 
-        if (index > 0) {
-          final int prevEntryPosition = getIntValue(POSITIONS_ARRAY_OFFSET + (index - 1) * OIntegerSerializer.INT_SIZE);
-          setIntValue(prevEntryPosition + OIntegerSerializer.INT_SIZE, treeEntry.leftChild);
+      freePointer -= entry.length;
+      setIntValue(positionsArrayOffset + i * OIntegerSerializer.INT_SIZE, freePointer);
+      setBinaryValue(freePointer, entry);
+    }
+
+    setIntValue(FREE_POINTER_OFFSET, freePointer);
+    setIntValue(SIZE_OFFSET, size);
+
+    return true;
+  }
+
+  /**
+   * @return Length of the longest sequence of bytes which starts at the given position and is shared by keys of all entries.
+   */
+  private int sharedPrefixLength(final List<byte[]> rawEntries, final int skip) {
+    final int keyOffset = keyOffset();
+    final byte[] firstEntry = rawEntries.get(0);
+
+    int length = keyLength(firstEntry) - skip;
+
+    for (int i = 1; i < rawEntries.size() && length > 0; i++) {
+      final byte[] rawEntry = rawEntries.get(i);
+      length = Math.min(length, keyLength(rawEntry) - skip);
+
+      for (int n = 0; n < length; n++) {
+        if (rawEntry[keyOffset + skip + n] != firstEntry[keyOffset + skip + n]) {
+          length = n;
+          break;
         }
       }
     }
 
+    return Math.max(length, 0);
+  }
+
+  private boolean hasKeyPrefix(final byte[] rawEntry) {
+    final int prefixSkip = getIntValue(KEY_PREFIX_SKIP_OFFSET);
+    final int prefixLength = getIntValue(KEY_PREFIX_LENGTH_OFFSET);
+
+    if (keyLength(rawEntry) < prefixSkip + prefixLength) {
+      return false;
+    }
+
+    final byte[] prefix = getBinaryValue(MAX_PAGE_SIZE_BYTES - prefixLength, prefixLength);
+    final int keyOffset = keyOffset();
+
+    for (int i = 0; i < prefixLength; i++) {
+      if (rawEntry[keyOffset + prefixSkip + i] != prefix[i]) {
+        return false;
+      }
+    }
+
     return true;
   }
 
-  void updateValue(final int index, final byte[] value) {
-    int entryPosition = getIntValue(index * OIntegerSerializer.INT_SIZE + POSITIONS_ARRAY_OFFSET);
+  /**
+   * Converts raw entry into the entry stored in compressed page, bytes of shared prefix are removed from the key and length of
+   * the rest of key is stored in front of it.
+   */
+  private byte[] compressEntry(final byte[] rawEntry) {
+    final int prefixSkip = getIntValue(KEY_PREFIX_SKIP_OFFSET);
+    final int prefixLength = getIntValue(KEY_PREFIX_LENGTH_OFFSET);
+
+    final int keyOffset = keyOffset();
+    final int keyLength = keyLength(rawEntry);
+    final int storedKeyLength = keyLength - prefixLength;
+
+    final byte[] entry = new byte[rawEntry.length - prefixLength + OShortSerializer.SHORT_SIZE];
+    System.arraycopy(rawEntry, 0, entry, 0, keyOffset);
+
+    int position = keyOffset;
+    OShortSerializer.INSTANCE.serializeNative((short) storedKeyLength, entry, position);
+    position += OShortSerializer.SHORT_SIZE;
+
+    System.arraycopy(rawEntry, keyOffset, entry, position, prefixSkip);
+    position += prefixSkip;
+
+    System.arraycopy(rawEntry, keyOffset + prefixSkip + prefixLength, entry, position, storedKeyLength - prefixSkip);
+    position += storedKeyLength - prefixSkip;
+
+    System.arraycopy(rawEntry, keyOffset + keyLength, entry, position, rawEntry.length - keyOffset - keyLength);
+
+    return entry;
+  }
+
+  /**
+   * @return Size of key stored in the page at the given position.
+   */
+  private int getKeySize(final int keyPosition) {
+    if (compressed) {
+      return OShortSerializer.SHORT_SIZE + (getShortValue(keyPosition) & 0xFFFF);
+    }
 
     if (encryption == null) {
-      entryPosition += getObjectSizeInDirectMemory(keySerializer, entryPosition);
-    } else {
-      final int encryptedValue = getIntValue(entryPosition);
-      entryPosition += OIntegerSerializer.INT_SIZE + encryptedValue;
+      return getObjectSizeInDirectMemory(keySerializer, keyPosition);
     }
 
-    setBinaryValue(entryPosition, value);
+    return OIntegerSerializer.INT_SIZE + getIntValue(keyPosition);
+  }
+
+  private K readKey(final int keyPosition) {
+    if (compressed) {
+      return deserializeRawKey(readRawKey(keyPosition));
+    }
+
+    if (encryption == null) {
+      return deserializeFromDirectMemory(keySerializer, keyPosition);
+    }
+
+    final int encryptedSize = getIntValue(keyPosition);
+    final byte[] encryptedKey = getBinaryValue(keyPosition + OIntegerSerializer.INT_SIZE, encryptedSize);
+    final byte[] serializedKey = encryption.decrypt(encryptedKey);
+    return keySerializer.deserializeNativeObject(serializedKey, 0);
+  }
+
+  /**
+   * Restores key stored in the compressed page.
+   */
+  private byte[] readRawKey(final int keyPosition) {
+    assert compressed;
+
+    final int prefixSkip = getIntValue(KEY_PREFIX_SKIP_OFFSET);
+    final int prefixLength = getIntValue(KEY_PREFIX_LENGTH_OFFSET);
+
+    final int storedKeyLength = getShortValue(keyPosition) & 0xFFFF;
+    final byte[] rawKey = new byte[storedKeyLength + prefixLength];
+
+    if (storedKeyLength > 0) {
+      final byte[] storedKey = getBinaryValue(keyPosition + OShortSerializer.SHORT_SIZE, storedKeyLength);
+
+      System.arraycopy(storedKey, 0, rawKey, 0, prefixSkip);
+      System.arraycopy(storedKey, prefixSkip, rawKey, prefixSkip + prefixLength, storedKeyLength - prefixSkip);
+    }
+
+    final byte[] prefix = getBinaryValue(MAX_PAGE_SIZE_BYTES - prefixLength, prefixLength);
+    System.arraycopy(prefix, 0, rawKey, prefixSkip, prefixLength);
+
+    return rawKey;
+  }
+
+  private K deserializeRawKey(final byte[] rawKey) {
+    if (encryption == null) {
+      return keySerializer.deserializeNativeObject(rawKey, 0);
+    }
+
+    final int encryptedSize = OIntegerSerializer.INSTANCE.deserializeNative(rawKey, 0);
+    final byte[] serializedKey = encryption.decrypt(rawKey, OIntegerSerializer.INT_SIZE, encryptedSize);
+    return keySerializer.deserializeNativeObject(serializedKey, 0);
+  }
+
+  /**
+   * Encrypted keys do not have common prefixes, so they are always stored uncompressed.
+   */
+  private boolean isCompressionAllowed() {
+    return KEY_PREFIX_COMPRESSION && encryption == null;
+  }
+
+  private int keyOffset() {
+    return isLeaf ? 0 : 2 * OIntegerSerializer.INT_SIZE;
+  }
+
+  private int keyLength(final byte[] rawEntry) {
+    return isLeaf ? rawEntry.length - RID_SIZE : rawEntry.length - 2 * OIntegerSerializer.INT_SIZE;
   }
 
   void setLeftSibling(final long pageIndex) {
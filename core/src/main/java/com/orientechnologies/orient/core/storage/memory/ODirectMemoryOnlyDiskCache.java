@@ -242,6 +242,10 @@ public final class ODirectMemoryOnlyDiskCache extends OAbstractWriteCache implem
     }
   }
 
+  @Override
+  public final void prefetch(final long fileId, final long[] pageIndexes, final OWriteCache writeCache) {
+  }
+
   @Override
   public final void pinPage(final OCacheEntry cacheEntry, final OWriteCache writeCache) {
   }
@@ -378,6 +382,14 @@ public final class ODirectMemoryOnlyDiskCache extends OAbstractWriteCache implem
     file.clear();
   }
 
+  @Override
+  public final void shrinkFile(final long fileId, final long pagesCount) {
+    final int intId = extractFileId(fileId);
+
+    final MemoryFile file = getFile(intId);
+    file.shrink(pagesCount);
+  }
+
   @Override
   public final void flush() {
   }
@@ -591,6 +603,30 @@ public final class ODirectMemoryOnlyDiskCache extends OAbstractWriteCache implem
         throw new IllegalStateException("Some cache entries were not released. Storage may be in invalid state.");
       }
     }
+
+    private void shrink(final long pagesCount) {
+      boolean thereAreNotReleased = false;
+
+      clearLock.writeLock().lock();
+      try {
+        final Map<Long, OCacheEntry> removedPages = content.tailMap(pagesCount);
+        for (final OCacheEntry entry : removedPages.values()) {
+          //noinspection SynchronizationOnLocalVariableOrMethodParameter
+          synchronized (entry) {
+            thereAreNotReleased |= entry.getUsagesCount() > 0;
+            entry.getCachePointer().decrementReferrer();
+          }
+        }
+
+        removedPages.clear();
+      } finally {
+        clearLock.writeLock().unlock();
+      }
+
+      if (thereAreNotReleased) {
+        throw new IllegalStateException("Some cache entries were not released. Storage may be in invalid state.");
+      }
+    }
   }
 
   @Override
@@ -603,6 +639,13 @@ public final class ODirectMemoryOnlyDiskCache extends OAbstractWriteCache implem
     return totalPages * pageSize;
   }
 
+  /**
+   * Not implemented because has no sense, size of in memory storage is not limited
+   */
+  @Override
+  public final void changeMaximumAmountOfMemory(final long readCacheMaxMemory) {
+  }
+
   @Override
   public final boolean checkLowDiskSpace() {
     return true;
@@ -684,6 +727,11 @@ public final class ODirectMemoryOnlyDiskCache extends OAbstractWriteCache implem
     throw new UnsupportedOperationException();
   }
 
+  @Override
+  public final OCachePointer[] load(final long fileId, final long[] pageIndexes, final boolean verifyChecksums) {
+    throw new UnsupportedOperationException();
+  }
+
   @Override
   public final long getExclusiveWriteCachePagesSize() {
     return 0;
@@ -694,6 +742,11 @@ public final class ODirectMemoryOnlyDiskCache extends OAbstractWriteCache implem
     truncateFile(fileId);
   }
 
+  @Override
+  public final void shrinkFile(final long fileId, final long pagesCount, final OWriteCache writeCache) {
+    shrinkFile(fileId, pagesCount);
+  }
+
   @Override
   public final int getId() {
     return id;
@@ -2,6 +2,7 @@ package com.orientechnologies.orient.core.index;
 
 import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.metadata.schema.OSchema;
@@ -15,6 +16,7 @@ import org.junit.After;
 import org.junit.Test;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Created by tglman on 01/02/16.
@@ -93,6 +95,71 @@ public class UniqueIndexTest {
     Assert.assertEquals(result.size(), 1);
   }
 
+  @Test
+  public void testPartitionedIndex() {
+    final OSchema schema = db.getMetadata().getSchema();
+    OClass userClass = schema.createClass("User");
+    userClass.createProperty("MailAddress", OType.STRING);
+    userClass.createIndex("User.MailAddress", OClass.INDEX_TYPE.UNIQUE.toString(), null, new ODocument().field("partitions", 4),
+        new String[] { "MailAddress" });
+
+    for (int i = 0; i < 100; i++) {
+      ODocument user = new ODocument("User");
+      user.field("MailAddress", String.format("user%03d@doe.com", i));
+      db.save(user);
+    }
+
+    try {
+      ODocument user = new ODocument("User");
+      user.field("MailAddress", "user042@doe.com");
+      db.save(user);
+      Assert.fail("Expected record duplicate exception");
+    } catch (ORecordDuplicatedException ex) {
+    }
+
+    db.close();
+    db.open("admin", "admin");
+
+    final OIndex<?> index = db.getMetadata().getIndexManager().getIndex("User.MailAddress");
+    Assert.assertEquals(100, index.getSize());
+    Assert.assertNotNull(index.get("user042@doe.com"));
+    Assert.assertNull(index.get("user100@doe.com"));
+
+    final OIndexCursor cursor = index.iterateEntriesBetween("user010@doe.com", true, "user089@doe.com", false, true);
+    int counter = 10;
+    Map.Entry<Object, OIdentifiable> entry = cursor.nextEntry();
+    while (entry != null) {
+      Assert.assertEquals(String.format("user%03d@doe.com", counter), entry.getKey());
+      counter++;
+      entry = cursor.nextEntry();
+    }
+    Assert.assertEquals(89, counter);
+
+    final List<ODocument> result = db.query(new OSQLSynchQuery<ODocument>("select from User where MailAddress = 'user077@doe.com'"));
+    Assert.assertEquals(result.size(), 1);
+  }
+
+  @Test
+  public void testPartitionNamesDoNotCollideWithIndexNames() {
+    final OSchema schema = db.getMetadata().getSchema();
+    OClass userClass = schema.createClass("User");
+    userClass.createProperty("MailAddress", OType.STRING);
+    userClass.createProperty("Name", OType.STRING);
+    userClass.createIndex("User.MailAddress", OClass.INDEX_TYPE.UNIQUE.toString(), null, new ODocument().field("partitions", 4),
+        new String[] { "MailAddress" });
+    userClass.createIndex("User.MailAddress_p001", OClass.INDEX_TYPE.UNIQUE, "Name");
+
+    for (int i = 0; i < 10; i++) {
+      ODocument user = new ODocument("User");
+      user.field("MailAddress", "user" + i + "@doe.com");
+      user.field("Name", "user" + i);
+      db.save(user);
+    }
+
+    Assert.assertEquals(10, db.getMetadata().getIndexManager().getIndex("User.MailAddress").getSize());
+    Assert.assertEquals(10, db.getMetadata().getIndexManager().getIndex("User.MailAddress_p001").getSize());
+  }
+
   @After
   public void after() {
     db.drop();
@@ -2,13 +2,19 @@ package com.orientechnologies.orient.core.ridbag;
 
 import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.db.record.ridbag.embedded.OEmbeddedRidBag;
 import com.orientechnologies.orient.core.id.ORecordId;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 public class OEmbeddedRidBagBasicTest {
 
@@ -43,4 +49,93 @@ public class OEmbeddedRidBagBasicTest {
     OEmbeddedRidBag bag = new OEmbeddedRidBag();
     bag.add(null);
   }
+
+  @Test
+  public void testContainsAndRemoveInLargeBag() {
+    OEmbeddedRidBag bag = new OEmbeddedRidBag();
+    bag.setAutoConvertToRecord(false);
+
+    final List<ORecordId> rids = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      final ORecordId rid = new ORecordId(i % 7, i);
+      rids.add(rid);
+      bag.add(rid);
+    }
+    // duplicates are allowed in bag
+    bag.add(new ORecordId(3, 10));
+
+    assertEquals(1001, bag.size());
+    for (ORecordId rid : rids)
+      assertTrue(bag.contains(new ORecordId(rid.getClusterId(), rid.getClusterPosition())));
+
+    assertFalse(bag.contains(new ORecordId(8, 10)));
+    assertFalse(bag.contains(new ORecordId(2, 1000)));
+
+    bag.remove(new ORecordId(3, 10));
+    assertTrue(bag.contains(new ORecordId(3, 10)));
+    bag.remove(new ORecordId(3, 10));
+    assertFalse(bag.contains(new ORecordId(3, 10)));
+    rids.remove(10);
+
+    for (int i = rids.size() - 1; i >= 0; i -= 2) {
+      bag.remove(rids.remove(i));
+    }
+
+    assertEquals(rids.size(), bag.size());
+
+    final Iterator<OIdentifiable> iterator = bag.iterator();
+    for (ORecordId rid : rids) {
+      assertTrue(bag.contains(rid));
+      assertEquals(rid, iterator.next());
+    }
+    assertFalse(iterator.hasNext());
+
+    for (int i = 1000; i < 2000; i++) {
+      final ORecordId rid = new ORecordId(i % 7, i);
+      rids.add(rid);
+      bag.add(rid);
+    }
+
+    final byte[] bytes = new byte[bag.getSerializedSize()];
+    bag.serialize(bytes, 0, UUID.randomUUID());
+
+    final OEmbeddedRidBag deserialized = new OEmbeddedRidBag();
+    deserialized.setAutoConvertToRecord(false);
+    deserialized.deserialize(bytes, 0);
+
+    assertEquals(rids.size(), deserialized.size());
+    final Iterator<OIdentifiable> deserializedIterator = deserialized.iterator();
+    for (ORecordId rid : rids) {
+      assertTrue(deserialized.contains(rid));
+      assertEquals(rid, deserializedIterator.next());
+    }
+    assertFalse(deserializedIterator.hasNext());
+  }
+
+  @Test
+  public void testRemoveDuringIteration() {
+    OEmbeddedRidBag bag = new OEmbeddedRidBag();
+    bag.setAutoConvertToRecord(false);
+
+    for (int i = 0; i < 100; i++) {
+      bag.add(new ORecordId(1, i));
+    }
+
+    final Iterator<OIdentifiable> iterator = bag.iterator();
+    while (iterator.hasNext()) {
+      final OIdentifiable identifiable = iterator.next();
+      if (identifiable.getIdentity().getClusterPosition() % 2 == 0)
+        iterator.remove();
+    }
+
+    assertEquals(50, bag.size());
+    for (int i = 0; i < 100; i++) {
+      assertEquals(i % 2 == 1, bag.contains(new ORecordId(1, i)));
+    }
+
+    assertTrue(bag.swap(0, new ORecordId(2, 0)));
+    assertFalse(bag.contains(new ORecordId(1, 1)));
+    assertTrue(bag.contains(new ORecordId(2, 0)));
+    assertEquals(new ORecordId(2, 0), bag.iterator().next());
+  }
 }
@@ -1,5 +1,7 @@
 package com.orientechnologies.orient.core.sql.executor;
 
+import com.orientechnologies.orient.core.config.OContextConfiguration;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.ODatabaseSession;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
@@ -8,6 +10,7 @@ import com.orientechnologies.orient.core.db.viewmanager.ViewCreationListener;
 import com.orientechnologies.orient.core.exception.OCommandExecutionException;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.index.OIndex;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.metadata.schema.OProperty;
 import com.orientechnologies.orient.core.metadata.schema.OSchema;
@@ -34,6 +37,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
+import java.util.function.IntPredicate;
 
 import static com.orientechnologies.orient.core.sql.executor.ExecutionPlanPrintUtils.printExecutionPlan;
 
@@ -2785,6 +2789,394 @@ public class OSelectStatementExecutionTest {
     result.close();
   }
 
+  @Test
+  public void testCoveringIndex() {
+    String className = "testCoveringIndex";
+    OClass clazz = db.getMetadata().getSchema().createClass(className);
+    clazz.createProperty("name", OType.STRING);
+    clazz.createProperty("surname", OType.STRING);
+    clazz.createProperty("age", OType.INTEGER);
+    db.command("create index " + className + ".name on " + className + " (name) include (surname, age) NOTUNIQUE").close();
+
+    for (int i = 0; i < 10; i++) {
+      ODocument doc = db.newInstance(className);
+      doc.setProperty("name", "name" + i % 3);
+      if (i != 4) {
+        doc.setProperty("surname", "surname" + i);
+      }
+      doc.setProperty("age", i);
+      doc.save();
+    }
+
+    OResultSet result = db.query("select surname, age from " + className + " where name = 'name1'");
+    printExecutionPlan(result);
+
+    Set<Integer> ages = new HashSet<>();
+    for (int i = 0; i < 3; i++) {
+      Assert.assertTrue(result.hasNext());
+      OResult item = result.next();
+      int age = item.getProperty("age");
+      ages.add(age);
+      Assert.assertEquals(age == 4 ? null : "surname" + age, item.getProperty("surname"));
+    }
+    Assert.assertFalse(result.hasNext());
+    Assert.assertEquals(new HashSet<>(Arrays.asList(1, 4, 7)), ages);
+    Assert.assertTrue(
+        result.getExecutionPlan().get().getSteps().stream().anyMatch(step -> step instanceof GetFieldsFromIndexKeyStep));
+    result.close();
+
+    // projections of fields which are not part of the index require the records
+    result = db.query("select surname, @rid from " + className + " where name = 'name1'");
+    Assert.assertEquals(3, result.stream().count());
+    Assert.assertTrue(
+        result.getExecutionPlan().get().getSteps().stream().noneMatch(step -> step instanceof GetFieldsFromIndexKeyStep));
+    result.close();
+
+    // the index of the superclass returns only the records of the queried subclass
+    OClass subclass = db.getMetadata().getSchema().createClass(className + "Sub", clazz);
+    ODocument subDoc = db.newInstance(subclass.getName());
+    subDoc.setProperty("name", "name1");
+    subDoc.setProperty("surname", "subSurname");
+    subDoc.setProperty("age", 10);
+    subDoc.save();
+
+    result = db.query("select surname, age from " + subclass.getName() + " where name = 'name1'");
+    Assert.assertTrue(result.hasNext());
+    OResult item = result.next();
+    Assert.assertEquals("subSurname", item.getProperty("surname"));
+    Assert.assertEquals((Integer) 10, item.getProperty("age"));
+    Assert.assertFalse(result.hasNext());
+    Assert.assertTrue(
+        result.getExecutionPlan().get().getSteps().stream().anyMatch(step -> step instanceof GetFieldsFromIndexKeyStep));
+    result.close();
+
+    result = db.query("select age from " + className + " where name = 'name1'");
+    ages.clear();
+    while (result.hasNext()) {
+      ages.add(result.next().getProperty("age"));
+    }
+    Assert.assertEquals(new HashSet<>(Arrays.asList(1, 4, 7, 10)), ages);
+    result.close();
+  }
+
+  @Test
+  public void testPartialIndex() {
+    String className = "testPartialIndex";
+    OClass clazz = db.getMetadata().getSchema().createClass(className);
+    clazz.createProperty("name", OType.STRING);
+    clazz.createProperty("status", OType.STRING);
+    String indexName = className + ".name";
+    db.command("create index " + indexName + " on " + className + " (name) NOTUNIQUE where status = 'active'").close();
+
+    for (int i = 0; i < 10; i++) {
+      ODocument doc = db.newInstance(className);
+      doc.setProperty("name", "name" + i % 3);
+      doc.setProperty("status", i % 2 == 0 ? "active" : "inactive");
+      doc.save();
+    }
+    OIndex<?> index = db.getMetadata().getIndexManager().getIndex(indexName);
+    Assert.assertEquals(5, index.getSize());
+
+    db.command("update " + className + " set status = 'active' where name = 'name1'").close();
+    Assert.assertEquals(7, index.getSize());
+    db.command("update " + className + " set status = 'inactive' where name = 'name0'").close();
+    Assert.assertEquals(5, index.getSize());
+    db.command("update " + className + " set name = 'name3' where name = 'name2' and status = 'active'").close();
+    Assert.assertEquals(5, index.getSize());
+    db.command("delete from " + className + " where name = 'name3'").close();
+    Assert.assertEquals(3, index.getSize());
+
+    OResultSet result = db.query("select from " + className + " where name = 'name1' and status = 'active'");
+    printExecutionPlan(result);
+    Assert.assertEquals(3, result.stream().count());
+    Assert.assertTrue(result.getExecutionPlan().get().getSteps().stream().anyMatch(step -> step instanceof FetchFromIndexStep));
+    result.close();
+
+    // the index does not contain the inactive records, so it cannot be used if the query does not imply the filter
+    result = db.query("select from " + className + " where name = 'name0'");
+    Assert.assertEquals(4, result.stream().count());
+    Assert.assertTrue(result.getExecutionPlan().get().getSteps().stream().noneMatch(step -> step instanceof FetchFromIndexStep));
+    result.close();
+  }
+
+  @Test
+  public void testParallelClusterScan() {
+    String className = "testParallelClusterScan";
+    OClass clazz = db.getMetadata().getSchema().createClass(className);
+    clazz.addCluster(className + "_1");
+    clazz.addCluster(className + "_2");
+
+    for (int i = 0; i < 100; i++) {
+      ODocument doc = db.newInstance(className);
+      doc.setProperty("val", i);
+      doc.save();
+    }
+
+    OContextConfiguration configuration = db.getConfiguration();
+    Object minimumRecords = configuration.getValue(OGlobalConfiguration.QUERY_PARALLEL_MINIMUM_RECORDS);
+    Object threads = configuration.getValue(OGlobalConfiguration.QUERY_PARALLEL_EXECUTION_THREADS);
+    configuration.setValue(OGlobalConfiguration.QUERY_PARALLEL_MINIMUM_RECORDS, 10);
+    configuration.setValue(OGlobalConfiguration.QUERY_PARALLEL_EXECUTION_THREADS, 2);
+    try {
+      OResultSet result = db.query("select from " + className + " where val < 50 parallel");
+      Set<Integer> values = new HashSet<>();
+      while (result.hasNext()) {
+        Assert.assertTrue(values.add(result.next().getProperty("val")));
+      }
+      Assert.assertEquals(50, values.size());
+      result.close();
+
+      result = db.query("select from " + className + " limit 3 parallel");
+      Assert.assertEquals(3, result.stream().count());
+      result.close();
+
+      result = db.query("select from " + className + " order by @rid parallel");
+      ORID lastRid = null;
+      while (result.hasNext()) {
+        ORID rid = result.next().getIdentity().get();
+        Assert.assertTrue(lastRid == null || lastRid.compareTo(rid) < 0);
+        lastRid = rid;
+      }
+      result.close();
+    } finally {
+      configuration.setValue(OGlobalConfiguration.QUERY_PARALLEL_MINIMUM_RECORDS, minimumRecords);
+      configuration.setValue(OGlobalConfiguration.QUERY_PARALLEL_EXECUTION_THREADS, threads);
+    }
+  }
+
+  @Test
+  public void testClusterScanOrderWithoutParallel() {
+    String className = "testClusterScanOrderWithoutParallel";
+    OClass clazz = db.getMetadata().getSchema().createClass(className);
+    clazz.addCluster(className + "_1");
+    clazz.addCluster(className + "_2");
+
+    for (int i = 0; i < 100; i++) {
+      ODocument doc = db.newInstance(className);
+      doc.setProperty("val", i);
+      doc.save();
+    }
+
+    OContextConfiguration configuration = db.getConfiguration();
+    Object minimumRecords = configuration.getValue(OGlobalConfiguration.QUERY_PARALLEL_MINIMUM_RECORDS);
+    Object threads = configuration.getValue(OGlobalConfiguration.QUERY_PARALLEL_EXECUTION_THREADS);
+    Object parallelAuto = configuration.getValue(OGlobalConfiguration.QUERY_PARALLEL_AUTO);
+    configuration.setValue(OGlobalConfiguration.QUERY_PARALLEL_MINIMUM_RECORDS, 10);
+    configuration.setValue(OGlobalConfiguration.QUERY_PARALLEL_EXECUTION_THREADS, 2);
+    configuration.setValue(OGlobalConfiguration.QUERY_PARALLEL_AUTO, false);
+    try {
+      List<ORID> rids = new ArrayList<>();
+      OResultSet result = db.query("select from " + className);
+      while (result.hasNext()) {
+        rids.add(result.next().getIdentity().get());
+      }
+      result.close();
+      Assert.assertEquals(100, rids.size());
+
+      //clusters are scanned one after another
+      Set<Integer> scannedClusters = new HashSet<>();
+      for (int i = 0; i < rids.size(); i++) {
+        ORID rid = rids.get(i);
+        if (i == 0 || rids.get(i - 1).getClusterId() != rid.getClusterId()) {
+          Assert.assertTrue(scannedClusters.add(rid.getClusterId()));
+        } else {
+          Assert.assertTrue(rids.get(i - 1).getClusterPosition() < rid.getClusterPosition());
+        }
+      }
+      Assert.assertEquals(3, scannedClusters.size());
+
+      for (int skip = 0; skip < 100; skip += 10) {
+        result = db.query("select from " + className + " skip " + skip + " limit 10");
+        for (int i = skip; i < skip + 10; i++) {
+          Assert.assertTrue(result.hasNext());
+          Assert.assertEquals(rids.get(i), result.next().getIdentity().get());
+        }
+        Assert.assertFalse(result.hasNext());
+        result.close();
+      }
+    } finally {
+      configuration.setValue(OGlobalConfiguration.QUERY_PARALLEL_MINIMUM_RECORDS, minimumRecords);
+      configuration.setValue(OGlobalConfiguration.QUERY_PARALLEL_EXECUTION_THREADS, threads);
+      configuration.setValue(OGlobalConfiguration.QUERY_PARALLEL_AUTO, parallelAuto);
+    }
+  }
+
+  @Test
+  public void testOrderBySpilledToDisk() {
+    String className = "testOrderBySpilledToDisk";
+    db.getMetadata().getSchema().createClass(className);
+
+    for (int i = 0; i < 100; i++) {
+      ODocument doc = db.newInstance(className);
+      doc.setProperty("val", (i * 37) % 100);
+      doc.setProperty("name", "name" + i);
+      doc.save();
+    }
+
+    OContextConfiguration configuration = db.getConfiguration();
+    Object spillThreshold = configuration.getValue(OGlobalConfiguration.QUERY_ORDER_BY_SPILL_THRESHOLD);
+    configuration.setValue(OGlobalConfiguration.QUERY_ORDER_BY_SPILL_THRESHOLD, 7);
+    try {
+      OResultSet result = db.query("select from " + className + " order by val desc");
+      for (int i = 99; i >= 0; i--) {
+        Assert.assertTrue(result.hasNext());
+        OResult item = result.next();
+        Assert.assertTrue(item.isElement());
+        Assert.assertEquals((Integer) i, item.getProperty("val"));
+      }
+      Assert.assertFalse(result.hasNext());
+      result.close();
+
+      result = db.query("select val, name, [val, name] as list from " + className + " order by val");
+      for (int i = 0; i < 100; i++) {
+        Assert.assertTrue(result.hasNext());
+        OResult item = result.next();
+        Assert.assertFalse(item.isElement());
+        Assert.assertEquals((Integer) i, item.getProperty("val"));
+        Assert.assertEquals(2, ((List) item.getProperty("list")).size());
+      }
+      Assert.assertFalse(result.hasNext());
+      result.close();
+
+      result = db.query("select from " + className + " order by val skip 10 limit 5");
+      for (int i = 10; i < 15; i++) {
+        Assert.assertTrue(result.hasNext());
+        Assert.assertEquals((Integer) i, result.next().getProperty("val"));
+      }
+      Assert.assertFalse(result.hasNext());
+      result.close();
+    } finally {
+      configuration.setValue(OGlobalConfiguration.QUERY_ORDER_BY_SPILL_THRESHOLD, spillThreshold);
+    }
+  }
+
+  @Test
+  public void testGroupBySpilledToDisk() {
+    String className = "testGroupBySpilledToDisk";
+    db.getMetadata().getSchema().createClass(className);
+
+    for (int i = 0; i < 100; i++) {
+      ODocument doc = db.newInstance(className);
+      doc.setProperty("grp", "group" + (i % 20));
+      doc.setProperty("val", i);
+      doc.save();
+    }
+
+    OContextConfiguration configuration = db.getConfiguration();
+    Object spillThreshold = configuration.getValue(OGlobalConfiguration.QUERY_GROUP_BY_SPILL_THRESHOLD);
+    configuration.setValue(OGlobalConfiguration.QUERY_GROUP_BY_SPILL_THRESHOLD, 3);
+    try {
+      OResultSet result = db.query("select grp, count(*) as cnt, sum(val) as total, max(val) as maxVal from " + className
+          + " group by grp");
+      Set<String> groups = new HashSet<>();
+      while (result.hasNext()) {
+        OResult item = result.next();
+        String group = item.getProperty("grp");
+        int index = Integer.parseInt(group.substring("group".length()));
+        Assert.assertTrue(groups.add(group));
+        Assert.assertEquals(5L, (long) item.getProperty("cnt"));
+        Assert.assertEquals(5 * index + 20 * (0 + 1 + 2 + 3 + 4), ((Number) item.getProperty("total")).intValue());
+        Assert.assertEquals((Integer) (index + 80), item.getProperty("maxVal"));
+      }
+      Assert.assertEquals(20, groups.size());
+      result.close();
+    } finally {
+      configuration.setValue(OGlobalConfiguration.QUERY_GROUP_BY_SPILL_THRESHOLD, spillThreshold);
+    }
+  }
+
+  @Test
+  public void testOrderBySpilledRecordsChangedAfterSort() {
+    String className = "testOrderBySpilledRecordsChangedAfterSort";
+    db.getMetadata().getSchema().createClass(className);
+
+    List<ODocument> docs = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      ODocument doc = db.newInstance(className);
+      doc.setProperty("val", i);
+      doc.setProperty("name", "name" + i);
+      docs.add(doc.save());
+    }
+
+    OContextConfiguration configuration = db.getConfiguration();
+    Object spillThreshold = configuration.getValue(OGlobalConfiguration.QUERY_ORDER_BY_SPILL_THRESHOLD);
+    configuration.setValue(OGlobalConfiguration.QUERY_ORDER_BY_SPILL_THRESHOLD, 3);
+    try {
+      OResultSet result = db.query("select from " + className + " order by val");
+      Assert.assertTrue(result.hasNext());
+      Assert.assertEquals((Integer) 0, result.next().getProperty("val"));
+
+      //records are changed once they are sorted and spilled, results contain them as they were at the time of the sort
+      db.delete(docs.get(10));
+      ODocument updated = docs.get(5);
+      updated.setProperty("val", 50);
+      updated.save();
+
+      for (int i = 1; i < 20; i++) {
+        Assert.assertTrue(result.hasNext());
+        OResult item = result.next();
+        Assert.assertTrue(item.isElement());
+        Assert.assertEquals((Integer) i, item.getProperty("val"));
+        Assert.assertEquals("name" + i, item.getProperty("name"));
+      }
+      Assert.assertFalse(result.hasNext());
+      result.close();
+    } finally {
+      configuration.setValue(OGlobalConfiguration.QUERY_ORDER_BY_SPILL_THRESHOLD, spillThreshold);
+    }
+  }
+
+  @Test
+  public void testParallelGroupBy() {
+    String className = "testParallelGroupBy";
+    OClass clazz = db.getMetadata().getSchema().createClass(className);
+    clazz.addCluster(className + "_1");
+    clazz.addCluster(className + "_2");
+
+    for (int i = 0; i < 100; i++) {
+      ODocument doc = db.newInstance(className);
+      doc.setProperty("grp", i % 10);
+      doc.setProperty("val", i);
+      doc.save();
+    }
+
+    OContextConfiguration configuration = db.getConfiguration();
+    Object minimumRecords = configuration.getValue(OGlobalConfiguration.QUERY_PARALLEL_MINIMUM_RECORDS);
+    Object threads = configuration.getValue(OGlobalConfiguration.QUERY_PARALLEL_EXECUTION_THREADS);
+    Object spillThreshold = configuration.getValue(OGlobalConfiguration.QUERY_GROUP_BY_SPILL_THRESHOLD);
+    Object parallelAuto = configuration.getValue(OGlobalConfiguration.QUERY_PARALLEL_AUTO);
+    configuration.setValue(OGlobalConfiguration.QUERY_PARALLEL_MINIMUM_RECORDS, 10);
+    configuration.setValue(OGlobalConfiguration.QUERY_PARALLEL_EXECUTION_THREADS, 2);
+    configuration.setValue(OGlobalConfiguration.QUERY_GROUP_BY_SPILL_THRESHOLD, 4);
+    configuration.setValue(OGlobalConfiguration.QUERY_PARALLEL_AUTO, true);
+    try {
+      OResultSet result = db.query(
+          "select grp, count(*) as cnt, min(val) as minVal from " + className + " where val >= 10 group by grp");
+      Set<Integer> groups = new HashSet<>();
+      while (result.hasNext()) {
+        OResult item = result.next();
+        Integer group = item.getProperty("grp");
+        Assert.assertTrue(groups.add(group));
+        Assert.assertEquals(9L, (long) item.getProperty("cnt"));
+        Assert.assertEquals((Integer) (group + 10), item.getProperty("minVal"));
+      }
+      Assert.assertEquals(10, groups.size());
+      result.close();
+
+      result = db.query("select count(*) as cnt, sum(val) as total from " + className);
+      OResult item = result.next();
+      Assert.assertEquals(100L, (long) item.getProperty("cnt"));
+      Assert.assertEquals(4950, ((Number) item.getProperty("total")).intValue());
+      Assert.assertFalse(result.hasNext());
+      result.close();
+    } finally {
+      configuration.setValue(OGlobalConfiguration.QUERY_PARALLEL_MINIMUM_RECORDS, minimumRecords);
+      configuration.setValue(OGlobalConfiguration.QUERY_PARALLEL_EXECUTION_THREADS, threads);
+      configuration.setValue(OGlobalConfiguration.QUERY_GROUP_BY_SPILL_THRESHOLD, spillThreshold);
+      configuration.setValue(OGlobalConfiguration.QUERY_PARALLEL_AUTO, parallelAuto);
+    }
+  }
+
   @Test
   public void testIndexPlusSort8() {
     String className = "testIndexPlusSort8";
@@ -3905,4 +4297,50 @@ public class OSelectStatementExecutionTest {
     }
   }
 
+  @Test
+  public void testFilterOnSerializedRecords() {
+    String className = "testFilterOnSerializedRecords";
+    OClass clazz = db.getMetadata().getSchema().createClass(className);
+    clazz.createProperty("tag", OType.STRING).setCollate("ci");
+
+    ORID[] rids = new ORID[100];
+    for (int i = 0; i < 100; i++) {
+      ODocument doc = db.newInstance(className);
+      if (i == 5) {
+        doc.setProperty("num", "5");
+      } else if (i % 10 != 9) {
+        doc.setProperty("num", i);
+      }
+      doc.setProperty("name", "n" + (i % 5));
+      doc.setProperty("tag", i % 2 == 0 ? "a" : "A");
+      doc.save();
+      rids[i] = doc.getIdentity();
+    }
+    ((ODatabaseDocumentTx) db).getLocalCache().clear();
+
+    assertNums(db.query("select from " + className + " where num > 90 and name = 'n1'"), rids,
+        i -> i > 90 && i % 10 != 9 && i % 5 == 1);
+    assertNums(db.query("select from " + className + " where num between 10 and 20 or name in ['n3']"), rids,
+        i -> (i >= 10 && i <= 20 && i % 10 != 9) || i % 5 == 3);
+    assertNums(db.query("select from " + className + " where num <> 5"), rids, i -> i != 5);
+    assertNums(db.query("select from " + className + " where num = ?", 5), rids, i -> i == 5);
+    assertNums(db.query("select from " + className + " where tag = 'a'"), rids, i -> true);
+  }
+
+  private void assertNums(OResultSet result, ORID[] rids, IntPredicate expected) {
+    Set<ORID> found = new HashSet<>();
+    while (result.hasNext()) {
+      OResult item = result.next();
+      Assert.assertTrue(found.add(item.getIdentity().get()));
+    }
+    result.close();
+    Set<ORID> expectedRids = new HashSet<>();
+    for (int i = 0; i < rids.length; i++) {
+      if (expected.test(i)) {
+        expectedRids.add(rids[i]);
+      }
+    }
+    Assert.assertEquals(expectedRids, found);
+  }
+
 }
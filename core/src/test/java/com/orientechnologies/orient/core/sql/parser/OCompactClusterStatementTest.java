@@ -0,0 +1,27 @@
+package com.orientechnologies.orient.core.sql.parser;
+
+import org.junit.Test;
+
+public class OCompactClusterStatementTest extends OParserTestAbstract {
+
+  @Test
+  public void testPlain() {
+    checkRightSyntax("COMPACT CLUSTER Foo");
+    checkRightSyntax("compact cluster Foo");
+
+    checkRightSyntax("COMPACT CLUSTER 12");
+    checkRightSyntax("compact cluster 12");
+
+    checkRightSyntax("COMPACT CLUSTER `Foo bar`");
+
+    checkWrongSyntax("COMPACT CsUSTER Foo");
+    checkWrongSyntax("compact cluster Foo bar");
+    checkWrongSyntax("compact cluster");
+  }
+
+  @Test
+  public void testCompactAsIdentifier() {
+    checkRightSyntax("SELECT compact FROM Foo");
+    checkRightSyntax("TRUNCATE CLUSTER compact");
+  }
+}
@@ -33,4 +33,23 @@ public class OCreateIndexStatementTest extends OParserTestAbstract {
     checkWrongSyntax("CREATE INDEX Foo.bar IF EXISTS on Foo (bar) UNIQUE");
   }
 
+  @Test
+  public void testInclude() {
+    checkRightSyntax("CREATE INDEX Foo.bar on Foo (bar) INCLUDE (baz) NOTUNIQUE");
+    checkRightSyntax("CREATE INDEX Foo.bar on Foo (bar, baz) include (qux, quux) NOTUNIQUE METADATA {'foo':'bar'}");
+    checkRightSyntax("CREATE INDEX Foo.bar on Foo (bar) INCLUDE (baz) NOTUNIQUE ENGINE SBTREE STRING,STRING");
+    checkRightSyntax("CREATE INDEX include on Foo (include) INCLUDE (bar) NOTUNIQUE");
+
+    checkWrongSyntax("CREATE INDEX Foo.bar on Foo (bar) INCLUDE () NOTUNIQUE");
+  }
+
+  @Test
+  public void testWhere() {
+    checkRightSyntax("CREATE INDEX Foo.bar on Foo (bar) NOTUNIQUE WHERE status = 'active'");
+    checkRightSyntax("CREATE INDEX Foo.bar on Foo (bar) UNIQUE METADATA {'foo':'bar'} where status = 'active' and baz > 3");
+    checkRightSyntax("CREATE INDEX Foo.bar on Foo (bar) INCLUDE (baz) NOTUNIQUE ENGINE SBTREE STRING,STRING WHERE baz is not null");
+
+    checkWrongSyntax("CREATE INDEX Foo.bar on Foo (bar) NOTUNIQUE WHERE");
+  }
+
 }
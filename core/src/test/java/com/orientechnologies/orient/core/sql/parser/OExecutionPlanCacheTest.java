@@ -4,6 +4,7 @@ import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.metadata.schema.OProperty;
 import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.metadata.sequence.OSequence;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -33,30 +34,74 @@ public class OExecutionPlanCacheTest {
     Assert.assertTrue(cache.contains(stm));
 
     OClass clazz = db.getMetadata().getSchema().createClass(testName);
-    Assert.assertFalse(cache.contains(stm));
+    Assert.assertTrue(cache.contains(stm));
 
     Thread.sleep(2);
 
-    //schema changes 2
-    db.query(stm).close();
-    cache = OExecutionPlanCache.instance(db);
+    String classStm = "SELECT FROM " + testName;
+    db.query(classStm).close();
+    Assert.assertTrue(cache.contains(classStm));
+
+    db.getMetadata().getSchema().createClass(testName + "Sub", clazz);
+    Assert.assertFalse(cache.contains(classStm));
     Assert.assertTrue(cache.contains(stm));
 
+    Thread.sleep(2);
+
+    //schema changes 2
+    db.query(classStm).close();
+    Assert.assertTrue(cache.contains(classStm));
+
     OProperty prop = clazz.createProperty("name", OType.STRING);
-    Assert.assertFalse(cache.contains(stm));
+    Assert.assertFalse(cache.contains(classStm));
+    Assert.assertTrue(cache.contains(stm));
 
     Thread.sleep(2);
 
     //index changes
-    db.query(stm).close();
-    cache = OExecutionPlanCache.instance(db);
-    Assert.assertTrue(cache.contains(stm));
+    db.query(classStm).close();
+    Assert.assertTrue(cache.contains(classStm));
 
     prop.createIndex(OClass.INDEX_TYPE.NOTUNIQUE);
-    Assert.assertFalse(cache.contains(stm));
+    Assert.assertFalse(cache.contains(classStm));
+    Assert.assertTrue(cache.contains(stm));
+
+    Thread.sleep(2);
+
+    //sequence changes
+    db.query(classStm).close();
+    Assert.assertTrue(cache.contains(classStm));
+
+    db.getMetadata().getSequenceLibrary().createSequence(testName + "Seq", OSequence.SEQUENCE_TYPE.ORDERED, new OSequence.CreateParams());
+    Assert.assertTrue(cache.contains(classStm));
+    Assert.assertTrue(cache.contains(stm));
 
     db.close();
 
   }
 
+  @Test
+  public void testCacheStatistics() throws InterruptedException {
+    ODatabaseDocumentTx db = new ODatabaseDocumentTx("memory:OExecutionPlanCacheTestStatistics");
+    db.create();
+    try {
+      OExecutionPlanCache cache = OExecutionPlanCache.instance(db);
+      Thread.sleep(2);
+
+      long hits = cache.getHits();
+      long misses = cache.getMisses();
+
+      db.query("SELECT FROM OUser WHERE name = 'admin'").close();
+      Assert.assertEquals(misses + 1, cache.getMisses());
+
+      //statements which differ only in formatting share the plan
+      db.query("select   from OUser  where name = 'admin'").close();
+      db.query("SELECT FROM OUser WHERE name = 'admin'").close();
+      Assert.assertEquals(hits + 2, cache.getHits());
+      Assert.assertEquals(misses + 1, cache.getMisses());
+    } finally {
+      db.drop();
+    }
+  }
+
 }
@@ -0,0 +1,161 @@
+package com.orientechnologies.orient.core.storage.cache.local;
+
+import com.orientechnologies.common.directmemory.OByteBufferPool;
+import com.orientechnologies.common.directmemory.OPointer;
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.storage.fs.OFileClassic;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Random;
+
+public class OCompressedPageMapTest {
+  private static final int PAGE_SIZE = 64 * 1024;
+
+  private static final OByteBufferPool BUFFER_POOL = new OByteBufferPool(PAGE_SIZE);
+
+  private static Path directory;
+
+  private OFileClassic       file;
+  private Path               mapPath;
+  private OCompressedPageMap map;
+
+  @BeforeClass
+  public static void beforeClass() {
+    OGlobalConfiguration.STORAGE_EXCLUSIVE_FILE_ACCESS.setValue(Boolean.FALSE);
+
+    String buildDirectory = System.getProperty("buildDirectory");
+    if (buildDirectory == null) {
+      buildDirectory = ".";
+    }
+
+    directory = Paths.get(buildDirectory).resolve("OCompressedPageMapTest");
+  }
+
+  @AfterClass
+  public static void afterClass() {
+    BUFFER_POOL.clear();
+    OGlobalConfiguration.STORAGE_EXCLUSIVE_FILE_ACCESS.setValue(Boolean.TRUE);
+  }
+
+  @Before
+  public void before() throws Exception {
+    OFileUtils.deleteRecursively(directory.toFile());
+    Files.createDirectories(directory);
+
+    file = new OFileClassic(directory.resolve("compressedPageMapTest.tst"));
+    file.create();
+
+    mapPath = OCompressedPageMap.mapPath(file);
+    map = OCompressedPageMap.create(mapPath, PAGE_SIZE, BUFFER_POOL, false);
+  }
+
+  @After
+  public void after() throws Exception {
+    file.close();
+    OFileUtils.deleteRecursively(directory.toFile());
+  }
+
+  @Test
+  public void testMapWhichIsNotFlushedPointsToPreviousContent() throws Exception {
+    for (int i = 0; i < 4; i++) {
+      map.writePage(file, i, page(i, true));
+    }
+    map.flush(file, false);
+
+    //page 1 is moved to the new slot and slot of page 2 is shrunk, map is not written to the disk
+    map.writePage(file, 1, page(10, false));
+    map.writePage(file, 2, page(11, true));
+    map.writePage(file, 4, page(12, true));
+
+    assertPage(map, 1, page(10, false));
+    assertPage(map, 4, page(12, true));
+
+    final OCompressedPageMap restoredMap = OCompressedPageMap.load(mapPath, PAGE_SIZE, BUFFER_POOL, file.getFileSize());
+    Assert.assertEquals(4, restoredMap.pagesCount());
+
+    assertPage(restoredMap, 0, page(0, true));
+    assertPage(restoredMap, 1, page(1, true));
+    assertPage(restoredMap, 3, page(3, true));
+
+    //new page is written on top of the free space
+    restoredMap.writePage(file, 4, page(13, false));
+    assertPage(restoredMap, 4, page(13, false));
+  }
+
+  @Test
+  public void testFreeSpaceIsRestoredOnLoad() throws Exception {
+    for (int i = 0; i < 4; i++) {
+      map.writePage(file, i, page(i, false));
+    }
+    for (int i = 0; i < 4; i++) {
+      map.writePage(file, i, page(i, true));
+    }
+    map.flush(file, false);
+
+    final long fileSize = file.getFileSize();
+
+    final OCompressedPageMap restoredMap = OCompressedPageMap.load(mapPath, PAGE_SIZE, BUFFER_POOL, fileSize);
+    for (int i = 0; i < 4; i++) {
+      restoredMap.writePage(file, i + 4, page(i + 4, true));
+    }
+
+    Assert.assertEquals(fileSize, file.getFileSize());
+    for (int i = 0; i < 8; i++) {
+      assertPage(restoredMap, i, page(i, true));
+    }
+  }
+
+  @Test
+  public void testTruncate() throws Exception {
+    for (int i = 0; i < 4; i++) {
+      map.writePage(file, i, page(i, true));
+    }
+    map.flush(file, false);
+
+    map.truncate(false);
+    file.shrink(0);
+
+    Assert.assertEquals(0, map.pagesCount());
+    Assert.assertEquals(0, OCompressedPageMap.load(mapPath, PAGE_SIZE, BUFFER_POOL, file.getFileSize()).pagesCount());
+
+    map.writePage(file, 0, page(5, true));
+    assertPage(map, 0, page(5, true));
+  }
+
+  private static ByteBuffer page(final int seed, final boolean compressible) {
+    final byte[] content = new byte[PAGE_SIZE];
+    if (compressible) {
+      for (int i = 0; i < content.length; i++) {
+        content[i] = (byte) (seed + i / 1024);
+      }
+    } else {
+      new Random(seed).nextBytes(content);
+    }
+
+    return ByteBuffer.wrap(content);
+  }
+
+  private void assertPage(final OCompressedPageMap map, final long pageIndex, final ByteBuffer expected) throws Exception {
+    final OPointer pointer = BUFFER_POOL.acquireDirect(false);
+    try {
+      final ByteBuffer buffer = pointer.getNativeByteBuffer();
+      map.readPage(file, pageIndex, buffer);
+
+      buffer.position(0);
+      expected.position(0);
+      Assert.assertEquals(expected, buffer);
+    } finally {
+      BUFFER_POOL.release(pointer);
+    }
+  }
+}
@@ -0,0 +1,285 @@
+package com.orientechnologies.orient.core.storage.cache.local;
+
+import com.orientechnologies.common.collection.closabledictionary.OClosableLinkedContainer;
+import com.orientechnologies.common.directmemory.OByteBufferPool;
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.common.serialization.types.OStringSerializer;
+import com.orientechnologies.common.types.OModifiableBoolean;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.storage.OChecksumMode;
+import com.orientechnologies.orient.core.storage.cache.OCachePointer;
+import com.orientechnologies.orient.core.storage.fs.OFileClassic;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.cas.OCASDiskWriteAheadLog;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+public class OWOWCacheDoubleWriteLogTest {
+  private static final int PAGE_SIZE     = 4 * 1024;
+  private static final int SYSTEM_OFFSET = 28;
+
+  private static Path   storagePath;
+  private static String storageName;
+
+  private static final OByteBufferPool BUFFER_POOL = new OByteBufferPool(PAGE_SIZE);
+
+  private final OClosableLinkedContainer<Long, OFileClassic> files = new OClosableLinkedContainer<>(1024);
+
+  private OCASDiskWriteAheadLog writeAheadLog;
+  private OWOWCache             writeCache;
+
+  @BeforeClass
+  public static void beforeClass() {
+    OGlobalConfiguration.STORAGE_EXCLUSIVE_FILE_ACCESS.setValue(Boolean.FALSE);
+
+    String buildDirectory = System.getProperty("buildDirectory");
+    if (buildDirectory == null) {
+      buildDirectory = ".";
+    }
+
+    storageName = "OWOWCacheDoubleWriteLogTest";
+    storagePath = Paths.get(buildDirectory).resolve(storageName);
+  }
+
+  @AfterClass
+  public static void afterClass() {
+    BUFFER_POOL.clear();
+    OGlobalConfiguration.STORAGE_EXCLUSIVE_FILE_ACCESS.setValue(Boolean.TRUE);
+  }
+
+  @Before
+  public void beforeMethod() throws Exception {
+    OFileUtils.deleteRecursively(storagePath.toFile());
+    initCache();
+  }
+
+  @After
+  public void afterMethod() throws Exception {
+    writeCache.delete();
+    writeAheadLog.delete();
+    files.clear();
+
+    OFileUtils.deleteRecursively(storagePath.toFile());
+  }
+
+  @Test
+  public void testPagesAreWrittenThroughLog() throws Exception {
+    long fileId = writeCache.addFile("doubleWrite.tst");
+    for (int i = 0; i < 100; i++) {
+      writePage(fileId, i, i);
+    }
+
+    writeCache.flush();
+
+    final Path logPath = storagePath.resolve(storageName + OWOWCache.DOUBLE_WRITE_LOG_EXTENSION);
+    Assert.assertTrue(Files.exists(logPath));
+
+    for (int i = 0; i < 100; i++) {
+      assertPage(fileId, i, i);
+    }
+
+    reopenCache();
+    fileId = writeCache.loadFile("doubleWrite.tst");
+
+    Assert.assertEquals(100, writeCache.getFilledUpTo(fileId));
+    for (int i = 0; i < 100; i++) {
+      assertPage(fileId, i, i);
+    }
+  }
+
+  @Test
+  public void testTornPageIsRestored() throws Exception {
+    long fileId = writeCache.addFile("doubleWrite.tst");
+    for (int i = 0; i < 10; i++) {
+      writePage(fileId, i, i);
+    }
+    writeCache.flush();
+
+    final int intId = writeCache.internalFileId(fileId);
+    final Path path = storagePath.resolve(writeCache.nativeFileNameById(fileId));
+    writeCache.close();
+    writeAheadLog.close();
+
+    final ByteBuffer page = ByteBuffer.allocate(PAGE_SIZE);
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      readFully(channel, page, pagePosition(5));
+
+      //emulate crash in the middle of the page write
+      final ByteBuffer garbage = ByteBuffer.allocate(PAGE_SIZE / 2);
+      while (garbage.hasRemaining()) {
+        channel.write(garbage, pagePosition(5) + PAGE_SIZE / 2 + garbage.position());
+      }
+    }
+
+    final ODoubleWriteLog log = new ODoubleWriteLog(storagePath.resolve(storageName + OWOWCache.DOUBLE_WRITE_LOG_EXTENSION),
+        PAGE_SIZE);
+    log.open();
+    log.write(new int[] { intId }, new long[] { 5 }, new ByteBuffer[] { page });
+    log.close();
+
+    initCache();
+    fileId = writeCache.loadFile("doubleWrite.tst");
+
+    for (int i = 0; i < 10; i++) {
+      assertPage(fileId, i, i);
+    }
+  }
+
+  @Test
+  public void testOnlyBrokenPagesAreRestored() throws Exception {
+    long fileId = writeCache.addFile("doubleWrite.tst");
+    writePage(fileId, 0, 1);
+    writeCache.flush();
+
+    final int intId = writeCache.internalFileId(fileId);
+    final Path path = storagePath.resolve(writeCache.nativeFileNameById(fileId));
+
+    final ByteBuffer oldPage = ByteBuffer.allocate(PAGE_SIZE);
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      readFully(channel, oldPage, pagePosition(0));
+    }
+
+    writePage(fileId, 0, 2);
+    writeCache.close();
+    writeAheadLog.close();
+
+    //log contains outdated copy of the page, but page in the data file is not broken
+    final ODoubleWriteLog log = new ODoubleWriteLog(storagePath.resolve(storageName + OWOWCache.DOUBLE_WRITE_LOG_EXTENSION),
+        PAGE_SIZE);
+    log.open();
+    log.write(new int[] { intId }, new long[] { 0 }, new ByteBuffer[] { oldPage });
+    log.close();
+
+    initCache();
+    fileId = writeCache.loadFile("doubleWrite.tst");
+
+    assertPage(fileId, 0, 2);
+  }
+
+  @Test
+  public void testBrokenLogRecordIsIgnored() throws Exception {
+    final Path logPath = storagePath.resolve("brokenRecord" + OWOWCache.DOUBLE_WRITE_LOG_EXTENSION);
+
+    final ByteBuffer page = ByteBuffer.allocate(PAGE_SIZE);
+    new Random(42).nextBytes(page.array());
+
+    final ODoubleWriteLog log = new ODoubleWriteLog(logPath, PAGE_SIZE);
+    log.open();
+    log.write(new int[] { 1, 1 }, new long[] { 0, 1 }, new ByteBuffer[] { page, page });
+    final long firstRecordSize = log.size();
+    log.write(new int[] { 2 }, new long[] { 3 }, new ByteBuffer[] { page });
+    log.close();
+
+    try (FileChannel channel = FileChannel.open(logPath, StandardOpenOption.WRITE)) {
+      final ByteBuffer garbage = ByteBuffer.wrap(new byte[] { 1, 2, 3 });
+      while (garbage.hasRemaining()) {
+        channel.write(garbage, firstRecordSize + 100 + garbage.position());
+      }
+    }
+
+    log.open();
+    try {
+      final List<Long> pages = new ArrayList<>();
+      log.iteratePages((fileId, pageIndex, position) -> {
+        Assert.assertEquals(1, fileId);
+        pages.add(pageIndex);
+
+        final ByteBuffer content = ByteBuffer.allocate(PAGE_SIZE);
+        log.readPage(position, content);
+        Assert.assertArrayEquals(page.array(), content.array());
+      });
+
+      Assert.assertEquals(2, pages.size());
+      Assert.assertEquals(0L, pages.get(0).longValue());
+      Assert.assertEquals(1L, pages.get(1).longValue());
+    } finally {
+      log.delete();
+    }
+  }
+
+  private void initCache() throws Exception {
+    writeAheadLog = new OCASDiskWriteAheadLog(storageName, storagePath, storagePath, 12_000, 128, Integer.MAX_VALUE,
+        Integer.MAX_VALUE, 25, true, Locale.US, -1, 1024L * 1024 * 1024, 1000, true, false, true, 10);
+
+    writeCache = new OWOWCache(PAGE_SIZE, BUFFER_POOL, writeAheadLog, -1, 10, 1024L * PAGE_SIZE, storagePath, storageName,
+        OStringSerializer.INSTANCE, files, 1, OChecksumMode.StoreAndThrow, false, false, 10, Collections.emptySet(),
+        1024L * 1024);
+    writeCache.loadRegisteredFiles();
+  }
+
+  private void reopenCache() throws Exception {
+    writeCache.close();
+    writeAheadLog.close();
+
+    initCache();
+  }
+
+  private static long pagePosition(final long pageIndex) {
+    return OFileClassic.HEADER_SIZE + pageIndex * PAGE_SIZE;
+  }
+
+  private static void readFully(final FileChannel channel, final ByteBuffer buffer, final long position) throws IOException {
+    while (buffer.hasRemaining()) {
+      Assert.assertTrue(channel.read(buffer, position + buffer.position()) > 0);
+    }
+    buffer.position(0);
+  }
+
+  private void writePage(final long fileId, final long pageIndex, final int seed) throws IOException {
+    final OCachePointer cachePointer = writeCache.load(fileId, pageIndex, 1, true, new OModifiableBoolean(), true)[0];
+    cachePointer.acquireExclusiveLock();
+    try {
+      final ByteBuffer buffer = cachePointer.getBufferDuplicate();
+      assert buffer != null;
+
+      buffer.position(SYSTEM_OFFSET);
+      buffer.put(pageContent(seed));
+    } finally {
+      cachePointer.releaseExclusiveLock();
+    }
+
+    writeCache.store(fileId, pageIndex, cachePointer);
+    cachePointer.decrementReadersReferrer();
+  }
+
+  private void assertPage(final long fileId, final long pageIndex, final int seed) throws IOException {
+    final OCachePointer cachePointer = writeCache.load(fileId, pageIndex, 1, false, new OModifiableBoolean(), true)[0];
+    cachePointer.acquireSharedLock();
+    try {
+      final ByteBuffer buffer = cachePointer.getBufferDuplicate();
+      assert buffer != null;
+
+      final byte[] content = new byte[PAGE_SIZE - SYSTEM_OFFSET];
+      buffer.position(SYSTEM_OFFSET);
+      buffer.get(content);
+
+      Assert.assertArrayEquals(pageContent(seed), content);
+    } finally {
+      cachePointer.releaseSharedLock();
+    }
+
+    cachePointer.decrementReadersReferrer();
+  }
+
+  private static byte[] pageContent(final int seed) {
+    final byte[] content = new byte[PAGE_SIZE - SYSTEM_OFFSET];
+    new Random(seed).nextBytes(content);
+    return content;
+  }
+}
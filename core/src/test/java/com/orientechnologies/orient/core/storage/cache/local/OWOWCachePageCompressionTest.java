@@ -0,0 +1,299 @@
+package com.orientechnologies.orient.core.storage.cache.local;
+
+import com.orientechnologies.common.collection.closabledictionary.OClosableLinkedContainer;
+import com.orientechnologies.common.directmemory.OByteBufferPool;
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.common.serialization.types.OStringSerializer;
+import com.orientechnologies.common.types.OModifiableBoolean;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.storage.OChecksumMode;
+import com.orientechnologies.orient.core.storage.cache.OCachePointer;
+import com.orientechnologies.orient.core.storage.fs.OFileClassic;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.cas.OCASDiskWriteAheadLog;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+
+public class OWOWCachePageCompressionTest {
+  private static final int PAGE_SIZE     = 64 * 1024;
+  private static final int SYSTEM_OFFSET = 28;
+
+  private static Path   storagePath;
+  private static String storageName;
+
+  private static final OByteBufferPool BUFFER_POOL = new OByteBufferPool(PAGE_SIZE);
+
+  private final OClosableLinkedContainer<Long, OFileClassic> files = new OClosableLinkedContainer<>(1024);
+
+  private OCASDiskWriteAheadLog writeAheadLog;
+  private OWOWCache             writeCache;
+
+  @BeforeClass
+  public static void beforeClass() {
+    OGlobalConfiguration.STORAGE_EXCLUSIVE_FILE_ACCESS.setValue(Boolean.FALSE);
+
+    String buildDirectory = System.getProperty("buildDirectory");
+    if (buildDirectory == null) {
+      buildDirectory = ".";
+    }
+
+    storageName = "OWOWCachePageCompressionTest";
+    storagePath = Paths.get(buildDirectory).resolve(storageName);
+  }
+
+  @AfterClass
+  public static void afterClass() {
+    BUFFER_POOL.clear();
+    OGlobalConfiguration.STORAGE_EXCLUSIVE_FILE_ACCESS.setValue(Boolean.TRUE);
+  }
+
+  @Before
+  public void beforeMethod() throws Exception {
+    OFileUtils.deleteRecursively(storagePath.toFile());
+    initCache(Collections.singleton("compressed"));
+  }
+
+  @After
+  public void afterMethod() throws Exception {
+    writeCache.delete();
+    writeAheadLog.delete();
+    files.clear();
+
+    OFileUtils.deleteRecursively(storagePath.toFile());
+  }
+
+  @Test
+  public void testPagesAreCompressed() throws Exception {
+    long fileId = writeCache.addFile("compressed.tst");
+    for (int i = 0; i < 100; i++) {
+      writePage(fileId, i, i, true);
+    }
+
+    writeCache.flush();
+
+    final Path path = storagePath.resolve(writeCache.nativeFileNameById(fileId));
+    Assert.assertTrue(Files.size(path) < 100L * PAGE_SIZE / 4);
+    Assert.assertTrue(Files.exists(Paths.get(path + OWOWCache.COMPRESSED_PAGE_MAP_EXTENSION)));
+
+    for (int i = 0; i < 100; i++) {
+      assertPage(fileId, i, i, true);
+    }
+
+    reopenCache();
+    fileId = writeCache.loadFile("compressed.tst");
+
+    Assert.assertEquals(100, writeCache.getFilledUpTo(fileId));
+    for (int i = 0; i < 100; i++) {
+      assertPage(fileId, i, i, true);
+    }
+  }
+
+  @Test
+  public void testNotListedFilesAreNotCompressed() throws Exception {
+    final long fileId = writeCache.addFile("plain.tst");
+    for (int i = 0; i < 10; i++) {
+      writePage(fileId, i, i, true);
+    }
+
+    writeCache.flush();
+
+    final Path path = storagePath.resolve(writeCache.nativeFileNameById(fileId));
+    Assert.assertEquals(10L * PAGE_SIZE, Files.size(path) - OFileClassic.HEADER_SIZE);
+    Assert.assertFalse(Files.exists(Paths.get(path + OWOWCache.COMPRESSED_PAGE_MAP_EXTENSION)));
+  }
+
+  @Test
+  public void testPageIsMovedWhenItsSizeIsChanged() throws Exception {
+    long fileId = writeCache.addFile("compressed.tst");
+    for (int i = 0; i < 10; i++) {
+      writePage(fileId, i, i, true);
+    }
+    writeCache.flush();
+
+    writePage(fileId, 5, 42, false);
+    writeCache.flush();
+
+    for (int i = 0; i < 10; i++) {
+      assertPage(fileId, i, i == 5 ? 42 : i, i != 5);
+    }
+
+    writePage(fileId, 5, 43, true);
+    writePage(fileId, 6, 44, false);
+    writeCache.flush();
+
+    reopenCache();
+    fileId = writeCache.loadFile("compressed.tst");
+
+    for (int i = 0; i < 10; i++) {
+      if (i == 5) {
+        assertPage(fileId, i, 43, true);
+      } else if (i == 6) {
+        assertPage(fileId, i, 44, false);
+      } else {
+        assertPage(fileId, i, i, true);
+      }
+    }
+  }
+
+  @Test
+  public void testReleasedSpaceIsReused() throws Exception {
+    final long fileId = writeCache.addFile("compressed.tst");
+    writePage(fileId, 0, 0, true);
+    writeCache.flush();
+
+    for (int i = 0; i < 20; i++) {
+      writePage(fileId, 0, i, i % 2 == 0);
+      writeCache.flush();
+    }
+
+    final Path path = storagePath.resolve(writeCache.nativeFileNameById(fileId));
+    Assert.assertTrue(Files.size(path) <= 3L * PAGE_SIZE);
+
+    assertPage(fileId, 0, 19, false);
+  }
+
+  @Test
+  public void testTruncateFile() throws Exception {
+    long fileId = writeCache.addFile("compressed.tst");
+    for (int i = 0; i < 10; i++) {
+      writePage(fileId, i, i, true);
+    }
+    writeCache.flush();
+
+    writeCache.truncateFile(fileId);
+    Assert.assertEquals(0, writeCache.getFilledUpTo(fileId));
+
+    for (int i = 0; i < 3; i++) {
+      writePage(fileId, i, i + 10, false);
+    }
+    writeCache.flush();
+
+    reopenCache();
+    fileId = writeCache.loadFile("compressed.tst");
+
+    Assert.assertEquals(3, writeCache.getFilledUpTo(fileId));
+    for (int i = 0; i < 3; i++) {
+      assertPage(fileId, i, i + 10, false);
+    }
+  }
+
+  @Test
+  public void testRenameAndDeleteFile() throws Exception {
+    final long fileId = writeCache.addFile("compressed.tst");
+    for (int i = 0; i < 10; i++) {
+      writePage(fileId, i, i, true);
+    }
+    writeCache.flush();
+
+    writeCache.renameFile(fileId, "renamed.tst");
+
+    final Path path = storagePath.resolve(writeCache.nativeFileNameById(fileId));
+    final Path mapPath = Paths.get(path + OWOWCache.COMPRESSED_PAGE_MAP_EXTENSION);
+    Assert.assertTrue(Files.exists(mapPath));
+
+    for (int i = 0; i < 10; i++) {
+      assertPage(fileId, i, i, true);
+    }
+
+    writeCache.deleteFile(fileId);
+
+    Assert.assertFalse(Files.exists(path));
+    Assert.assertFalse(Files.exists(mapPath));
+  }
+
+  @Test
+  public void testAllFilesAreCompressed() throws Exception {
+    writeCache.close();
+    writeAheadLog.close();
+    initCache(Collections.singleton("*"));
+
+    final long fileId = writeCache.addFile("plain.tst");
+    for (int i = 0; i < 10; i++) {
+      writePage(fileId, i, i, true);
+    }
+    writeCache.flush();
+
+    final Path path = storagePath.resolve(writeCache.nativeFileNameById(fileId));
+    Assert.assertTrue(Files.size(path) < 10L * PAGE_SIZE / 4);
+  }
+
+  private void initCache(final Set<String> compressedFiles) throws Exception {
+    writeAheadLog = new OCASDiskWriteAheadLog(storageName, storagePath, storagePath, 12_000, 128, Integer.MAX_VALUE,
+        Integer.MAX_VALUE, 25, true, Locale.US, -1, 1024L * 1024 * 1024, 1000, true, false, true, 10);
+
+    writeCache = new OWOWCache(PAGE_SIZE, BUFFER_POOL, writeAheadLog, -1, 10, 1024L * PAGE_SIZE, storagePath, storageName,
+        OStringSerializer.INSTANCE, files, 1, OChecksumMode.StoreAndThrow, false, false, 10, compressedFiles, -1);
+    writeCache.loadRegisteredFiles();
+  }
+
+  private void reopenCache() throws Exception {
+    writeCache.close();
+    writeAheadLog.close();
+
+    initCache(Collections.singleton("compressed"));
+  }
+
+  private void writePage(final long fileId, final long pageIndex, final int seed, final boolean compressible) throws IOException {
+    final OCachePointer cachePointer = writeCache.load(fileId, pageIndex, 1, true, new OModifiableBoolean(), true)[0];
+    cachePointer.acquireExclusiveLock();
+    try {
+      final ByteBuffer buffer = cachePointer.getBufferDuplicate();
+      assert buffer != null;
+
+      final byte[] content = pageContent(seed, compressible);
+      buffer.position(SYSTEM_OFFSET);
+      buffer.put(content);
+    } finally {
+      cachePointer.releaseExclusiveLock();
+    }
+
+    writeCache.store(fileId, pageIndex, cachePointer);
+    cachePointer.decrementReadersReferrer();
+  }
+
+  private void assertPage(final long fileId, final long pageIndex, final int seed, final boolean compressible) throws IOException {
+    final OCachePointer cachePointer = writeCache.load(fileId, pageIndex, 1, false, new OModifiableBoolean(), true)[0];
+    cachePointer.acquireSharedLock();
+    try {
+      final ByteBuffer buffer = cachePointer.getBufferDuplicate();
+      assert buffer != null;
+
+      final byte[] content = new byte[PAGE_SIZE - SYSTEM_OFFSET];
+      buffer.position(SYSTEM_OFFSET);
+      buffer.get(content);
+
+      Assert.assertArrayEquals(pageContent(seed, compressible), content);
+    } finally {
+      cachePointer.releaseSharedLock();
+    }
+
+    cachePointer.decrementReadersReferrer();
+  }
+
+  private static byte[] pageContent(final int seed, final boolean compressible) {
+    final byte[] content = new byte[PAGE_SIZE - SYSTEM_OFFSET];
+
+    if (compressible) {
+      for (int i = 0; i < content.length; i++) {
+        content[i] = (byte) (seed + i / 512);
+      }
+    } else {
+      new Random(seed).nextBytes(content);
+    }
+
+    return content;
+  }
+}
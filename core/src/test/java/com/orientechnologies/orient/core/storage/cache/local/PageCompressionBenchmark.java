@@ -0,0 +1,142 @@
+package com.orientechnologies.orient.core.storage.cache.local;
+
+import com.orientechnologies.common.collection.closabledictionary.OClosableLinkedContainer;
+import com.orientechnologies.common.directmemory.OByteBufferPool;
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.common.serialization.types.OStringSerializer;
+import com.orientechnologies.common.types.OModifiableBoolean;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.storage.OChecksumMode;
+import com.orientechnologies.orient.core.storage.cache.OCachePointer;
+import com.orientechnologies.orient.core.storage.fs.OFileClassic;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.cas.OCASDiskWriteAheadLog;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Compares throughput of write and read of pages and size of data file with and without LZ4 compression of pages.
+ * <p>
+ * Pages are filled by records which consist of random words taken from small dictionary, so content of pages is compressed
+ * similar to the content of real clusters. Pages are read after reopening of write cache, so all of them are read from the disk.
+ */
+public class PageCompressionBenchmark {
+  private static final int PAGE_SIZE  = 64 * 1024;
+  private static final int FILE_PAGES = 16 * 1024;
+  private static final int ITERATIONS = 5;
+
+  private static final String[] WORDS = { "orient", "database", "record", "cluster", "index", "vertex", "edge", "document",
+      "property", "value", "name", "surname", "city", "country", "street" };
+
+  private final OByteBufferPool bufferPool = new OByteBufferPool(PAGE_SIZE);
+
+  private final OClosableLinkedContainer<Long, OFileClassic> files = new OClosableLinkedContainer<>(1024);
+
+  private final Path storagePath = Paths.get(System.getProperty("java.io.tmpdir")).resolve("PageCompressionBenchmark");
+
+  public static void main(String[] args) throws Exception {
+    OGlobalConfiguration.STORAGE_EXCLUSIVE_FILE_ACCESS.setValue(Boolean.FALSE);
+
+    final PageCompressionBenchmark benchmark = new PageCompressionBenchmark();
+    for (int i = 0; i < ITERATIONS; i++) {
+      benchmark.benchmark(false);
+      benchmark.benchmark(true);
+    }
+  }
+
+  private void benchmark(final boolean compressed) throws Exception {
+    OFileUtils.deleteRecursively(storagePath.toFile());
+
+    final Set<String> compressedFiles = compressed ? Collections.singleton("*") : Collections.emptySet();
+
+    OCASDiskWriteAheadLog writeAheadLog = createWAL();
+    OWOWCache writeCache = createWriteCache(writeAheadLog, compressedFiles);
+
+    try {
+      long fileId = writeCache.addFile("pageCompressionBenchmark.tst");
+
+      final Random random = new Random(42);
+      final long writeStart = System.nanoTime();
+      for (int i = 0; i < FILE_PAGES; i++) {
+        final OCachePointer cachePointer = writeCache.load(fileId, i, 1, true, new OModifiableBoolean(), false)[0];
+        cachePointer.acquireExclusiveLock();
+        try {
+          final ByteBuffer buffer = cachePointer.getBufferDuplicate();
+          assert buffer != null;
+
+          fillPage(buffer, random);
+        } finally {
+          cachePointer.releaseExclusiveLock();
+        }
+
+        writeCache.store(fileId, i, cachePointer);
+        cachePointer.decrementReadersReferrer();
+      }
+      writeCache.flush();
+      final long writeTime = System.nanoTime() - writeStart;
+
+      final Path filePath = storagePath.resolve(writeCache.nativeFileNameById(fileId));
+      final long fileSize = Files.size(filePath);
+
+      writeCache.close();
+      writeAheadLog.close();
+
+      writeAheadLog = createWAL();
+      writeCache = createWriteCache(writeAheadLog, compressedFiles);
+      fileId = writeCache.loadFile("pageCompressionBenchmark.tst");
+
+      final long readStart = System.nanoTime();
+      for (int i = 0; i < FILE_PAGES; i++) {
+        final OCachePointer cachePointer = writeCache.load(fileId, i, 1, false, new OModifiableBoolean(), false)[0];
+        cachePointer.decrementReadersReferrer();
+      }
+      final long readTime = System.nanoTime() - readStart;
+
+      System.out.printf("%s pages : write %d pages/s, read %d pages/s, file size %d MB%n",
+          compressed ? "Compressed" : "Uncompressed", FILE_PAGES * 1_000_000_000L / writeTime,
+          FILE_PAGES * 1_000_000_000L / readTime, fileSize / (1024 * 1024));
+    } finally {
+      writeCache.delete();
+      writeAheadLog.delete();
+      files.clear();
+    }
+  }
+
+  private OCASDiskWriteAheadLog createWAL() throws Exception {
+    return new OCASDiskWriteAheadLog("PageCompressionBenchmark", storagePath, storagePath, 12_000, 128, Integer.MAX_VALUE,
+        Integer.MAX_VALUE, 25, true, Locale.US, -1, 1024L * 1024 * 1024, 1000, true, false, true, 10);
+  }
+
+  private OWOWCache createWriteCache(final OCASDiskWriteAheadLog writeAheadLog, final Set<String> compressedFiles)
+      throws Exception {
+    final OWOWCache writeCache = new OWOWCache(PAGE_SIZE, bufferPool, writeAheadLog, -1, 10, 4L * FILE_PAGES * PAGE_SIZE,
+        storagePath, "PageCompressionBenchmark", OStringSerializer.INSTANCE, files, 1, OChecksumMode.Store, false, false, 10,
+        compressedFiles, -1);
+    writeCache.loadRegisteredFiles();
+
+    return writeCache;
+  }
+
+  private static void fillPage(final ByteBuffer buffer, final Random random) {
+    //system part of the page is left untouched
+    buffer.position(32);
+
+    //pages are usually not filled completely
+    final int limit = PAGE_SIZE / 2 + random.nextInt(PAGE_SIZE / 2);
+    while (buffer.position() < limit) {
+      final byte[] word = WORDS[random.nextInt(WORDS.length)].getBytes();
+      if (buffer.position() + word.length + 4 > limit) {
+        break;
+      }
+
+      buffer.putInt(random.nextInt());
+      buffer.put(word);
+    }
+  }
+}
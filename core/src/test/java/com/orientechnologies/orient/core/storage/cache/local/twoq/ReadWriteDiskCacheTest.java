@@ -691,6 +691,71 @@ public class ReadWriteDiskCacheTest {
     Assert.assertEquals(a1in.size(), 4);
   }
 
+  @Test
+  public void testPrefetchBatchOfPages() throws Exception {
+    final long fileId = readBuffer.addFile(fileName, writeBuffer);
+
+    for (int i = 0; i < 4; i++) {
+      final OCacheEntry cacheEntry = readBuffer.allocateNewPage(fileId, writeBuffer, true, null);
+      try {
+        final ByteBuffer buffer = cacheEntry.getCachePointer().getBufferDuplicate();
+        assert buffer != null;
+        buffer.position(systemOffset);
+        buffer.put(new byte[] { (byte) i, 1, 2, seed, 4, 5, 6, (byte) i });
+
+        setLsn(buffer, new OLogSequenceNumber(1, i));
+      } finally {
+        readBuffer.releaseFromWrite(cacheEntry, writeBuffer);
+      }
+    }
+
+    readBuffer.clear();
+    writeBuffer.flush();
+
+    final LRUList am = readBuffer.getAm();
+    final LRUList a1in = readBuffer.getA1in();
+    final LRUList a1out = readBuffer.getA1out();
+
+    //page 10 is out of file range and should be ignored
+    readBuffer.prefetch(fileId, new long[] { 0, 2, 3, 10 }, writeBuffer);
+
+    Assert.assertEquals(am.size(), 0);
+    Assert.assertEquals(a1out.size(), 0);
+    Assert.assertEquals(a1in.size(), 3);
+
+    Assert.assertNotNull(a1in.get(fileId, 0));
+    Assert.assertNull(a1in.get(fileId, 1));
+    Assert.assertNotNull(a1in.get(fileId, 2));
+    Assert.assertNotNull(a1in.get(fileId, 3));
+
+    //already cached pages are not loaded again
+    readBuffer.prefetch(fileId, new long[] { 0, 1, 2 }, writeBuffer);
+
+    Assert.assertEquals(am.size(), 0);
+    Assert.assertEquals(a1out.size(), 0);
+    Assert.assertEquals(a1in.size(), 4);
+
+    for (int i = 0; i < 4; i++) {
+      final OCacheEntry cacheEntry = readBuffer.loadForRead(fileId, i, false, writeBuffer, 1, true);
+      try {
+        final ByteBuffer buffer = cacheEntry.getCachePointer().getBufferDuplicate();
+        assert buffer != null;
+
+        final byte[] userData = new byte[userDataSize];
+        buffer.position(systemOffset);
+        buffer.get(userData);
+
+        Assert.assertArrayEquals(new byte[] { (byte) i, 1, 2, seed, 4, 5, 6, (byte) i }, userData);
+      } finally {
+        readBuffer.releaseFromRead(cacheEntry, writeBuffer);
+      }
+    }
+
+    Assert.assertEquals(am.size(), 0);
+    Assert.assertEquals(a1out.size(), 0);
+    Assert.assertEquals(a1in.size(), 4);
+  }
+
   @Test
   public void testPrefetchPagesInA1inAmQueue() throws Exception {
     final long fileId = readBuffer.addFile(fileName, writeBuffer);
@@ -0,0 +1,276 @@
+package com.orientechnologies.orient.core.storage.cache.local.wtinylfu;
+
+import com.orientechnologies.common.collection.closabledictionary.OClosableLinkedContainer;
+import com.orientechnologies.common.directmemory.OByteBufferPool;
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.common.serialization.types.OIntegerSerializer;
+import com.orientechnologies.common.serialization.types.OLongSerializer;
+import com.orientechnologies.common.serialization.types.OStringSerializer;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.storage.OChecksumMode;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.cache.local.OWOWCache;
+import com.orientechnologies.orient.core.storage.fs.OFileClassic;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.cas.OCASDiskWriteAheadLog;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class OWTinyLFUCacheTest {
+  private static final int systemOffset          = OIntegerSerializer.INT_SIZE + 3 * OLongSerializer.LONG_SIZE;
+  private static final int PAGE_SIZE             = systemOffset + OLongSerializer.LONG_SIZE;
+  private static final int READ_CACHE_MAX_PAGES  = 100;
+  private static final int WRITE_CACHE_MAX_PAGES = 15_000;
+
+  private static Path   storagePath;
+  private static String storageName;
+
+  private static final OByteBufferPool BUFFER_POOL = new OByteBufferPool(PAGE_SIZE);
+
+  private final OClosableLinkedContainer<Long, OFileClassic> files = new OClosableLinkedContainer<>(1024);
+
+  private OCASDiskWriteAheadLog writeAheadLog;
+  private OWOWCache             writeCache;
+  private OWTinyLFUCache        readCache;
+
+  @BeforeClass
+  public static void beforeClass() {
+    OGlobalConfiguration.STORAGE_EXCLUSIVE_FILE_ACCESS.setValue(Boolean.FALSE);
+
+    String buildDirectory = System.getProperty("buildDirectory");
+    if (buildDirectory == null) {
+      buildDirectory = ".";
+    }
+
+    storageName = "OWTinyLFUCacheTest";
+    storagePath = Paths.get(buildDirectory).resolve(storageName);
+  }
+
+  @AfterClass
+  public static void afterClass() {
+    BUFFER_POOL.clear();
+    OGlobalConfiguration.STORAGE_EXCLUSIVE_FILE_ACCESS.setValue(Boolean.TRUE);
+  }
+
+  @Before
+  public void beforeMethod() throws Exception {
+    OFileUtils.deleteRecursively(storagePath.toFile());
+
+    writeAheadLog = new OCASDiskWriteAheadLog(storageName, storagePath, storagePath, 12_000, 128, Integer.MAX_VALUE,
+        Integer.MAX_VALUE, 25, true, Locale.US, -1, 1024L * 1024 * 1024, 1000, true, false, true, 10);
+
+    writeCache = new OWOWCache(PAGE_SIZE, BUFFER_POOL, writeAheadLog, -1, 10, WRITE_CACHE_MAX_PAGES * PAGE_SIZE, storagePath,
+        storageName, OStringSerializer.INSTANCE, files, 1, OChecksumMode.StoreAndThrow, false, true, 10);
+    writeCache.loadRegisteredFiles();
+
+    readCache = new OWTinyLFUCache(READ_CACHE_MAX_PAGES * PAGE_SIZE, PAGE_SIZE, false, 50, false, 10);
+  }
+
+  @After
+  public void afterMethod() throws Exception {
+    readCache.deleteStorage(writeCache);
+    readCache.clear();
+
+    writeAheadLog.delete();
+    files.clear();
+
+    final File directory = storagePath.toFile();
+    if (directory.exists()) {
+      OFileUtils.deleteRecursively(directory);
+    }
+  }
+
+  @Test
+  public void testLoadAndRelease() throws Exception {
+    final long fileId = readCache.addFile("loadAndRelease.tst", writeCache);
+
+    fillFile(fileId, 10);
+
+    for (int i = 0; i < 10; i++) {
+      Assert.assertTrue(readCache.contains(fileId, i));
+      assertPage(fileId, i);
+    }
+
+    Assert.assertEquals(10L * PAGE_SIZE, readCache.getUsedMemory());
+  }
+
+  @Test
+  public void testCacheSizeIsLimited() throws Exception {
+    final long fileId = readCache.addFile("cacheSizeIsLimited.tst", writeCache);
+
+    fillFile(fileId, 10 * READ_CACHE_MAX_PAGES);
+
+    Assert.assertTrue(readCache.getUsedMemory() <= READ_CACHE_MAX_PAGES * PAGE_SIZE);
+
+    writeCache.flush();
+
+    for (int i = 0; i < 10 * READ_CACHE_MAX_PAGES; i++) {
+      assertPage(fileId, i);
+    }
+
+    Assert.assertTrue(readCache.getUsedMemory() <= READ_CACHE_MAX_PAGES * PAGE_SIZE);
+  }
+
+  @Test
+  public void testScanDoesNotEvictHotPages() throws Exception {
+    final long fileId = readCache.addFile("scanDoesNotEvictHotPages.tst", writeCache);
+    final int hotPages = 20;
+    final int scanPages = 10 * READ_CACHE_MAX_PAGES;
+
+    fillFile(fileId, hotPages + scanPages);
+
+    for (int n = 0; n < 10; n++) {
+      for (int i = 0; i < hotPages; i++) {
+        assertPage(fileId, i);
+      }
+    }
+
+    for (int i = hotPages; i < hotPages + scanPages; i++) {
+      assertPage(fileId, i);
+    }
+
+    for (int i = 0; i < hotPages; i++) {
+      Assert.assertTrue(readCache.contains(fileId, i));
+    }
+  }
+
+  @Test
+  public void testPinnedPagesAreNotEvicted() throws Exception {
+    final long fileId = readCache.addFile("pinnedPagesAreNotEvicted.tst", writeCache);
+
+    final OCacheEntry cacheEntry = readCache.allocateNewPage(fileId, writeCache, true, null);
+    writeValue(cacheEntry, 0);
+    readCache.pinPage(cacheEntry, writeCache);
+    readCache.releaseFromWrite(cacheEntry, writeCache);
+
+    Assert.assertTrue(readCache.inPinnedPages(fileId, 0));
+
+    for (int i = 1; i < 5 * READ_CACHE_MAX_PAGES; i++) {
+      final OCacheEntry entry = readCache.allocateNewPage(fileId, writeCache, true, null);
+      writeValue(entry, i);
+      readCache.releaseFromWrite(entry, writeCache);
+    }
+
+    Assert.assertTrue(readCache.inPinnedPages(fileId, 0));
+    assertPage(fileId, 0);
+  }
+
+  @Test
+  public void testTruncateFile() throws Exception {
+    final long fileId = readCache.addFile("truncateFile.tst", writeCache);
+
+    fillFile(fileId, 10);
+    readCache.truncateFile(fileId, writeCache);
+
+    for (int i = 0; i < 10; i++) {
+      Assert.assertFalse(readCache.contains(fileId, i));
+    }
+
+    Assert.assertEquals(0, readCache.getUsedMemory());
+    Assert.assertNull(readCache.loadForRead(fileId, 0, false, writeCache, 1, true));
+  }
+
+  @Test
+  public void testPrefetch() throws Exception {
+    final long fileId = readCache.addFile("prefetch.tst", writeCache);
+
+    fillFile(fileId, 20);
+
+    readCache.clear();
+    writeCache.flush();
+
+    readCache.prefetch(fileId, new long[] { 1, 5, 6, 7, 30 }, writeCache);
+
+    Assert.assertEquals(4L * PAGE_SIZE, readCache.getUsedMemory());
+    for (int i = 0; i < 20; i++) {
+      Assert.assertEquals(i == 1 || (i >= 5 && i <= 7), readCache.contains(fileId, i));
+    }
+
+    for (int i = 0; i < 20; i++) {
+      assertPage(fileId, i);
+    }
+  }
+
+  @Test
+  public void testConcurrentLoad() throws Exception {
+    final long fileId = readCache.addFile("concurrentLoad.tst", writeCache);
+    final int pages = 5 * READ_CACHE_MAX_PAGES;
+
+    fillFile(fileId, pages);
+    writeCache.flush();
+
+    final ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      final List<Future<Void>> futures = new ArrayList<>();
+      for (int n = 0; n < 8; n++) {
+        futures.add(executor.submit(new Callable<Void>() {
+          @Override
+          public Void call() throws Exception {
+            final Random random = new Random();
+            for (int i = 0; i < 100_000; i++) {
+              assertPage(fileId, random.nextInt(pages));
+            }
+            return null;
+          }
+        }));
+      }
+
+      for (final Future<Void> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    Assert.assertTrue(readCache.getUsedMemory() <= READ_CACHE_MAX_PAGES * PAGE_SIZE);
+  }
+
+  private void fillFile(final long fileId, final int pages) throws Exception {
+    for (int i = 0; i < pages; i++) {
+      final OCacheEntry cacheEntry = readCache.allocateNewPage(fileId, writeCache, true, null);
+      Assert.assertEquals(i, cacheEntry.getPageIndex());
+
+      writeValue(cacheEntry, i);
+      readCache.releaseFromWrite(cacheEntry, writeCache);
+    }
+  }
+
+  private static void writeValue(final OCacheEntry cacheEntry, final long value) {
+    final ByteBuffer buffer = cacheEntry.getCachePointer().getBufferDuplicate();
+    assert buffer != null;
+
+    buffer.position(systemOffset);
+    buffer.putLong(value);
+  }
+
+  private void assertPage(final long fileId, final long pageIndex) throws Exception {
+    final OCacheEntry cacheEntry = readCache.loadForRead(fileId, pageIndex, false, writeCache, 1, true);
+    try {
+      Assert.assertNotNull(cacheEntry);
+
+      final ByteBuffer buffer = cacheEntry.getCachePointer().getBufferDuplicate();
+      assert buffer != null;
+
+      buffer.position(systemOffset);
+      Assert.assertEquals(pageIndex, buffer.getLong());
+    } finally {
+      readCache.releaseFromRead(cacheEntry, writeCache);
+    }
+  }
+}
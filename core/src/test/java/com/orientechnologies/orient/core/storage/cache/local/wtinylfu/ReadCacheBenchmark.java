@@ -0,0 +1,185 @@
+package com.orientechnologies.orient.core.storage.cache.local.wtinylfu;
+
+import com.orientechnologies.common.collection.closabledictionary.OClosableLinkedContainer;
+import com.orientechnologies.common.directmemory.OByteBufferPool;
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.common.serialization.types.OStringSerializer;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.storage.OChecksumMode;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.cache.OReadCache;
+import com.orientechnologies.orient.core.storage.cache.local.OWOWCache;
+import com.orientechnologies.orient.core.storage.cache.local.twoq.O2QCache;
+import com.orientechnologies.orient.core.storage.fs.OFileClassic;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.cas.OCASDiskWriteAheadLog;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compares throughput of {@link O2QCache} and {@link OWTinyLFUCache} for uniform, Zipfian and scan mixed workloads.
+ * <p>
+ * Size of data file is 4 times bigger than size of read cache, so part of requests always goes to the disk. In scan mixed workload
+ * half of the threads scan data file sequentially and other half of threads read pages with Zipfian distribution.
+ */
+public class ReadCacheBenchmark {
+  private static final int PAGE_SIZE        = 64 * 1024;
+  private static final int CACHE_PAGES      = 4 * 1024;
+  private static final int FILE_PAGES       = 4 * CACHE_PAGES;
+  private static final int THREADS          = Runtime.getRuntime().availableProcessors();
+  private static final int WARM_UP_SECONDS  = 10;
+  private static final int MEASURE_SECONDS  = 30;
+  private static final int ZIPFIAN_EXPONENT = 1;
+
+  private final OByteBufferPool bufferPool = new OByteBufferPool(PAGE_SIZE);
+
+  private final OClosableLinkedContainer<Long, OFileClassic> files = new OClosableLinkedContainer<>(1024);
+
+  private final double[] zipfianDistribution = buildZipfianDistribution();
+
+  public static void main(String[] args) throws Exception {
+    OGlobalConfiguration.STORAGE_EXCLUSIVE_FILE_ACCESS.setValue(Boolean.FALSE);
+
+    final ReadCacheBenchmark benchmark = new ReadCacheBenchmark();
+    for (final Workload workload : Workload.values()) {
+      benchmark.benchmark(workload, false);
+      benchmark.benchmark(workload, true);
+    }
+  }
+
+  private void benchmark(final Workload workload, final boolean wtinylfu) throws Exception {
+    final Path storagePath = Paths.get(System.getProperty("java.io.tmpdir")).resolve("ReadCacheBenchmark");
+    OFileUtils.deleteRecursively(storagePath.toFile());
+
+    final OCASDiskWriteAheadLog writeAheadLog = new OCASDiskWriteAheadLog("ReadCacheBenchmark", storagePath, storagePath, 12_000,
+        128, Integer.MAX_VALUE, Integer.MAX_VALUE, 25, true, Locale.US, -1, 1024L * 1024 * 1024, 1000, true, false, true, 10);
+
+    final OWOWCache writeCache = new OWOWCache(PAGE_SIZE, bufferPool, writeAheadLog, -1, 10, 1024L * PAGE_SIZE, storagePath,
+        "ReadCacheBenchmark", OStringSerializer.INSTANCE, files, 1, OChecksumMode.Off, false, true, 10);
+    writeCache.loadRegisteredFiles();
+
+    final OReadCache readCache;
+    if (wtinylfu) {
+      readCache = new OWTinyLFUCache((long) CACHE_PAGES * PAGE_SIZE, PAGE_SIZE, false, 20, false, 10);
+    } else {
+      readCache = new O2QCache((long) CACHE_PAGES * PAGE_SIZE, PAGE_SIZE, false, 20, false, 10);
+    }
+
+    try {
+      final long fileId = readCache.addFile("readCacheBenchmark.tst", writeCache);
+      for (int i = 0; i < FILE_PAGES; i++) {
+        final OCacheEntry cacheEntry = readCache.allocateNewPage(fileId, writeCache, false, null);
+        readCache.releaseFromWrite(cacheEntry, writeCache);
+      }
+      writeCache.flush();
+
+      run(workload, readCache, writeCache, fileId, WARM_UP_SECONDS);
+      final long operations = run(workload, readCache, writeCache, fileId, MEASURE_SECONDS);
+
+      System.out.printf("%s cache, %s workload, %d threads : %d ops/s%n", wtinylfu ? "W-TinyLFU" : "2Q", workload, THREADS,
+          operations / MEASURE_SECONDS);
+    } finally {
+      readCache.deleteStorage(writeCache);
+      readCache.clear();
+      writeAheadLog.delete();
+      files.clear();
+    }
+  }
+
+  private long run(final Workload workload, final OReadCache readCache, final OWOWCache writeCache, final long fileId,
+      final int seconds) throws Exception {
+    final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    final CountDownLatch latch = new CountDownLatch(1);
+    final AtomicLong operations = new AtomicLong();
+
+    final long end = System.nanoTime() + seconds * 1_000_000_000L;
+    try {
+      final List<Future<Void>> futures = new ArrayList<>();
+      for (int i = 0; i < THREADS; i++) {
+        final boolean scanner = workload == Workload.SCAN_MIXED && i % 2 == 0;
+        futures.add(executor.submit(() -> {
+          latch.await();
+
+          final ThreadLocalRandom random = ThreadLocalRandom.current();
+          long pageIndex = random.nextInt(FILE_PAGES);
+          long counter = 0;
+
+          while (System.nanoTime() < end) {
+            if (scanner) {
+              pageIndex = (pageIndex + 1) % FILE_PAGES;
+            } else if (workload == Workload.UNIFORM) {
+              pageIndex = random.nextInt(FILE_PAGES);
+            } else {
+              pageIndex = nextZipfian(random);
+            }
+
+            final OCacheEntry cacheEntry = readCache.loadForRead(fileId, pageIndex, false, writeCache, 1, false);
+            readCache.releaseFromRead(cacheEntry, writeCache);
+            counter++;
+          }
+
+          operations.addAndGet(counter);
+          return null;
+        }));
+      }
+
+      latch.countDown();
+
+      for (final Future<Void> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    return operations.get();
+  }
+
+  private int nextZipfian(final Random random) {
+    final double value = random.nextDouble();
+
+    int low = 0;
+    int high = zipfianDistribution.length - 1;
+    while (low < high) {
+      final int mid = (low + high) >>> 1;
+      if (zipfianDistribution[mid] < value) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+
+    //spread popular pages over the whole file
+    return (int) ((low * 0x9E3779B1L) % FILE_PAGES);
+  }
+
+  private static double[] buildZipfianDistribution() {
+    final double[] distribution = new double[FILE_PAGES];
+
+    double sum = 0;
+    for (int i = 0; i < FILE_PAGES; i++) {
+      sum += 1.0 / Math.pow(i + 1, ZIPFIAN_EXPONENT);
+      distribution[i] = sum;
+    }
+
+    for (int i = 0; i < FILE_PAGES; i++) {
+      distribution[i] /= sum;
+    }
+
+    return distribution;
+  }
+
+  private enum Workload {
+    UNIFORM, ZIPFIAN, SCAN_MIXED
+  }
+}
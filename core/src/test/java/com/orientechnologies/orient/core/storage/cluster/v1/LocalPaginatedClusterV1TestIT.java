@@ -1,13 +1,22 @@
 package com.orientechnologies.orient.core.storage.cluster.v1;
 
 import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.storage.OPhysicalPosition;
+import com.orientechnologies.orient.core.storage.ORawBuffer;
+import com.orientechnologies.orient.core.storage.cluster.OClusterCompactionResult;
+import com.orientechnologies.orient.core.storage.cluster.OClusterPage;
 import com.orientechnologies.orient.core.storage.cluster.LocalPaginatedClusterAbstract;
 import com.orientechnologies.orient.core.storage.cluster.v0.LocalPaginatedClusterV0TestIT;
 import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import org.junit.Assert;
 import org.junit.BeforeClass;
+import org.junit.Test;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
 
 public class LocalPaginatedClusterV1TestIT extends LocalPaginatedClusterAbstract {
   @BeforeClass
@@ -33,4 +42,82 @@ public class LocalPaginatedClusterV1TestIT extends LocalPaginatedClusterAbstract
     paginatedCluster.configure(storage, 42, "paginatedClusterTest", buildDirectory, -1);
     paginatedCluster.create(-1);
   }
+
+  @Test
+  public void testFreeSpaceOfFirstPagesIsReused() throws IOException {
+    final byte[] record = new byte[1000];
+    final long[] positions = new long[200];
+
+    for (int i = 0; i < positions.length; i++) {
+      positions[i] = paginatedCluster.createRecord(record, 1, (byte) 1, null).clusterPosition;
+    }
+
+    final long firstPage = paginatedCluster.readDebug(positions[0]).pages.get(0).pageIndex;
+    final long lastPage = paginatedCluster.readDebug(positions[positions.length - 1]).pages.get(0).pageIndex;
+    Assert.assertTrue(lastPage > firstPage + 1);
+
+    paginatedCluster.deleteRecord(positions[0]);
+
+    final OPhysicalPosition position = paginatedCluster.createRecord(new byte[500], 1, (byte) 1, null);
+    Assert.assertEquals(firstPage, paginatedCluster.readDebug(position.clusterPosition).pages.get(0).pageIndex);
+  }
+
+  @Test
+  public void testCompactionPreservesRecordsAndReleasesPages() throws IOException {
+    final long seed = System.nanoTime();
+    System.out.println("testCompactionPreservesRecordsAndReleasesPages seed : " + seed);
+    final Random random = new Random(seed);
+
+    final Map<Long, byte[]> records = new HashMap<>();
+    final long[] positions = new long[400];
+
+    for (int i = 0; i < positions.length; i++) {
+      final byte[] record;
+      if (i % 50 == 0) {
+        record = new byte[3 * OClusterPage.MAX_RECORD_SIZE];
+      } else {
+        record = new byte[random.nextInt(1500) + 1];
+      }
+      random.nextBytes(record);
+
+      positions[i] = paginatedCluster.createRecord(record, i + 1, (byte) 1, null).clusterPosition;
+      records.put(positions[i], record);
+    }
+
+    final long lastPage = paginatedCluster.readDebug(positions[positions.length - 1]).pages.get(0).pageIndex;
+
+    for (int i = 0; i < positions.length - 1; i++) {
+      if (i % 10 != 0) {
+        Assert.assertTrue(paginatedCluster.deleteRecord(positions[i]));
+        records.remove(positions[i]);
+      }
+    }
+
+    final OClusterCompactionResult result = paginatedCluster.compact(16, 0);
+
+    Assert.assertTrue(result.getRelocatedRecords() > 0);
+    Assert.assertTrue(result.getReleasedPages() > 0);
+    Assert.assertTrue(paginatedCluster.readDebug(positions[positions.length - 1]).pages.get(0).pageIndex < lastPage);
+
+    Assert.assertEquals(records.size(), paginatedCluster.getEntries());
+
+    for (int i = 0; i < positions.length; i++) {
+      final byte[] record = records.get(positions[i]);
+      final ORawBuffer rawBuffer = paginatedCluster.readRecord(positions[i], false);
+
+      if (record == null) {
+        Assert.assertNull(rawBuffer);
+      } else {
+        Assert.assertNotNull(rawBuffer);
+        Assert.assertArrayEquals(record, rawBuffer.buffer);
+        Assert.assertEquals(i + 1, rawBuffer.version);
+      }
+    }
+
+    final byte[] record = new byte[2 * OClusterPage.MAX_RECORD_SIZE];
+    random.nextBytes(record);
+
+    final OPhysicalPosition position = paginatedCluster.createRecord(record, 1, (byte) 1, null);
+    Assert.assertArrayEquals(record, paginatedCluster.readRecord(position.clusterPosition, false).buffer);
+  }
 }
@@ -0,0 +1,109 @@
+package com.orientechnologies.orient.core.storage.cluster.v1;
+
+import com.orientechnologies.common.directmemory.OByteBufferPool;
+import com.orientechnologies.common.directmemory.OPointer;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntryImpl;
+import com.orientechnologies.orient.core.storage.cache.OCachePointer;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.base.ODurablePage;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+public class OFreeSpaceMapPageTest {
+  private OByteBufferPool bufferPool;
+  private OCachePointer   cachePointer;
+  private OCacheEntry     cacheEntry;
+
+  @Before
+  public void before() {
+    bufferPool = new OByteBufferPool(ODurablePage.MAX_PAGE_SIZE_BYTES);
+    final OPointer pointer = bufferPool.acquireDirect(true);
+
+    cachePointer = new OCachePointer(pointer, bufferPool, 0, 0);
+    cachePointer.incrementReferrer();
+
+    cacheEntry = new OCacheEntryImpl(0, 0, cachePointer);
+    cacheEntry.acquireExclusiveLock();
+  }
+
+  @After
+  public void after() {
+    cacheEntry.releaseExclusiveLock();
+    cachePointer.decrementReferrer();
+    bufferPool.clear();
+  }
+
+  @Test
+  public void testEmptyPage() {
+    final OFreeSpaceMapPage page = new OFreeSpaceMapPage(cacheEntry, true);
+
+    Assert.assertEquals(0, page.getMaxValue());
+    Assert.assertEquals(-1, page.findCell(1));
+  }
+
+  @Test
+  public void testFindFirstSuitableCell() {
+    final OFreeSpaceMapPage page = new OFreeSpaceMapPage(cacheEntry, true);
+
+    Assert.assertTrue(page.updateValue(100, 10));
+    Assert.assertFalse(page.updateValue(5, 3));
+    Assert.assertTrue(page.updateValue(OFreeSpaceMapPage.CELLS_PER_PAGE - 1, 255));
+
+    Assert.assertEquals(255, page.getMaxValue());
+    Assert.assertEquals(5, page.findCell(1));
+    Assert.assertEquals(5, page.findCell(3));
+    Assert.assertEquals(100, page.findCell(4));
+    Assert.assertEquals(100, page.findCell(10));
+    Assert.assertEquals(OFreeSpaceMapPage.CELLS_PER_PAGE - 1, page.findCell(11));
+
+    Assert.assertTrue(page.updateValue(OFreeSpaceMapPage.CELLS_PER_PAGE - 1, 0));
+    Assert.assertEquals(10, page.getMaxValue());
+    Assert.assertEquals(-1, page.findCell(11));
+
+    page.updateValue(100, 2);
+    Assert.assertEquals(3, page.getMaxValue());
+    Assert.assertEquals(5, page.findCell(3));
+    Assert.assertEquals(2, page.getValue(100));
+  }
+
+  @Test
+  public void testRandomUpdates() {
+    final OFreeSpaceMapPage page = new OFreeSpaceMapPage(cacheEntry, true);
+    final int[] values = new int[OFreeSpaceMapPage.CELLS_PER_PAGE];
+
+    final long seed = System.nanoTime();
+    System.out.println("testRandomUpdates seed : " + seed);
+    final Random random = new Random(seed);
+
+    for (int i = 0; i < 10_000; i++) {
+      final int cell = random.nextInt(values.length);
+      final int value = random.nextInt(256);
+
+      values[cell] = value;
+      page.updateValue(cell, value);
+    }
+
+    int max = 0;
+    for (int i = 0; i < values.length; i++) {
+      Assert.assertEquals(values[i], page.getValue(i));
+      max = Math.max(max, values[i]);
+    }
+    Assert.assertEquals(max, page.getMaxValue());
+
+    for (int value = 1; value < 256; value++) {
+      int expected = -1;
+      for (int i = 0; i < values.length; i++) {
+        if (values[i] >= value) {
+          expected = i;
+          break;
+        }
+      }
+
+      Assert.assertEquals(expected, page.findCell(value));
+    }
+  }
+}
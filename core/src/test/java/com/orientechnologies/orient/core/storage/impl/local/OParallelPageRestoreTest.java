@@ -0,0 +1,99 @@
+package com.orientechnologies.orient.core.storage.impl.local;
+
+import com.orientechnologies.orient.core.exception.OStorageException;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OLogSequenceNumber;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OOperationUnitId;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OUpdatePageRecord;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OWALChangesTree;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class OParallelPageRestoreTest {
+  @Test
+  public void testChangesOfPageAreAppliedInOrder() throws Exception {
+    final Map<String, List<Long>> appliedChanges = new ConcurrentHashMap<>();
+    final OParallelPageRestore pageRestore = new OParallelPageRestore("parallelPageRestoreTest", 4,
+        (fileId, updatePageRecord) -> appliedChanges
+            .computeIfAbsent(fileId + ":" + updatePageRecord.getPageIndex(), key -> new ArrayList<>())
+            .add(updatePageRecord.getLsn().getPosition()));
+
+    try {
+      long position = 0;
+      for (int n = 0; n < 100; n++) {
+        for (int fileId = 0; fileId < 3; fileId++) {
+          for (int pageIndex = 0; pageIndex < 50; pageIndex++) {
+            pageRestore.submit(fileId, updatePageRecord(fileId, pageIndex, position++));
+          }
+        }
+      }
+
+      pageRestore.await();
+    } finally {
+      pageRestore.shutdown();
+    }
+
+    Assert.assertEquals(150, appliedChanges.size());
+    for (final List<Long> positions : appliedChanges.values()) {
+      Assert.assertEquals(100, positions.size());
+
+      for (int i = 1; i < positions.size(); i++) {
+        Assert.assertTrue(positions.get(i - 1) < positions.get(i));
+      }
+    }
+  }
+
+  @Test
+  public void testAwaitWaitsForAllChanges() throws Exception {
+    final AtomicInteger appliedChanges = new AtomicInteger();
+    final OParallelPageRestore pageRestore = new OParallelPageRestore("parallelPageRestoreTest", 4,
+        (fileId, updatePageRecord) -> appliedChanges.incrementAndGet());
+
+    try {
+      for (int i = 0; i < 1_000; i++) {
+        pageRestore.submit(1, updatePageRecord(1, i, i));
+      }
+
+      pageRestore.await();
+      Assert.assertEquals(1_000, appliedChanges.get());
+
+      pageRestore.submit(1, updatePageRecord(1, 0, 1_000));
+      pageRestore.await();
+      Assert.assertEquals(1_001, appliedChanges.get());
+    } finally {
+      pageRestore.shutdown();
+    }
+  }
+
+  @Test(expected = OStorageException.class)
+  public void testErrorIsPropagated() throws Exception {
+    final OParallelPageRestore pageRestore = new OParallelPageRestore("parallelPageRestoreTest", 4, (fileId, updatePageRecord) -> {
+      if (updatePageRecord.getPageIndex() == 42) {
+        throw new IOException("Page can not be restored");
+      }
+    });
+
+    try {
+      for (int i = 0; i < 100; i++) {
+        pageRestore.submit(1, updatePageRecord(1, i, i));
+      }
+
+      pageRestore.await();
+    } finally {
+      pageRestore.shutdown();
+    }
+  }
+
+  private static OUpdatePageRecord updatePageRecord(final long fileId, final long pageIndex, final long position) {
+    final OUpdatePageRecord updatePageRecord = new OUpdatePageRecord(pageIndex, fileId, OOperationUnitId.generateId(),
+        new OWALChangesTree());
+    updatePageRecord.setLsn(new OLogSequenceNumber(1, position));
+    return updatePageRecord;
+  }
+}
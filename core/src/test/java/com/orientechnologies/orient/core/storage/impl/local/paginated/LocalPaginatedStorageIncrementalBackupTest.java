@@ -0,0 +1,210 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class LocalPaginatedStorageIncrementalBackupTest {
+  private static final String SOURCE_DB   = "incrementalBackupSource";
+  private static final String RESTORED_DB = "incrementalBackupRestored";
+
+  private OrientDB orientDB;
+  private File     databasesDirectory;
+  private File     backupDirectory;
+
+  @Before
+  public void before() {
+    final String buildDirectory = System.getProperty("buildDirectory", ".");
+
+    databasesDirectory = new File(buildDirectory, LocalPaginatedStorageIncrementalBackupTest.class.getSimpleName());
+    backupDirectory = new File(buildDirectory, LocalPaginatedStorageIncrementalBackupTest.class.getSimpleName() + "Backup");
+
+    OFileUtils.deleteRecursively(databasesDirectory);
+    OFileUtils.deleteRecursively(backupDirectory);
+
+    orientDB = new OrientDB("embedded:" + databasesDirectory.getAbsolutePath(), OrientDBConfig.defaultConfig());
+    orientDB.create(SOURCE_DB, ODatabaseType.PLOCAL);
+  }
+
+  @After
+  public void after() {
+    orientDB.close();
+
+    OFileUtils.deleteRecursively(databasesDirectory);
+    OFileUtils.deleteRecursively(backupDirectory);
+  }
+
+  @Test
+  public void testBackupChainIsRestored() {
+    try (ODatabaseSession session = orientDB.open(SOURCE_DB, "admin", "admin")) {
+      createClass(session, "Person");
+
+      for (int i = 0; i < 1_000; i++) {
+        saveElement(session, "Person", i, "person" + i);
+      }
+
+      final String fullBackup = session.incrementalBackup(backupDirectory.getAbsolutePath());
+
+      for (int i = 0; i < 100; i++) {
+        session.command("update Person set value = ? where id = ?", "updated" + i, i).close();
+      }
+      session.command("delete from Person where id >= 900").close();
+      for (int i = 1_000; i < 1_100; i++) {
+        saveElement(session, "Person", i, "person" + i);
+      }
+
+      final String firstIncrement = session.incrementalBackup(backupDirectory.getAbsolutePath());
+      Assert.assertTrue(new File(backupDirectory, firstIncrement).length() < new File(backupDirectory, fullBackup).length());
+
+      createClass(session, "Temp");
+      for (int i = 0; i < 100; i++) {
+        saveElement(session, "Temp", i, "temp" + i);
+      }
+
+      session.incrementalBackup(backupDirectory.getAbsolutePath());
+
+      session.getMetadata().getSchema().dropClass("Temp");
+      createClass(session, "Car");
+      for (int i = 0; i < 100; i++) {
+        saveElement(session, "Car", i, "car" + i);
+      }
+
+      session.incrementalBackup(backupDirectory.getAbsolutePath());
+    }
+
+    Assert.assertEquals(4, backupDirectory.listFiles((dir, name) -> name.endsWith(".ibu")).length);
+
+    orientDB.getInternal()
+        .restore(RESTORED_DB, "admin", "admin", ODatabaseType.PLOCAL, backupDirectory.getAbsolutePath(),
+            OrientDBConfig.defaultConfig());
+
+    assertClassesAreEqual("Person");
+    assertClassesAreEqual("Car");
+
+    try (ODatabaseSession restored = orientDB.open(RESTORED_DB, "admin", "admin")) {
+      Assert.assertFalse(restored.getMetadata().getSchema().existsClass("Temp"));
+
+      try (OResultSet resultSet = restored.query("select from Person where id = ?", 1_050)) {
+        Assert.assertEquals("person1050", resultSet.next().getProperty("value"));
+      }
+    }
+  }
+
+  @Test
+  public void testBackupDuringWrites() throws Exception {
+    try (ODatabaseSession session = orientDB.open(SOURCE_DB, "admin", "admin")) {
+      createClass(session, "Person");
+    }
+
+    final AtomicBoolean stop = new AtomicBoolean();
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      final Future<Void> writer = executor.submit(() -> {
+        final Random random = new Random();
+        int counter = 0;
+
+        try (ODatabaseSession session = orientDB.open(SOURCE_DB, "admin", "admin")) {
+          while (!stop.get()) {
+            saveElement(session, "Person", counter, "person" + counter);
+
+            if (counter > 0 && random.nextBoolean()) {
+              session.command("update Person set value = ? where id = ?", "updated" + counter, random.nextInt(counter)).close();
+            }
+
+            counter++;
+          }
+        }
+
+        return null;
+      });
+
+      try (ODatabaseSession session = orientDB.open(SOURCE_DB, "admin", "admin")) {
+        for (int i = 0; i < 3; i++) {
+          Thread.sleep(500);
+          session.incrementalBackup(backupDirectory.getAbsolutePath());
+        }
+
+        stop.set(true);
+        writer.get();
+
+        session.incrementalBackup(backupDirectory.getAbsolutePath());
+      }
+    } finally {
+      stop.set(true);
+      executor.shutdown();
+    }
+
+    orientDB.getInternal()
+        .restore(RESTORED_DB, "admin", "admin", ODatabaseType.PLOCAL, backupDirectory.getAbsolutePath(),
+            OrientDBConfig.defaultConfig());
+
+    assertClassesAreEqual("Person");
+  }
+
+  private static void createClass(final ODatabaseSession session, final String className) {
+    final OClass cls = session.getMetadata().getSchema().createClass(className);
+    cls.createProperty("id", OType.INTEGER);
+    cls.createProperty("value", OType.STRING);
+    cls.createIndex(className + "IdIndex", OClass.INDEX_TYPE.UNIQUE, "id");
+  }
+
+  private static void saveElement(final ODatabaseSession session, final String className, final int id, final String value) {
+    final OElement element = session.newElement(className);
+    element.setProperty("id", id);
+    element.setProperty("value", value);
+    element.save();
+  }
+
+  private void assertClassesAreEqual(final String className) {
+    final Map<Integer, String> sourceValues;
+    try (ODatabaseSession source = orientDB.open(SOURCE_DB, "admin", "admin")) {
+      sourceValues = readValues(source, className);
+    }
+
+    try (ODatabaseSession restored = orientDB.open(RESTORED_DB, "admin", "admin")) {
+      final Map<Integer, String> restoredValues = readValues(restored, className);
+
+      Assert.assertFalse(sourceValues.isEmpty());
+      Assert.assertEquals(sourceValues, restoredValues);
+
+      //check that index is restored too
+      for (final Map.Entry<Integer, String> entry : sourceValues.entrySet()) {
+        try (OResultSet resultSet = restored.query("select from " + className + " where id = ?", entry.getKey())) {
+          Assert.assertEquals(entry.getValue(), resultSet.next().getProperty("value"));
+        }
+      }
+    }
+  }
+
+  private static Map<Integer, String> readValues(final ODatabaseSession session, final String className) {
+    final Map<Integer, String> values = new HashMap<>();
+    try (OResultSet resultSet = session.query("select from " + className)) {
+      while (resultSet.hasNext()) {
+        final OResult result = resultSet.next();
+        values.put(result.getProperty("id"), result.getProperty("value"));
+      }
+    }
+
+    return values;
+  }
+}
@@ -0,0 +1,128 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+
+public class LocalPaginatedStorageParallelRestoreTest {
+  private static final String SOURCE_DB   = "parallelRestoreSource";
+  private static final String RESTORED_DB = "parallelRestoreRestored";
+
+  private OrientDB orientDB;
+  private File     databasesDirectory;
+  private Object   restoreThreads;
+
+  @Before
+  public void before() {
+    restoreThreads = OGlobalConfiguration.WAL_RESTORE_THREADS.getValue();
+    OGlobalConfiguration.WAL_RESTORE_THREADS.setValue(4);
+
+    final String buildDirectory = System.getProperty("buildDirectory", ".");
+    databasesDirectory = new File(buildDirectory, LocalPaginatedStorageParallelRestoreTest.class.getSimpleName());
+    OFileUtils.deleteRecursively(databasesDirectory);
+
+    orientDB = new OrientDB("embedded:" + databasesDirectory.getAbsolutePath(), OrientDBConfig.defaultConfig());
+    orientDB.create(SOURCE_DB, ODatabaseType.PLOCAL);
+  }
+
+  @After
+  public void after() {
+    orientDB.close();
+    OFileUtils.deleteRecursively(databasesDirectory);
+
+    OGlobalConfiguration.WAL_RESTORE_THREADS.setValue(restoreThreads);
+  }
+
+  @Test
+  public void testDataAreRestoredInParallel() throws Exception {
+    final Map<Integer, String> expectedValues = new HashMap<>();
+
+    try (ODatabaseSession session = orientDB.open(SOURCE_DB, "admin", "admin")) {
+      final OClass cls = session.getMetadata().getSchema().createClass("Person");
+      cls.createProperty("id", OType.INTEGER);
+      cls.createProperty("value", OType.STRING);
+      cls.createIndex("PersonIdIndex", OClass.INDEX_TYPE.UNIQUE, "id");
+
+      for (int i = 0; i < 5_000; i++) {
+        session.begin();
+        final OElement element = session.newElement("Person");
+        element.setProperty("id", i);
+        element.setProperty("value", "person" + i);
+        element.save();
+        session.commit();
+
+        expectedValues.put(i, "person" + i);
+      }
+
+      for (int i = 0; i < 1_000; i++) {
+        session.command("update Person set value = ? where id = ?", "updated" + i, i).close();
+        expectedValues.put(i, "updated" + i);
+      }
+
+      session.command("delete from Person where id >= 4500").close();
+      for (int i = 4500; i < 5_000; i++) {
+        expectedValues.remove(i);
+      }
+
+      final OAbstractPaginatedStorage storage = (OAbstractPaginatedStorage) ((ODatabaseDocumentInternal) session).getStorage();
+      storage.getWALInstance().flush();
+
+      //emulate crash, data files are copied without flush of the disk cache
+      copyStorage(new File(databasesDirectory, SOURCE_DB), new File(databasesDirectory, RESTORED_DB));
+    }
+
+    try (ODatabaseSession session = orientDB.open(RESTORED_DB, "admin", "admin")) {
+      final OAbstractPaginatedStorage storage = (OAbstractPaginatedStorage) ((ODatabaseDocumentInternal) session).getStorage();
+      Assert.assertTrue(storage.wereDataRestoredAfterOpen());
+
+      final Map<Integer, String> restoredValues = new HashMap<>();
+      try (OResultSet resultSet = session.query("select from Person")) {
+        while (resultSet.hasNext()) {
+          final OResult result = resultSet.next();
+          restoredValues.put(result.getProperty("id"), result.getProperty("value"));
+        }
+      }
+
+      Assert.assertEquals(expectedValues, restoredValues);
+
+      try (OResultSet resultSet = session.query("select from Person where id = ?", 42)) {
+        Assert.assertEquals("updated42", resultSet.next().getProperty("value"));
+      }
+    }
+  }
+
+  private static void copyStorage(final File from, final File to) throws Exception {
+    Assert.assertTrue(to.mkdirs());
+
+    final File[] files = from.listFiles();
+    Assert.assertNotNull(files);
+
+    for (final File file : files) {
+      String name = file.getName();
+      if (name.startsWith(SOURCE_DB + ".")) {
+        name = RESTORED_DB + name.substring(SOURCE_DB.length());
+      }
+
+      Files.copy(file.toPath(), new File(to, name).toPath());
+    }
+  }
+}
@@ -0,0 +1,86 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated.base;
+
+import com.orientechnologies.orient.core.storage.cache.OReadCache;
+import com.orientechnologies.orient.core.storage.cache.OWriteCache;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Matchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class OSequentialReadAheadTest {
+  private static final long FILE_ID = 42;
+
+  private OReadCache  readCache;
+  private OWriteCache writeCache;
+
+  @Before
+  public void before() {
+    readCache = mock(OReadCache.class);
+    writeCache = mock(OWriteCache.class);
+
+    when(writeCache.getFilledUpTo(FILE_ID)).thenReturn(1000L);
+  }
+
+  @Test
+  public void testSequentialAccessIsPrefetched() throws Exception {
+    final OSequentialReadAhead readAhead = new OSequentialReadAhead(readCache, writeCache, 8);
+
+    for (int i = 1; i <= 5; i++) {
+      readAhead.onPageRead(FILE_ID, i);
+      readAhead.onPageRead(FILE_ID, i);
+    }
+
+    verify(readCache, timeout(5000)).prefetch(eq(FILE_ID), aryEq(new long[] { 6, 7, 8, 9, 10, 11, 12, 13 }), same(writeCache));
+
+    for (int i = 6; i <= 9; i++) {
+      readAhead.onPageRead(FILE_ID, i);
+    }
+
+    verify(readCache, timeout(5000)).prefetch(eq(FILE_ID), aryEq(new long[] { 14, 15, 16, 17 }), same(writeCache));
+  }
+
+  @Test
+  public void testRandomAccessIsNotPrefetched() throws Exception {
+    final OSequentialReadAhead readAhead = new OSequentialReadAhead(readCache, writeCache, 8);
+
+    final long[] pages = { 10, 3, 50, 7, 100, 1, 500, 2, 300 };
+    for (final long page : pages) {
+      readAhead.onPageRead(FILE_ID, page);
+    }
+
+    Thread.sleep(100);
+    verify(readCache, never()).prefetch(anyLong(), any(long[].class), any(OWriteCache.class));
+  }
+
+  @Test
+  public void testPrefetchIsLimitedByFileSize() throws Exception {
+    when(writeCache.getFilledUpTo(FILE_ID)).thenReturn(8L);
+
+    final OSequentialReadAhead readAhead = new OSequentialReadAhead(readCache, writeCache, 8);
+    for (int i = 1; i <= 5; i++) {
+      readAhead.onPageRead(FILE_ID, i);
+    }
+
+    verify(readCache, timeout(5000)).prefetch(eq(FILE_ID), aryEq(new long[] { 6, 7 }), same(writeCache));
+  }
+
+  @Test
+  public void testDisabledReadAhead() throws Exception {
+    final OSequentialReadAhead readAhead = new OSequentialReadAhead(readCache, writeCache, 0);
+    for (int i = 1; i <= 20; i++) {
+      readAhead.onPageRead(FILE_ID, i);
+    }
+
+    Thread.sleep(100);
+    verify(readCache, never()).prefetch(anyLong(), any(long[].class), any(OWriteCache.class));
+  }
+}
@@ -0,0 +1,98 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated.wal.cas;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OLogSequenceNumber;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OOperationUnitId;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class OCASDiskWriteAheadLogGroupCommitTest {
+  private static final int THREADS = 16;
+  private static final int COMMITS = 200;
+
+  private Path                  storagePath;
+  private OCASDiskWriteAheadLog writeAheadLog;
+
+  @Before
+  public void before() throws Exception {
+    String buildDirectory = System.getProperty("buildDirectory");
+    if (buildDirectory == null) {
+      buildDirectory = ".";
+    }
+
+    storagePath = Paths.get(buildDirectory).resolve(OCASDiskWriteAheadLogGroupCommitTest.class.getSimpleName());
+    OFileUtils.deleteRecursively(storagePath.toFile());
+
+    writeAheadLog = new OCASDiskWriteAheadLog("groupCommitTest", storagePath, storagePath, 12_000, 128, Integer.MAX_VALUE,
+        Integer.MAX_VALUE, 1000, true, Locale.US, -1, 1024L * 1024 * 1024, 1000, true, true, false, 10, 2000);
+  }
+
+  @After
+  public void after() throws Exception {
+    writeAheadLog.delete();
+    OFileUtils.deleteRecursively(storagePath.toFile());
+  }
+
+  @Test
+  public void testLoneCommitIsNotDelayed() throws Exception {
+    for (int i = 0; i < 10; i++) {
+      final OLogSequenceNumber lsn = writeAheadLog.logAtomicOperationStartRecord(true, OOperationUnitId.generateId());
+
+      final long start = System.nanoTime();
+      writeAheadLog.flushTill(lsn);
+      //commit delay is 1 second, so sync is not done by the timer
+      Assert.assertTrue(System.nanoTime() - start < 500_000_000L);
+
+      Assert.assertTrue(writeAheadLog.getFlushedLsn().compareTo(lsn) >= 0);
+    }
+
+    Assert.assertEquals(10, writeAheadLog.getGroupCommitsCount());
+    Assert.assertEquals(1.0, writeAheadLog.getGroupCommitAverageBatchSize(), 0.001);
+  }
+
+  @Test
+  public void testConcurrentCommitsShareSync() throws Exception {
+    final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    final CountDownLatch latch = new CountDownLatch(1);
+    try {
+      final List<Future<Void>> futures = new ArrayList<>();
+      for (int n = 0; n < THREADS; n++) {
+        futures.add(executor.submit(() -> {
+          latch.await();
+
+          for (int i = 0; i < COMMITS; i++) {
+            final OLogSequenceNumber lsn = writeAheadLog.logAtomicOperationStartRecord(true, OOperationUnitId.generateId());
+            writeAheadLog.flushTill(lsn);
+
+            Assert.assertTrue(writeAheadLog.getFlushedLsn().compareTo(lsn) >= 0);
+          }
+
+          return null;
+        }));
+      }
+
+      latch.countDown();
+
+      for (final Future<Void> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    Assert.assertTrue(writeAheadLog.getGroupCommitsCount() < THREADS * COMMITS);
+    Assert.assertTrue(writeAheadLog.getGroupCommitAverageBatchSize() > 1);
+  }
+}
@@ -93,6 +93,9 @@ public class SBTreeNonLeafBucketTest {
     for (int i = 0; i < treeBucket.size(); i++) {
       OSBTreeBucket.SBTreeEntry<Long, OIdentifiable> entry = treeBucket.getEntry(i);
 
+      Assert.assertEquals(treeBucket.getLeftChild(i), entry.leftChild);
+      Assert.assertEquals(treeBucket.getRightChild(i), entry.rightChild);
+
       if (prevRight > 0)
         Assert.assertEquals(entry.leftChild, prevRight);
 
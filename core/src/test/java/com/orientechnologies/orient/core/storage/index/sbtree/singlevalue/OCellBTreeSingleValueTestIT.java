@@ -2,6 +2,7 @@ package com.orientechnologies.orient.core.storage.index.sbtree.singlevalue;
 
 import com.orientechnologies.common.io.OFileUtils;
 import com.orientechnologies.common.serialization.types.OUTF8Serializer;
+import com.orientechnologies.common.util.ORawPair;
 import com.orientechnologies.orient.core.db.ODatabaseInternal;
 import com.orientechnologies.orient.core.db.ODatabaseSession;
 import com.orientechnologies.orient.core.db.ODatabaseType;
@@ -9,20 +10,28 @@ import com.orientechnologies.orient.core.db.OrientDB;
 import com.orientechnologies.orient.core.db.OrientDBConfig;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.index.engine.OBaseIndexEngine;
 import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import com.orientechnologies.orient.core.storage.index.sbtree.OIndexEntrySorter;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
 import java.util.NavigableSet;
 import java.util.Random;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public class OCellBTreeSingleValueTestIT {
   private OCellBTreeSingleValue<String> singleValueTree;
@@ -315,6 +324,289 @@ public class OCellBTreeSingleValueTestIT {
     }
   }
 
+  @Test
+  public void testBulkLoad() throws Exception {
+    final int keysCount = 1_000_000;
+
+    final NavigableMap<String, ORID> keyValues = new TreeMap<>();
+    final long seed = System.nanoTime();
+
+    System.out.println("testBulkLoad: " + seed);
+    final Random random = new Random(seed);
+
+    final File sortDirectory = new File(System.getProperty("buildDirectory", "."),
+        OCellBTreeSingleValueTestIT.class.getSimpleName() + "Sort");
+    OFileUtils.deleteRecursively(sortDirectory);
+    Assert.assertTrue(sortDirectory.mkdirs());
+
+    try (OIndexEntrySorter<String> sorter = singleValueTree.createEntrySorter(1024 * 1024, sortDirectory.toPath())) {
+      while (keyValues.size() < keysCount) {
+        final int val = random.nextInt(Integer.MAX_VALUE);
+        final String key = Integer.toString(val);
+
+        if (keyValues.put(key, new ORecordId(val % 32000, val)) == null) {
+          sorter.add(key, new ORecordId(val % 32000, val));
+        }
+      }
+
+      Assert.assertEquals(keysCount + 1, singleValueTree.bulkLoad(sorter.sortedEntries(), new ORecordId(1, 1), null, 70));
+    }
+
+    Assert.assertEquals(keysCount + 1, singleValueTree.size());
+    Assert.assertEquals(new ORecordId(1, 1), singleValueTree.get(null));
+    Assert.assertEquals(keyValues.firstKey(), singleValueTree.firstKey());
+    Assert.assertEquals(keyValues.lastKey(), singleValueTree.lastKey());
+
+    final OCellBTreeSingleValue.OSBTreeKeyCursor<String> cursor = singleValueTree.keyCursor();
+    for (String entryKey : keyValues.keySet()) {
+      Assert.assertEquals(entryKey, cursor.next(-1));
+    }
+    Assert.assertNull(cursor.next(-1));
+
+    assertIterateMajorEntries(keyValues, random, true, true);
+    assertIterateMinorEntries(keyValues, random, false, false);
+
+    for (Map.Entry<String, ORID> entry : keyValues.entrySet()) {
+      Assert.assertEquals(entry.getValue(), singleValueTree.get(entry.getKey()));
+    }
+
+    // tree built by bulk load should be updatable the same way as tree built by insertions
+    for (int i = 0; i < keysCount / 10; i++) {
+      final int val = random.nextInt(Integer.MAX_VALUE);
+      final String key = Integer.toString(val);
+
+      singleValueTree.put(key, new ORecordId(val % 32000, val));
+      keyValues.put(key, new ORecordId(val % 32000, val));
+    }
+
+    final Iterator<String> keysIterator = keyValues.keySet().iterator();
+    while (keysIterator.hasNext()) {
+      final String key = keysIterator.next();
+      if (random.nextInt(3) == 0) {
+        Assert.assertEquals(keyValues.get(key), singleValueTree.remove(key));
+        keysIterator.remove();
+      }
+    }
+
+    for (Map.Entry<String, ORID> entry : keyValues.entrySet()) {
+      Assert.assertEquals(entry.getValue(), singleValueTree.get(entry.getKey()));
+    }
+
+    assertIterateBetweenEntries(keyValues, random, true, true, true);
+    assertIterateBetweenEntries(keyValues, random, false, true, false);
+  }
+
+  @Test
+  public void testBulkLoadDuplicates() throws Exception {
+    final OBaseIndexEngine.Validator<String, ORID> validator = (key, oldValue, newValue) -> {
+      if (oldValue != null && oldValue.equals(newValue)) {
+        return OBaseIndexEngine.Validator.IGNORE;
+      }
+
+      return newValue;
+    };
+
+    final File sortDirectory = new File(System.getProperty("buildDirectory", "."),
+        OCellBTreeSingleValueTestIT.class.getSimpleName() + "Sort");
+    OFileUtils.deleteRecursively(sortDirectory);
+    Assert.assertTrue(sortDirectory.mkdirs());
+
+    try (OIndexEntrySorter<String> sorter = singleValueTree.createEntrySorter(1024, sortDirectory.toPath())) {
+      for (int i = 0; i < 10_000; i++) {
+        sorter.add(Integer.toString(i), new ORecordId(1, i));
+        sorter.add(Integer.toString(i), new ORecordId(1, i));
+        sorter.add(Integer.toString(i % 100), new ORecordId(2, i));
+      }
+
+      Assert.assertEquals(10_000, singleValueTree.bulkLoad(sorter.sortedEntries(), null, validator, 100));
+    }
+
+    Assert.assertEquals(10_000, singleValueTree.size());
+    Assert.assertNull(singleValueTree.get(null));
+
+    for (int i = 0; i < 10_000; i++) {
+      if (i < 100) {
+        // last added value wins
+        Assert.assertEquals(new ORecordId(2, 9_900 + i), singleValueTree.get(Integer.toString(i)));
+      } else {
+        Assert.assertEquals(new ORecordId(1, i), singleValueTree.get(Integer.toString(i)));
+      }
+    }
+  }
+
+  @Test
+  public void testBulkLoadConcurrentSorting() throws Exception {
+    final int threads = 8;
+    final int keysPerThread = 50_000;
+
+    final File sortDirectory = new File(System.getProperty("buildDirectory", "."),
+        OCellBTreeSingleValueTestIT.class.getSimpleName() + "Sort");
+    OFileUtils.deleteRecursively(sortDirectory);
+    Assert.assertTrue(sortDirectory.mkdirs());
+
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try (OIndexEntrySorter<String> sorter = singleValueTree.createEntrySorter(64 * 1024, sortDirectory.toPath())) {
+      final List<Future<Void>> futures = new ArrayList<>();
+      for (int n = 0; n < threads; n++) {
+        final int thread = n;
+        futures.add(executor.submit(() -> {
+          for (int i = thread; i < threads * keysPerThread; i += threads) {
+            sorter.add(Integer.toString(i), new ORecordId(i % 32000, i));
+          }
+
+          return null;
+        }));
+      }
+
+      for (Future<Void> future : futures) {
+        future.get();
+      }
+
+      Assert.assertEquals(threads * keysPerThread, sorter.size());
+      Assert.assertEquals(threads * keysPerThread, singleValueTree.bulkLoad(sorter.sortedEntries(), null, null, 100));
+    } finally {
+      executor.shutdown();
+    }
+
+    Assert.assertEquals(threads * keysPerThread, singleValueTree.size());
+
+    final TreeSet<String> keys = new TreeSet<>();
+    for (int i = 0; i < threads * keysPerThread; i++) {
+      keys.add(Integer.toString(i));
+      Assert.assertEquals(new ORecordId(i % 32000, i), singleValueTree.get(Integer.toString(i)));
+    }
+
+    final OCellBTreeSingleValue.OSBTreeKeyCursor<String> cursor = singleValueTree.keyCursor();
+    for (String key : keys) {
+      Assert.assertEquals(key, cursor.next(-1));
+    }
+    Assert.assertNull(cursor.next(-1));
+  }
+
+  @Test(expected = OCellBTreeSingleValueException.class)
+  public void testBulkLoadIntoNotEmptyTree() throws Exception {
+    singleValueTree.put("1", new ORecordId(1, 1));
+    singleValueTree.bulkLoad(Collections.<ORawPair<String, ORID>>emptyIterator(), null, null, 100);
+  }
+
+  @Test
+  public void testGetAll() throws Exception {
+    final int keysCount = 100_000;
+
+    for (int i = 0; i < keysCount; i += 2) {
+      singleValueTree.put(Integer.toString(i), new ORecordId(i % 32000, i));
+    }
+    singleValueTree.put(null, new ORecordId(1, 1));
+
+    final long seed = System.nanoTime();
+    System.out.println("testGetAll: " + seed);
+    final Random random = new Random(seed);
+
+    final List<String> keys = new ArrayList<>();
+    for (int i = 0; i < 10_000; i++) {
+      keys.add(Integer.toString(random.nextInt(keysCount)));
+    }
+    for (int i = 50_000; i < 51_000; i++) {
+      keys.add(Integer.toString(i));
+    }
+    keys.add(null);
+    Collections.shuffle(keys, random);
+
+    final List<ORID> values = singleValueTree.getAll(keys);
+    Assert.assertEquals(keys.size(), values.size());
+
+    for (int i = 0; i < keys.size(); i++) {
+      Assert.assertEquals(singleValueTree.get(keys.get(i)), values.get(i));
+    }
+  }
+
+  @Test
+  public void testBloomFilter() throws Exception {
+    final ODatabaseSession databaseDocumentTx = orientDB.open(dbName, "admin", "admin");
+    final OAbstractPaginatedStorage storage = (OAbstractPaginatedStorage) ((ODatabaseInternal) databaseDocumentTx).getStorage();
+
+    OCellBTreeSingleValue<String> bloomTree = new OCellBTreeSingleValue<>("bloomBTree", ".sbt", ".nbt", storage);
+    bloomTree.create(OUTF8Serializer.INSTANCE, null, 1, null, 10_000, 10);
+
+    final int keysCount = 20_000;
+    for (int i = 0; i < keysCount; i += 2) {
+      bloomTree.put(Integer.toString(i), new ORecordId(i % 32000, i));
+    }
+
+    for (int i = 0; i < keysCount; i += 4) {
+      Assert.assertNotNull(bloomTree.remove(Integer.toString(i)));
+    }
+
+    bloomTree.close();
+    bloomTree = new OCellBTreeSingleValue<>("bloomBTree", ".sbt", ".nbt", storage);
+    bloomTree.load("bloomBTree", null);
+
+    final List<String> keys = new ArrayList<>();
+    for (int i = 0; i < keysCount; i++) {
+      final String key = Integer.toString(i);
+      keys.add(key);
+
+      if (i % 4 == 2) {
+        Assert.assertEquals(new ORecordId(i % 32000, i), bloomTree.get(key));
+      } else {
+        Assert.assertNull(bloomTree.get(key));
+      }
+    }
+
+    final List<ORID> values = bloomTree.getAll(keys);
+    for (int i = 0; i < keysCount; i++) {
+      if (i % 4 == 2) {
+        Assert.assertEquals(new ORecordId(i % 32000, i), values.get(i));
+      } else {
+        Assert.assertNull(values.get(i));
+      }
+    }
+
+    bloomTree.clear();
+    for (int i = 0; i < keysCount; i++) {
+      Assert.assertNull(bloomTree.get(Integer.toString(i)));
+    }
+
+    bloomTree.delete();
+    databaseDocumentTx.close();
+  }
+
+  @Test
+  public void testEstimateEntriesBetween() throws Exception {
+    final int keysCount = 100_000;
+    final NavigableMap<String, ORID> keyValues = new TreeMap<>();
+
+    final long seed = System.nanoTime();
+    System.out.println("testEstimateEntriesBetween: " + seed);
+    final Random random = new Random(seed);
+
+    while (keyValues.size() < keysCount) {
+      final int val = random.nextInt(Integer.MAX_VALUE);
+      final String key = Integer.toString(val);
+
+      singleValueTree.put(key, new ORecordId(val % 32000, val));
+      keyValues.put(key, new ORecordId(val % 32000, val));
+    }
+
+    Assert.assertEquals(keysCount, singleValueTree.estimateEntriesBetween(null, true, null, true));
+
+    final String[] keys = keyValues.keySet().toArray(new String[0]);
+    for (int i = 0; i < 100; i++) {
+      final int fromIndex = random.nextInt(keys.length);
+      final int toIndex = fromIndex + random.nextInt(keys.length - fromIndex);
+
+      final boolean fromInclusive = random.nextBoolean();
+      final boolean toInclusive = random.nextBoolean();
+
+      final int expected = keyValues.subMap(keys[fromIndex], fromInclusive, keys[toIndex], toInclusive).size();
+      final long estimate = singleValueTree.estimateEntriesBetween(keys[fromIndex], fromInclusive, keys[toIndex], toInclusive);
+
+      Assert.assertTrue("expected " + expected + " but estimated " + estimate, Math.abs(estimate - expected) <= keysCount / 20);
+    }
+
+    Assert.assertEquals(0, singleValueTree.estimateEntriesBetween(keys[10], true, keys[5], true));
+  }
+
   @Test
   public void testIterateEntriesMajor() throws Exception {
     final int keysCount = 1_000_000;
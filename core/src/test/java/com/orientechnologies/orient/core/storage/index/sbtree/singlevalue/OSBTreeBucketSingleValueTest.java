@@ -0,0 +1,204 @@
+package com.orientechnologies.orient.core.storage.index.sbtree.singlevalue;
+
+import com.orientechnologies.common.directmemory.OByteBufferPool;
+import com.orientechnologies.common.directmemory.OPointer;
+import com.orientechnologies.common.serialization.types.OLongSerializer;
+import com.orientechnologies.common.serialization.types.OShortSerializer;
+import com.orientechnologies.common.serialization.types.OUTF8Serializer;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntryImpl;
+import com.orientechnologies.orient.core.storage.cache.OCachePointer;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class OSBTreeBucketSingleValueTest {
+  private OCachePointer cachePointer;
+  private OCacheEntry   cacheEntry;
+
+  @Before
+  public void before() {
+    final OByteBufferPool bufferPool = OByteBufferPool.instance(null);
+    final OPointer pointer = bufferPool.acquireDirect(true);
+
+    cachePointer = new OCachePointer(pointer, bufferPool, 0, 0);
+    cachePointer.incrementReferrer();
+
+    cacheEntry = new OCacheEntryImpl(0, 0, cachePointer);
+    cacheEntry.acquireExclusiveLock();
+  }
+
+  @After
+  public void after() {
+    cacheEntry.releaseExclusiveLock();
+    cachePointer.decrementReferrer();
+  }
+
+  @Test
+  public void testKeyPrefixCompression() {
+    OSBTreeBucketSingleValue<String> bucket = new OSBTreeBucketSingleValue<>(cacheEntry, true, OUTF8Serializer.INSTANCE, null,
+        null);
+
+    final List<String> keys = new ArrayList<>();
+    int index = 0;
+    while (true) {
+      final String key = key(index);
+      if (!bucket.addLeafEntry(index, OUTF8Serializer.INSTANCE.serializeNativeAsWhole(key), rid(index))) {
+        break;
+      }
+
+      keys.add(key);
+      index++;
+    }
+
+    Assert.assertTrue(bucket.isCompressed());
+
+    final int plainEntrySize = OUTF8Serializer.INSTANCE.serializeNativeAsWhole(key(0)).length + rid(0).length;
+    Assert.assertTrue(keys.size() > OSBTreeBucketSingleValue.MAX_PAGE_SIZE_BYTES / plainEntrySize);
+
+    bucket = new OSBTreeBucketSingleValue<>(cacheEntry, OUTF8Serializer.INSTANCE, null, null);
+    Assert.assertTrue(bucket.isCompressed());
+    Assert.assertTrue(bucket.isLeaf());
+    Assert.assertEquals(keys.size(), bucket.size());
+
+    for (int i = 0; i < keys.size(); i++) {
+      Assert.assertEquals(keys.get(i), bucket.getKey(i));
+      Assert.assertEquals(new ORecordId(i, i), bucket.getValue(i));
+      Assert.assertEquals(i, bucket.find(keys.get(i)));
+    }
+  }
+
+  @Test
+  public void testKeyWithoutPrefixIsAddedToCompressedBucket() {
+    final OSBTreeBucketSingleValue<String> bucket = new OSBTreeBucketSingleValue<>(cacheEntry, true, OUTF8Serializer.INSTANCE,
+        null, null);
+
+    final List<byte[]> rawEntries = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      rawEntries.add(rawEntry(key(i), i));
+    }
+
+    bucket.addAll(rawEntries);
+    Assert.assertTrue(bucket.isCompressed());
+
+    Assert.assertTrue(bucket.addLeafEntry(0, OUTF8Serializer.INSTANCE.serializeNativeAsWhole("a"), rid(100)));
+    Assert.assertEquals(101, bucket.size());
+
+    Assert.assertEquals("a", bucket.getKey(0));
+    Assert.assertEquals(new ORecordId(100, 100), bucket.getValue(0));
+
+    for (int i = 0; i < 100; i++) {
+      Assert.assertEquals(key(i), bucket.getKey(i + 1));
+      Assert.assertEquals(new ORecordId(i, i), bucket.getValue(i + 1));
+    }
+  }
+
+  @Test
+  public void testPlainBucketIsConvertedWhenFull() {
+    OSBTreeBucketSingleValue<String> bucket = new OSBTreeBucketSingleValue<>(cacheEntry, true, OUTF8Serializer.INSTANCE, null,
+        null);
+
+    int index = 0;
+    while (!bucket.isCompressed()) {
+      Assert.assertTrue(bucket.addLeafEntry(index, OUTF8Serializer.INSTANCE.serializeNativeAsWhole(key(index)), rid(index)));
+      index++;
+    }
+
+    // bucket is stored in plain format till it is filled up
+    Assert.assertTrue(index > 1);
+
+    bucket = new OSBTreeBucketSingleValue<>(cacheEntry, OUTF8Serializer.INSTANCE, null, null);
+    Assert.assertEquals(index, bucket.size());
+
+    for (int i = 0; i < index; i++) {
+      Assert.assertEquals(key(i), bucket.getKey(i));
+      Assert.assertEquals(new ORecordId(i, i), bucket.getValue(i));
+    }
+  }
+
+  @Test
+  public void testRemoveAndShrink() {
+    final OSBTreeBucketSingleValue<String> bucket = new OSBTreeBucketSingleValue<>(cacheEntry, true, OUTF8Serializer.INSTANCE,
+        null, null);
+
+    final List<byte[]> rawEntries = new ArrayList<>();
+    final List<String> keys = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      rawEntries.add(rawEntry(key(i), i));
+      keys.add(key(i));
+    }
+
+    bucket.addAll(rawEntries);
+    Assert.assertTrue(bucket.isCompressed());
+
+    for (int i = 999; i >= 0; i -= 3) {
+      bucket.remove(i, null);
+      keys.remove(i);
+    }
+
+    Assert.assertEquals(keys.size(), bucket.size());
+    for (int i = 0; i < keys.size(); i++) {
+      Assert.assertEquals(keys.get(i), bucket.getKey(i));
+      Assert.assertArrayEquals(OUTF8Serializer.INSTANCE.serializeNativeAsWhole(keys.get(i)), key(bucket.getRawEntry(i)));
+    }
+
+    bucket.shrink(10);
+    Assert.assertEquals(10, bucket.size());
+    for (int i = 0; i < 10; i++) {
+      Assert.assertEquals(keys.get(i), bucket.getKey(i));
+    }
+  }
+
+  @Test
+  public void testNonLeafBucket() {
+    final OSBTreeBucketSingleValue<String> bucket = new OSBTreeBucketSingleValue<>(cacheEntry, false, OUTF8Serializer.INSTANCE,
+        null, null);
+
+    int index = 0;
+    while (bucket.addNonLeafEntry(index, OUTF8Serializer.INSTANCE.serializeNativeAsWhole(key(index)), index, index + 1)) {
+      index++;
+    }
+
+    Assert.assertTrue(bucket.isCompressed());
+    Assert.assertFalse(bucket.isLeaf());
+    Assert.assertEquals(index, bucket.size());
+
+    for (int i = 0; i < index; i++) {
+      Assert.assertEquals(key(i), bucket.getKey(i));
+      Assert.assertEquals(i, bucket.getLeft(i));
+      Assert.assertEquals(i + 1, bucket.getRight(i));
+    }
+  }
+
+  private static String key(final int index) {
+    return String.format("tenant-0000000042/department-0000017/user-%08d", index);
+  }
+
+  private static byte[] key(final byte[] rawLeafEntry) {
+    final byte[] key = new byte[rawLeafEntry.length - OShortSerializer.SHORT_SIZE - OLongSerializer.LONG_SIZE];
+    System.arraycopy(rawLeafEntry, 0, key, 0, key.length);
+    return key;
+  }
+
+  private static byte[] rid(final int index) {
+    final byte[] rid = new byte[OShortSerializer.SHORT_SIZE + OLongSerializer.LONG_SIZE];
+    OShortSerializer.INSTANCE.serializeNative((short) index, rid, 0);
+    OLongSerializer.INSTANCE.serializeNative(index, rid, OShortSerializer.SHORT_SIZE);
+    return rid;
+  }
+
+  private static byte[] rawEntry(final String key, final int index) {
+    final byte[] serializedKey = OUTF8Serializer.INSTANCE.serializeNativeAsWhole(key);
+    final byte[] rid = rid(index);
+
+    final byte[] rawEntry = new byte[serializedKey.length + rid.length];
+    System.arraycopy(serializedKey, 0, rawEntry, 0, serializedKey.length);
+    System.arraycopy(rid, 0, rawEntry, serializedKey.length, rid.length);
+    return rawEntry;
+  }
+}